@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+#
+# Compares startup time and memory of the JVM, JVM with an AppCDS archive, and native builds of the example MCP server.
+#
+# Startup time is measured from process start until the server answers `tools/list` over stdio, which includes
+# fetching and processing the OpenAPI specification. Memory is the peak resident set size (VmHWM) of the process at
+# that moment. Each variant is started RUNS times and the median is reported.
+#
+# Usage: ./startup-benchmark.sh [runs]
+# Expects `target/mcp-server.jar` (mvn package). The AppCDS variant is measured when `target/cds` exists
+# (mvn -Pcds package), and the native variant when `target/mcp-server` exists (mvn -Pnative native:compile).
+# Linux only, as memory is read from /proc.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+LOG_DIR="$(mktemp -d)"
+
+REQUESTS='{"jsonrpc":"2.0","id":1,"method":"initialize","params":{"protocolVersion":"2025-06-18","capabilities":{},"clientInfo":{"name":"benchmark","version":"1.0"}}}
+{"jsonrpc":"2.0","method":"notifications/initialized"}
+{"jsonrpc":"2.0","id":2,"method":"tools/list"}'
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the server, waits for the tools/list response and prints "<startup ms> <peak RSS KiB>".
+measure() {
+    local start pid rss line
+    start="$(now_ms)"
+    coproc SERVER { "$@" --logging.file.path="$LOG_DIR" 2>/dev/null; }
+    pid="$SERVER_PID"
+    printf '%s\n' "$REQUESTS" >&"${SERVER[1]}"
+    while IFS= read -r line <&"${SERVER[0]}"; do
+        if [[ "$line" == *'"id":2'* ]]; then
+            break
+        fi
+    done
+    local elapsed=$(($(now_ms) - start))
+    # The coproc pid belongs to the subshell, the server is its only child
+    local server_pid
+    server_pid="$(pgrep -P "$pid" | head -n 1 || echo "$pid")"
+    rss="$(awk '/VmHWM/ { print $2 }' "/proc/$server_pid/status")"
+    kill "$server_pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+benchmark() {
+    local name="$1"
+    shift
+    local times=() memory=()
+    for _ in $(seq "$RUNS"); do
+        read -r elapsed rss < <(measure "$@")
+        times+=("$elapsed")
+        memory+=("$rss")
+    done
+    printf '| %-6s | %8s ms | %8s MiB |\n' \
+        "$name" \
+        "$(printf '%s\n' "${times[@]}" | median)" \
+        "$(($(printf '%s\n' "${memory[@]}" | median) / 1024))"
+}
+
+echo "| Build  | Startup     | Peak RSS     |"
+echo "|--------|-------------|--------------|"
+benchmark "JVM" java -jar target/mcp-server.jar
+if [[ -f target/cds/application.jsa ]]; then
+    benchmark "AppCDS" java -XX:SharedArchiveFile=target/cds/application.jsa -jar target/cds/mcp-server.jar
+fi
+if [[ -x target/mcp-server ]]; then
+    benchmark "Native" ./target/mcp-server
+fi
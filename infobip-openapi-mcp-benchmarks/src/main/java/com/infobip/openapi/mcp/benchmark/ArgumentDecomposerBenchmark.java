@@ -0,0 +1,80 @@
+package com.infobip.openapi.mcp.benchmark;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.schema.ArgumentDecomposer;
+import com.infobip.openapi.mcp.openapi.schema.DecomposedRequestData;
+import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decomposition of tool call arguments with the decomposer precomputed for the operation, compared to creating the
+ * decomposer on every call.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArgumentDecomposerBenchmark {
+
+    private InputSchemaComposer composer;
+    private OperationDescriptor operation;
+    private ArgumentDecomposer decomposer;
+    private McpSchema.CallToolRequest request;
+
+    @Setup
+    public void setUp() {
+        composer = new InputSchemaComposer(new OpenApiMcpProperties.Tools.Schema(null, null, null, null));
+        operation = new OperationDescriptor(
+                "send_message",
+                "/accounts/{accountId}/messages",
+                PathItem.HttpMethod.POST,
+                "send_message",
+                List.of(
+                        new OperationDescriptor.Parameter("accountId", "path"),
+                        new OperationDescriptor.Parameter("dryRun", "query"),
+                        new OperationDescriptor.Parameter("notify", "query"),
+                        new OperationDescriptor.Parameter("X-Request-Id", "header")),
+                true,
+                List.of(),
+                SpecVersion.V30);
+        decomposer = composer.decomposer(operation);
+        request = new McpSchema.CallToolRequest(
+                "send_message",
+                Map.of(
+                        "_params",
+                        Map.of("accountId", "42", "dryRun", false, "X-Request-Id", "7f3a"),
+                        "_body",
+                        Map.of("messages", List.of(Map.of("to", "385911234567", "text", "Hello")))));
+    }
+
+    @Benchmark
+    public DecomposedRequestData precomputed() {
+        return decomposer.decompose(request);
+    }
+
+    @Benchmark
+    @SuppressWarnings("removal")
+    public DecomposedRequestData perCall() {
+        return composer.decompose(request, operation);
+    }
+}
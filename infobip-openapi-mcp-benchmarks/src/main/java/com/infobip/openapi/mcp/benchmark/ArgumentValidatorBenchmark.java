@@ -0,0 +1,114 @@
+package com.infobip.openapi.mcp.benchmark;
+
+import com.infobip.openapi.mcp.openapi.schema.ArgumentValidator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Validation of tool call arguments on the three paths of a call: valid arguments returned as they are, arguments
+ * coerced to the schema, and arguments rejected with violations.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate of the paths, as valid arguments are validated without
+ * allocating.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArgumentValidatorBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private static final String SCHEMA = """
+            {
+              "type": "object",
+              "properties": {
+                "_params": {
+                  "type": "object",
+                  "properties": {
+                    "limit": { "type": "integer", "minimum": 1, "maximum": 100 },
+                    "channel": { "type": "string", "enum": ["SMS", "MMS"] }
+                  }
+                },
+                "_body": {
+                  "type": "object",
+                  "required": ["messages"],
+                  "properties": {
+                    "messages": { "type": "array", "minItems": 1, "items": { "$ref": "#/$defs/Message" } }
+                  }
+                }
+              },
+              "$defs": {
+                "Message": {
+                  "type": "object",
+                  "required": ["to"],
+                  "additionalProperties": false,
+                  "properties": {
+                    "id": { "type": "string", "readOnly": true },
+                    "to": { "type": "string", "pattern": "^[0-9]+$" },
+                    "text": { "type": "string", "maxLength": 160 },
+                    "tags": { "type": "array", "items": { "type": "string" } }
+                  }
+                }
+              }
+            }
+            """;
+
+    private ArgumentValidator validator;
+    private Map<String, Object> validArguments;
+    private Map<String, Object> coercedArguments;
+    private Map<String, Object> invalidArguments;
+
+    @Setup
+    public void setUp() {
+        var jsonMapper = JsonMapper.builder().build();
+        validator = ArgumentValidator.compile(jsonMapper.readValue(SCHEMA, MAP_TYPE), true, true);
+        validArguments = jsonMapper.readValue("""
+                {
+                  "_params": { "limit": 10, "channel": "SMS" },
+                  "_body": { "messages": [ { "to": "385911234567", "text": "Hello", "tags": ["a", "b"] } ] }
+                }
+                """, MAP_TYPE);
+        coercedArguments = jsonMapper.readValue("""
+                {
+                  "_params": { "limit": "10", "channel": "sms" },
+                  "_body": { "messages": [ { "to": "385911234567", "text": "Hello", "tags": "a" } ] }
+                }
+                """, MAP_TYPE);
+        invalidArguments = jsonMapper.readValue("""
+                {
+                  "_params": { "limit": 1000, "channel": "EMAIL" },
+                  "_body": { "messages": [ { "to": 385911234567, "sender": "Infobip" } ] }
+                }
+                """, MAP_TYPE);
+    }
+
+    @Benchmark
+    public ArgumentValidator.Validation valid() {
+        return validator.validate(validArguments);
+    }
+
+    @Benchmark
+    public ArgumentValidator.Validation coerced() {
+        return validator.validate(coercedArguments);
+    }
+
+    @Benchmark
+    public ArgumentValidator.Validation invalid() {
+        return validator.validate(invalidArguments);
+    }
+}
@@ -1,7 +1,7 @@
 package com.infobip.openapi.mcp;
 
 import com.infobip.openapi.mcp.enricher.ApiRequestEnricher;
-import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
 import io.modelcontextprotocol.server.McpAsyncServerExchange;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -22,8 +22,8 @@ import org.jspecify.annotations.Nullable;
  * @param callToolRequest     the MCP tool invocation request, or null outside tool invocation context
  * @param asyncServerExchange the async MCP server exchange for async transports, or null
  * @param syncServerExchange  the sync MCP server exchange for sync transports, or null
- * @param openApiOperation    the set of information from OpenAPI specification that
- *                            defines the API endpoint backing this tool
+ * @param openApiOperation    the descriptor of the OpenAPI operation that defines the API endpoint
+ *                            backing this tool
  * @see ApiRequestEnricher
  * @see McpRequestContextFactory
  */
@@ -33,7 +33,7 @@ public record McpRequestContext(
         McpSchema.@Nullable CallToolRequest callToolRequest,
         @Nullable McpAsyncServerExchange asyncServerExchange,
         @Nullable McpSyncServerExchange syncServerExchange,
-        @Nullable FullOperation openApiOperation) {
+        @Nullable OperationDescriptor openApiOperation) {
     public McpRequestContext() {
         this(null, null, null, null, null);
     }
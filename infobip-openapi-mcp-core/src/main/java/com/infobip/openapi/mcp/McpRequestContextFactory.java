@@ -1,6 +1,7 @@
 package com.infobip.openapi.mcp;
 
 import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -37,13 +38,13 @@ public class McpRequestContextFactory {
      *
      * @param exchange      the MCP server exchange for the current session
      * @param toolRequest   the MCP tool invocation request
-     * @param fullOperation the set of information from OpenAPI specification that
-     *                      defines the API endpoint backing this tool
+     * @param operation     the descriptor of the OpenAPI operation that defines the API endpoint
+     *                      backing this tool
      * @return a new context instance with the exchange and tool request stored for later use
      */
     public McpRequestContext forStatefulTransport(
-            McpSyncServerExchange exchange, McpSchema.CallToolRequest toolRequest, FullOperation fullOperation) {
-        return new McpRequestContext(getCurrentHttpServletRequest(), toolRequest, null, exchange, fullOperation);
+            McpSyncServerExchange exchange, McpSchema.CallToolRequest toolRequest, OperationDescriptor operation) {
+        return new McpRequestContext(getCurrentHttpServletRequest(), toolRequest, null, exchange, operation);
     }
 
     /**
@@ -55,16 +56,51 @@ public class McpRequestContextFactory {
      *
      * @param transportContext the MCP transport context (may be null, currently unused)
      * @param toolRequest      the MCP tool invocation request
-     * @param fullOperation    the set of information from OpenAPI specification that
-     *                         defines the API endpoint backing this tool
+     * @param operation        the descriptor of the OpenAPI operation that defines the API endpoint
+     *                         backing this tool
      * @return a new context instance without an exchange but with the tool request
      */
     public McpRequestContext forStatelessTransport(
             @Nullable McpTransportContext transportContext,
             McpSchema.CallToolRequest toolRequest,
-            FullOperation fullOperation) {
+            OperationDescriptor operation) {
         // Stateless transport doesn't have a persistent server exchange
-        return new McpRequestContext(getCurrentHttpServletRequest(), toolRequest, null, null, fullOperation);
+        return new McpRequestContext(getCurrentHttpServletRequest(), toolRequest, null, null, operation);
+    }
+
+    /**
+     * Creates an MCP request context for stateful transport protocols from a resolved operation.
+     *
+     * @param exchange      the MCP server exchange for the current session
+     * @param toolRequest   the MCP tool invocation request, whose name is used as the tool name of the operation
+     * @param fullOperation the resolved operation that defines the API endpoint backing this tool
+     * @return a new context instance with the exchange and tool request stored for later use
+     * @deprecated Keeps the resolved operation reachable from the context. Use
+     * {@link #forStatefulTransport(McpSyncServerExchange, McpSchema.CallToolRequest, OperationDescriptor)} instead.
+     */
+    @Deprecated(since = "1.0.1", forRemoval = true)
+    public McpRequestContext forStatefulTransport(
+            McpSyncServerExchange exchange, McpSchema.CallToolRequest toolRequest, FullOperation fullOperation) {
+        return forStatefulTransport(exchange, toolRequest, OperationDescriptor.of(toolRequest.name(), fullOperation));
+    }
+
+    /**
+     * Creates an MCP request context for stateless transport protocols from a resolved operation.
+     *
+     * @param transportContext the MCP transport context (may be null, currently unused)
+     * @param toolRequest      the MCP tool invocation request, whose name is used as the tool name of the operation
+     * @param fullOperation    the resolved operation that defines the API endpoint backing this tool
+     * @return a new context instance without an exchange but with the tool request
+     * @deprecated Keeps the resolved operation reachable from the context. Use
+     * {@link #forStatelessTransport(McpTransportContext, McpSchema.CallToolRequest, OperationDescriptor)} instead.
+     */
+    @Deprecated(since = "1.0.1", forRemoval = true)
+    public McpRequestContext forStatelessTransport(
+            @Nullable McpTransportContext transportContext,
+            McpSchema.CallToolRequest toolRequest,
+            FullOperation fullOperation) {
+        return forStatelessTransport(
+                transportContext, toolRequest, OperationDescriptor.of(toolRequest.name(), fullOperation));
     }
 
     /**
@@ -87,6 +123,17 @@ public class McpRequestContextFactory {
         return new McpRequestContext(getCurrentHttpServletRequest(), null, null, null, null);
     }
 
+    /**
+     * Creates an MCP request context for stateless requests which are not bound to a tool or prompt, such as list
+     * requests.
+     *
+     * @param transportContext the MCP transport context (may be null)
+     * @return a new context instance with only the HTTP request
+     */
+    public McpRequestContext forStatelessRequest(@Nullable McpTransportContext transportContext) {
+        return new McpRequestContext(getCurrentHttpServletRequest(), null, null, null, null);
+    }
+
     /**
      * Creates an MCP request context for servlet filters.
      * <p>
@@ -15,11 +15,17 @@ import org.springframework.validation.annotation.Validated;
  *                               scopes, and GREEDY which uses a greedy algorithm to find a smaller set of scopes that
  *                               sill covers all operations.
  *                               Default is NONE.
+ * @param filterTools            Whether {@code tools/list} responses of the stateless protocol only contain tools whose
+ *                               operations accept a scope of the caller's token. Default is false.
  */
 @Validated
 @ConfigurationProperties(prefix = ScopeProperties.PREFIX)
 public record ScopeProperties(
-        Boolean enabled, String scopeExtensions, String mandatoryScopes, ScopeAlgorithm calculateMinimalScopes) {
+        Boolean enabled,
+        String scopeExtensions,
+        String mandatoryScopes,
+        ScopeAlgorithm calculateMinimalScopes,
+        Boolean filterTools) {
 
     public static final String PREFIX = OAuthProperties.PREFIX + ".scope-discovery";
 
@@ -40,6 +46,9 @@ public record ScopeProperties(
         if (calculateMinimalScopes == null) {
             calculateMinimalScopes = ScopeAlgorithm.NONE;
         }
+        if (filterTools == null) {
+            filterTools = false;
+        }
     }
 
     public enum ScopeAlgorithm {
@@ -66,7 +66,7 @@ public class JwtScopeService {
      * @param authHeader The Authorization header value
      * @return A set of scopes extracted from the token, or an empty set if decoding fails
      */
-    Set<String> decodeJwtTokenAndExtractScopes(String authHeader) {
+    public Set<String> decodeJwtTokenAndExtractScopes(String authHeader) {
         if (authHeader == null || !authHeader.regionMatches(true, 0, "Bearer ", 0, 7)) {
             return Set.of();
         }
@@ -1,9 +1,11 @@
 package com.infobip.openapi.mcp.auth.scope;
 
 import com.infobip.openapi.mcp.auth.ScopeProperties;
+import com.infobip.openapi.mcp.openapi.OpenApiFingerprints;
 import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import java.util.*;
@@ -22,6 +24,7 @@ public class ScopeDiscoveryService {
     private final MinimalSetCalculator minimalSetCalculator;
 
     private Set<String> discoveredScopes = null;
+    private volatile ScopeRequirements scopeRequirements = null;
 
     public ScopeDiscoveryService(
             ScopeProperties scopeProperties,
@@ -39,8 +42,23 @@ public class ScopeDiscoveryService {
         return discoveredScopes;
     }
 
+    /**
+     * Returns the scopes accepted by each operation, which are discovered together with the
+     * {@link #getDiscoveredScopes() discovered scopes}.
+     *
+     * @return the scope requirements of the operations
+     */
+    public ScopeRequirements getScopeRequirements() {
+        if (scopeRequirements == null) {
+            discover();
+        }
+        return scopeRequirements;
+    }
+
     public Set<String> discover() {
-        var discoveredScopesList = discoverScopes(openApiRegistry.openApi());
+        var openApi = openApiRegistry.openApi();
+        this.scopeRequirements = ScopeRequirements.of(discoverOperationScopes(openApi));
+        var discoveredScopesList = discoverScopes(openApi);
         var scopeSet = calculateScopeSet(discoveredScopesList);
 
         if (!scopeProperties.mandatoryScopes().isEmpty()) {
@@ -60,44 +78,34 @@ public class ScopeDiscoveryService {
         var discoveredScopes = new ArrayList<List<String>>();
         for (var pathEntry : openApi.getPaths().entrySet()) {
             for (var operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
-                var operation = operationEntry.getValue();
-                if (operation.getExtensions() != null
-                        && operation.getExtensions().containsKey(scopeProperties.scopeExtensions())) {
-                    var extensionValue = operation.getExtensions().get(scopeProperties.scopeExtensions());
-                    if (extensionValue instanceof List<?> scopes) {
-                        var scopeList = scopes.stream()
-                                .filter(Objects::nonNull)
-                                .map(Object::toString)
-                                .toList();
-                        if (!scopeList.isEmpty()) {
-                            discoveredScopes.add(scopeList);
-                        }
-                    } else if (extensionValue instanceof String scope) {
-                        if (!scope.isBlank()) {
-                            discoveredScopes.add(List.of(scope));
-                        }
-                    }
+                var scopeList = extensionScopes(operationEntry.getValue());
+                if (!scopeList.isEmpty()) {
+                    discoveredScopes.add(scopeList);
                 }
             }
         }
         return discoveredScopes;
     }
 
-    private List<List<String>> discoverScopesFromSecurity(OpenAPI openApi) {
-        var namesOfSchemesThatUseScopes = new HashSet<>();
-        var securitySchemes = Optional.of(openApi)
-                .map(OpenAPI::getComponents)
-                .map(Components::getSecuritySchemes)
-                .map(Map::entrySet)
-                .orElse(Set.of());
-        for (var securitySchemeEntry : securitySchemes) {
-            var type = securitySchemeEntry.getValue().getType();
-            // OpenID connect is built on top of OAuth2, both schemes use scopes.
-            if (type == SecurityScheme.Type.OAUTH2 || type == SecurityScheme.Type.OPENIDCONNECT) {
-                namesOfSchemesThatUseScopes.add(securitySchemeEntry.getKey());
-            }
+    private List<String> extensionScopes(Operation operation) {
+        if (operation.getExtensions() == null
+                || !operation.getExtensions().containsKey(scopeProperties.scopeExtensions())) {
+            return List.of();
+        }
+        var extensionValue = operation.getExtensions().get(scopeProperties.scopeExtensions());
+        if (extensionValue instanceof List<?> scopes) {
+            return scopes.stream()
+                    .filter(Objects::nonNull)
+                    .map(Object::toString)
+                    .toList();
+        } else if (extensionValue instanceof String scope && !scope.isBlank()) {
+            return List.of(scope);
         }
+        return List.of();
+    }
 
+    private List<List<String>> discoverScopesFromSecurity(OpenAPI openApi) {
+        var namesOfSchemesThatUseScopes = namesOfSchemesThatUseScopes(openApi);
         var globalScopes = extractScopes(namesOfSchemesThatUseScopes, openApi.getSecurity());
         var globalScopesUsed = false;
 
@@ -120,8 +128,53 @@ public class ScopeDiscoveryService {
         return discoveredScopes;
     }
 
+    /**
+     * Collects the scopes accepted by each operation, from the scope extension if one is configured, and otherwise
+     * from the security requirements of the operation, falling back to the global security requirements.
+     */
+    private Map<String, Set<String>> discoverOperationScopes(OpenAPI openApi) {
+        var useExtensions = !scopeProperties.scopeExtensions().isEmpty();
+        var namesOfSchemesThatUseScopes = useExtensions ? Set.of() : namesOfSchemesThatUseScopes(openApi);
+        var operationScopes = new HashMap<String, Set<String>>();
+        if (openApi.getPaths() == null) {
+            return operationScopes;
+        }
+        for (var pathEntry : openApi.getPaths().entrySet()) {
+            for (var operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
+                var operation = operationEntry.getValue();
+                var scopes = new HashSet<String>();
+                if (useExtensions) {
+                    scopes.addAll(extensionScopes(operation));
+                } else {
+                    var security = operation.getSecurity() != null ? operation.getSecurity() : openApi.getSecurity();
+                    extractScopes(namesOfSchemesThatUseScopes, security).forEach(scopes::addAll);
+                }
+                operationScopes.put(
+                        OpenApiFingerprints.operationKey(operationEntry.getKey(), pathEntry.getKey()), scopes);
+            }
+        }
+        return operationScopes;
+    }
+
+    private Set<?> namesOfSchemesThatUseScopes(OpenAPI openApi) {
+        var namesOfSchemesThatUseScopes = new HashSet<>();
+        var securitySchemes = Optional.of(openApi)
+                .map(OpenAPI::getComponents)
+                .map(Components::getSecuritySchemes)
+                .map(Map::entrySet)
+                .orElse(Set.of());
+        for (var securitySchemeEntry : securitySchemes) {
+            var type = securitySchemeEntry.getValue().getType();
+            // OpenID connect is built on top of OAuth2, both schemes use scopes.
+            if (type == SecurityScheme.Type.OAUTH2 || type == SecurityScheme.Type.OPENIDCONNECT) {
+                namesOfSchemesThatUseScopes.add(securitySchemeEntry.getKey());
+            }
+        }
+        return namesOfSchemesThatUseScopes;
+    }
+
     private List<? extends List<String>> extractScopes(
-            HashSet<?> namesOfSchemesThatUseScopes, List<SecurityRequirement> securityRequirements) {
+            Set<?> namesOfSchemesThatUseScopes, List<SecurityRequirement> securityRequirements) {
         if (securityRequirements == null) {
             return List.of();
         }
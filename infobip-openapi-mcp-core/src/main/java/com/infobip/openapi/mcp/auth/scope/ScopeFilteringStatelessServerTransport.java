@@ -0,0 +1,102 @@
+package com.infobip.openapi.mcp.auth.scope;
+
+import com.infobip.openapi.mcp.McpRequestContextFactory;
+import com.infobip.openapi.mcp.auth.CredentialProvider;
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.server.McpStatelessServerHandler;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpStatelessServerTransport;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stateless server transport that answers {@code tools/list} requests with the tools the caller's token scopes
+ * permit.
+ * <p>
+ * The scopes are read from the credential of the HTTP request before the request reaches the server, and the complete
+ * result is filtered by {@link ScopedToolList}. Like {@link JwtScopeService}, this is a precheck that keeps tools the
+ * caller cannot use out of its context, not a security boundary: tool calls are authorized by the API as before. All
+ * other requests and the transport lifecycle are delegated as they are.
+ */
+@NullMarked
+public class ScopeFilteringStatelessServerTransport implements McpStatelessServerTransport {
+
+    private final McpStatelessServerTransport delegate;
+    private final ScopedToolList scopedToolList;
+    private final JwtScopeService jwtScopeService;
+    private final CredentialProvider credentialProvider;
+    private final McpRequestContextFactory contextFactory;
+
+    public ScopeFilteringStatelessServerTransport(
+            McpStatelessServerTransport delegate,
+            ScopedToolList scopedToolList,
+            JwtScopeService jwtScopeService,
+            CredentialProvider credentialProvider,
+            McpRequestContextFactory contextFactory) {
+        this.delegate = delegate;
+        this.scopedToolList = scopedToolList;
+        this.jwtScopeService = jwtScopeService;
+        this.credentialProvider = credentialProvider;
+        this.contextFactory = contextFactory;
+    }
+
+    @Override
+    public void setMcpHandler(McpStatelessServerHandler mcpHandler) {
+        delegate.setMcpHandler(new ScopeFilteringHandler(mcpHandler));
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+        return delegate.closeGracefully();
+    }
+
+    @Override
+    public List<String> protocolVersions() {
+        return delegate.protocolVersions();
+    }
+
+    private class ScopeFilteringHandler implements McpStatelessServerHandler {
+
+        private final McpStatelessServerHandler delegate;
+
+        private ScopeFilteringHandler(McpStatelessServerHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Mono<McpSchema.JSONRPCResponse> handleRequest(
+                McpTransportContext transportContext, McpSchema.JSONRPCRequest request) {
+            if (!McpSchema.METHOD_TOOLS_LIST.equals(request.method())) {
+                return delegate.handleRequest(transportContext, request);
+            }
+            // The HTTP request is only available on the calling thread, so the scopes are read before delegating
+            var callerScopes = callerScopes(transportContext);
+            return delegate.handleRequest(transportContext, request).map(response -> {
+                if (response.result() instanceof McpSchema.ListToolsResult tools) {
+                    return McpSchema.JSONRPCResponse.result(response.id(), scopedToolList.filter(tools, callerScopes));
+                }
+                return response;
+            });
+        }
+
+        @Override
+        public Mono<Void> handleNotification(
+                McpTransportContext transportContext, McpSchema.JSONRPCNotification notification) {
+            return delegate.handleNotification(transportContext, notification);
+        }
+
+        private Set<String> callerScopes(McpTransportContext transportContext) {
+            return credentialProvider
+                    .provide(contextFactory.forStatelessRequest(transportContext))
+                    .map(jwtScopeService::decodeJwtTokenAndExtractScopes)
+                    .orElse(Set.of());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.infobip.openapi.mcp.auth.scope;
+
+import com.infobip.openapi.mcp.openapi.OpenApiFingerprints;
+import io.swagger.v3.oas.models.PathItem;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Scopes accepted by each operation of the OpenAPI specification, stored as bitsets.
+ * <p>
+ * Every discovered scope is assigned a bit, and each operation keeps the bits of the scopes which grant access to it.
+ * A caller is permitted to use an operation if its token carries at least one of those scopes, which is checked by a
+ * single bitset intersection. Operations without scopes are permitted to every caller.
+ *
+ * @see ScopeDiscoveryService#getScopeRequirements()
+ */
+@NullMarked
+public final class ScopeRequirements {
+
+    public static final ScopeRequirements EMPTY = new ScopeRequirements(Map.of(), Map.of());
+
+    private final Map<String, Integer> scopeBits;
+    private final Map<String, BitSet> operationScopes;
+
+    private ScopeRequirements(Map<String, Integer> scopeBits, Map<String, BitSet> operationScopes) {
+        this.scopeBits = scopeBits;
+        this.operationScopes = operationScopes;
+    }
+
+    /**
+     * @param scopesByOperation the scopes accepted by each operation, keyed by
+     *                          {@link OpenApiFingerprints#operationKey operation key}
+     * @return the scope requirements of the operations
+     */
+    public static ScopeRequirements of(Map<String, ? extends Collection<String>> scopesByOperation) {
+        var scopeBits = new HashMap<String, Integer>();
+        var allScopes = new TreeSet<String>();
+        scopesByOperation.values().forEach(allScopes::addAll);
+        for (var scope : allScopes) {
+            scopeBits.put(scope, scopeBits.size());
+        }
+        var operationScopes = new HashMap<String, BitSet>();
+        scopesByOperation.forEach((operationKey, scopes) -> {
+            if (!scopes.isEmpty()) {
+                var bits = new BitSet(scopeBits.size());
+                scopes.forEach(scope -> bits.set(scopeBits.get(scope)));
+                operationScopes.put(operationKey, bits);
+            }
+        });
+        return new ScopeRequirements(Map.copyOf(scopeBits), Map.copyOf(operationScopes));
+    }
+
+    /**
+     * Converts the scopes of a caller to a bitset. Scopes which no operation accepts are dropped, so callers whose
+     * tokens differ only in such scopes get equal bitsets.
+     *
+     * @param scopes the scopes of the caller
+     * @return the bits of the known scopes
+     */
+    public BitSet grantedScopes(Set<String> scopes) {
+        var bits = new BitSet(scopeBits.size());
+        for (var scope : scopes) {
+            var bit = scopeBits.get(scope);
+            if (bit != null) {
+                bits.set(bit);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * @param method        the HTTP method of the operation
+     * @param path          the path of the operation
+     * @param grantedScopes the {@link #grantedScopes granted scopes} of the caller
+     * @return whether the caller has a scope accepted by the operation, or the operation requires no scope
+     */
+    public boolean isPermitted(PathItem.HttpMethod method, String path, BitSet grantedScopes) {
+        var requiredScopes = operationScopes.get(OpenApiFingerprints.operationKey(method, path));
+        return requiredScopes == null || requiredScopes.intersects(grantedScopes);
+    }
+}
@@ -0,0 +1,123 @@
+package com.infobip.openapi.mcp.auth.scope;
+
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Filters {@code tools/list} results down to the tools whose operations accept a scope of the caller.
+ * <p>
+ * The scopes of the caller are converted to a bitset of {@link ScopeRequirements}, and each tool is kept if its
+ * operation accepts one of the granted scopes. Scopes are discovered from the primary specification only, so tools
+ * which are not backed by one of its operations, such as the tools of additional specifications and the tool
+ * discovery tools, are always kept. The filtered list is cached per distinct bitset, so callers with the same relevant
+ * scopes share one list. The cache is dropped whenever the registered tools, the discovered scopes or the catalog
+ * version change, and nothing is cached while the catalog is being updated.
+ */
+@NullMarked
+public class ScopedToolList {
+
+    private static final int MAX_CACHED_SCOPE_SETS = 256;
+
+    private final ScopeDiscoveryService scopeDiscoveryService;
+    private final ToolRegistry toolRegistry;
+    private final LongSupplier catalogVersion;
+
+    private volatile @Nullable Catalog catalog;
+
+    private record Catalog(
+            List<RegisteredTool> registeredTools,
+            ScopeRequirements requirements,
+            long version,
+            Map<String, OperationDescriptor> operations,
+            Map<BitSet, List<McpSchema.Tool>> filteredTools) {
+
+        boolean isCurrent(List<RegisteredTool> registeredTools, ScopeRequirements requirements, long version) {
+            return this.registeredTools == registeredTools
+                    && this.requirements == requirements
+                    && this.version == version;
+        }
+    }
+
+    /**
+     * @param scopeDiscoveryService the source of the scopes accepted by each operation
+     * @param toolRegistry          the registry of the tools backed by OpenAPI operations
+     * @param catalogVersion        the supplier of the current catalog version
+     */
+    public ScopedToolList(
+            ScopeDiscoveryService scopeDiscoveryService, ToolRegistry toolRegistry, LongSupplier catalogVersion) {
+        this.scopeDiscoveryService = scopeDiscoveryService;
+        this.toolRegistry = toolRegistry;
+        this.catalogVersion = catalogVersion;
+    }
+
+    /**
+     * @param result      the complete {@code tools/list} result
+     * @param callerScopes the scopes of the caller
+     * @return the result with the tools the caller may use
+     */
+    public McpSchema.ListToolsResult filter(McpSchema.ListToolsResult result, Set<String> callerScopes) {
+        var version = catalogVersion.getAsLong();
+        var current = currentCatalog(version);
+        var grantedScopes = current.requirements().grantedScopes(callerScopes);
+        // An odd version means tools are being updated, so the result may not match the registered tools yet
+        var cacheable = version % 2 == 0 && current.filteredTools().size() < MAX_CACHED_SCOPE_SETS;
+        var tools = cacheable
+                ? current.filteredTools()
+                        .computeIfAbsent(grantedScopes, scopes -> filterTools(result.tools(), current, scopes))
+                : filterTools(result.tools(), current, grantedScopes);
+        return new McpSchema.ListToolsResult(tools, result.nextCursor(), result.meta());
+    }
+
+    /**
+     * Returns the filter used for tools found by {@link com.infobip.openapi.mcp.openapi.tool.discovery.ToolDiscovery
+     * tool discovery}, so that searches only return the tools a {@code tools/list} result would contain.
+     *
+     * @param callerScopes the scopes of the caller
+     * @return a predicate accepting the tools the caller may use
+     */
+    public Predicate<RegisteredTool> permittedTools(Set<String> callerScopes) {
+        var current = currentCatalog(catalogVersion.getAsLong());
+        var grantedScopes = current.requirements().grantedScopes(callerScopes);
+        return registeredTool -> isPermitted(registeredTool.tool(), current, grantedScopes);
+    }
+
+    private Catalog currentCatalog(long version) {
+        var registeredTools = toolRegistry.getRegisteredToolsCache();
+        var requirements = scopeDiscoveryService.getScopeRequirements();
+        var current = catalog;
+        if (current != null && current.isCurrent(registeredTools, requirements, version)) {
+            return current;
+        }
+        var operations = new HashMap<String, OperationDescriptor>();
+        registeredTools.stream()
+                .filter(registeredTool -> registeredTool.specification() == null)
+                .forEach(registeredTool -> operations.put(registeredTool.tool().name(), registeredTool.operation()));
+        var updated = new Catalog(registeredTools, requirements, version, operations, new ConcurrentHashMap<>());
+        this.catalog = updated;
+        return updated;
+    }
+
+    private static List<McpSchema.Tool> filterTools(List<McpSchema.Tool> tools, Catalog catalog, BitSet grantedScopes) {
+        return tools.stream()
+                .filter(tool -> isPermitted(tool, catalog, grantedScopes))
+                .toList();
+    }
+
+    private static boolean isPermitted(McpSchema.Tool tool, Catalog catalog, BitSet grantedScopes) {
+        var operation = catalog.operations().get(tool.name());
+        return operation == null
+                || catalog.requirements().isPermitted(operation.method(), operation.path(), grantedScopes);
+    }
+}
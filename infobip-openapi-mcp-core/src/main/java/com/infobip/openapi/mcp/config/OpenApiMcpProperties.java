@@ -2,13 +2,19 @@ package com.infobip.openapi.mcp.config;
 
 import com.infobip.openapi.mcp.openapi.schema.Spec.ExamplesMode;
 import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategyType;
+import io.swagger.v3.oas.models.PathItem;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -19,6 +25,8 @@ import org.springframework.validation.annotation.Validated;
  * Configuration properties for OpenAPI MCP Server.
  *
  * @param openApiUrl                   URL to the OpenAPI specification. This should point to a valid OpenAPI document (e.g., JSON or YAML).
+ *                                     Required unless {@code precompiledCatalog} is set, in which case it is only used
+ *                                     as the source for live reload.
  * @param apiBaseUrl                   Base URL for the API. Supports three formats:
  *                                     - String URL: Use the provided URL directly (e.g., "https://api.example.com")
  *                                     - Integer: Use the i-th server from OpenAPI servers array, 0-indexed (e.g., "0", "1")
@@ -40,11 +48,24 @@ import org.springframework.validation.annotation.Validated;
  *                                     By default, all filters are enabled.
  * @param tools                        Tool configuration.
  * @param liveReload                   Live reload configuration for automatic OpenAPI spec refresh.
+ * @param precompiledCatalog           Location of a catalog produced at build time by the
+ *                                     {@code infobip-openapi-mcp-maven-plugin} (e.g.,
+ *                                     "classpath:META-INF/openapi-mcp/catalog.json"). When set, the already filtered
+ *                                     and resolved OpenAPI specification is loaded from this resource on startup
+ *                                     instead of being fetched from {@code openApiUrl}. Not set by default.
+ * @param specFetch                    Configuration of fetching the OpenAPI specification over HTTP.
+ * @param pruning                      Rules selecting the operations exposed as tools. Other operations and the
+ *                                     components only they use are removed before references are resolved.
+ * @param pagination                   Cursor pagination of {@code tools/list} and {@code prompts/list} responses.
+ * @param specs                        Additional OpenAPI specifications whose tools are served next to the tools of
+ *                                     {@code openApiUrl}. Empty by default.
+ * @param tenants                      Additional MCP servers hosted by the same process, each serving the tools of its
+ *                                     own OpenAPI specification at its own endpoint. Empty by default.
  */
 @Validated
 @ConfigurationProperties(prefix = OpenApiMcpProperties.PREFIX)
 public record OpenApiMcpProperties(
-        @NotNull URI openApiUrl,
+        URI openApiUrl,
         String apiBaseUrl,
         Duration connectTimeout,
         Duration readTimeout,
@@ -53,7 +74,13 @@ public record OpenApiMcpProperties(
         String userAgent,
         Map<String, Boolean> filters,
         @NestedConfigurationProperty @Valid Tools tools,
-        @NestedConfigurationProperty @Valid OpenApiMcpProperties.LiveReload liveReload) {
+        @NestedConfigurationProperty @Valid OpenApiMcpProperties.LiveReload liveReload,
+        String precompiledCatalog,
+        @NestedConfigurationProperty @Valid OpenApiMcpProperties.SpecFetch specFetch,
+        @NestedConfigurationProperty @Valid OpenApiMcpProperties.Pruning pruning,
+        @NestedConfigurationProperty @Valid OpenApiMcpProperties.Pagination pagination,
+        List<@Valid Spec> specs,
+        List<@Valid Tenant> tenants) {
 
     public static final String PREFIX = "infobip.openapi.mcp";
     public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
@@ -85,11 +112,26 @@ public record OpenApiMcpProperties(
             filters = new HashMap<>();
         }
         if (tools == null) {
-            tools = new Tools(null, null, null, null, null, null, null);
+            tools = new Tools(null, null, null, null, null, null, null, null, null, null);
         }
         if (liveReload == null) {
             liveReload = new LiveReload(null, null, null);
         }
+        if (specFetch == null) {
+            specFetch = new SpecFetch(null, null);
+        }
+        if (pruning == null) {
+            pruning = new Pruning(null, null);
+        }
+        if (pagination == null) {
+            pagination = new Pagination(null);
+        }
+        if (specs == null) {
+            specs = List.of();
+        }
+        if (tenants == null) {
+            tenants = List.of();
+        }
     }
 
     /**
@@ -98,7 +140,82 @@ public record OpenApiMcpProperties(
      * @return a new OpenApiMcpProperties instance with defaults
      */
     public static OpenApiMcpProperties withDefaults() {
-        return new OpenApiMcpProperties(null, null, null, null, null, null, null, null, null, null);
+        return new OpenApiMcpProperties(
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Either the OpenAPI specification URL or a precompiled catalog has to be configured.
+     */
+    @AssertTrue(message = "either open-api-url or precompiled-catalog must be set")
+    public boolean isOpenApiSourceConfigured() {
+        return openApiUrl != null || precompiledCatalog != null;
+    }
+
+    /**
+     * Names of additional specifications have to be unique, as they tell the specifications apart in logs and tool
+     * caches.
+     */
+    @AssertTrue(message = "names of specs must be unique")
+    public boolean isSpecNamesUnique() {
+        return specs.stream().map(Spec::name).distinct().count() == specs.size();
+    }
+
+    /**
+     * Names of tenants have to be unique, and no two tenants may be served at the same host and endpoint.
+     */
+    @AssertTrue(message = "names and endpoints of tenants must be unique")
+    public boolean isTenantRoutingUnique() {
+        var names = tenants.stream().map(Tenant::name).distinct().count();
+        var routes = tenants.stream()
+                .map(tenant -> tenant.host() + " " + tenant.endpoint())
+                .distinct()
+                .count();
+        return names == tenants.size() && routes == tenants.size();
+    }
+
+    /**
+     * Creates the properties of an additional specification. The specification replaces the OpenAPI source, the API
+     * base URL, the filters and the pruning rules, while all other properties are shared with the primary
+     * specification.
+     *
+     * @param spec the additional specification
+     * @return the properties to load and serve the specification with
+     */
+    public OpenApiMcpProperties forSpec(Spec spec) {
+        return forSource(spec.openApiUrl(), spec.apiBaseUrl(), spec.filters(), spec.pruning());
+    }
+
+    /**
+     * Creates the properties of a tenant. Like {@link #forSpec(Spec)}, the tenant replaces the OpenAPI source, the
+     * API base URL, the filters and the pruning rules, while all other properties are shared by all tenants.
+     *
+     * @param tenant the tenant
+     * @return the properties to load and serve the specification of the tenant with
+     */
+    public OpenApiMcpProperties forTenant(Tenant tenant) {
+        return forSource(tenant.openApiUrl(), tenant.apiBaseUrl(), tenant.filters(), tenant.pruning());
+    }
+
+    private OpenApiMcpProperties forSource(
+            URI sourceOpenApiUrl, String sourceApiBaseUrl, Map<String, Boolean> sourceFilters, Pruning sourcePruning) {
+        return new OpenApiMcpProperties(
+                sourceOpenApiUrl,
+                sourceApiBaseUrl,
+                connectTimeout,
+                readTimeout,
+                progressNotificationsEnabled,
+                progressNotificationsInterval,
+                userAgent,
+                sourceFilters,
+                tools,
+                liveReload,
+                null,
+                specFetch,
+                sourcePruning,
+                pagination,
+                List.of(),
+                List.of());
     }
 
     /**
@@ -131,6 +248,10 @@ public record OpenApiMcpProperties(
      * @param annotations                       Per-tool annotation overrides. Keys are tool names; values override
      *                                          the annotations inferred from HTTP method semantics and
      *                                          {@code x-mcp-annotations} vendor extension.
+     * @param budget                            Per-tool size budget of tool descriptions and input schemas.
+     * @param discovery                         Dynamic tool discovery, which registers search and invocation tools
+     *                                          instead of one tool per operation.
+     * @param validation                        Validation of tool call arguments against the input schemas of tools.
      */
     public record Tools(
             @NestedConfigurationProperty @Valid Naming naming,
@@ -139,7 +260,10 @@ public record OpenApiMcpProperties(
             Boolean prependSummaryToDescription,
             Boolean mock,
             ExamplesMode examplesMode,
-            Map<String, Annotations> annotations) {
+            Map<String, Annotations> annotations,
+            @NestedConfigurationProperty @Valid Budget budget,
+            @NestedConfigurationProperty @Valid Discovery discovery,
+            @NestedConfigurationProperty @Valid Validation validation) {
         public static final boolean DEFAULT_JSON_DOUBLE_SERIALIZATION_MITIGATION = true;
         public static final boolean DEFAULT_PREPEND_SUMMARY_TO_DESCRIPTION = true;
         public static final boolean DEFAULT_MOCK = false;
@@ -153,7 +277,7 @@ public record OpenApiMcpProperties(
                 naming = new Naming(null, null);
             }
             if (schema == null) {
-                schema = new Schema(null, null);
+                schema = new Schema(null, null, null, null);
             }
             if (jsonDoubleSerializationMitigation == null) {
                 jsonDoubleSerializationMitigation = DEFAULT_JSON_DOUBLE_SERIALIZATION_MITIGATION;
@@ -170,6 +294,15 @@ public record OpenApiMcpProperties(
             if (annotations == null) {
                 annotations = new LinkedHashMap<>();
             }
+            if (budget == null) {
+                budget = new Budget(null, null, null, null);
+            }
+            if (discovery == null) {
+                discovery = new Discovery(null, null);
+            }
+            if (validation == null) {
+                validation = new Validation(null, null);
+            }
         }
 
         /**
@@ -199,11 +332,20 @@ public record OpenApiMcpProperties(
          *
          * @param parametersKey  The key name used to wrap parameters in combined schemas. Default is "_params".
          * @param requestBodyKey The key name used to wrap request body in combined schemas. Default is "_body".
+         * @param definitions    Configuration of shared schema definitions in tool input schemas.
+         * @param preSerialized  Whether tool input schemas are serialized to JSON once, when tools are registered,
+         *                       instead of on every {@code tools/list} request. The stored JSON is not shared between
+         *                       tools like the interned schemas are, so this trades heap for CPU time. Default is
+         *                       false.
          */
         public record Schema(
-                @NotNull String parametersKey, @NotNull String requestBodyKey) {
+                @NotNull String parametersKey,
+                @NotNull String requestBodyKey,
+                @NestedConfigurationProperty @Valid Definitions definitions,
+                Boolean preSerialized) {
             private static final String DEFAULT_PARAMETERS_KEY = "_params";
             private static final String DEFAULT_REQUEST_BODY_KEY = "_body";
+            public static final boolean DEFAULT_PRE_SERIALIZED = false;
 
             /**
              * Constructor with defaults for optional properties.
@@ -215,6 +357,134 @@ public record OpenApiMcpProperties(
                 if (requestBodyKey == null) {
                     requestBodyKey = DEFAULT_REQUEST_BODY_KEY;
                 }
+                if (definitions == null) {
+                    definitions = new Definitions(null, null);
+                }
+                if (preSerialized == null) {
+                    preSerialized = DEFAULT_PRE_SERIALIZED;
+                }
+            }
+
+            /**
+             * Configuration of shared schema definitions. When enabled, component schemas that are used more than
+             * once or recursively are emitted once under the {@code $defs} keyword of the tool input schema and
+             * referenced with local {@code $ref}s, instead of being inlined at every occurrence.
+             *
+             * @param enabled     Whether shared schema definitions are enabled. Default is false, which fully inlines
+             *                    all schemas.
+             * @param inlineDepth Nesting depth up to which schemas used more than once are still inlined. Deeper
+             *                    occurrences, and all recursive references, use {@code $defs}. Default is 1.
+             */
+            public record Definitions(
+                    Boolean enabled, @PositiveOrZero Integer inlineDepth) {
+                public static final boolean DEFAULT_ENABLED = false;
+                public static final int DEFAULT_INLINE_DEPTH = 1;
+
+                /**
+                 * Constructor with defaults for optional properties.
+                 */
+                public Definitions {
+                    if (enabled == null) {
+                        enabled = DEFAULT_ENABLED;
+                    }
+                    if (inlineDepth == null) {
+                        inlineDepth = DEFAULT_INLINE_DEPTH;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Size budget of a single tool, measured as the UTF-8 encoded size of its description and input schema. Tools
+         * over the budget are reduced step by step until they fit or nothing is left to reduce: schema examples are
+         * removed, the description keeps only its first example, long schema descriptions are trimmed, large enums
+         * are collapsed, the description examples are removed and finally schema descriptions are removed.
+         *
+         * @param maxBytes             Maximum size of a tool in bytes. Default is null, which disables budgeting.
+         * @param maxDescriptionLength Length to which schema descriptions are trimmed. Default is 200.
+         * @param maxEnumValues        Maximum number of enum values kept in the schema. Larger enums are replaced
+         *                             with a description listing the first values. Default is 20.
+         * @param reportLargest        Number of largest tools logged after tools are registered. Default is 10.
+         */
+        public record Budget(
+                @Positive Integer maxBytes,
+                @NotNull @Positive Integer maxDescriptionLength,
+                @NotNull @Positive Integer maxEnumValues,
+                @NotNull @PositiveOrZero Integer reportLargest) {
+            public static final int DEFAULT_MAX_DESCRIPTION_LENGTH = 200;
+            public static final int DEFAULT_MAX_ENUM_VALUES = 20;
+            public static final int DEFAULT_REPORT_LARGEST = 10;
+
+            /**
+             * Constructor with defaults for optional properties.
+             */
+            public Budget {
+                if (maxDescriptionLength == null) {
+                    maxDescriptionLength = DEFAULT_MAX_DESCRIPTION_LENGTH;
+                }
+                if (maxEnumValues == null) {
+                    maxEnumValues = DEFAULT_MAX_ENUM_VALUES;
+                }
+                if (reportLargest == null) {
+                    reportLargest = DEFAULT_REPORT_LARGEST;
+                }
+            }
+
+            public boolean enabled() {
+                return maxBytes != null;
+            }
+        }
+
+        /**
+         * Configuration of dynamic tool discovery. When enabled, operations are not registered as individual tools.
+         * Instead, the server registers a {@code search_tools} tool, which searches an in-memory index of all
+         * operations, and an {@code invoke_tool} tool, which calls the operation with the given tool name.
+         *
+         * @param enabled    Whether dynamic tool discovery is enabled. Default is false.
+         * @param maxResults Maximum number of tools returned by a single search. Default is 10.
+         */
+        public record Discovery(
+                Boolean enabled, @NotNull @Positive Integer maxResults) {
+            public static final boolean DEFAULT_ENABLED = false;
+            public static final int DEFAULT_MAX_RESULTS = 10;
+
+            /**
+             * Constructor with defaults for optional properties.
+             */
+            public Discovery {
+                if (enabled == null) {
+                    enabled = DEFAULT_ENABLED;
+                }
+                if (maxResults == null) {
+                    maxResults = DEFAULT_MAX_RESULTS;
+                }
+            }
+        }
+
+        /**
+         * Configuration of tool call argument validation. When enabled, the arguments of each tool call are validated
+         * against the input schema of the tool before the API is called, and calls with invalid arguments are answered
+         * with the list of violations instead.
+         *
+         * @param enabled  Whether arguments are validated. Default is true.
+         * @param coercion Whether arguments that match the input schema after a safe conversion are converted instead
+         *                 of rejected: numeric strings to numbers, single values to arrays, and enum values in a
+         *                 different case to the enum value. Default is true.
+         */
+        public record Validation(Boolean enabled, Boolean coercion) {
+            public static final boolean DEFAULT_ENABLED = true;
+            public static final boolean DEFAULT_COERCION = true;
+
+            /**
+             * Constructor with defaults for optional properties.
+             */
+            public Validation {
+                if (enabled == null) {
+                    enabled = DEFAULT_ENABLED;
+                }
+                if (coercion == null) {
+                    coercion = DEFAULT_COERCION;
+                }
             }
         }
 
@@ -261,4 +531,191 @@ public record OpenApiMcpProperties(
             }
         }
     }
+
+    /**
+     * Configuration for fetching the OpenAPI specification over HTTP.
+     *
+     * @param timeout        Timeout for connecting to the specification host and for reading the specification.
+     *                       Default is 30 seconds.
+     * @param cacheDirectory Directory where the last successfully parsed specification is stored together with its
+     *                       {@code ETag} and {@code Last-Modified} validators. On startup the cached specification is
+     *                       served when the specification host is unreachable. Not set by default, which disables
+     *                       the cache.
+     */
+    public record SpecFetch(Duration timeout, Path cacheDirectory) {
+        public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+        public SpecFetch {
+            if (timeout == null) {
+                timeout = DEFAULT_TIMEOUT;
+            }
+        }
+    }
+
+    /**
+     * Configuration for pruning the OpenAPI specification before references are resolved. Operations that are not
+     * exposed as tools are removed, together with all components they alone referenced.
+     *
+     * @param include Rules selecting operations to expose as tools. An operation is exposed if it matches any of the
+     *                rules. When no rules are configured, all operations are exposed.
+     * @param exclude Rules selecting operations to remove, even if they match an include rule.
+     */
+    public record Pruning(List<@Valid OperationRule> include, List<@Valid OperationRule> exclude) {
+
+        public Pruning {
+            if (include == null) {
+                include = List.of();
+            }
+            if (exclude == null) {
+                exclude = List.of();
+            }
+        }
+
+        /**
+         * Rule matching operations. An operation matches the rule when it matches all configured criteria, and it
+         * matches a criterion when it matches any of its values. Criteria that are not configured match all
+         * operations.
+         *
+         * @param paths        Ant-style path patterns, e.g. {@code /v1/forecast/**}. Path templates are matched
+         *                     literally, so {@code /pets/*} matches {@code /pets/{petId}}.
+         * @param methods      HTTP methods, e.g. {@code GET}.
+         * @param tags         Operation tags.
+         * @param operationIds Operation ID patterns, where {@code *} matches any sequence of characters, e.g.
+         *                     {@code get*}.
+         * @param extensions   Names of vendor extensions that have to be set to {@code true} on the operation, e.g.
+         *                     {@code x-mcp}.
+         */
+        public record OperationRule(
+                List<String> paths,
+                List<PathItem.HttpMethod> methods,
+                List<String> tags,
+                List<String> operationIds,
+                List<String> extensions) {
+
+            public OperationRule {
+                if (paths == null) {
+                    paths = List.of();
+                }
+                if (methods == null) {
+                    methods = List.of();
+                }
+                if (tags == null) {
+                    tags = List.of();
+                }
+                if (operationIds == null) {
+                    operationIds = List.of();
+                }
+                if (extensions == null) {
+                    extensions = List.of();
+                }
+            }
+        }
+    }
+
+    /**
+     * Configuration for cursor pagination of {@code tools/list} and {@code prompts/list} responses. Pages are ordered
+     * by name, and cursors are bound to the catalog version, so a cursor issued before a live reload changed the tools
+     * or prompts is rejected and the client has to list again from the start.
+     * <p>
+     * Pagination is only supported with the stateless protocol, because the MCP SDK does not expose list requests of
+     * stateful sessions.
+     *
+     * @param pageSize Maximum number of tools or prompts in a single response. Not set by default, which disables
+     *                 pagination.
+     */
+    public record Pagination(@Positive Integer pageSize) {
+        public static final String PREFIX = OpenApiMcpProperties.PREFIX + ".pagination";
+
+        public boolean enabled() {
+            return pageSize != null;
+        }
+    }
+
+    /**
+     * Additional OpenAPI specification served by the same MCP server. Its tools call its own API through a dedicated
+     * HTTP client with its own connection pool.
+     *
+     * @param name              Name of the specification, used in logs and as the default tool name prefix.
+     * @param openApiUrl        URL to the OpenAPI specification.
+     * @param apiBaseUrl        Base URL for the API, in the same formats as the top-level {@code apiBaseUrl}.
+     * @param toolPrefix        Prefix of the names of the tools of the specification, which keeps them distinct from
+     *                          tools of other specifications. Default is the name followed by an underscore.
+     * @param forwardCredential Whether the credential of the MCP client is forwarded to the API. Default is true.
+     * @param authorization     Fixed {@code Authorization} header value sent to the API instead of the credential
+     *                          of the MCP client, e.g. an API key of a service account. Not set by default.
+     * @param filters           Filters to apply to the specification, in the same format as the top-level
+     *                          {@code filters}.
+     * @param pruning           Rules selecting the operations of the specification exposed as tools.
+     */
+    public record Spec(
+            @NotBlank String name,
+            @NotNull URI openApiUrl,
+            String apiBaseUrl,
+            String toolPrefix,
+            Boolean forwardCredential,
+            String authorization,
+            Map<String, Boolean> filters,
+            @Valid Pruning pruning) {
+
+        public Spec {
+            if (toolPrefix == null) {
+                toolPrefix = name + "_";
+            }
+            if (forwardCredential == null) {
+                forwardCredential = true;
+            }
+            if (filters == null) {
+                filters = new HashMap<>();
+            }
+            if (pruning == null) {
+                pruning = new Pruning(null, null);
+            }
+        }
+    }
+
+    /**
+     * MCP server hosted by the same process as the primary one, with its own OpenAPI specification, tools, prompts
+     * and live reload. Tenants share the tool configuration of the primary server as well as a cache of resolved
+     * operations and compiled tools, so operations their specifications have in common are kept in memory once.
+     *
+     * @param name              Name of the tenant, used in logs.
+     * @param host              Host the tenant is served at, matched against the {@code Host} header of requests. Not
+     *                          set by default, which serves the tenant at any host.
+     * @param endpoint          Path of the MCP endpoint of the tenant. Default is the name between slashes followed
+     *                          by {@code mcp}, e.g. {@code /acme/mcp}.
+     * @param openApiUrl        URL to the OpenAPI specification of the tenant.
+     * @param apiBaseUrl        Base URL for the API, in the same formats as the top-level {@code apiBaseUrl}.
+     * @param forwardCredential Whether the credential of the MCP client is forwarded to the API. Default is true.
+     * @param authorization     Fixed {@code Authorization} header value sent to the API instead of the credential
+     *                          of the MCP client. Not set by default.
+     * @param filters           Filters to apply to the specification, in the same format as the top-level
+     *                          {@code filters}.
+     * @param pruning           Rules selecting the operations of the specification exposed as tools.
+     */
+    public record Tenant(
+            @NotBlank String name,
+            String host,
+            String endpoint,
+            @NotNull URI openApiUrl,
+            String apiBaseUrl,
+            Boolean forwardCredential,
+            String authorization,
+            Map<String, Boolean> filters,
+            @Valid Pruning pruning) {
+
+        public Tenant {
+            if (endpoint == null) {
+                endpoint = "/" + name + "/mcp";
+            }
+            if (forwardCredential == null) {
+                forwardCredential = true;
+            }
+            if (filters == null) {
+                filters = new HashMap<>();
+            }
+            if (pruning == null) {
+                pruning = new Pruning(null, null);
+            }
+        }
+    }
 }
@@ -0,0 +1,182 @@
+package com.infobip.openapi.mcp.infrastructure.cds;
+
+import com.infobip.openapi.mcp.McpRequestContext;
+import com.infobip.openapi.mcp.auth.CredentialProvider;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.enricher.ApiRequestEnricherChain;
+import com.infobip.openapi.mcp.error.ErrorModelWriter;
+import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
+import com.infobip.openapi.mcp.openapi.schema.DecomposedRequestData;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import com.infobip.openapi.mcp.openapi.tool.OrderingToolCallFilterChainFactory;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import com.infobip.openapi.mcp.openapi.tool.ToolCallFilter;
+import com.infobip.openapi.mcp.openapi.tool.ToolHandler;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import com.infobip.openapi.mcp.progress.ProgressUpdateProvider;
+import com.infobip.openapi.mcp.prompt.PromptRegistry;
+import com.infobip.openapi.mcp.prompt.RegisteredPrompt;
+import com.sun.net.httpserver.HttpServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Exercises the startup and request paths of the server once, so that a class data sharing (AppCDS) archive recorded
+ * during the run contains the classes they load.
+ * <p>
+ * By the time the training run is executed, the application context has loaded the OpenAPI specification (or the
+ * precompiled catalog) and built tools and prompts. The run then serializes the tool and prompt lists the way a
+ * {@code tools/list} response does, and calls the first tool through the tool call filters the way a
+ * {@code tools/call} request does. The tool calls the API through a {@link ToolHandler} backed by a local stub server,
+ * so that argument validation and decomposition, request composition, the HTTP client and response handling are
+ * loaded too. The downstream API is never called.
+ */
+@NullMarked
+public class TrainingRun {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrainingRun.class);
+
+    private static final String STUB_RESPONSE = "{}";
+    private static final String PATH_PARAMETER_VALUE = "training";
+
+    private final ToolRegistry toolRegistry;
+    private final PromptRegistry promptRegistry;
+    private final ObjectMapper objectMapper;
+    private final ErrorModelWriter errorModelWriter;
+    private final OpenApiMcpProperties properties;
+    private final ApiRequestEnricherChain enricherChain;
+    private final MetricService metricService;
+    private final ProgressUpdateProvider progressUpdateProvider;
+    private final List<ToolCallFilter> toolCallFilters;
+
+    public TrainingRun(
+            ToolRegistry toolRegistry,
+            PromptRegistry promptRegistry,
+            ObjectMapper objectMapper,
+            ErrorModelWriter errorModelWriter,
+            OpenApiMcpProperties properties,
+            ApiRequestEnricherChain enricherChain,
+            MetricService metricService,
+            ProgressUpdateProvider progressUpdateProvider,
+            List<ToolCallFilter> toolCallFilters) {
+        this.toolRegistry = toolRegistry;
+        this.promptRegistry = promptRegistry;
+        this.objectMapper = objectMapper;
+        this.errorModelWriter = errorModelWriter;
+        this.properties = properties;
+        this.enricherChain = enricherChain;
+        this.metricService = metricService;
+        this.progressUpdateProvider = progressUpdateProvider;
+        this.toolCallFilters = toolCallFilters;
+    }
+
+    /**
+     * Executes the training run.
+     *
+     * @return the number of tool calls that completed without an error
+     */
+    public int run() {
+        var tools = toolRegistry.getTools();
+        var prompts = promptRegistry.getPrompts();
+        objectMapper.writeValueAsString(tools.stream().map(RegisteredTool::tool).toList());
+        objectMapper.writeValueAsString(
+                prompts.stream().map(RegisteredPrompt::prompt).toList());
+        LOGGER.info("Training run serialized {} tools and {} prompts.", tools.size(), prompts.size());
+
+        if (tools.isEmpty()) {
+            LOGGER.warn("Training run found no tools to call.");
+            return 0;
+        }
+
+        var stubServer = startStubServer();
+        try {
+            var registeredTool = toolRegistry.withToolHandler(tools.getFirst(), stubToolHandler(stubServer));
+            var operation = registeredTool.operation();
+            var request = McpSchema.CallToolRequest.builder()
+                    .name(registeredTool.tool().name())
+                    .arguments(arguments(operation))
+                    .build();
+            var context = new McpRequestContext(null, request, null, null, operation);
+            var result = new OrderingToolCallFilterChainFactory(registeredTool, toolCallFilters)
+                    .get()
+                    .doFilter(context, request);
+            var succeeded = !Boolean.TRUE.equals(result.isError());
+            LOGGER.info(
+                    "Training run called tool {} through a stub, {}.",
+                    operation.toolName(),
+                    succeeded ? "succeeded" : "failed");
+            return succeeded ? 1 : 0;
+        } finally {
+            stubServer.stop(0);
+        }
+    }
+
+    private ToolHandler stubToolHandler(HttpServer stubServer) {
+        var restClient = RestClient.builder()
+                .requestFactory(new SimpleClientHttpRequestFactory())
+                .baseUrl("http://" + stubServer.getAddress().getHostString() + ":"
+                        + stubServer.getAddress().getPort())
+                .build();
+        CredentialProvider noCredential = context -> Optional.empty();
+        return new ToolHandler(
+                restClient,
+                errorModelWriter,
+                properties,
+                enricherChain,
+                metricService,
+                noCredential,
+                progressUpdateProvider);
+    }
+
+    /**
+     * Builds the arguments of the call the way the input schema of the tool expects them, with a value for every path
+     * parameter and an empty request body.
+     */
+    private Map<String, Object> arguments(OperationDescriptor operation) {
+        var path = new HashMap<String, Object>();
+        operation.parameters().stream()
+                .filter(parameter -> DecomposedRequestData.ParametersByType.PATH.equals(parameter.in()))
+                .forEach(parameter -> path.put(parameter.name(), PATH_PARAMETER_VALUE));
+        var hasParameters = !operation.parameters().isEmpty();
+        if (hasParameters && operation.hasRequestBody()) {
+            var schema = properties.tools().schema();
+            return Map.of(schema.parametersKey(), path, schema.requestBodyKey(), Map.of());
+        }
+        return hasParameters ? path : Map.of();
+    }
+
+    private static HttpServer startStubServer() {
+        try {
+            var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/", exchange -> {
+                try (exchange) {
+                    exchange.getRequestBody().readAllBytes();
+                    var body = STUB_RESPONSE.getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start the training run stub server", e);
+        }
+    }
+}
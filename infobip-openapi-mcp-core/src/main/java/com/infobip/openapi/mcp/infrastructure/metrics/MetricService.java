@@ -1,15 +1,33 @@
 package com.infobip.openapi.mcp.infrastructure.metrics;
 
 import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.http.HttpStatusCode;
 
 public interface MetricService {
 
     interface Timer {
-        void timeToolCall(FullOperation fullOperation, boolean isError);
+        void timeToolCall(OperationDescriptor operation, boolean isError);
 
-        void timeApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode);
+        void timeApiCall(OperationDescriptor operation, HttpStatusCode httpStatusCode);
+
+        /**
+         * @deprecated Tags the call with the operation id as the tool name. Use
+         * {@link #timeToolCall(OperationDescriptor, boolean)} instead.
+         */
+        @Deprecated(since = "1.0.1", forRemoval = true)
+        default void timeToolCall(FullOperation fullOperation, boolean isError) {
+            timeToolCall(describe(fullOperation), isError);
+        }
+
+        /**
+         * @deprecated Use {@link #timeApiCall(OperationDescriptor, HttpStatusCode)} instead.
+         */
+        @Deprecated(since = "1.0.1", forRemoval = true)
+        default void timeApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode) {
+            timeApiCall(describe(fullOperation), httpStatusCode);
+        }
     }
 
     interface PromptTimer {
@@ -22,9 +40,30 @@ public interface MetricService {
         void record(String status);
     }
 
-    void recordToolCall(FullOperation fullOperation);
+    interface SpecFetchTimer {
+        void record(String result);
+    }
+
+    void recordToolCall(OperationDescriptor operation);
+
+    void recordApiCall(OperationDescriptor operation, HttpStatusCode httpStatusCode);
+
+    /**
+     * @deprecated Tags the call with the operation id as the tool name. Use
+     * {@link #recordToolCall(OperationDescriptor)} instead.
+     */
+    @Deprecated(since = "1.0.1", forRemoval = true)
+    default void recordToolCall(FullOperation fullOperation) {
+        recordToolCall(describe(fullOperation));
+    }
 
-    void recordApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode);
+    /**
+     * @deprecated Use {@link #recordApiCall(OperationDescriptor, HttpStatusCode)} instead.
+     */
+    @Deprecated(since = "1.0.1", forRemoval = true)
+    default void recordApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode) {
+        recordApiCall(describe(fullOperation), httpStatusCode);
+    }
 
     Timer startTimer();
 
@@ -37,4 +76,18 @@ public interface MetricService {
     void recordLiveReloadExecution(String status);
 
     LiveReloadTimer startLiveReloadTimer();
+
+    void recordSpecFetch(String result, long receivedBytes);
+
+    SpecFetchTimer startSpecFetchTimer();
+
+    void recordToolSize(String toolName, long originalBytes, long bytes);
+
+    void recordArgumentValidation(OperationDescriptor operation, String result);
+
+    private static OperationDescriptor describe(FullOperation fullOperation) {
+        var operationId = fullOperation.operation().getOperationId();
+        var toolName = operationId != null ? operationId : fullOperation.method() + " " + fullOperation.path();
+        return OperationDescriptor.of(toolName, fullOperation);
+    }
 }
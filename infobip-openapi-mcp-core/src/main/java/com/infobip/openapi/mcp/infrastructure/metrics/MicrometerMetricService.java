@@ -1,10 +1,14 @@
 package com.infobip.openapi.mcp.infrastructure.metrics;
 
-import com.infobip.openapi.mcp.openapi.tool.FullOperation;
-import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategy;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatusCode;
@@ -14,18 +18,17 @@ public class MicrometerMetricService implements MetricService {
     private static final Logger LOGGER = LoggerFactory.getLogger(MicrometerMetricService.class);
 
     private final MeterRegistry meterRegistry;
-    private final NamingStrategy namingStrategy;
+    private final Map<String, AtomicLong> toolSizes = new ConcurrentHashMap<>();
 
-    public MicrometerMetricService(MeterRegistry meterRegistry, NamingStrategy namingStrategy) {
+    public MicrometerMetricService(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
-        this.namingStrategy = namingStrategy;
     }
 
     @Override
-    public void recordToolCall(FullOperation fullOperation) {
+    public void recordToolCall(OperationDescriptor operation) {
         try {
-            var toolName = namingStrategy.name(fullOperation);
-            var operationId = fullOperation.operation().getOperationId();
+            var toolName = operation.toolName();
+            var operationId = operation.operationId();
             var tags = List.of(Tag.of("tool_name", toolName), Tag.of("operation_id", operationId));
             meterRegistry.counter("com.infobip.openapi.tool.call", tags).increment();
         } catch (Exception e) {
@@ -34,9 +37,9 @@ public class MicrometerMetricService implements MetricService {
     }
 
     @Override
-    public void recordApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode) {
+    public void recordApiCall(OperationDescriptor operation, HttpStatusCode httpStatusCode) {
         try {
-            var operationId = fullOperation.operation().getOperationId();
+            var operationId = operation.operationId();
             var tags = List.of(
                     Tag.of("operation_id", operationId), Tag.of("status_code", String.valueOf(httpStatusCode.value())));
             meterRegistry.counter("com.infobip.openapi.api.call", tags).increment();
@@ -50,10 +53,10 @@ public class MicrometerMetricService implements MetricService {
         var sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
         return new Timer() {
             @Override
-            public void timeToolCall(FullOperation fullOperation, boolean isError) {
+            public void timeToolCall(OperationDescriptor operation, boolean isError) {
                 try {
-                    var toolName = namingStrategy.name(fullOperation);
-                    var operationId = fullOperation.operation().getOperationId();
+                    var toolName = operation.toolName();
+                    var operationId = operation.operationId();
                     var tags = List.of(
                             Tag.of("tool_name", toolName),
                             Tag.of("operation_id", operationId),
@@ -65,9 +68,9 @@ public class MicrometerMetricService implements MetricService {
             }
 
             @Override
-            public void timeApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode) {
+            public void timeApiCall(OperationDescriptor operation, HttpStatusCode httpStatusCode) {
                 try {
-                    var operationId = fullOperation.operation().getOperationId();
+                    var operationId = operation.operationId();
                     var tags = List.of(
                             Tag.of("operation_id", operationId),
                             Tag.of("status_code", String.valueOf(httpStatusCode.value())));
@@ -154,4 +157,63 @@ public class MicrometerMetricService implements MetricService {
             }
         };
     }
+
+    @Override
+    public void recordSpecFetch(String result, long receivedBytes) {
+        try {
+            var tags = List.of(Tag.of("result", result));
+            meterRegistry.counter("com.infobip.openapi.spec.fetch", tags).increment();
+            DistributionSummary.builder("com.infobip.openapi.spec.fetch.bytes")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(receivedBytes);
+        } catch (Exception e) {
+            LOGGER.error("Failed to record spec fetch metric: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SpecFetchTimer startSpecFetchTimer() {
+        var sample = io.micrometer.core.instrument.Timer.start(meterRegistry);
+        return result -> {
+            try {
+                var tags = List.of(Tag.of("result", result));
+                sample.stop(meterRegistry.timer("com.infobip.openapi.spec.fetch.duration", tags));
+            } catch (Exception e) {
+                LOGGER.error("Failed to record spec fetch duration metric: {}", e.getMessage(), e);
+            }
+        };
+    }
+
+    @Override
+    public void recordToolSize(String toolName, long originalBytes, long bytes) {
+        try {
+            toolSizeGauge(toolName, "original").set(originalBytes);
+            toolSizeGauge(toolName, "optimized").set(bytes);
+        } catch (Exception e) {
+            LOGGER.error("Failed to record tool size metric: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void recordArgumentValidation(OperationDescriptor operation, String result) {
+        try {
+            var tags = List.of(Tag.of("tool_name", operation.toolName()), Tag.of("result", result));
+            meterRegistry.counter("com.infobip.openapi.tool.arguments", tags).increment();
+        } catch (Exception e) {
+            LOGGER.error("Failed to record argument validation metric: {}", e.getMessage(), e);
+        }
+    }
+
+    private AtomicLong toolSizeGauge(String toolName, String stage) {
+        return toolSizes.computeIfAbsent(toolName + '\n' + stage, key -> {
+            var size = new AtomicLong();
+            Gauge.builder("com.infobip.openapi.tool.size", size, AtomicLong::get)
+                    .baseUnit("bytes")
+                    .tags(List.of(Tag.of("tool_name", toolName), Tag.of("stage", stage)))
+                    .register(meterRegistry);
+            return size;
+        });
+    }
 }
@@ -1,23 +1,23 @@
 package com.infobip.openapi.mcp.infrastructure.metrics;
 
-import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
 import org.springframework.http.HttpStatusCode;
 
 public class NoOpMetricService implements MetricService {
     @Override
-    public void recordToolCall(FullOperation fullOperation) {}
+    public void recordToolCall(OperationDescriptor operation) {}
 
     @Override
-    public void recordApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode) {}
+    public void recordApiCall(OperationDescriptor operation, HttpStatusCode httpStatusCode) {}
 
     @Override
     public Timer startTimer() {
         return new Timer() {
             @Override
-            public void timeToolCall(FullOperation fullOperation, boolean isError) {}
+            public void timeToolCall(OperationDescriptor operation, boolean isError) {}
 
             @Override
-            public void timeApiCall(FullOperation fullOperation, HttpStatusCode httpStatusCode) {}
+            public void timeApiCall(OperationDescriptor operation, HttpStatusCode httpStatusCode) {}
         };
     }
 
@@ -45,4 +45,18 @@ public class NoOpMetricService implements MetricService {
     public LiveReloadTimer startLiveReloadTimer() {
         return status -> {};
     }
+
+    @Override
+    public void recordSpecFetch(String result, long receivedBytes) {}
+
+    @Override
+    public SpecFetchTimer startSpecFetchTimer() {
+        return result -> {};
+    }
+
+    @Override
+    public void recordToolSize(String toolName, long originalBytes, long bytes) {}
+
+    @Override
+    public void recordArgumentValidation(OperationDescriptor operation, String result) {}
 }
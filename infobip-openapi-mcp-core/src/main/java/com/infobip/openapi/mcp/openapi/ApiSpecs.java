@@ -0,0 +1,110 @@
+package com.infobip.openapi.mcp.openapi;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.tool.ToolHandler;
+import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategy;
+import com.infobip.openapi.mcp.util.ParallelTasks;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Additional OpenAPI specifications whose tools are served by the same MCP server as the tools of the primary
+ * specification.
+ * <p>
+ * Each {@link ApiSpec} has its own {@link OpenApiRegistry}, a {@link NamingStrategy} that prefixes the names of its
+ * tools, and a {@link ToolHandler} that calls its API through its own HTTP client, with its own connection pool and
+ * credential handling. The specifications are loaded in parallel on creation, and {@link #reload(OpenApiRegistry)}
+ * reloads them in parallel together with the primary specification. Registries skip the reload of specifications that
+ * have not changed, so a change of one specification does not rebuild the tools of the others.
+ *
+ * @see OpenApiMcpProperties.Spec
+ */
+@NullMarked
+public class ApiSpecs {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiSpecs.class);
+
+    public static final ApiSpecs NONE = new ApiSpecs(List.of());
+
+    /**
+     * Loaded additional specification.
+     *
+     * @param name            the name of the specification
+     * @param openApiRegistry the registry holding the loaded specification
+     * @param namingStrategy  the naming strategy of the tools of the specification
+     * @param toolHandler     the handler calling the API of the specification
+     */
+    public record ApiSpec(
+            String name, OpenApiRegistry openApiRegistry, NamingStrategy namingStrategy, ToolHandler toolHandler) {}
+
+    private final List<ApiSpec> specs;
+
+    private ApiSpecs(List<ApiSpec> specs) {
+        this.specs = List.copyOf(specs);
+    }
+
+    /**
+     * Loads the given specifications in parallel.
+     *
+     * @param specs  the configured specifications
+     * @param loader loads a single specification, including its {@link OpenApiRegistry}
+     * @return the loaded specifications, in configuration order
+     */
+    public static ApiSpecs load(
+            List<OpenApiMcpProperties.Spec> specs, Function<OpenApiMcpProperties.Spec, ApiSpec> loader) {
+        if (specs.isEmpty()) {
+            return NONE;
+        }
+        LOGGER.info("Loading {} additional OpenAPI specifications.", specs.size());
+        return new ApiSpecs(ParallelTasks.run(specs.stream()
+                .map(spec -> (Supplier<ApiSpec>) () -> loader.apply(spec))
+                .toList()));
+    }
+
+    public List<ApiSpec> specs() {
+        return specs;
+    }
+
+    /**
+     * Reloads the primary and all additional specifications in parallel. Every specification is reloaded even if
+     * another one fails, and the first failure is thrown afterwards.
+     *
+     * @param primaryRegistry the registry of the primary specification
+     */
+    public void reload(OpenApiRegistry primaryRegistry) {
+        var reloads = new ArrayList<Supplier<@Nullable Void>>();
+        reloads.add(reloadOf(primaryRegistry));
+        specs.forEach(spec -> reloads.add(reloadOf(spec.openApiRegistry())));
+        ParallelTasks.run(reloads);
+    }
+
+    /**
+     * Returns the fingerprint of the primary and all additional specifications, which changes whenever any of the
+     * specifications changes.
+     *
+     * @param primaryRegistry the registry of the primary specification
+     * @return the combined document fingerprint
+     */
+    public String fingerprint(OpenApiRegistry primaryRegistry) {
+        var fingerprint = new StringBuilder(primaryRegistry.fingerprints().document());
+        specs.forEach(spec -> fingerprint
+                .append(' ')
+                .append(spec.name())
+                .append('=')
+                .append(spec.openApiRegistry().fingerprints().document()));
+        return fingerprint.toString();
+    }
+
+    private static Supplier<@Nullable Void> reloadOf(OpenApiRegistry registry) {
+        return () -> {
+            registry.reload();
+            return null;
+        };
+    }
+}
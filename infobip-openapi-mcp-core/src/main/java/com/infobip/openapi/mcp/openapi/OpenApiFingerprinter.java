@@ -0,0 +1,232 @@
+package com.infobip.openapi.mcp.openapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.infobip.openapi.mcp.openapi.schema.Spec;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Computes content fingerprints of an OpenAPI specification.
+ * <p>
+ * Fingerprints are SHA-256 digests of a canonical form of the JSON tree, so they do not depend on key order or
+ * formatting of the source document. Every operation is fingerprinted together with its path item and the transitive
+ * closure of the local components ({@code #/components/...}) it references, so that a change of a shared schema
+ * changes exactly the operations that use it. This lets {@link OpenApiRegistry} re-resolve only the affected
+ * operations on reload, regardless of whether {@code info.version} was bumped.
+ * <p>
+ * Remote references are fingerprinted by their location only; changes of the referenced remote documents are not
+ * detected.
+ */
+@NullMarked
+public class OpenApiFingerprinter {
+
+    private static final String COMPONENT_REFERENCE_PREFIX = "#/components/";
+    private static final Set<String> HTTP_METHODS =
+            Set.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+
+    private final OpenApiMapperFactory mapperFactory;
+
+    public OpenApiFingerprinter(OpenApiMapperFactory mapperFactory) {
+        this.mapperFactory = mapperFactory;
+    }
+
+    /**
+     * Fingerprints the given OpenAPI specification.
+     *
+     * @param openApi the specification to fingerprint, typically filtered but not yet resolved
+     * @return the fingerprints of the document, its operations and its prompts
+     */
+    public OpenApiFingerprints fingerprint(OpenAPI openApi) {
+        JsonNode root = mapperFactory.mapper(openApi).valueToTree(openApi);
+        var components = new ComponentIndex(root);
+
+        var operations = new LinkedHashMap<String, String>();
+        var operationComponents = new LinkedHashMap<String, Set<String>>();
+        root.path("paths").properties().forEach(pathEntry -> {
+            var path = pathEntry.getKey();
+            var pathItem = pathEntry.getValue();
+            var pathItemWithoutOperations = pathItem.deepCopy();
+            if (pathItemWithoutOperations instanceof ObjectNode objectNode) {
+                objectNode.remove(HTTP_METHODS);
+            }
+            pathItem.properties().forEach(operationEntry -> {
+                if (!HTTP_METHODS.contains(operationEntry.getKey())) {
+                    return;
+                }
+                var method = PathItem.HttpMethod.valueOf(operationEntry.getKey().toUpperCase(Locale.ROOT));
+                var key = OpenApiFingerprints.operationKey(method, path);
+                var references = components.closure(List.of(pathItemWithoutOperations, operationEntry.getValue()));
+
+                var digest = newDigest();
+                update(digest, root.path("openapi"));
+                update(digest, path);
+                update(digest, pathItemWithoutOperations);
+                update(digest, operationEntry.getValue());
+                for (var reference : references) {
+                    update(digest, reference);
+                    digest.update(components.digest(reference));
+                }
+                operations.put(key, HexFormat.of().formatHex(digest.digest()));
+                operationComponents.put(key, Collections.unmodifiableSortedSet(references));
+            });
+        });
+
+        var prompts = new LinkedHashMap<String, String>();
+        // Swagger models serialize vendor extensions inline
+        root.path(Spec.MCP_PROMPTS_EXTENSION).forEach(prompt -> {
+            var name = prompt.path("name");
+            if (name.isTextual()) {
+                prompts.put(name.asText(), hex(prompt));
+            }
+        });
+
+        return new OpenApiFingerprints(hex(root), operations, operationComponents, prompts);
+    }
+
+    private static String hex(JsonNode node) {
+        var digest = newDigest();
+        update(digest, node);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    /**
+     * Feeds a canonical form of the node into the digest: object keys are sorted and every value is prefixed by its
+     * type, so that structurally equal trees produce equal digests.
+     */
+    private static void update(MessageDigest digest, JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                digest.update((byte) '{');
+                var names = new TreeSet<String>();
+                node.fieldNames().forEachRemaining(names::add);
+                for (var name : names) {
+                    update(digest, name);
+                    update(digest, node.get(name));
+                }
+                digest.update((byte) '}');
+            }
+            case ARRAY -> {
+                digest.update((byte) '[');
+                for (var element : node) {
+                    update(digest, element);
+                }
+                digest.update((byte) ']');
+            }
+            case STRING -> {
+                digest.update((byte) 's');
+                update(digest, node.textValue());
+            }
+            case NUMBER -> {
+                digest.update((byte) 'n');
+                update(digest, node.decimalValue().stripTrailingZeros().toPlainString());
+            }
+            case BOOLEAN -> digest.update(node.booleanValue() ? (byte) 't' : (byte) 'f');
+            case BINARY -> {
+                digest.update((byte) 'x');
+                update(digest, node.asText());
+            }
+            default -> digest.update((byte) '0');
+        }
+    }
+
+    /**
+     * Lazily computed digests and direct references of the components of a single document.
+     */
+    private static final class ComponentIndex {
+
+        private final JsonNode root;
+        private final Map<String, byte[]> digests = new HashMap<>();
+        private final Map<String, List<String>> references = new HashMap<>();
+
+        private ComponentIndex(JsonNode root) {
+            this.root = root;
+        }
+
+        /**
+         * Returns the transitive closure of component references reachable from the given nodes, sorted.
+         */
+        private SortedSet<String> closure(List<JsonNode> nodes) {
+            var closure = new TreeSet<String>();
+            var queue = new ArrayDeque<String>();
+            for (var node : nodes) {
+                queue.addAll(collectReferences(node));
+            }
+            while (!queue.isEmpty()) {
+                var reference = queue.poll();
+                if (closure.add(reference)) {
+                    queue.addAll(references.computeIfAbsent(reference, ref -> collectReferences(resolve(ref))));
+                }
+            }
+            return closure;
+        }
+
+        private byte[] digest(String reference) {
+            return digests.computeIfAbsent(reference, ref -> {
+                var digest = newDigest();
+                update(digest, resolve(ref));
+                return digest.digest();
+            });
+        }
+
+        private JsonNode resolve(String reference) {
+            try {
+                return root.at(reference.substring(1));
+            } catch (IllegalArgumentException e) {
+                return MissingNode.getInstance();
+            }
+        }
+
+        private static List<String> collectReferences(JsonNode node) {
+            var found = new LinkedHashSet<String>();
+            var stack = new ArrayDeque<JsonNode>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                var current = stack.pop();
+                if (current.isTextual()) {
+                    // Covers $ref values as well as discriminator mappings
+                    if (current.textValue().startsWith(COMPONENT_REFERENCE_PREFIX)) {
+                        found.add(current.textValue());
+                    }
+                } else if (current.isContainerNode()) {
+                    current.forEach(stack::push);
+                }
+            }
+            return new ArrayList<>(found);
+        }
+    }
+}
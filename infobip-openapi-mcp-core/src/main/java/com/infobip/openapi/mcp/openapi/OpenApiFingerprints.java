@@ -0,0 +1,63 @@
+package com.infobip.openapi.mcp.openapi;
+
+import io.swagger.v3.oas.models.PathItem;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Content fingerprints of a filtered OpenAPI specification, computed by {@link OpenApiFingerprinter}.
+ *
+ * @param document            fingerprint of the whole document; equal fingerprints mean there is nothing to reload
+ * @param operations          fingerprint of each operation, keyed by {@link #operationKey(PathItem.HttpMethod, String)}.
+ *                            Covers the operation, its path item and the transitive closure of referenced components.
+ * @param operationComponents local component references ({@code #/components/...}) reachable from each operation,
+ *                            keyed the same way as {@code operations}
+ * @param prompts             fingerprint of each {@code x-mcp-prompts} entry, keyed by prompt name
+ */
+@NullMarked
+public record OpenApiFingerprints(
+        String document,
+        Map<String, String> operations,
+        Map<String, Set<String>> operationComponents,
+        Map<String, String> prompts) {
+
+    public OpenApiFingerprints {
+        operations = Map.copyOf(operations);
+        operationComponents = Map.copyOf(operationComponents);
+        prompts = Map.copyOf(prompts);
+    }
+
+    /**
+     * Builds the key under which an operation fingerprint is stored, e.g. {@code GET /pets/{petId}}.
+     */
+    public static String operationKey(PathItem.HttpMethod method, String path) {
+        return method.name().toUpperCase(Locale.ROOT) + " " + path;
+    }
+
+    /**
+     * Returns the fingerprint of the given operation, or null if the operation is not known.
+     */
+    public @Nullable String operation(PathItem.HttpMethod method, String path) {
+        return operations.get(operationKey(method, path));
+    }
+
+    /**
+     * Returns keys of operations that are new or whose fingerprint differs from the previous fingerprints.
+     *
+     * @param previous fingerprints of the previously loaded specification; null if nothing was loaded before
+     * @return keys of added or changed operations
+     */
+    public Set<String> changedOperations(@Nullable OpenApiFingerprints previous) {
+        if (previous == null) {
+            return operations.keySet();
+        }
+        return operations.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(previous.operations().get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
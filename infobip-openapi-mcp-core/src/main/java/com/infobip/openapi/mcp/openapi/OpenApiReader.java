@@ -1,28 +1,286 @@
 package com.infobip.openapi.mcp.openapi;
 
+import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
+import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
 import com.infobip.openapi.mcp.openapi.exception.InvalidOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClient;
 
+/**
+ * Reads and parses the OpenAPI specification, without resolving references.
+ * <p>
+ * Specifications served over HTTP are fetched with conditional requests: the {@code ETag} and {@code Last-Modified}
+ * validators of the last applied specification are sent as {@code If-None-Match} and {@code If-Modified-Since}, and
+ * {@link #readIfModified(URI, Validators)} skips parsing entirely when the host responds with {@code 304 Not Modified}.
+ * Responses may be gzip compressed. The reader keeps no validators itself: every caller passes the validators of the
+ * revision it last applied, so callers reading the same location do not affect each other.
+ * <p>
+ * When a cache directory is configured, a revision is stored there together with its validators once the caller
+ * {@link #remember remembers} it, i.e. after it was applied successfully. {@link #read(URI)} falls back to the cached
+ * specification when the host is slow or unreachable, so the server can start without it.
+ * <p>
+ * Other locations (files, classpath resources) are read by the swagger parser directly.
+ */
 @NullMarked
 public class OpenApiReader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiReader.class);
 
+    private enum FetchResult {
+        MODIFIED("modified"),
+        NOT_MODIFIED("not_modified"),
+        CACHE_FALLBACK("cache_fallback"),
+        FAILURE("failure");
+
+        private final String value;
+
+        FetchResult(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * The validators a specification was served with.
+     *
+     * @param etag         the {@code ETag} header, or {@code null} if none was sent
+     * @param lastModified the {@code Last-Modified} header, or {@code null} if none was sent
+     */
+    public record Validators(
+            @Nullable String etag, @Nullable String lastModified) {}
+
+    /**
+     * A read specification along with what is needed to read it conditionally and to cache it.
+     *
+     * @param openApi    the parsed specification
+     * @param validators the validators to pass to {@link #readIfModified} next time, or {@code null} if the
+     *                   specification has to be read unconditionally
+     * @param content    the fetched content to cache once the revision is remembered, or {@code null} if there is
+     *                   nothing new to cache
+     */
+    public record Revision(
+            OpenAPI openApi,
+            @Nullable Validators validators,
+            @Nullable String content) {}
+
+    private record FetchedSpec(@Nullable String content, Validators validators) {}
+
+    private record CachedSpec(String content, Validators validators) {}
+
     private final OpenAPIV3Parser parser;
+    private final RestClient restClient;
+    private final @Nullable Path cacheDirectory;
+    private final MetricService metricService;
 
     public OpenApiReader(OpenAPIV3Parser parser) {
+        this(parser, RestClient.create(), null, new NoOpMetricService());
+    }
+
+    public OpenApiReader(
+            OpenAPIV3Parser parser, RestClient restClient, @Nullable Path cacheDirectory, MetricService metricService) {
         this.parser = parser;
+        this.restClient = restClient;
+        this.cacheDirectory = cacheDirectory;
+        this.metricService = metricService;
     }
 
+    /**
+     * Reads the OpenAPI specification and {@link #remember remembers} it right away.
+     *
+     * @param uri the location of the specification
+     * @return the parsed specification
+     * @throws InvalidOpenApiException if the specification cannot be fetched or parsed
+     * @see #readRevision(URI)
+     */
     public OpenAPI read(URI uri) {
-        var parseResult = parser.readLocation(uri.toString(), null, configureParseOptions());
+        var revision = readRevision(uri);
+        remember(uri, revision);
+        return revision.openApi();
+    }
+
+    /**
+     * Reads the OpenAPI specification.
+     * <p>
+     * A cached specification is revalidated with a conditional request and used when the host responds with
+     * {@code 304 Not Modified} or cannot be reached.
+     *
+     * @param uri the location of the specification
+     * @return the parsed specification, to be remembered once it was applied
+     * @throws InvalidOpenApiException if the specification cannot be fetched or parsed
+     */
+    public Revision readRevision(URI uri) {
+        if (!isHttp(uri)) {
+            return new Revision(
+                    handleParseResult(uri, parser.readLocation(uri.toString(), null, configureParseOptions())),
+                    null,
+                    null);
+        }
+
+        var cached = readCache(uri);
+        FetchedSpec fetched;
+        try {
+            fetched = fetch(uri, cached != null ? cached.validators() : null);
+        } catch (RuntimeException e) {
+            if (cached == null) {
+                metricService.recordSpecFetch(FetchResult.FAILURE.getValue(), 0);
+                throw InvalidOpenApiException.becauseOfErrorsWhileFetching(uri, e);
+            }
+            LOGGER.warn(
+                    "Failed to fetch OpenAPI from {}: {}. Using the cached specification from {}.",
+                    uri,
+                    e.getMessage(),
+                    cacheDirectory);
+            metricService.recordSpecFetch(FetchResult.CACHE_FALLBACK.getValue(), 0);
+            return new Revision(parse(uri, cached.content()), null, null);
+        }
+
+        // Validators are only sent for a cached specification, so a 304 response always has a cached counterpart
+        if (fetched.content() == null && cached != null) {
+            LOGGER.info("OpenAPI at {} has not been modified, using the cached specification.", uri);
+            return new Revision(parse(uri, cached.content()), cached.validators(), null);
+        }
+        return new Revision(parse(uri, fetched.content()), fetched.validators(), fetched.content());
+    }
 
+    /**
+     * Reads the OpenAPI specification unless it has not been modified since the revision with the given validators.
+     *
+     * @param uri        the location of the specification
+     * @param validators the validators of the last applied revision, or {@code null} to read unconditionally
+     * @return the parsed specification to be remembered once it was applied, or empty if the host responded with
+     *     {@code 304 Not Modified}
+     * @throws InvalidOpenApiException if the specification cannot be fetched or parsed
+     */
+    public Optional<Revision> readIfModified(URI uri, @Nullable Validators validators) {
+        if (!isHttp(uri)) {
+            return Optional.of(readRevision(uri));
+        }
+
+        FetchedSpec fetched;
+        try {
+            fetched = fetch(uri, validators);
+        } catch (RuntimeException e) {
+            metricService.recordSpecFetch(FetchResult.FAILURE.getValue(), 0);
+            throw InvalidOpenApiException.becauseOfErrorsWhileFetching(uri, e);
+        }
+        if (fetched.content() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Revision(parse(uri, fetched.content()), fetched.validators(), fetched.content()));
+    }
+
+    /**
+     * Stores a revision in the cache directory, if one is configured. Callers remember a revision only after it was
+     * applied, so a revision that failed to apply is fetched in full again rather than skipped as not modified.
+     *
+     * @param uri      the location of the specification
+     * @param revision the applied revision
+     */
+    public void remember(URI uri, Revision revision) {
+        var content = revision.content();
+        var validators = revision.validators();
+        if (cacheDirectory == null || content == null || validators == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheDirectory);
+            var metadata = new Properties();
+            metadata.setProperty("uri", uri.toString());
+            if (validators.etag() != null) {
+                metadata.setProperty("etag", validators.etag());
+            }
+            if (validators.lastModified() != null) {
+                metadata.setProperty("last-modified", validators.lastModified());
+            }
+            writeAtomically(cacheFile(uri, "spec"), out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+            writeAtomically(cacheFile(uri, "properties"), out -> metadata.store(out, null));
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Failed to cache OpenAPI from {} in {}: {}", uri, cacheDirectory, e.getMessage());
+        }
+    }
+
+    private FetchedSpec fetch(URI uri, @Nullable Validators validators) {
+        var timer = metricService.startSpecFetchTimer();
+        try {
+            var fetched = restClient
+                    .get()
+                    .uri(uri)
+                    .headers(headers -> {
+                        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+                        if (validators != null && validators.etag() != null) {
+                            headers.set(HttpHeaders.IF_NONE_MATCH, validators.etag());
+                        }
+                        if (validators != null && validators.lastModified() != null) {
+                            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validators.lastModified());
+                        }
+                    })
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                            metricService.recordSpecFetch(FetchResult.NOT_MODIFIED.getValue(), 0);
+                            return new FetchedSpec(null, validators != null ? validators : new Validators(null, null));
+                        }
+                        if (!response.getStatusCode().is2xxSuccessful()) {
+                            throw new IOException("Unexpected response status " + response.getStatusCode() + ".");
+                        }
+                        var body = response.getBody().readAllBytes();
+                        var gzipped =
+                                "gzip".equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+                        var content = new String(gzipped ? gunzip(body) : body, StandardCharsets.UTF_8);
+                        metricService.recordSpecFetch(FetchResult.MODIFIED.getValue(), body.length);
+                        return new FetchedSpec(
+                                content,
+                                new Validators(
+                                        response.getHeaders().getETag(),
+                                        response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)));
+                    });
+            timer.record(
+                    fetched.content() == null ? FetchResult.NOT_MODIFIED.getValue() : FetchResult.MODIFIED.getValue());
+            return fetched;
+        } catch (RuntimeException e) {
+            timer.record(FetchResult.FAILURE.getValue());
+            throw e;
+        }
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private OpenAPI parse(URI uri, String content) {
+        return handleParseResult(uri, parser.readContents(content, null, configureParseOptions(), uri.toString()));
+    }
+
+    private OpenAPI handleParseResult(URI uri, SwaggerParseResult parseResult) {
         if (parseResult.getOpenAPI() == null) {
             if (parseResult.getMessages() != null) {
                 LOGGER.error(
@@ -41,6 +299,58 @@ public class OpenApiReader {
         return parseResult.getOpenAPI();
     }
 
+    private @Nullable CachedSpec readCache(URI uri) {
+        if (cacheDirectory == null) {
+            return null;
+        }
+        var specFile = cacheFile(uri, "spec");
+        var metadataFile = cacheFile(uri, "properties");
+        if (!Files.isRegularFile(specFile) || !Files.isRegularFile(metadataFile)) {
+            return null;
+        }
+        try (var metadataStream = Files.newInputStream(metadataFile)) {
+            var metadata = new Properties();
+            metadata.load(metadataStream);
+            var content = Files.readString(specFile);
+            return new CachedSpec(
+                    content, new Validators(metadata.getProperty("etag"), metadata.getProperty("last-modified")));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read cached OpenAPI for {} from {}: {}", uri, cacheDirectory, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path cacheFile(URI uri, String extension) {
+        try {
+            var digest =
+                    MessageDigest.getInstance("SHA-256").digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+            return cacheDirectory.resolve(HexFormat.of().formatHex(digest) + "." + extension);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    private interface CacheWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static void writeAtomically(Path target, CacheWriter writer) throws IOException {
+        var temporary =
+                Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (var out = Files.newOutputStream(temporary)) {
+                writer.write(out);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static boolean isHttp(URI uri) {
+        return "http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme());
+    }
+
     private ParseOptions configureParseOptions() {
         var parseOptions = new ParseOptions();
         parseOptions.setResolve(false);
@@ -1,8 +1,19 @@
 package com.infobip.openapi.mcp.openapi;
 
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.catalog.CatalogReader;
 import com.infobip.openapi.mcp.openapi.filter.OpenApiFilterChain;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,45 +25,346 @@ public class OpenApiRegistry {
     private final OpenApiReader openApiReader;
     private final OpenApiFilterChain openApiFilterChain;
     private final OpenApiResolver openApiResolver;
+    private final CatalogReader catalogReader;
+    private final OpenApiFingerprinter openApiFingerprinter;
+    private final @Nullable SharedSchemaCache sharedSchemaCache;
 
-    private OpenAPI openApi;
+    private volatile @Nullable Specification specification;
+    private volatile OpenApiReader.@Nullable Validators validators;
 
     public OpenApiRegistry(
             OpenApiMcpProperties openApiMcpProperties,
             OpenApiReader openApiReader,
             OpenApiFilterChain openApiFilterChain,
-            OpenApiResolver openApiResolver) {
+            OpenApiResolver openApiResolver,
+            CatalogReader catalogReader,
+            OpenApiFingerprinter openApiFingerprinter) {
+        this(
+                openApiMcpProperties,
+                openApiReader,
+                openApiFilterChain,
+                openApiResolver,
+                catalogReader,
+                openApiFingerprinter,
+                null);
+    }
+
+    /**
+     * Creates a registry whose resolved operations are replaced by their canonical instances in the given cache, so
+     * that registries of several tenants keep only one instance of the operations their specifications share.
+     */
+    public OpenApiRegistry(
+            OpenApiMcpProperties openApiMcpProperties,
+            OpenApiReader openApiReader,
+            OpenApiFilterChain openApiFilterChain,
+            OpenApiResolver openApiResolver,
+            CatalogReader catalogReader,
+            OpenApiFingerprinter openApiFingerprinter,
+            @Nullable SharedSchemaCache sharedSchemaCache) {
         this.openApiMcpProperties = openApiMcpProperties;
         this.openApiReader = openApiReader;
         this.openApiFilterChain = openApiFilterChain;
         this.openApiResolver = openApiResolver;
-        reload();
+        this.catalogReader = catalogReader;
+        this.openApiFingerprinter = openApiFingerprinter;
+        this.sharedSchemaCache = sharedSchemaCache;
+        if (openApiMcpProperties.precompiledCatalog() != null) {
+            loadPrecompiledCatalog();
+        } else {
+            reload();
+        }
     }
 
     public void reload() {
-        LOGGER.info("Loading OpenAPI from {}.", openApiMcpProperties.openApiUrl());
+        var openApiUrl = openApiMcpProperties.openApiUrl();
+        if (openApiUrl == null) {
+            throw new IllegalStateException("Unable to reload OpenAPI: " + OpenApiMcpProperties.PREFIX
+                    + ".open-api-url is not set, only the precompiled catalog is available.");
+        }
+        LOGGER.info("Loading OpenAPI from {}.", openApiUrl);
         try {
-            var newUneditedOpenApi = openApiReader.read(openApiMcpProperties.openApiUrl());
-            if (this.openApi != null && isSameOpenApiVersion(openApi, newUneditedOpenApi)) {
+            final OpenApiReader.Revision revision;
+            if (this.specification == null) {
+                revision = openApiReader.readRevision(openApiUrl);
+            } else {
+                var modifiedRevision = openApiReader.readIfModified(openApiUrl, validators);
+                if (modifiedRevision.isEmpty()) {
+                    LOGGER.info("OpenAPI has not been modified, skipping reload.");
+                    return;
+                }
+                revision = modifiedRevision.get();
+            }
+            var newFilteredOpenApi = openApiFilterChain.filter(revision.openApi());
+            var resolved = resolve(newFilteredOpenApi);
+            // Only an applied revision is remembered, so one that failed to apply is not skipped as not modified
+            openApiReader.remember(openApiUrl, revision);
+            validators = revision.validators();
+            if (!resolved) {
                 LOGGER.info("No new OpenAPI found, skipping reload.");
                 return;
             }
-            var newFilteredOpenApi = openApiFilterChain.filter(newUneditedOpenApi);
-            openApi = openApiResolver.resolve(newFilteredOpenApi);
-            LOGGER.info("Successfully loaded OpenAPI from {}.", openApiMcpProperties.openApiUrl());
+            LOGGER.info("Successfully loaded OpenAPI from {}.", openApiUrl);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to load OpenAPI from {}: {}", openApiUrl, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Fingerprints the filtered specification and resolves its changed operations.
+     *
+     * @return false if the specification has not changed
+     */
+    private boolean resolve(OpenAPI newFilteredOpenApi) {
+        var current = this.specification;
+        var newFingerprints = openApiFingerprinter.fingerprint(newFilteredOpenApi);
+        if (current != null
+                && newFingerprints.document().equals(current.fingerprints().document())) {
+            return false;
+        }
+        var changedOperations = newFingerprints.changedOperations(current != null ? current.fingerprints() : null);
+        OpenAPI resolvedOpenApi = null;
+        if (current != null
+                && changedOperations.size() < newFingerprints.operations().size()) {
+            resolvedOpenApi =
+                    resolveIncrementally(current.openApi(), newFilteredOpenApi, newFingerprints, changedOperations);
+        }
+        if (resolvedOpenApi == null) {
+            resolvedOpenApi = openApiResolver.resolve(newFilteredOpenApi);
+        } else {
+            LOGGER.info(
+                    "Resolved {} changed out of {} operations.",
+                    changedOperations.size(),
+                    newFingerprints.operations().size());
+        }
+        specification = new Specification(shareOperations(resolvedOpenApi, newFingerprints), newFingerprints);
+        return true;
+    }
+
+    private void loadPrecompiledCatalog() {
+        var location = openApiMcpProperties.precompiledCatalog();
+        LOGGER.info("Loading precompiled catalog from {}.", location);
+        try {
+            var catalog = catalogReader.read(location);
+            var catalogFingerprints = openApiFingerprinter.fingerprint(catalog);
+            specification = new Specification(shareOperations(catalog, catalogFingerprints), catalogFingerprints);
         } catch (RuntimeException e) {
-            LOGGER.error("Failed to load OpenAPI from {}: {}", openApiMcpProperties.openApiUrl(), e.getMessage(), e);
+            LOGGER.error("Failed to load precompiled catalog from {}: {}", location, e.getMessage(), e);
             throw e;
         }
     }
 
+    /**
+     * Replaces the resolved operations by their canonical instances in the shared cache, if there is one.
+     */
+    private OpenAPI shareOperations(OpenAPI resolvedOpenApi, OpenApiFingerprints resolvedFingerprints) {
+        var cache = sharedSchemaCache;
+        if (cache == null || resolvedOpenApi.getPaths() == null) {
+            return resolvedOpenApi;
+        }
+        resolvedOpenApi.getPaths().forEach((path, pathItem) -> pathItem.readOperationsMap()
+                .forEach((method, operation) -> {
+                    var fingerprint = resolvedFingerprints.operation(method, path);
+                    if (fingerprint != null) {
+                        var key = SharedSchemaCache.operationKey(
+                                resolvedOpenApi.getSpecVersion(), method, path, fingerprint);
+                        pathItem.operation(method, cache.operation(key, operation));
+                    }
+                }));
+        return resolvedOpenApi;
+    }
+
+    /**
+     * Returns the currently loaded OpenAPI specification along with its fingerprints. Callers reading both should
+     * read them from one specification, as a reload may replace it between two calls of {@link #openApi()} and
+     * {@link #fingerprints()}.
+     */
+    public Specification specification() {
+        return Objects.requireNonNull(specification, "OpenAPI has not been loaded");
+    }
+
     public OpenAPI openApi() {
-        return openApi;
+        return specification().openApi();
     }
 
-    private boolean isSameOpenApiVersion(OpenAPI openApi1, OpenAPI openApi2) {
-        var openApiVersion1 = openApi1.getInfo().getVersion();
-        var openApiVersion2 = openApi2.getInfo().getVersion();
-        return openApiVersion1.equals(openApiVersion2);
+    /**
+     * Returns the fingerprints of the currently loaded OpenAPI specification. Fingerprints are computed before
+     * references are resolved, except for precompiled catalogs which are already resolved.
+     */
+    public OpenApiFingerprints fingerprints() {
+        return specification().fingerprints();
+    }
+
+    /**
+     * A loaded OpenAPI specification, published as a whole so that its operations and fingerprints always belong to
+     * the same document.
+     *
+     * @param openApi      the filtered and resolved OpenAPI specification
+     * @param fingerprints the fingerprints of the specification
+     */
+    public record Specification(OpenAPI openApi, OpenApiFingerprints fingerprints) {}
+
+    /**
+     * Resolves only the changed operations and reuses already resolved operations of the current specification
+     * for the rest.
+     *
+     * @return the merged specification, or null if the current specification cannot be reused
+     */
+    private @Nullable OpenAPI resolveIncrementally(
+            OpenAPI currentOpenApi,
+            OpenAPI newFilteredOpenApi,
+            OpenApiFingerprints newFingerprints,
+            Set<String> changedOperations) {
+        var currentPaths = currentOpenApi.getPaths() != null ? currentOpenApi.getPaths() : new Paths();
+        var newPaths = newFilteredOpenApi.getPaths() != null ? newFilteredOpenApi.getPaths() : new Paths();
+
+        var changedComponents = new HashSet<String>();
+        var changedPaths = new Paths();
+        for (var pathEntry : newPaths.entrySet()) {
+            for (var operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
+                var key = OpenApiFingerprints.operationKey(operationEntry.getKey(), pathEntry.getKey());
+                if (changedOperations.contains(key)) {
+                    changedPaths
+                            .computeIfAbsent(pathEntry.getKey(), path -> copyWithoutOperations(pathEntry.getValue()))
+                            .operation(operationEntry.getKey(), operationEntry.getValue());
+                    changedComponents.addAll(
+                            newFingerprints.operationComponents().get(key));
+                } else if (operationOf(currentPaths.get(pathEntry.getKey()), operationEntry.getKey()) == null) {
+                    return null;
+                }
+            }
+        }
+
+        var changedOpenApi = copyWithoutPathsAndComponents(newFilteredOpenApi);
+        changedOpenApi.setPaths(changedPaths);
+        changedOpenApi.setComponents(retainComponents(newFilteredOpenApi.getComponents(), changedComponents));
+        var resolvedChanges = openApiResolver.resolve(changedOpenApi);
+        var resolvedChangedPaths = resolvedChanges.getPaths() != null ? resolvedChanges.getPaths() : new Paths();
+
+        var mergedPaths = new Paths();
+        mergedPaths.setExtensions(newPaths.getExtensions());
+        for (var pathEntry : newPaths.entrySet()) {
+            var path = pathEntry.getKey();
+            var resolvedChangedPathItem = resolvedChangedPaths.get(path);
+            var currentPathItem = currentPaths.get(path);
+            var mergedPathItem =
+                    copyWithoutOperations(resolvedChangedPathItem != null ? resolvedChangedPathItem : currentPathItem);
+            for (var method : pathEntry.getValue().readOperationsMap().keySet()) {
+                var key = OpenApiFingerprints.operationKey(method, path);
+                var source = changedOperations.contains(key) ? resolvedChangedPathItem : currentPathItem;
+                mergedPathItem.operation(method, operationOf(source, method));
+            }
+            mergedPaths.addPathItem(path, mergedPathItem);
+        }
+        resolvedChanges.setPaths(mergedPaths);
+        resolvedChanges.setComponents(mergeComponents(
+                currentOpenApi.getComponents(), resolvedChanges.getComponents(), newFilteredOpenApi.getComponents()));
+        return resolvedChanges;
+    }
+
+    private static @Nullable Operation operationOf(@Nullable PathItem pathItem, PathItem.HttpMethod method) {
+        return pathItem != null ? pathItem.readOperationsMap().get(method) : null;
+    }
+
+    private static PathItem copyWithoutOperations(PathItem pathItem) {
+        var copy = new PathItem();
+        copy.set$ref(pathItem.get$ref());
+        copy.setSummary(pathItem.getSummary());
+        copy.setDescription(pathItem.getDescription());
+        copy.setServers(pathItem.getServers());
+        copy.setParameters(pathItem.getParameters());
+        copy.setExtensions(pathItem.getExtensions());
+        return copy;
+    }
+
+    private static OpenAPI copyWithoutPathsAndComponents(OpenAPI openApi) {
+        var copy = new OpenAPI(openApi.getSpecVersion());
+        copy.setOpenapi(openApi.getOpenapi());
+        copy.setInfo(openApi.getInfo());
+        copy.setExternalDocs(openApi.getExternalDocs());
+        copy.setServers(openApi.getServers());
+        copy.setSecurity(openApi.getSecurity());
+        copy.setTags(openApi.getTags());
+        copy.setJsonSchemaDialect(openApi.getJsonSchemaDialect());
+        copy.setExtensions(openApi.getExtensions());
+        return copy;
+    }
+
+    /**
+     * Keeps security schemes and the given component references, e.g. {@code #/components/schemas/Pet}.
+     */
+    private static @Nullable Components retainComponents(@Nullable Components components, Set<String> references) {
+        if (components == null) {
+            return null;
+        }
+        var retained = new Components();
+        retained.setSecuritySchemes(components.getSecuritySchemes());
+        retained.setExtensions(components.getExtensions());
+        retained.setSchemas(retain(components.getSchemas(), "schemas", references));
+        retained.setResponses(retain(components.getResponses(), "responses", references));
+        retained.setParameters(retain(components.getParameters(), "parameters", references));
+        retained.setExamples(retain(components.getExamples(), "examples", references));
+        retained.setRequestBodies(retain(components.getRequestBodies(), "requestBodies", references));
+        retained.setHeaders(retain(components.getHeaders(), "headers", references));
+        retained.setLinks(retain(components.getLinks(), "links", references));
+        retained.setCallbacks(retain(components.getCallbacks(), "callbacks", references));
+        retained.setPathItems(retain(components.getPathItems(), "pathItems", references));
+        return retained;
+    }
+
+    private static <T> @Nullable Map<String, T> retain(
+            @Nullable Map<String, T> components, String type, Set<String> references) {
+        if (components == null) {
+            return null;
+        }
+        var prefix = "#/components/" + type + "/";
+        var retained = new LinkedHashMap<String, T>();
+        components.forEach((name, component) -> {
+            var escapedName = name.replace("~", "~0").replace("/", "~1");
+            if (references.contains(prefix + escapedName)) {
+                retained.put(name, component);
+            }
+        });
+        return retained;
+    }
+
+    /**
+     * Merges resolved components: freshly resolved ones take precedence, previously resolved ones are kept as long as
+     * they still exist in the new specification. Only security schemes are used after resolution, the rest is kept
+     * for completeness of the model.
+     */
+    private static @Nullable Components mergeComponents(
+            @Nullable Components current, @Nullable Components resolved, @Nullable Components unresolved) {
+        if (resolved == null || current == null || unresolved == null) {
+            return resolved;
+        }
+        resolved.setSchemas(merge(current.getSchemas(), resolved.getSchemas(), unresolved.getSchemas()));
+        resolved.setResponses(merge(current.getResponses(), resolved.getResponses(), unresolved.getResponses()));
+        resolved.setParameters(merge(current.getParameters(), resolved.getParameters(), unresolved.getParameters()));
+        resolved.setExamples(merge(current.getExamples(), resolved.getExamples(), unresolved.getExamples()));
+        resolved.setRequestBodies(
+                merge(current.getRequestBodies(), resolved.getRequestBodies(), unresolved.getRequestBodies()));
+        resolved.setHeaders(merge(current.getHeaders(), resolved.getHeaders(), unresolved.getHeaders()));
+        resolved.setLinks(merge(current.getLinks(), resolved.getLinks(), unresolved.getLinks()));
+        resolved.setCallbacks(merge(current.getCallbacks(), resolved.getCallbacks(), unresolved.getCallbacks()));
+        resolved.setPathItems(merge(current.getPathItems(), resolved.getPathItems(), unresolved.getPathItems()));
+        return resolved;
+    }
+
+    private static <T> @Nullable Map<String, T> merge(
+            @Nullable Map<String, T> current, @Nullable Map<String, T> resolved, @Nullable Map<String, T> unresolved) {
+        if (unresolved == null) {
+            return resolved;
+        }
+        var merged = new LinkedHashMap<String, T>();
+        unresolved.keySet().forEach(name -> {
+            var component = resolved != null && resolved.containsKey(name)
+                    ? resolved.get(name)
+                    : current != null ? current.get(name) : null;
+            if (component != null) {
+                merged.put(name, component);
+            }
+        });
+        return merged;
     }
 }
@@ -0,0 +1,168 @@
+package com.infobip.openapi.mcp.openapi;
+
+import com.infobip.openapi.mcp.openapi.schema.ArgumentValidator;
+import com.infobip.openapi.mcp.openapi.schema.JsonSchemaInterner;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import com.infobip.openapi.mcp.openapi.tool.ToolSizeBudget;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Content-addressed cache of resolved operations and compiled tool definitions, shared by the registries of all
+ * tenants hosted in the same process.
+ * <p>
+ * Entries are keyed by the {@link OpenApiFingerprints operation fingerprint}, which covers the operation, its path
+ * item and all components it transitively references. Tenants whose specifications are different subsets of the same
+ * API therefore resolve and compile each shared operation once and keep a single instance of it: {@link
+ * OpenApiRegistry} replaces resolved operations by their canonical instances, and {@link ToolRegistry} reuses compiled
+ * tools, whose input schemas are interned by the shared {@link JsonSchemaInterner}. Tool definitions depend on the
+ * tool configuration as well, so a cache must only be shared by registries with the same tool configuration.
+ * <p>
+ * Cached instances are held weakly: once no registry references an operation or a tool anymore, it is dropped from
+ * the cache.
+ * <p>
+ * Instances are thread-safe.
+ */
+@NullMarked
+public class SharedSchemaCache {
+
+    private final JsonSchemaInterner jsonSchemaInterner = new JsonSchemaInterner();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Compiled tool definition.
+     *
+     * @param tool the tool definition, with an interned input schema
+     * @param size      the size of the tool before and after it was fitted into the size budget, or {@code null} if
+     *                  no budget is configured
+     * @param validator the validator of the arguments of the tool, or {@code null} if validation is disabled
+     */
+    public record CompiledTool(
+            McpSchema.Tool tool,
+            ToolSizeBudget.@Nullable ToolSize size,
+            @Nullable ArgumentValidator validator) {}
+
+    /**
+     * Parts of a compiled tool kept along with it. They must not reference the tool, or it would never be dropped.
+     */
+    private record ToolAttachment(
+            ToolSizeBudget.@Nullable ToolSize size,
+            @Nullable ArgumentValidator validator) {}
+
+    private static final class Entry extends WeakReference<Object> {
+
+        private final String key;
+        private final @Nullable Object attachment;
+
+        private Entry(String key, Object value, @Nullable Object attachment, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.key = key;
+            this.attachment = attachment;
+        }
+    }
+
+    /**
+     * Returns the key of an operation, which is equal for operations of the same content.
+     *
+     * @param specVersion the version of the specification of the operation
+     * @param method      the HTTP method of the operation
+     * @param path        the path of the operation
+     * @param fingerprint the fingerprint of the operation
+     * @return the operation key
+     */
+    public static String operationKey(
+            SpecVersion specVersion, PathItem.HttpMethod method, String path, String fingerprint) {
+        return specVersion + " " + OpenApiFingerprints.operationKey(method, path) + " " + fingerprint;
+    }
+
+    /**
+     * Returns the canonical instance of a resolved operation.
+     *
+     * @param operationKey the key of the operation, see {@link #operationKey}
+     * @param operation    the resolved operation
+     * @return the cached operation with the same key, or the given operation if none is cached yet
+     */
+    public synchronized Operation operation(String operationKey, Operation operation) {
+        var key = "operation " + operationKey;
+        if (get(key) instanceof Operation cached) {
+            return cached;
+        }
+        entries.put(key, new Entry(key, operation, null, queue));
+        return operation;
+    }
+
+    /**
+     * Returns the compiled tool of an operation.
+     *
+     * @param operationKey the key of the operation, see {@link #operationKey}
+     * @param toolName     the name of the tool
+     * @return the compiled tool, or {@code null} if it is not cached
+     */
+    public synchronized @Nullable CompiledTool tool(String operationKey, String toolName) {
+        var key = toolKey(operationKey, toolName);
+        if (get(key) instanceof McpSchema.Tool tool) {
+            var attachment = (ToolAttachment) entries.get(key).attachment;
+            return new CompiledTool(tool, attachment.size(), attachment.validator());
+        }
+        return null;
+    }
+
+    /**
+     * Caches the compiled tool of an operation.
+     *
+     * @param operationKey the key of the operation, see {@link #operationKey}
+     * @param compiledTool the compiled tool
+     */
+    public synchronized void putTool(String operationKey, CompiledTool compiledTool) {
+        var key = toolKey(operationKey, compiledTool.tool().name());
+        entries.put(
+                key,
+                new Entry(
+                        key,
+                        compiledTool.tool(),
+                        new ToolAttachment(compiledTool.size(), compiledTool.validator()),
+                        queue));
+    }
+
+    /**
+     * @return the interner of the input schemas of all compiled tools
+     */
+    public JsonSchemaInterner jsonSchemaInterner() {
+        return jsonSchemaInterner;
+    }
+
+    /**
+     * @return the number of cached operations and tools, including entries not yet dropped after they were collected
+     */
+    public synchronized int size() {
+        expunge();
+        return entries.size();
+    }
+
+    private static String toolKey(String operationKey, String toolName) {
+        return "tool " + toolName + " " + operationKey;
+    }
+
+    private @Nullable Object get(String key) {
+        expunge();
+        var entry = entries.get(key);
+        return entry != null ? entry.get() : null;
+    }
+
+    private void expunge() {
+        for (var reference = queue.poll(); reference != null; reference = queue.poll()) {
+            var entry = (Entry) reference;
+            // The key may have been taken over by a newer entry in the meantime
+            entries.remove(entry.key, entry);
+        }
+    }
+}
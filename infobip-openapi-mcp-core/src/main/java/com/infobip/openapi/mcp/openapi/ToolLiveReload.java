@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -42,14 +43,21 @@ import org.springframework.scheduling.annotation.Scheduled;
  * backoff between attempts.
  *
  * <h2>Change Detection</h2>
- * <p>Changes are detected by comparing the OpenAPI specification version string. When a version
- * change is found, the framework compares the current tool set with the new specification:
+ * <p>Changes are detected by comparing content fingerprints of the OpenAPI specification (see
+ * {@link OpenApiFingerprinter}), so edits are picked up even when {@code info.version} is not bumped.
+ * Only operations whose fingerprint changed are re-resolved and rebuilt into tools; all other tools are
+ * reused as they are. The framework then compares the current tool set with the new specification:
  * <ul>
  *   <li>Tools no longer present in the specification are removed</li>
  *   <li>New tools are added</li>
  *   <li>Modified tools (changed name, description, or schema) are replaced</li>
  * </ul>
  *
+ * <h2>Additional Specifications</h2>
+ * <p>{@link ApiSpecs Additional specifications} are reloaded in parallel with the primary specification, and a change
+ * of any of them updates the tools. Each registry skips unchanged specifications, so only the tools of changed
+ * specifications are rebuilt.
+ *
  * <h2>Scope Reloading</h2>
  * <p>When tools are updated and a {@link ScopeDiscoveryService} is available, OAuth scopes are
  * rediscovered from the updated specification.
@@ -59,6 +67,17 @@ import org.springframework.scheduling.annotation.Scheduled;
  * {@link McpSyncServer#notifyToolsListChanged()} for stateful servers. Stateless servers do not
  * maintain client connections, so no notification is needed.
  *
+ * <h2>Catalog Version</h2>
+ * <p>The catalog version is incremented before tools and prompts are updated and once more after the update is
+ * complete, so it is odd while an update is in progress. Paginated list responses bind their cursors to the version
+ * (see {@link com.infobip.openapi.mcp.pagination.CatalogPaginator}), which lets clients detect that the catalog
+ * changed between pages.
+ *
+ * <h2>Tool Discovery</h2>
+ * <p>With {@link OpenApiMcpProperties.Tools.Discovery discovery} enabled, the MCP server only has the discovery
+ * tools, whose search index is updated by the {@link ToolRegistry} while the changes are detected. The changed tools
+ * are therefore not registered with the MCP server one by one.
+ *
  * <h2>SDK Limitations</h2>
  * <p>Due to constraints in the MCP SDK (as of Spring AI 1.1.0), tools cannot be updated in batch.
  * Each tool addition or removal triggers a separate operation on the server. This may result in
@@ -101,10 +120,13 @@ public class ToolLiveReload {
     private final PromptRegistry promptRegistry;
     private final PromptSpecBuilder promptSpecBuilder;
     private final OpenApiMcpProperties.LiveReload liveReloadConfig;
+    private final boolean discoveryEnabled;
     private final MetricService metricService;
     private final McpServerMetaData mcpServerMetaData;
+    private final ApiSpecs apiSpecs;
 
     private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+    private final AtomicLong catalogVersion = new AtomicLong();
 
     public ToolLiveReload(
             Optional<McpSyncServer> mcpSyncServer,
@@ -117,7 +139,8 @@ public class ToolLiveReload {
             PromptSpecBuilder promptSpecBuilder,
             OpenApiMcpProperties properties,
             MetricService metricService,
-            McpServerMetaData mcpServerMetaData) {
+            McpServerMetaData mcpServerMetaData,
+            ApiSpecs apiSpecs) {
         this.mcpSyncServer = mcpSyncServer;
         this.mcpStatelessSyncServer = mcpStatelessSyncServer;
         this.scopeDiscoveryService = scopeDiscoveryService;
@@ -127,8 +150,10 @@ public class ToolLiveReload {
         this.promptRegistry = promptRegistry;
         this.promptSpecBuilder = promptSpecBuilder;
         this.liveReloadConfig = properties.liveReload();
+        this.discoveryEnabled = properties.tools().discovery().enabled();
         this.metricService = metricService;
         this.mcpServerMetaData = mcpServerMetaData;
+        this.apiSpecs = apiSpecs;
     }
 
     @Scheduled(cron = "${infobip.openapi.mcp.live-reload.cron-expression:0 */10 * * * *}")
@@ -144,14 +169,14 @@ public class ToolLiveReload {
         try {
             LOGGER.info("Refreshing OpenAPI on schedule.");
 
-            var currentOpenApiVersion = openApiRegistry.openApi().getInfo().getVersion();
+            var currentOpenApiFingerprint = apiSpecs.fingerprint(openApiRegistry);
             var currentTools = toolRegistry.getRegisteredToolsCache();
             var currentPrompts = promptRegistry.getRegisteredPromptsCache();
 
             var maxRetries = liveReloadConfig.maxRetries();
             for (int attempt = 1; attempt <= maxRetries; attempt++) {
                 try {
-                    var changed = reload(currentOpenApiVersion, currentTools, currentPrompts);
+                    var changed = reload(currentOpenApiFingerprint, currentTools, currentPrompts);
                     status = changed ? Status.SUCCESS_TOOLS_UPDATED : Status.SUCCESS_NO_CHANGE;
                     break;
                 } catch (Exception e) {
@@ -185,16 +210,18 @@ public class ToolLiveReload {
     /**
      * Refreshes the OpenAPI specification and updates tools if needed.
      *
-     * @param currentOpenApiVersion the current OpenAPI version
-     * @param currentTools          the current list of registered tools
-     * @param currentPrompts        the current list of registered prompts
+     * @param currentOpenApiFingerprint the document fingerprint of the current OpenAPI specifications
+     * @param currentTools              the current list of registered tools
+     * @param currentPrompts            the current list of registered prompts
      * @return true if tools or prompts were updated, false if no changes detected
      */
     public boolean reload(
-            String currentOpenApiVersion, List<RegisteredTool> currentTools, List<RegisteredPrompt> currentPrompts) {
-        openApiRegistry.reload();
-        var newOpenApiVersion = openApiRegistry.openApi().getInfo().getVersion();
-        if (currentOpenApiVersion.equals(newOpenApiVersion)) {
+            String currentOpenApiFingerprint,
+            List<RegisteredTool> currentTools,
+            List<RegisteredPrompt> currentPrompts) {
+        apiSpecs.reload(openApiRegistry);
+        var newOpenApiFingerprint = apiSpecs.fingerprint(openApiRegistry);
+        if (currentOpenApiFingerprint.equals(newOpenApiFingerprint)) {
             return false;
         }
 
@@ -209,21 +236,49 @@ public class ToolLiveReload {
         var toolDiff = computeToolDiff(currentTools);
         var promptDiff = computePromptDiff(currentPrompts);
 
-        var toolsUpdated = applyToolDiff(toolDiff);
-        var promptsUpdated = applyPromptDiff(promptDiff);
+        if (toolDiff.isEmpty() && promptDiff.isEmpty()) {
+            return false;
+        }
 
-        return toolsUpdated || promptsUpdated;
+        catalogVersion.incrementAndGet();
+        try {
+            applyToolDiff(toolDiff);
+            applyPromptDiff(promptDiff);
+        } finally {
+            catalogVersion.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the version of the tools and prompts registered in the MCP server. The version starts at zero and
+     * changes whenever a reload updates tools or prompts.
+     *
+     * @return the current catalog version
+     */
+    public long catalogVersion() {
+        return catalogVersion.get();
     }
 
     private record ToolDiff(
             List<RegisteredTool> addedOrChanged,
             List<RegisteredTool> deleted,
-            Map<String, RegisteredTool> currentToolMap) {}
+            Map<String, RegisteredTool> currentToolMap) {
+
+        boolean isEmpty() {
+            return addedOrChanged.isEmpty() && deleted.isEmpty();
+        }
+    }
 
     private record PromptDiff(
             List<RegisteredPrompt> addedOrChanged,
             List<RegisteredPrompt> deleted,
-            Map<String, RegisteredPrompt> currentPromptMap) {}
+            Map<String, RegisteredPrompt> currentPromptMap) {
+
+        boolean isEmpty() {
+            return addedOrChanged.isEmpty() && deleted.isEmpty();
+        }
+    }
 
     private ToolDiff computeToolDiff(List<RegisteredTool> currentTools) {
         var registeredTools = toolRegistry.getTools();
@@ -244,33 +299,39 @@ public class ToolLiveReload {
         var addedOrChanged = newPrompts.stream()
                 .filter(p -> {
                     var existing = currentPromptMap.get(p.prompt().name());
-                    return existing == null || !existing.prompt().equals(p.prompt());
+                    return existing == null
+                            || (existing != p && !existing.prompt().equals(p.prompt()));
                 })
                 .toList();
         return new PromptDiff(addedOrChanged, deleted, currentPromptMap);
     }
 
-    private boolean applyToolDiff(ToolDiff diff) {
-        if (diff.addedOrChanged().isEmpty() && diff.deleted().isEmpty()) {
-            return false;
+    private void applyToolDiff(ToolDiff diff) {
+        if (diff.isEmpty()) {
+            return;
+        }
+        if (discoveryEnabled) {
+            LOGGER.info(
+                    "Updated {} and removed {} tools in the tool discovery index.",
+                    diff.addedOrChanged().size(),
+                    diff.deleted().size());
+            return;
         }
         mcpSyncServer.ifPresent(
                 ignored -> registerStatefulTools(diff.addedOrChanged(), diff.deleted(), diff.currentToolMap()));
         mcpStatelessSyncServer.ifPresent(
                 ignored -> registerStatelessTools(diff.addedOrChanged(), diff.deleted(), diff.currentToolMap()));
-        return true;
     }
 
-    private boolean applyPromptDiff(PromptDiff diff) {
-        if (diff.addedOrChanged().isEmpty() && diff.deleted().isEmpty()) {
-            return false;
+    private void applyPromptDiff(PromptDiff diff) {
+        if (diff.isEmpty()) {
+            return;
         }
         mcpSyncServer.ifPresent(
                 ignored -> registerStatefulPrompts(diff.addedOrChanged(), diff.deleted(), diff.currentPromptMap()));
         mcpStatelessSyncServer.ifPresent(
                 ignored -> registerStatelessPrompts(diff.addedOrChanged(), diff.deleted(), diff.currentPromptMap()));
         mcpSyncServer.ifPresent(McpSyncServer::notifyPromptsListChanged);
-        return true;
     }
 
     private List<RegisteredTool> findDeletedTools(
@@ -292,9 +353,10 @@ public class ToolLiveReload {
                         return true;
                     }
 
-                    // Tools changed if they are different
-                    var currentTool = currentToolMap.get(registeredToolName).tool();
-                    return !currentTool.equals(registeredTool);
+                    // Tools of unchanged operations are reused by the registry, so identity is checked first
+                    var currentRegisteredTool = currentToolMap.get(registeredToolName);
+                    return currentRegisteredTool != regTool
+                            && !currentRegisteredTool.tool().equals(registeredTool);
                 })
                 .toList();
     }
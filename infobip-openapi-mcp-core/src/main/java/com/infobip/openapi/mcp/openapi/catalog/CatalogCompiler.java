@@ -0,0 +1,195 @@
+package com.infobip.openapi.mcp.openapi.catalog;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.enricher.ApiRequestEnricherChain;
+import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
+import com.infobip.openapi.mcp.openapi.OpenApiFingerprinter;
+import com.infobip.openapi.mcp.openapi.OpenApiReader;
+import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
+import com.infobip.openapi.mcp.openapi.OpenApiResolver;
+import com.infobip.openapi.mcp.openapi.exception.InvalidOpenApiException;
+import com.infobip.openapi.mcp.openapi.filter.DiscriminatorFlattener;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiFilter;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiFilterChain;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiPruner;
+import com.infobip.openapi.mcp.openapi.filter.PatternPropertyRemover;
+import com.infobip.openapi.mcp.openapi.schema.InputExampleComposer;
+import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
+import com.infobip.openapi.mcp.openapi.schema.Spec;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import com.infobip.openapi.mcp.openapi.tool.ToolAnnotationResolver;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategyFactory;
+import com.infobip.openapi.mcp.prompt.PromptRegistry;
+import com.infobip.openapi.mcp.prompt.RegisteredPrompt;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compiles an OpenAPI specification into a precompiled catalog at build time.
+ * <p>
+ * The compiler runs the same pipeline that {@link OpenApiRegistry} runs on startup: the specification is
+ * read by {@link OpenApiReader}, filtered by {@link OpenApiFilterChain} and resolved by
+ * {@link OpenApiResolver}. Tools and prompts are then registered from the result through
+ * {@link ToolRegistry} and {@link PromptRegistry}, so that invalid specifications, unresolvable references,
+ * undeterminable or duplicate tool names and invalid prompt definitions fail the build instead of the
+ * rollout. The resolved specification is written as compact JSON with the {@link CatalogMetadata} stored
+ * in the {@value Spec#MCP_CATALOG_EXTENSION} root extension.
+ * <p>
+ * Only the filters passed to the compiler take part in compilation. Filters registered as beans in the
+ * application are not applied to a precompiled catalog.
+ *
+ * @see CatalogReader
+ */
+public class CatalogCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogCompiler.class);
+
+    /**
+     * Default location of the catalog, relative to the classpath root of the application.
+     */
+    public static final String DEFAULT_LOCATION = "META-INF/openapi-mcp/catalog.json";
+
+    private final OpenApiMcpProperties properties;
+    private final List<OpenApiFilter> filters;
+    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
+    private final OpenApiMapperFactory mapperFactory = new OpenApiMapperFactory();
+
+    /**
+     * Creates a compiler that applies the same built-in filters as the Spring Boot starter.
+     *
+     * @param properties properties describing the specification location, filters and tool configuration
+     */
+    public CatalogCompiler(OpenApiMcpProperties properties) {
+        this(
+                properties,
+                List.of(
+                        new OpenApiPruner(properties.pruning(), new OpenApiMapperFactory()),
+                        new DiscriminatorFlattener(),
+                        new PatternPropertyRemover()));
+    }
+
+    public CatalogCompiler(OpenApiMcpProperties properties, List<OpenApiFilter> filters) {
+        this.properties = properties;
+        this.filters = filters;
+    }
+
+    /**
+     * Compiles the specification found at {@link OpenApiMcpProperties#openApiUrl()} and writes the catalog
+     * to the given file, creating parent directories if needed.
+     *
+     * @param target the file to write the catalog to
+     * @return the metadata written to the catalog
+     * @throws InvalidOpenApiException if the specification cannot be read or resolved
+     * @throws UncheckedIOException if the catalog cannot be written
+     * @throws IllegalArgumentException if tools or prompts cannot be registered from the specification
+     */
+    public CatalogMetadata compile(Path target) {
+        var source = properties.openApiUrl();
+        if (source == null) {
+            throw new IllegalArgumentException("The OpenAPI specification URL must be set to compile a catalog.");
+        }
+
+        var openApiRegistry = new OpenApiRegistry(
+                properties,
+                new OpenApiReader(parser),
+                new OpenApiFilterChain(filters, properties),
+                new OpenApiResolver(parser, mapperFactory),
+                new CatalogReader(parser),
+                new OpenApiFingerprinter(mapperFactory));
+        var openApi = openApiRegistry.openApi();
+
+        var tools = registerTools(openApiRegistry).stream()
+                .map(registeredTool -> registeredTool.tool().name())
+                .toList();
+        validateUniqueToolNames(tools);
+        var prompts = registerPrompts(openApiRegistry).stream()
+                .map(registeredPrompt -> registeredPrompt.prompt().name())
+                .toList();
+
+        var metadata = new CatalogMetadata(
+                CatalogMetadata.CURRENT_FORMAT_VERSION,
+                source.toString(),
+                openApi.getInfo() != null ? openApi.getInfo().getVersion() : null,
+                tools,
+                prompts);
+
+        openApi.addExtension(Spec.MCP_CATALOG_EXTENSION, metadata.toExtension());
+        try {
+            var parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(target, mapperFactory.mapper(openApi).writeValueAsString(openApi));
+        } catch (IOException exception) {
+            // Jackson 2 exceptions thrown by swagger-core mappers are IOExceptions as well
+            LOGGER.error("Failed to write precompiled catalog to {}.", target, exception);
+            throw new UncheckedIOException("Unable to write precompiled catalog to " + target, exception);
+        } finally {
+            openApi.getExtensions().remove(Spec.MCP_CATALOG_EXTENSION);
+        }
+
+        LOGGER.info(
+                "Compiled catalog of OpenAPI version {} with {} tool(s) and {} prompt(s) to {}.",
+                metadata.specVersion(),
+                tools.size(),
+                prompts.size(),
+                target);
+        return metadata;
+    }
+
+    private List<RegisteredTool> registerTools(OpenApiRegistry openApiRegistry) {
+        // Tool handlers are never invoked at build time, so no tool handler is needed.
+        var toolRegistry = new ToolRegistry(
+                openApiRegistry,
+                new NamingStrategyFactory().create(properties.tools().naming()),
+                new InputSchemaComposer(properties.tools().schema()),
+                new InputExampleComposer(properties),
+                null,
+                mapperFactory,
+                new ToolAnnotationResolver(properties.tools().annotations()),
+                properties,
+                new NoOpMetricService());
+        return toolRegistry.getTools();
+    }
+
+    private List<RegisteredPrompt> registerPrompts(OpenApiRegistry openApiRegistry) {
+        var promptRegistry = new PromptRegistry(
+                openApiRegistry,
+                RestClient.create(),
+                JsonMapper.builder().build(),
+                context -> Optional.empty(),
+                new ApiRequestEnricherChain(List.of()),
+                new NoOpMetricService());
+        return promptRegistry.getPrompts();
+    }
+
+    private void validateUniqueToolNames(List<String> tools) {
+        var duplicates =
+                tools.stream()
+                        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                        .entrySet()
+                        .stream()
+                        .filter(entry -> entry.getValue() > 1)
+                        .map(Map.Entry::getKey)
+                        .sorted()
+                        .toList();
+
+        if (!duplicates.isEmpty()) {
+            throw new IllegalArgumentException("Duplicate tool names in OpenAPI spec: " + duplicates);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.infobip.openapi.mcp.openapi.catalog;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metadata stored in the {@code x-mcp-catalog} root extension of a precompiled catalog.
+ *
+ * @param formatVersion version of the catalog format, used to reject catalogs produced by an incompatible plugin
+ * @param source        location of the OpenAPI specification the catalog was compiled from
+ * @param specVersion   {@code info.version} of the compiled OpenAPI specification
+ * @param tools         names of the tools registered from the catalog at build time
+ * @param prompts       names of the prompts registered from the catalog at build time
+ */
+public record CatalogMetadata(
+        int formatVersion, String source, @Nullable String specVersion, List<String> tools, List<String> prompts) {
+
+    public static final int CURRENT_FORMAT_VERSION = 1;
+
+    public CatalogMetadata {
+        tools = List.copyOf(tools);
+        prompts = List.copyOf(prompts);
+    }
+
+    Map<String, Object> toExtension() {
+        var extension = new LinkedHashMap<String, Object>();
+        extension.put("formatVersion", formatVersion);
+        extension.put("source", source);
+        extension.put("specVersion", specVersion);
+        extension.put("tools", tools);
+        extension.put("prompts", prompts);
+        return extension;
+    }
+
+    @SuppressWarnings("unchecked")
+    static @Nullable CatalogMetadata fromExtension(@Nullable Object extension) {
+        if (!(extension instanceof Map<?, ?> map) || !(map.get("formatVersion") instanceof Number formatVersion)) {
+            return null;
+        }
+        return new CatalogMetadata(
+                formatVersion.intValue(),
+                String.valueOf(map.get("source")),
+                map.get("specVersion") instanceof String specVersion ? specVersion : null,
+                map.get("tools") instanceof List<?> tools ? (List<String>) tools : List.of(),
+                map.get("prompts") instanceof List<?> prompts ? (List<String>) prompts : List.of());
+    }
+}
@@ -0,0 +1,96 @@
+package com.infobip.openapi.mcp.openapi.catalog;
+
+import com.infobip.openapi.mcp.openapi.exception.InvalidOpenApiException;
+import com.infobip.openapi.mcp.openapi.schema.Spec;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * Loads a precompiled catalog produced by {@link CatalogCompiler}.
+ * <p>
+ * The catalog already contains the filtered and fully resolved OpenAPI specification, so it is parsed
+ * without any reference resolution. Locations are interpreted by Spring's {@link ResourceLoader}, which
+ * means {@code classpath:}, {@code file:} and URL locations are all supported.
+ */
+public class CatalogReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogReader.class);
+
+    private final OpenAPIV3Parser parser;
+    private final ResourceLoader resourceLoader;
+
+    public CatalogReader(OpenAPIV3Parser parser) {
+        this(parser, new DefaultResourceLoader());
+    }
+
+    public CatalogReader(OpenAPIV3Parser parser, ResourceLoader resourceLoader) {
+        this.parser = parser;
+        this.resourceLoader = resourceLoader;
+    }
+
+    /**
+     * Reads the precompiled catalog from the given location.
+     *
+     * @param location the location of the catalog, e.g. {@code classpath:META-INF/openapi-mcp/catalog.json}
+     * @return the resolved OpenAPI specification stored in the catalog, without the catalog metadata extension
+     * @throws InvalidOpenApiException if the catalog cannot be read, is not valid, or has an unsupported format
+     */
+    public OpenAPI read(String location) {
+        String content;
+        try (var inputStream = resourceLoader.getResource(location).getInputStream()) {
+            content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            LOGGER.error("Failed to read precompiled catalog from {}.", location, exception);
+            throw InvalidOpenApiException.becauseOfErrorsWhileLoadingCatalog(location, exception);
+        }
+
+        var parseResult = parser.readContents(content, null, configureParseOptions());
+        var openApi = parseResult.getOpenAPI();
+        if (openApi == null) {
+            if (parseResult.getMessages() != null) {
+                LOGGER.error(
+                        "Parsing precompiled catalog resulted in the following errors: {}.",
+                        String.join("; ", parseResult.getMessages()));
+            }
+            throw InvalidOpenApiException.becauseOfErrorsWhileLoadingCatalog(location, parseResult.getMessages());
+        }
+
+        var extensions = openApi.getExtensions();
+        var metadata = CatalogMetadata.fromExtension(
+                extensions != null ? extensions.remove(Spec.MCP_CATALOG_EXTENSION) : null);
+        if (metadata == null || metadata.formatVersion() != CatalogMetadata.CURRENT_FORMAT_VERSION) {
+            var message = metadata == null
+                    ? "Missing '%s' extension.".formatted(Spec.MCP_CATALOG_EXTENSION)
+                    : "Unsupported catalog format version %d, expected %d."
+                            .formatted(metadata.formatVersion(), CatalogMetadata.CURRENT_FORMAT_VERSION);
+            LOGGER.error("Precompiled catalog {} is not supported: {}", location, message);
+            throw InvalidOpenApiException.becauseOfErrorsWhileLoadingCatalog(location, List.of(message));
+        }
+
+        LOGGER.info(
+                "Loaded precompiled catalog of OpenAPI version {} compiled from {} with {} tool(s) and {} prompt(s).",
+                metadata.specVersion(),
+                metadata.source(),
+                metadata.tools().size(),
+                metadata.prompts().size());
+        return openApi;
+    }
+
+    private ParseOptions configureParseOptions() {
+        var parseOptions = new ParseOptions();
+        parseOptions.setResolve(false);
+        parseOptions.setResolveFully(false);
+        parseOptions.setResolveRequestBody(false);
+        parseOptions.setResolveResponses(false);
+        parseOptions.setResolveCombinators(false);
+        return parseOptions;
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Build-time compilation of the OpenAPI specification into a precompiled catalog.
+ *
+ * <p>{@link com.infobip.openapi.mcp.openapi.catalog.CatalogCompiler} runs the same reading, filtering and
+ * resolving pipeline that is otherwise executed on application startup, validates that tools and prompts
+ * can be registered from the result, and writes the resolved specification as a compact JSON resource.
+ * {@link com.infobip.openapi.mcp.openapi.catalog.CatalogReader} loads that resource at runtime, so the
+ * server neither depends on the specification host nor pays for filtering and reference resolution.
+ */
+@NullMarked
+package com.infobip.openapi.mcp.openapi.catalog;
+
+import org.jspecify.annotations.NullMarked;
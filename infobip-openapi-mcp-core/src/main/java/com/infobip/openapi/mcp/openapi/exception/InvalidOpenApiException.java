@@ -67,6 +67,26 @@ public final class InvalidOpenApiException extends RuntimeException {
                 messages);
     }
 
+    /**
+     * Creates an {@code InvalidOpenApiException} for errors while fetching the specification.
+     * <p>
+     * This factory method should be used when the OpenAPI specification cannot be downloaded
+     * (e.g., the host is unreachable or responds with an error status) and no cached copy is available.
+     *
+     * @param uri the URI of the OpenAPI specification that failed to be fetched
+     * @param cause the underlying throwable that caused the failure
+     * @return a new {@code InvalidOpenApiException} instance for fetching errors
+     */
+    public static InvalidOpenApiException becauseOfErrorsWhileFetching(URI uri, Throwable cause) {
+        return new InvalidOpenApiException(
+                String.format(
+                        "Unable to fetch OpenAPI spec: %s."
+                                + " Check that the specification host is reachable."
+                                + " Explore the logs for the additional details.",
+                        uri),
+                cause);
+    }
+
     /**
      * Creates an {@code InvalidOpenApiException} for reference resolution errors.
      * <p>
@@ -100,6 +120,47 @@ public final class InvalidOpenApiException extends RuntimeException {
                 cause);
     }
 
+    /**
+     * Creates an {@code InvalidOpenApiException} for a precompiled catalog that cannot be read.
+     * <p>
+     * This factory method should be used when the catalog resource is missing or cannot be read
+     * (e.g., wrong location, I/O errors).
+     *
+     * @param location the location of the precompiled catalog
+     * @param cause the underlying throwable that caused the failure
+     * @return a new {@code InvalidOpenApiException} instance for catalog loading errors
+     */
+    public static InvalidOpenApiException becauseOfErrorsWhileLoadingCatalog(String location, Throwable cause) {
+        return new InvalidOpenApiException(
+                String.format(
+                        "Unable to load precompiled catalog: %s."
+                                + " Check that the catalog was compiled into the application."
+                                + " Explore the logs for the additional details.",
+                        location),
+                cause);
+    }
+
+    /**
+     * Creates an {@code InvalidOpenApiException} for a precompiled catalog with invalid content.
+     * <p>
+     * This factory method should be used when the catalog resource is not a valid OpenAPI specification
+     * or was produced by an incompatible version of the catalog compiler.
+     *
+     * @param location the location of the precompiled catalog
+     * @param messages optional list of specific error messages; may be null
+     * @return a new {@code InvalidOpenApiException} instance for catalog loading errors
+     */
+    public static InvalidOpenApiException becauseOfErrorsWhileLoadingCatalog(
+            String location, @Nullable List<String> messages) {
+        return new InvalidOpenApiException(
+                String.format(
+                        "Invalid precompiled catalog: %s."
+                                + " Recompile the catalog with the current version of the plugin."
+                                + " Explore the logs for the additional details.",
+                        location),
+                messages);
+    }
+
     /**
      * Returns the list of detailed error messages associated with this exception.
      * <p>
@@ -2,12 +2,16 @@ package com.infobip.openapi.mcp.openapi.exception;
 
 public final class OpenApiFilterException extends RuntimeException {
 
-    private OpenApiFilterException(String message, Throwable cause) {
+    private final String filterName;
+
+    private OpenApiFilterException(String filterName, String message, Throwable cause) {
         super(message, cause);
+        this.filterName = filterName;
     }
 
     public static OpenApiFilterException becauseOfErrorsWhileFiltering(String filterName, Throwable cause) {
         return new OpenApiFilterException(
+                filterName,
                 String.format(
                         "OpenAPI spec filtering failed by filter: %s."
                                 + " Check the validity of the OpenAPI specification."
@@ -16,4 +20,11 @@ public final class OpenApiFilterException extends RuntimeException {
                         filterName),
                 cause);
     }
+
+    /**
+     * @return the name of the filter that failed
+     */
+    public String filterName() {
+        return filterName;
+    }
 }
@@ -32,27 +32,24 @@ import org.springframework.core.annotation.Order;
  */
 @Order
 @NullMarked
-public class DiscriminatorFlattener implements OpenApiFilter {
+public class DiscriminatorFlattener implements SchemaFilter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DiscriminatorFlattener.class);
 
     @Override
-    public OpenAPI filter(OpenAPI openApi) {
+    public Scope scope() {
+        return Scope.COMPONENTS;
+    }
+
+    @Override
+    public void filterSchema(Schema<?> schema, OpenAPI openApi) {
         var components = Optional.ofNullable(openApi.getComponents())
                 .map(Components::getSchemas)
                 .orElse(Map.of());
-
-        for (var schemaEntry : components.entrySet()) {
-            processDiscriminator(schemaEntry.getValue(), components);
-        }
-
-        return openApi;
+        processDiscriminator(schema, components);
     }
 
-    private void processDiscriminator(@Nullable Schema<?> schemaToProcess, Map<String, Schema> components) {
-        if (schemaToProcess == null) {
-            return;
-        }
+    private void processDiscriminator(Schema<?> schemaToProcess, Map<String, Schema> components) {
         if (schemaToProcess.get$ref() != null) {
             // If the schema is a reference, it will be processed as a part of the components schema traversal.
             // The schema resolution is handled in the later stage, so we can skip it here.
@@ -164,68 +161,6 @@ public class DiscriminatorFlattener implements OpenApiFilter {
                 LOGGER.warn("Discriminator '{}' does not have mapping defined. It will be skipped.", propertyName);
             }
             schemaToProcess.setDiscriminator(null); // Remove the discriminator property
-            return;
-        }
-
-        // If the schema is a composed schema, we need to process its sub-schemas.
-        // We need to look for the discriminator of all non-ref schemas.
-        if (schemaToProcess.getAllOf() != null) {
-            for (var allOfSchema : schemaToProcess.getAllOf()) {
-                processDiscriminator(allOfSchema, components);
-            }
-        }
-        if (schemaToProcess.getAnyOf() != null) {
-            for (var anyOfSchema : schemaToProcess.getAnyOf()) {
-                processDiscriminator(anyOfSchema, components);
-            }
-        }
-        if (schemaToProcess.getOneOf() != null) {
-            for (var oneOfSchema : schemaToProcess.getOneOf()) {
-                processDiscriminator(oneOfSchema, components);
-            }
-        }
-
-        // Process array-related schema properties (OpenAPI 3.1)
-        if (schemaToProcess.getPrefixItems() != null) {
-            for (var prefixItemSchema : schemaToProcess.getPrefixItems()) {
-                processDiscriminator(prefixItemSchema, components);
-            }
-        }
-        if (schemaToProcess.getItems() != null) {
-            processDiscriminator(schemaToProcess.getItems(), components);
-        }
-        if (schemaToProcess.getUnevaluatedItems() != null) {
-            processDiscriminator(schemaToProcess.getUnevaluatedItems(), components);
-        }
-        if (schemaToProcess.getContains() != null) {
-            processDiscriminator(schemaToProcess.getContains(), components);
-        }
-
-        // Process object-related schema properties (OpenAPI 3.1)
-        if (schemaToProcess.getDependentSchemas() != null) {
-            for (var dependentSchema : schemaToProcess.getDependentSchemas().values()) {
-                processDiscriminator(dependentSchema, components);
-            }
-        }
-
-        // Process conditional schema properties (OpenAPI 3.1)
-        if (schemaToProcess.getElse() != null) {
-            processDiscriminator(schemaToProcess.getElse(), components);
-        }
-        if (schemaToProcess.getNot() != null) {
-            processDiscriminator(schemaToProcess.getNot(), components);
-        }
-
-        // Process content schema (OpenAPI 3.1)
-        if (schemaToProcess.getContentSchema() != null) {
-            processDiscriminator(schemaToProcess.getContentSchema(), components);
-        }
-
-        // Finally, look for the discriminator in all non-ref property schemas.
-        if (schemaToProcess.getProperties() != null) {
-            for (var propertySchema : schemaToProcess.getProperties().values()) {
-                processDiscriminator(propertySchema, components);
-            }
         }
     }
 
@@ -3,6 +3,7 @@ package com.infobip.openapi.mcp.openapi.filter;
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
 import com.infobip.openapi.mcp.openapi.exception.OpenApiFilterException;
 import io.swagger.v3.oas.models.OpenAPI;
+import java.util.ArrayList;
 import java.util.List;
 import org.jspecify.annotations.NullMarked;
 import org.slf4j.Logger;
@@ -11,6 +12,10 @@ import org.slf4j.LoggerFactory;
 /**
  * A chain of OpenAPI filters that applies each filter in sequence to the provided OpenAPI object.
  * Filters can be enabled or disabled based on the configuration.
+ * <p>
+ * Consecutive {@link SchemaFilter}s are fused: they are applied together in a single traversal of the specification
+ * instead of one traversal per filter. Any other filter ends the fused group, so filters still observe the
+ * specification in chain order.
  */
 @NullMarked
 public class OpenApiFilterChain {
@@ -35,26 +40,60 @@ public class OpenApiFilterChain {
      */
     public OpenAPI filter(OpenAPI openApi) {
         var filteredOpenApi = openApi;
+        var schemaFilters = new ArrayList<SchemaFilter>();
         for (OpenApiFilter filter : filters) {
-            try {
-                if (!openApiMcpProperties.isFilterEnabled(filter.name())) {
-                    LOGGER.info("Skipping OpenAPI filter: {} as it is disabled in the configuration.", filter.name());
-                    continue;
-                }
-                LOGGER.info("Applying OpenAPI filter: {}.", filter.name());
-                filteredOpenApi = filter.filter(filteredOpenApi);
-            } catch (RuntimeException exception) {
-                LOGGER.error(
-                        "Error applying filter: {}."
-                                + " Please verify the filter behaviour and fix the errors."
-                                + " If you prefer to disable the filter, you can do this by setting the respective configuration {}.filters flag to false.",
-                        filter.name(),
-                        OpenApiMcpProperties.PREFIX,
-                        exception);
-                throw OpenApiFilterException.becauseOfErrorsWhileFiltering(filter.name(), exception);
+            if (!openApiMcpProperties.isFilterEnabled(filter.name())) {
+                LOGGER.info("Skipping OpenAPI filter: {} as it is disabled in the configuration.", filter.name());
+                continue;
             }
+            if (filter instanceof SchemaFilter schemaFilter) {
+                schemaFilters.add(schemaFilter);
+                continue;
+            }
+            applySchemaFilters(schemaFilters, filteredOpenApi);
+            filteredOpenApi = apply(filter, filteredOpenApi);
         }
+        applySchemaFilters(schemaFilters, filteredOpenApi);
 
         return filteredOpenApi;
     }
+
+    private OpenAPI apply(OpenApiFilter filter, OpenAPI openApi) {
+        try {
+            LOGGER.info("Applying OpenAPI filter: {}.", filter.name());
+            return filter.filter(openApi);
+        } catch (RuntimeException exception) {
+            logFilterError(filter.name(), exception);
+            throw OpenApiFilterException.becauseOfErrorsWhileFiltering(filter.name(), exception);
+        }
+    }
+
+    /**
+     * Applies the collected schema filters in a single traversal and clears them.
+     */
+    private void applySchemaFilters(List<SchemaFilter> schemaFilters, OpenAPI openApi) {
+        if (schemaFilters.isEmpty()) {
+            return;
+        }
+        for (var schemaFilter : schemaFilters) {
+            LOGGER.info("Applying OpenAPI filter: {}.", schemaFilter.name());
+        }
+        try {
+            SchemaFilterPass.apply(schemaFilters, openApi);
+        } catch (OpenApiFilterException exception) {
+            logFilterError(exception.filterName(), exception.getCause());
+            throw exception;
+        }
+        schemaFilters.clear();
+    }
+
+    private static void logFilterError(String filterName, Throwable exception) {
+        LOGGER.error(
+                "Error applying filter: {}."
+                        + " Please verify the filter behaviour and fix the errors."
+                        + " If you prefer to disable the filter, you can do this by setting the respective configuration {}.filters flag to false.",
+                filterName,
+                OpenApiMcpProperties.PREFIX,
+                exception);
+    }
 }
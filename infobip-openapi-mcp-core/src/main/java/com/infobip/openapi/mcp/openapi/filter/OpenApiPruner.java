@@ -0,0 +1,283 @@
+package com.infobip.openapi.mcp.openapi.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * OpenApiPruner is an OpenAPIFilter that reduces the OpenAPI specification to the operations that should be exposed as
+ * MCP tools, and removes the components those operations do not use.
+ * <p>
+ * This class will perform the following operations:
+ * 1. Remove operations that do not match any of the configured include rules, or match any of the exclude rules.
+ * 2. Remove path items that are left without operations.
+ * 3. Remove component schemas, parameters, responses and other components that are not transitively referenced by the
+ * remaining operations.
+ * <p>
+ * The filter runs before all other filters, so that they and the reference resolution only process the part of the
+ * specification that is actually exposed. Security schemes are always kept.
+ *
+ * @see OpenApiMcpProperties.Pruning
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@NullMarked
+public class OpenApiPruner implements OpenApiFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiPruner.class);
+
+    private static final String COMPONENT_REFERENCE_PREFIX = "#/components/";
+
+    private final OpenApiMcpProperties.Pruning pruning;
+    private final OpenApiMapperFactory mapperFactory;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public OpenApiPruner(OpenApiMcpProperties.Pruning pruning, OpenApiMapperFactory mapperFactory) {
+        this.pruning = pruning;
+        this.mapperFactory = mapperFactory;
+    }
+
+    @Override
+    public OpenAPI filter(OpenAPI openApi) {
+        var mapper = mapperFactory.mapper(openApi);
+        var references = new ReferenceCollector(mapper, openApi.getComponents());
+
+        if (openApi.getPaths() != null) {
+            int operationCount = 0;
+            int keptOperationCount = 0;
+            var pathIterator = openApi.getPaths().entrySet().iterator();
+            while (pathIterator.hasNext()) {
+                var pathEntry = pathIterator.next();
+                var pathItem = pathEntry.getValue();
+                if (pathItem == null) {
+                    continue;
+                }
+                for (var operationEntry : pathItem.readOperationsMap().entrySet()) {
+                    operationCount++;
+                    if (isKept(pathEntry.getKey(), operationEntry.getKey(), operationEntry.getValue())) {
+                        keptOperationCount++;
+                    } else {
+                        pathItem.operation(operationEntry.getKey(), null);
+                    }
+                }
+                if (pathItem.readOperations().isEmpty() && pathItem.get$ref() == null) {
+                    pathIterator.remove();
+                } else {
+                    references.collectFrom(pathItem);
+                }
+            }
+            LOGGER.info("Kept {} out of {} operations.", keptOperationCount, operationCount);
+        }
+
+        references.collectFrom(openApi.getWebhooks());
+        references.collectFrom(openApi.getExtensions());
+        removeUnreferencedComponents(openApi.getComponents(), references.closure());
+
+        return openApi;
+    }
+
+    private boolean isKept(String path, PathItem.HttpMethod method, Operation operation) {
+        var included = pruning.include().isEmpty()
+                || pruning.include().stream().anyMatch(rule -> matches(rule, path, method, operation));
+        return included && pruning.exclude().stream().noneMatch(rule -> matches(rule, path, method, operation));
+    }
+
+    private boolean matches(
+            OpenApiMcpProperties.Pruning.OperationRule rule,
+            String path,
+            PathItem.HttpMethod method,
+            Operation operation) {
+        if (!rule.paths().isEmpty() && rule.paths().stream().noneMatch(glob -> pathMatcher.match(glob, path))) {
+            return false;
+        }
+        if (!rule.methods().isEmpty() && !rule.methods().contains(method)) {
+            return false;
+        }
+        if (!rule.tags().isEmpty()
+                && (operation.getTags() == null || operation.getTags().stream().noneMatch(rule.tags()::contains))) {
+            return false;
+        }
+        if (!rule.operationIds().isEmpty()
+                && (operation.getOperationId() == null
+                        || !PatternMatchUtils.simpleMatch(
+                                rule.operationIds().toArray(String[]::new), operation.getOperationId()))) {
+            return false;
+        }
+        return rule.extensions().isEmpty()
+                || rule.extensions().stream().anyMatch(extension -> isFlagSet(operation, extension));
+    }
+
+    private static boolean isFlagSet(Operation operation, String extension) {
+        if (operation.getExtensions() == null) {
+            return false;
+        }
+        var value = operation.getExtensions().get(extension);
+        return Boolean.TRUE.equals(value) || "true".equals(value);
+    }
+
+    private static void removeUnreferencedComponents(@Nullable Components components, Set<String> references) {
+        if (components == null) {
+            return;
+        }
+        var componentCount = count(components);
+        retain(components.getSchemas(), "schemas", references);
+        retain(components.getResponses(), "responses", references);
+        retain(components.getParameters(), "parameters", references);
+        retain(components.getExamples(), "examples", references);
+        retain(components.getRequestBodies(), "requestBodies", references);
+        retain(components.getHeaders(), "headers", references);
+        retain(components.getLinks(), "links", references);
+        retain(components.getCallbacks(), "callbacks", references);
+        retain(components.getPathItems(), "pathItems", references);
+        LOGGER.info("Kept {} out of {} components.", count(components), componentCount);
+    }
+
+    private static void retain(@Nullable Map<String, ?> components, String type, Set<String> references) {
+        if (components != null) {
+            components.keySet().removeIf(name -> !references.contains(reference(type, name)));
+        }
+    }
+
+    /**
+     * Counts all components except security schemes, which are never removed.
+     */
+    private static int count(Components components) {
+        return Stream.of(
+                        components.getSchemas(),
+                        components.getResponses(),
+                        components.getParameters(),
+                        components.getExamples(),
+                        components.getRequestBodies(),
+                        components.getHeaders(),
+                        components.getLinks(),
+                        components.getCallbacks(),
+                        components.getPathItems())
+                .filter(Objects::nonNull)
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    private static String reference(String type, String name) {
+        return COMPONENT_REFERENCE_PREFIX + type + "/" + name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Collects local component references, e.g. {@code #/components/schemas/Pet}, and computes their transitive
+     * closure. Components are only serialized once they are found to be referenced, so unused parts of the
+     * specification are never visited.
+     */
+    private static final class ReferenceCollector {
+
+        private final ObjectMapper mapper;
+        private final @Nullable Components components;
+        private final Set<String> found = new HashSet<>();
+
+        private ReferenceCollector(ObjectMapper mapper, @Nullable Components components) {
+            this.mapper = mapper;
+            this.components = components;
+        }
+
+        private void collectFrom(@Nullable Object model) {
+            if (model != null) {
+                collect(mapper.valueToTree(model), found);
+            }
+        }
+
+        private Set<String> closure() {
+            var closure = new HashSet<String>();
+            var queue = new ArrayDeque<>(found);
+            while (!queue.isEmpty()) {
+                var reference = queue.poll();
+                if (closure.add(reference)) {
+                    var component = component(reference);
+                    if (component != null) {
+                        var references = new HashSet<String>();
+                        collect(mapper.valueToTree(component), references);
+                        queue.addAll(references);
+                    }
+                }
+            }
+            return closure;
+        }
+
+        private @Nullable Object component(String reference) {
+            if (components == null) {
+                return null;
+            }
+            var segments =
+                    reference.substring(COMPONENT_REFERENCE_PREFIX.length()).split("/", -1);
+            if (segments.length < 2) {
+                return null;
+            }
+            var name = segments[1].replace("~1", "/").replace("~0", "~");
+            Map<String, ?> componentsOfType =
+                    switch (segments[0]) {
+                        case "schemas" -> components.getSchemas();
+                        case "responses" -> components.getResponses();
+                        case "parameters" -> components.getParameters();
+                        case "examples" -> components.getExamples();
+                        case "requestBodies" -> components.getRequestBodies();
+                        case "headers" -> components.getHeaders();
+                        case "links" -> components.getLinks();
+                        case "callbacks" -> components.getCallbacks();
+                        case "pathItems" -> components.getPathItems();
+                        default -> null;
+                    };
+            return componentsOfType != null ? componentsOfType.get(name) : null;
+        }
+
+        private static void collect(JsonNode node, Set<String> references) {
+            var stack = new ArrayDeque<JsonNode>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                var current = stack.pop();
+                if (current.isTextual()) {
+                    // Covers $ref values as well as discriminator mappings
+                    var text = current.textValue();
+                    if (text.startsWith(COMPONENT_REFERENCE_PREFIX)) {
+                        references.add(componentReference(text));
+                    }
+                } else if (current.isContainerNode()) {
+                    // Discriminator mappings may name a component schema instead of referencing it
+                    current.path("discriminator").path("mapping").forEach(mapping -> {
+                        if (mapping.isTextual() && !mapping.textValue().contains("/")) {
+                            references.add(reference("schemas", mapping.textValue()));
+                        }
+                    });
+                    current.forEach(stack::push);
+                }
+            }
+        }
+
+        /**
+         * Shortens references pointing inside a component, e.g. {@code #/components/schemas/Pet/properties/name},
+         * to the component itself.
+         */
+        private static String componentReference(String reference) {
+            var typeEnd = reference.indexOf('/', COMPONENT_REFERENCE_PREFIX.length());
+            if (typeEnd < 0) {
+                return reference;
+            }
+            var nameEnd = reference.indexOf('/', typeEnd + 1);
+            return nameEnd < 0 ? reference : reference.substring(0, nameEnd);
+        }
+    }
+}
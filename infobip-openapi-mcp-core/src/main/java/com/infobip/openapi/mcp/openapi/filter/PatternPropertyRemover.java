@@ -1,7 +1,7 @@
 package com.infobip.openapi.mcp.openapi.filter;
 
-import com.infobip.openapi.mcp.util.SchemaWalker;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
 import org.jspecify.annotations.NullMarked;
 
 /**
@@ -18,15 +18,14 @@ import org.jspecify.annotations.NullMarked;
  * @see <a href="https://json-schema.org/understanding-json-schema/reference/string#regexp">pattern keyword in JSON schema</a>
  */
 @NullMarked
-public class PatternPropertyRemover implements OpenApiFilter {
+public class PatternPropertyRemover implements SchemaFilter {
 
     /**
-     * @param openApi the OpenAPI specification that potentially contains pattern validation properties
-     * @return openAPI specification with pattern properties removed
+     * @param schema  the schema that potentially contains a pattern validation property
+     * @param openApi the OpenAPI specification the schema belongs to
      */
     @Override
-    public OpenAPI filter(OpenAPI openApi) {
-        new SchemaWalker(schema -> schema.setPattern(null)).walk(openApi);
-        return openApi;
+    public void filterSchema(Schema<?> schema, OpenAPI openApi) {
+        schema.setPattern(null);
     }
 }
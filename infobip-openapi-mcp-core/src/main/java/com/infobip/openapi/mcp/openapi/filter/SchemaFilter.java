@@ -0,0 +1,61 @@
+package com.infobip.openapi.mcp.openapi.filter;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * An {@link OpenApiFilter} that only reacts to individual schemas of the OpenAPI specification.
+ * <p>
+ * Instead of traversing the specification on its own, a schema filter declares which schemas it is interested in with
+ * {@link #scope()} and is invoked once per visited schema. This lets {@link OpenApiFilterChain} run all consecutive
+ * schema filters in a single traversal of the specification, rather than one full traversal per filter. Operation
+ * schemas are visited before component schemas, every schema is visited before its subschemas, and all schema filters
+ * of a traversal are applied to a schema, in chain order, before the traversal descends into it. References are not
+ * followed, and a schema instance reachable from several schemas is visited only once per traversal.
+ * <p>
+ * Used on its own, a schema filter still behaves like any other {@link OpenApiFilter}.
+ */
+@NullMarked
+public interface SchemaFilter extends OpenApiFilter {
+
+    /**
+     * Schemas a filter is interested in.
+     */
+    enum Scope {
+        /**
+         * Schemas declared in {@code components.schemas} and their subschemas.
+         */
+        COMPONENTS,
+        /**
+         * All schemas: those of operation parameters, request bodies and responses, and those declared in
+         * {@code components.schemas}, including their subschemas.
+         */
+        ALL
+    }
+
+    /**
+     * Filters a single schema. Implementations may modify the schema in place, including adding or removing
+     * subschemas; subschemas present once this method returns are visited afterward.
+     *
+     * @param schema  the schema to filter
+     * @param openApi the OpenAPI specification the schema belongs to
+     */
+    void filterSchema(Schema<?> schema, OpenAPI openApi);
+
+    /**
+     * Returns the schemas this filter is interested in.
+     *
+     * @return the scope of the filter, {@link Scope#ALL} by default
+     */
+    default Scope scope() {
+        return Scope.ALL;
+    }
+
+    @Override
+    default OpenAPI filter(OpenAPI openApi) {
+        SchemaFilterPass.apply(List.of(this), openApi);
+        return openApi;
+    }
+}
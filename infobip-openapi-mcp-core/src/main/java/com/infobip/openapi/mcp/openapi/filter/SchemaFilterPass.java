@@ -0,0 +1,48 @@
+package com.infobip.openapi.mcp.openapi.filter;
+
+import com.infobip.openapi.mcp.openapi.exception.OpenApiFilterException;
+import com.infobip.openapi.mcp.util.SchemaWalker;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Applies several {@link SchemaFilter}s to a specification in a single traversal.
+ */
+@NullMarked
+final class SchemaFilterPass {
+
+    private SchemaFilterPass() {}
+
+    /**
+     * Applies the filters to every schema of the specification within their scope. Each schema instance is filtered
+     * once per traversal, even if a filter makes it reachable from several schemas, as
+     * {@link DiscriminatorFlattener} does when it adds mapped component schemas to {@code oneOf}.
+     *
+     * @param filters the filters to apply, in order
+     * @param openApi the specification to filter in place
+     * @throws OpenApiFilterException if any of the filters fails
+     */
+    static void apply(List<? extends SchemaFilter> filters, OpenAPI openApi) {
+        var operationFilters = filters.stream()
+                .filter(filter -> filter.scope() == SchemaFilter.Scope.ALL)
+                .toList();
+        if (!operationFilters.isEmpty()) {
+            SchemaWalker.visitingEachSchemaOnce(schema -> applyTo(schema, operationFilters, openApi))
+                    .walkOperations(openApi);
+        }
+        SchemaWalker.visitingEachSchemaOnce(schema -> applyTo(schema, filters, openApi))
+                .walkComponents(openApi);
+    }
+
+    private static void applyTo(Schema<?> schema, List<? extends SchemaFilter> filters, OpenAPI openApi) {
+        for (var filter : filters) {
+            try {
+                filter.filterSchema(schema, openApi);
+            } catch (RuntimeException exception) {
+                throw OpenApiFilterException.becauseOfErrorsWhileFiltering(filter.name(), exception);
+            }
+        }
+    }
+}
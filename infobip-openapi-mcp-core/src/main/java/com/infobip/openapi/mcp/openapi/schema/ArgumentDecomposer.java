@@ -0,0 +1,176 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import static com.infobip.openapi.mcp.openapi.schema.Spec.SUPPORTED_PARAMETER_TYPES;
+
+import com.infobip.openapi.mcp.openapi.schema.DecomposedRequestData.ParametersByType;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decomposes the arguments of tool calls of a single operation into parameters and request body, the reverse of
+ * {@link InputSchemaComposer#compose}.
+ * <p>
+ * Everything that depends on the operation only is worked out once, when the tool is registered: whether arguments are
+ * parameters, request body or both wrapped under their keys, and the names of the parameters in each location.
+ * Decomposing a call then only looks up the parameters of the operation in the arguments. Locations without
+ * parameters share an empty map, and maps of the other locations are sized for the parameters of the location.
+ * Parameters in unsupported locations are reported once, when the decomposer is created, and only arguments that do not
+ * fit the operation are reported on calls.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @see InputSchemaComposer#decomposer(OperationDescriptor)
+ */
+@NullMarked
+public final class ArgumentDecomposer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentDecomposer.class);
+
+    private static final String[] NO_NAMES = new String[0];
+
+    private final String parametersKey;
+    private final String requestBodyKey;
+    private final boolean hasParameters;
+    private final boolean hasRequestBody;
+    private final String[] pathNames;
+    private final String[] queryNames;
+    private final String[] headerNames;
+    private final String[] cookieNames;
+
+    ArgumentDecomposer(String parametersKey, String requestBodyKey, OperationDescriptor operation) {
+        this.parametersKey = parametersKey;
+        this.requestBodyKey = requestBodyKey;
+        this.hasParameters = !operation.parameters().isEmpty();
+        this.hasRequestBody = operation.hasRequestBody();
+        this.pathNames = namesIn(operation, ParametersByType.PATH);
+        this.queryNames = namesIn(operation, ParametersByType.QUERY);
+        this.headerNames = namesIn(operation, ParametersByType.HEADER);
+        this.cookieNames = namesIn(operation, ParametersByType.COOKIE);
+        operation.parameters().stream()
+                .filter(parameter -> !SUPPORTED_PARAMETER_TYPES.contains(parameter.in()))
+                .forEach(parameter -> LOGGER.warn(
+                        "Unsupported parameter type '{}' for parameter '{}'. Skipping parameter decomposition.",
+                        parameter.in(),
+                        parameter.name()));
+    }
+
+    /**
+     * Decomposes the arguments of a tool call into parameters and request body.
+     *
+     * @param callToolRequest the tool call
+     * @return the decomposed parameters and request body
+     */
+    public DecomposedRequestData decompose(McpSchema.@Nullable CallToolRequest callToolRequest) {
+        if (callToolRequest == null || callToolRequest.arguments() == null) {
+            return DecomposedRequestData.empty();
+        }
+        var arguments = callToolRequest.arguments();
+
+        var parameters = arguments.get(parametersKey);
+        var requestBody = arguments.get(requestBodyKey);
+        if (parameters != null || requestBody != null || isWrapped(arguments)) {
+            return DecomposedRequestData.withParametersAndBodyContent(
+                    wrappedParameters(parameters), wrappedRequestBody(requestBody));
+        }
+
+        // Direct format, where the operation defines what the arguments are
+        if (hasParameters && !hasRequestBody) {
+            return DecomposedRequestData.withParameters(organizeParametersByType(arguments));
+        }
+        if (!hasParameters && hasRequestBody) {
+            return DecomposedRequestData.withRequestBody(arguments);
+        }
+        if (!arguments.isEmpty()) {
+            // The composed schema wraps both parameters and request body, and has no properties if there are neither
+            LOGGER.warn("Cannot reliably determine schema type for operation."
+                    + " Both parameters and request body exist, or neither exists."
+                    + " Returning blank model.");
+        }
+        return DecomposedRequestData.empty();
+    }
+
+    /**
+     * Checks for wrapper keys set to {@code null}, which still mark the arguments as wrapped.
+     */
+    private boolean isWrapped(Map<String, Object> arguments) {
+        return arguments.containsKey(parametersKey) || arguments.containsKey(requestBodyKey);
+    }
+
+    private ParametersByType wrappedParameters(@Nullable Object parameters) {
+        if (parameters == null) {
+            return ParametersByType.empty();
+        }
+        if (!hasParameters) {
+            LOGGER.warn(
+                    "Parameters are not defined in the operation, but '{}' key is present in the input arguments."
+                            + " Skipping passed parameters. Please verify if this is the intended behavior.",
+                    parametersKey);
+            return ParametersByType.empty();
+        }
+        if (!(parameters instanceof Map<?, ?> parametersMap)) {
+            LOGGER.warn(
+                    "Expected '{}' to be a Map when decomposing the input arguments. Skipping parameters.",
+                    parametersKey);
+            return ParametersByType.empty();
+        }
+        return organizeParametersByType(parametersMap);
+    }
+
+    private @Nullable Object wrappedRequestBody(@Nullable Object requestBody) {
+        if (requestBody != null && !hasRequestBody) {
+            LOGGER.warn(
+                    "Request body is not defined in the operation, but '{}' key is present in the input arguments."
+                            + " Skipping passed request body. Please verify if this is the intended behavior.",
+                    requestBodyKey);
+            return null;
+        }
+        // For wrapped non-object schemas (string, array, etc.), accept any type
+        return requestBody;
+    }
+
+    private ParametersByType organizeParametersByType(Map<?, ?> parameters) {
+        if (parameters.isEmpty()) {
+            return ParametersByType.empty();
+        }
+        return new ParametersByType(
+                valuesOf(parameters, pathNames),
+                valuesOf(parameters, queryNames),
+                valuesOf(parameters, headerNames),
+                valuesOf(parameters, cookieNames));
+    }
+
+    private static Map<String, Object> valuesOf(Map<?, ?> parameters, String[] names) {
+        Map<String, Object> values = null;
+        for (var name : names) {
+            var value = parameters.get(name);
+            if (value != null) {
+                if (values == null) {
+                    values = HashMap.newHashMap(names.length);
+                }
+                values.put(name, value);
+            }
+        }
+        return values != null ? values : Map.of();
+    }
+
+    private static String[] namesIn(OperationDescriptor operation, String in) {
+        List<String> names = null;
+        for (var parameter : operation.parameters()) {
+            if (in.equals(parameter.in())) {
+                if (names == null) {
+                    names = new ArrayList<>();
+                }
+                names.add(parameter.name());
+            }
+        }
+        return names != null ? names.toArray(String[]::new) : NO_NAMES;
+    }
+}
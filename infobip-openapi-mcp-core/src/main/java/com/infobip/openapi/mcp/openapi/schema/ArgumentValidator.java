@@ -0,0 +1,823 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validator of tool call arguments, compiled once from the input schema of a tool when the tool is built.
+ * <p>
+ * Arguments are checked against the keywords input schemas are composed of: {@code type}, {@code nullable},
+ * {@code properties}, {@code required}, {@code additionalProperties}, {@code items}, {@code enum}, {@code const},
+ * numeric bounds, length and size bounds, {@code pattern}, {@code allOf}, {@code anyOf}, {@code oneOf} and local
+ * references to {@code $defs}. Alternatives of {@code oneOf} are checked like those of {@code anyOf}, since the
+ * alternatives of composed schemas commonly overlap. Other keywords, such as {@code format}, are not checked and are
+ * left to the API. Optional properties set to {@code null} are treated as absent. Properties marked {@code readOnly} are
+ * set by the API and never required in arguments, so they are neither required nor checked.
+ * <p>
+ * With coercion enabled, values that match the schema after an unambiguous conversion are converted instead of
+ * rejected:
+ * <ul>
+ *   <li>numeric strings where a number or an integer is expected, e.g. {@code "42"} to {@code 42}</li>
+ *   <li>a single value where an array is expected, e.g. {@code "red"} to {@code ["red"]}</li>
+ *   <li>strings that differ from exactly one enum value only in case, e.g. {@code "sms"} to {@code "SMS"}</li>
+ * </ul>
+ * <p>
+ * With an embedded JSON parser, strings holding a JSON object or array where the schema expects an object or an array
+ * are unwrapped and validated in the same pass, which corrects double-serialized arguments before the API is called.
+ * Strings anywhere else are not parsed.
+ * <p>
+ * Validation walks the compiled schema and, for valid arguments that need no coercion, returns the given arguments
+ * without copying them. Containers are copied only along the paths to coerced values, and violations are only collected
+ * once the first one is found.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+@NullMarked
+public final class ArgumentValidator {
+
+    /**
+     * Maximum number of violations reported for a single call.
+     */
+    public static final int MAX_VIOLATIONS = 20;
+
+    private static final int STRING = 1;
+    private static final int INTEGER = 1 << 1;
+    private static final int NUMBER = 1 << 2;
+    private static final int BOOLEAN = 1 << 3;
+    private static final int ARRAY = 1 << 4;
+    private static final int OBJECT = 1 << 5;
+    private static final int NULL = 1 << 6;
+    private static final int UNKNOWN = 1 << 7;
+    private static final int ANY = 0;
+
+    private static final String[] NO_NAMES = new String[0];
+    private static final Node[] NO_NODES = new Node[0];
+    private static final String DEFINITIONS_PREFIX = "#/$defs/";
+    private static final int MAX_REFERENCE_HOPS = 32;
+    private static final Object NOT_COERCED = new Object();
+
+    private final Node root;
+    private final boolean coercion;
+    private final @Nullable Function<String, @Nullable Object> embeddedJsonParser;
+
+    /**
+     * Violation of the input schema.
+     *
+     * @param path    the path of the violating value, e.g. {@code $._body.messages[0].to}
+     * @param message the description of the violation
+     */
+    public record Violation(String path, String message) {}
+
+    /**
+     * Result of a validation.
+     *
+     * @param arguments  the validated arguments, including coerced values; the given arguments if nothing was coerced
+     * @param violations the violations of the input schema, at most {@value #MAX_VIOLATIONS}
+     * @param coerced    whether any value was coerced or unwrapped
+     */
+    public record Validation(Map<String, Object> arguments, List<Violation> violations, boolean coerced) {
+
+        public boolean valid() {
+            return violations.isEmpty();
+        }
+    }
+
+    private ArgumentValidator(
+            Node root, boolean coercion, @Nullable Function<String, @Nullable Object> embeddedJsonParser) {
+        this.root = root;
+        this.coercion = coercion;
+        this.embeddedJsonParser = embeddedJsonParser;
+    }
+
+    /**
+     * Compiles the given input schema.
+     *
+     * @param inputSchema       the input schema of a tool, as deserialized from JSON
+     * @param coercion          whether values are coerced to the schema where possible
+     * @param embeddedJsonParser parses strings holding a JSON object or array where an object or array is expected,
+     *                           returning {@code null} for other strings; {@code null} to not unwrap such strings
+     * @return the compiled validator
+     */
+    public static ArgumentValidator compile(
+            Map<String, Object> inputSchema,
+            boolean coercion,
+            @Nullable Function<String, @Nullable Object> embeddedJsonParser) {
+        var definitions = new HashMap<String, Node>();
+        if (inputSchema.get("$defs") instanceof Map<?, ?> defs) {
+            // Placeholders first, so recursive and forward references can be linked while compiling
+            defs.keySet().forEach(name -> definitions.put(String.valueOf(name), new Node()));
+            defs.forEach((name, schema) -> compileInto(definitions.get(String.valueOf(name)), schema, definitions));
+            definitions.values().forEach(ArgumentValidator::breakReferenceLoop);
+        }
+        var root = new Node();
+        compileInto(root, inputSchema, definitions);
+        return new ArgumentValidator(root, coercion, embeddedJsonParser);
+    }
+
+    /**
+     * Validates the arguments of a tool call.
+     *
+     * @param arguments the arguments, where {@code null} is validated as no arguments
+     * @return the validation result
+     */
+    public Validation validate(@Nullable Map<String, Object> arguments) {
+        var input = arguments != null ? arguments : Map.<String, Object>of();
+        var walk = new Walk(coercion);
+        var validated = validate(input, root, walk);
+        @SuppressWarnings("unchecked")
+        var validatedArguments = validated instanceof Map<?, ?> map ? (Map<String, Object>) map : input;
+        return new Validation(validatedArguments, walk.violations != null ? walk.violations : List.of(), walk.coerced);
+    }
+
+    private @Nullable Object validate(@Nullable Object value, Node node, Walk walk) {
+        if (node.never) {
+            walk.violation("is not allowed");
+            return value;
+        }
+        if (node.reference != null) {
+            value = validate(value, node.reference, walk);
+        }
+
+        if (!node.accepts(typeOf(value))) {
+            var corrected = correct(value, node, walk);
+            if (corrected == NOT_COERCED) {
+                return violateType(value, node, walk);
+            }
+            value = corrected;
+            walk.coerced = true;
+        }
+
+        for (var allOf : node.allOf) {
+            value = validate(value, allOf, walk);
+        }
+        if (node.anyOf.length > 0) {
+            value = validateAnyOf(value, node, walk);
+        }
+
+        switch (value) {
+            case String string -> validateString(string, node, walk);
+            case Number number -> validateNumber(number, node, walk);
+            case List<?> list -> value = validateArray(list, node, walk);
+            case Map<?, ?> map -> value = validateObject(map, node, walk);
+            case null, default -> {}
+        }
+        if (node.enumValues != null) {
+            value = validateEnum(value, node, walk);
+        }
+        return value;
+    }
+
+    private @Nullable Object validateAnyOf(@Nullable Object value, Node node, Walk walk) {
+        // Alternatives are probed without reporting, first as they are and then with coercion. The value validated by
+        // the matching alternative is kept, as embedded JSON is unwrapped even without coercion.
+        for (var alternative : node.anyOf) {
+            var validated = walk.probe(this, value, alternative, false);
+            if (validated != NOT_COERCED) {
+                return walk.matched(value, validated);
+            }
+        }
+        if (walk.coercing) {
+            for (var alternative : node.anyOf) {
+                var validated = walk.probe(this, value, alternative, true);
+                if (validated != NOT_COERCED) {
+                    return walk.matched(value, validated);
+                }
+            }
+        }
+        walk.violation("does not match any of the allowed schemas");
+        return value;
+    }
+
+    private void validateString(String string, Node node, Walk walk) {
+        if (node.minLength > 0 || node.maxLength < Integer.MAX_VALUE) {
+            var length = string.codePointCount(0, string.length());
+            if (length < node.minLength) {
+                walk.violation("must be at least " + node.minLength + " characters long");
+            } else if (length > node.maxLength) {
+                walk.violation("must be at most " + node.maxLength + " characters long");
+            }
+        }
+        if (node.pattern != null && !node.pattern.matcher(string).find()) {
+            walk.violation("must match the pattern " + node.pattern.pattern());
+        }
+    }
+
+    private void validateNumber(Number number, Node node, Walk walk) {
+        if (Double.isNaN(node.minimum) && Double.isNaN(node.maximum)) {
+            return;
+        }
+        var actual = number.doubleValue();
+        if (!Double.isNaN(node.minimum) && (node.exclusiveMinimum ? actual <= node.minimum : actual < node.minimum)) {
+            walk.violation("must be " + (node.exclusiveMinimum ? "greater than " : "at least ") + format(node.minimum));
+        }
+        if (!Double.isNaN(node.maximum) && (node.exclusiveMaximum ? actual >= node.maximum : actual > node.maximum)) {
+            walk.violation("must be " + (node.exclusiveMaximum ? "less than " : "at most ") + format(node.maximum));
+        }
+    }
+
+    private Object validateArray(List<?> list, Node node, Walk walk) {
+        if (list.size() < node.minItems) {
+            walk.violation("must have at least " + node.minItems + " items");
+        } else if (list.size() > node.maxItems) {
+            walk.violation("must have at most " + node.maxItems + " items");
+        }
+        if (node.items == null) {
+            return list;
+        }
+        List<@Nullable Object> copy = null;
+        for (var index = 0; index < list.size(); index++) {
+            var item = list.get(index);
+            walk.push(null, index);
+            var validated = validate(item, node.items, walk);
+            walk.pop();
+            if (validated != item) {
+                if (copy == null) {
+                    copy = new ArrayList<>(list);
+                }
+                copy.set(index, validated);
+            }
+        }
+        return copy != null ? copy : list;
+    }
+
+    private Object validateObject(Map<?, ?> map, Node node, Walk walk) {
+        Map<Object, @Nullable Object> copy = null;
+        for (var index = 0; index < node.propertyNames.length; index++) {
+            var name = node.propertyNames[index];
+            var propertyNode = node.propertyNodes[index];
+            if (propertyNode.isReadOnly()) {
+                continue;
+            }
+            var property = map.get(name);
+            if (property == null) {
+                // Absent, or null and treated as absent unless required
+                if (!map.containsKey(name) || !node.isRequired(name)) {
+                    continue;
+                }
+            }
+            walk.push(name, -1);
+            var validated = validate(property, propertyNode, walk);
+            walk.pop();
+            if (validated != property) {
+                if (copy == null) {
+                    copy = new LinkedHashMap<>(map);
+                }
+                copy.put(name, validated);
+            }
+        }
+        for (var name : node.required) {
+            if (!map.containsKey(name) && !node.isReadOnlyProperty(name)) {
+                walk.push(name, -1);
+                walk.violation("is required");
+                walk.pop();
+            }
+        }
+        if (!node.additionalPropertiesAllowed || node.additionalProperties != null) {
+            for (var entry : map.entrySet()) {
+                var name = String.valueOf(entry.getKey());
+                if (node.hasProperty(name)) {
+                    continue;
+                }
+                walk.push(name, -1);
+                if (node.additionalProperties == null) {
+                    walk.violation("is not a known property");
+                } else {
+                    var validated = validate(entry.getValue(), node.additionalProperties, walk);
+                    if (validated != entry.getValue()) {
+                        if (copy == null) {
+                            copy = new LinkedHashMap<>(map);
+                        }
+                        copy.put(entry.getKey(), validated);
+                    }
+                }
+                walk.pop();
+            }
+        }
+        return copy != null ? copy : map;
+    }
+
+    private @Nullable Object validateEnum(@Nullable Object value, Node node, Walk walk) {
+        var enumValues = node.enumValues;
+        for (var enumValue : enumValues) {
+            if (sameValue(value, enumValue)) {
+                return value;
+            }
+        }
+        if (walk.coercing && value instanceof String string) {
+            Object match = null;
+            for (var enumValue : enumValues) {
+                if (enumValue instanceof String candidate && candidate.equalsIgnoreCase(string)) {
+                    if (match != null) {
+                        match = null;
+                        break;
+                    }
+                    match = candidate;
+                }
+            }
+            if (match != null) {
+                walk.coerced = true;
+                return match;
+            }
+        }
+        walk.violation(
+                enumValues.length == 1
+                        ? "must be " + describe(enumValues[0])
+                        : "must be one of " + describeAll(enumValues));
+        return value;
+    }
+
+    private @Nullable Object violateType(@Nullable Object value, Node node, Walk walk) {
+        walk.violation("must be " + describeTypes(node.types) + " but was " + describeType(typeOf(value)));
+        return value;
+    }
+
+    /**
+     * Unwraps a double-serialized JSON string or coerces a value of an unexpected type to an expected type, or returns
+     * {@link #NOT_COERCED}. Only strings where the schema expects an object or an array are parsed.
+     */
+    private @Nullable Object correct(@Nullable Object value, Node node, Walk walk) {
+        if (embeddedJsonParser != null && value instanceof String string && (node.types & (OBJECT | ARRAY)) != 0) {
+            var parsed = embeddedJsonParser.apply(string);
+            if (parsed != null) {
+                if (node.accepts(typeOf(parsed))) {
+                    return parsed;
+                }
+                return walk.coercing ? coerce(parsed, node) : NOT_COERCED;
+            }
+        }
+        return walk.coercing ? coerce(value, node) : NOT_COERCED;
+    }
+
+    /**
+     * Converts a value of an unexpected type to an expected type, or returns {@link #NOT_COERCED}.
+     */
+    private Object coerce(@Nullable Object value, Node node) {
+        if (value instanceof String string && (node.types & (INTEGER | NUMBER)) != 0) {
+            var number = parseNumber(string, (node.types & NUMBER) == 0);
+            if (number != null) {
+                return number;
+            }
+        }
+        if (value != null
+                && (node.types & ARRAY) != 0
+                && !(value instanceof List<?>)
+                && !(embeddedJsonParser != null && value instanceof String string && isJson(string))) {
+            var list = new ArrayList<@Nullable Object>(1);
+            list.add(value);
+            return list;
+        }
+        return NOT_COERCED;
+    }
+
+    private static @Nullable Number parseNumber(String string, boolean integerOnly) {
+        var trimmed = string.trim();
+        if (trimmed.isEmpty() || !isNumeric(trimmed)) {
+            return null;
+        }
+        try {
+            var decimal = new BigDecimal(trimmed);
+            if (decimal.signum() == 0 || decimal.stripTrailingZeros().scale() <= 0) {
+                // Integers are converted to the smallest type holding them, as when deserialized from JSON
+                var integer = decimal.toBigIntegerExact();
+                if (integer.bitLength() < Integer.SIZE) {
+                    return integer.intValue();
+                }
+                return integer.bitLength() < Long.SIZE ? (Number) integer.longValue() : integer;
+            }
+            return integerOnly ? null : decimal.doubleValue();
+        } catch (NumberFormatException | ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    private static boolean isNumeric(String string) {
+        for (var index = 0; index < string.length(); index++) {
+            var character = string.charAt(index);
+            if ((character < '0' || character > '9')
+                    && character != '-'
+                    && character != '+'
+                    && character != '.'
+                    && character != 'e'
+                    && character != 'E') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isJson(String string) {
+        var trimmed = string.strip();
+        return (trimmed.startsWith("{") && trimmed.endsWith("}")) || (trimmed.startsWith("[") && trimmed.endsWith("]"));
+    }
+
+    private static int typeOf(@Nullable Object value) {
+        return switch (value) {
+            case null -> NULL;
+            case String ignored -> STRING;
+            case Boolean ignored -> BOOLEAN;
+            case Integer ignored -> INTEGER;
+            case Long ignored -> INTEGER;
+            case Short ignored -> INTEGER;
+            case Byte ignored -> INTEGER;
+            case BigInteger ignored -> INTEGER;
+            case BigDecimal decimal ->
+                decimal.signum() == 0 || decimal.stripTrailingZeros().scale() <= 0 ? INTEGER : NUMBER;
+            case Number number -> {
+                var doubleValue = number.doubleValue();
+                yield Double.isFinite(doubleValue) && doubleValue == Math.rint(doubleValue) ? INTEGER : NUMBER;
+            }
+            case List<?> ignored -> ARRAY;
+            case Map<?, ?> ignored -> OBJECT;
+            default -> UNKNOWN;
+        };
+    }
+
+    private static boolean sameValue(@Nullable Object value, @Nullable Object enumValue) {
+        if (value instanceof Number number && enumValue instanceof Number enumNumber) {
+            return number.doubleValue() == enumNumber.doubleValue();
+        }
+        return value == null ? enumValue == null : value.equals(enumValue);
+    }
+
+    private static String describeTypes(int types) {
+        var names = new ArrayList<String>();
+        for (var type = STRING; type <= NULL; type <<= 1) {
+            if ((types & type) != 0 && !(type == INTEGER && (types & NUMBER) != 0)) {
+                names.add(describeType(type));
+            }
+        }
+        return String.join(" or ", names);
+    }
+
+    private static String describeType(int type) {
+        return switch (type) {
+            case STRING -> "a string";
+            case INTEGER -> "an integer";
+            case NUMBER -> "a number";
+            case BOOLEAN -> "a boolean";
+            case ARRAY -> "an array";
+            case OBJECT -> "an object";
+            case NULL -> "null";
+            default -> "an unsupported value";
+        };
+    }
+
+    private static String describe(@Nullable Object value) {
+        return value instanceof String string ? '"' + string + '"' : String.valueOf(value);
+    }
+
+    private static String describeAll(@Nullable Object[] values) {
+        var description = new StringBuilder();
+        for (var value : values) {
+            description.append(description.isEmpty() ? "" : ", ").append(describe(value));
+        }
+        return description.toString();
+    }
+
+    private static String format(double bound) {
+        return bound == Math.rint(bound) && Math.abs(bound) < 1e15
+                ? String.valueOf((long) bound)
+                : String.valueOf(bound);
+    }
+
+    private static void compileInto(Node node, @Nullable Object schema, Map<String, Node> definitions) {
+        if (schema instanceof Boolean allowed) {
+            node.never = !allowed;
+            return;
+        }
+        if (!(schema instanceof Map<?, ?> map)) {
+            return;
+        }
+        if (map.get("$ref") instanceof String reference) {
+            node.reference = resolve(reference, definitions);
+        }
+        node.readOnly = Boolean.TRUE.equals(map.get("readOnly"));
+        node.types = compileTypes(map.get("type"));
+        if (node.types != ANY && Boolean.TRUE.equals(map.get("nullable"))) {
+            node.types |= NULL;
+        }
+        if (map.get("properties") instanceof Map<?, ?> properties) {
+            node.propertyNames = new String[properties.size()];
+            node.propertyNodes = new Node[properties.size()];
+            var index = 0;
+            for (var entry : properties.entrySet()) {
+                node.propertyNames[index] = String.valueOf(entry.getKey());
+                node.propertyNodes[index] = compile(entry.getValue(), definitions);
+                index++;
+            }
+        }
+        if (map.get("required") instanceof List<?> required) {
+            node.required = required.stream().map(String::valueOf).distinct().toArray(String[]::new);
+        }
+        switch (map.get("additionalProperties")) {
+            case Boolean allowed -> node.additionalPropertiesAllowed = allowed;
+            case Map<?, ?> additionalProperties ->
+                node.additionalProperties = compile(additionalProperties, definitions);
+            case null, default -> {}
+        }
+        if (map.containsKey("items")) {
+            node.items = compile(map.get("items"), definitions);
+        }
+        if (map.get("enum") instanceof List<?> enumValues) {
+            node.enumValues = enumValues.toArray();
+        } else if (map.containsKey("const")) {
+            node.enumValues = new Object[] {map.get("const")};
+        }
+        compileBounds(node, map);
+        node.minLength = intValue(map.get("minLength"), 0);
+        node.maxLength = intValue(map.get("maxLength"), Integer.MAX_VALUE);
+        node.minItems = intValue(map.get("minItems"), 0);
+        node.maxItems = intValue(map.get("maxItems"), Integer.MAX_VALUE);
+        if (map.get("pattern") instanceof String pattern) {
+            try {
+                node.pattern = Pattern.compile(pattern);
+            } catch (PatternSyntaxException ignored) {
+                // Patterns Java cannot compile are left to the API
+            }
+        }
+        node.allOf = compileAll(map.get("allOf"), definitions);
+        var anyOf = compileAll(map.get("anyOf"), definitions);
+        var oneOf = compileAll(map.get("oneOf"), definitions);
+        node.anyOf = oneOf.length == 0 ? anyOf : anyOf.length == 0 ? oneOf : concat(anyOf, oneOf);
+    }
+
+    private static Node compile(@Nullable Object schema, Map<String, Node> definitions) {
+        var node = new Node();
+        compileInto(node, schema, definitions);
+        return node;
+    }
+
+    private static Node[] compileAll(@Nullable Object schemas, Map<String, Node> definitions) {
+        if (!(schemas instanceof List<?> list) || list.isEmpty()) {
+            return NO_NODES;
+        }
+        return list.stream().map(schema -> compile(schema, definitions)).toArray(Node[]::new);
+    }
+
+    private static Node[] concat(Node[] first, Node[] second) {
+        var nodes = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, nodes, first.length, second.length);
+        return nodes;
+    }
+
+    /**
+     * Resolves a local reference to a definition. References that cannot be resolved accept any value.
+     */
+    private static @Nullable Node resolve(String reference, Map<String, Node> definitions) {
+        if (!reference.startsWith(DEFINITIONS_PREFIX)) {
+            return null;
+        }
+        return definitions.get(reference.substring(DEFINITIONS_PREFIX.length()));
+    }
+
+    /**
+     * Drops the reference of a definition that refers back to itself without any value in between, e.g. {@code A}
+     * referring to {@code B} referring to {@code A}, which would otherwise be validated endlessly.
+     */
+    private static void breakReferenceLoop(Node definition) {
+        var hops = 0;
+        for (var node = definition.reference; node != null; node = node.reference) {
+            if (node == definition || ++hops > MAX_REFERENCE_HOPS) {
+                definition.reference = null;
+                return;
+            }
+        }
+    }
+
+    private static int compileTypes(@Nullable Object type) {
+        return switch (type) {
+            case String name -> typeNamed(name);
+            case List<?> names -> {
+                var types = 0;
+                for (var name : names) {
+                    var named = typeNamed(String.valueOf(name));
+                    if (named == ANY) {
+                        yield ANY;
+                    }
+                    types |= named;
+                }
+                yield types;
+            }
+            case null, default -> ANY;
+        };
+    }
+
+    private static int typeNamed(String name) {
+        return switch (name) {
+            case "string" -> STRING;
+            case "integer" -> INTEGER;
+            case "number" -> NUMBER | INTEGER;
+            case "boolean" -> BOOLEAN;
+            case "array" -> ARRAY;
+            case "object" -> OBJECT;
+            case "null" -> NULL;
+            default -> ANY;
+        };
+    }
+
+    private static void compileBounds(Node node, Map<?, ?> map) {
+        node.minimum = doubleValue(map.get("minimum"));
+        node.maximum = doubleValue(map.get("maximum"));
+        // OpenAPI 3.0 flags the bounds as exclusive, while JSON Schema gives the exclusive bounds as numbers
+        switch (map.get("exclusiveMinimum")) {
+            case Boolean exclusive -> node.exclusiveMinimum = exclusive;
+            case Number bound -> {
+                node.minimum = bound.doubleValue();
+                node.exclusiveMinimum = true;
+            }
+            case null, default -> {}
+        }
+        switch (map.get("exclusiveMaximum")) {
+            case Boolean exclusive -> node.exclusiveMaximum = exclusive;
+            case Number bound -> {
+                node.maximum = bound.doubleValue();
+                node.exclusiveMaximum = true;
+            }
+            case null, default -> {}
+        }
+    }
+
+    private static double doubleValue(@Nullable Object value) {
+        return value instanceof Number number ? number.doubleValue() : Double.NaN;
+    }
+
+    private static int intValue(@Nullable Object value, int defaultValue) {
+        return value instanceof Number number ? (int) Math.min(number.longValue(), Integer.MAX_VALUE) : defaultValue;
+    }
+
+    /**
+     * Compiled schema. Nodes of definitions are linked by reference, so recursive schemas compile to cyclic graphs.
+     */
+    private static final class Node {
+
+        private boolean never;
+        private boolean readOnly;
+        private @Nullable Node reference;
+        private int types = ANY;
+        private String[] propertyNames = NO_NAMES;
+        private Node[] propertyNodes = NO_NODES;
+        private String[] required = NO_NAMES;
+        private boolean additionalPropertiesAllowed = true;
+        private @Nullable Node additionalProperties;
+        private @Nullable Node items;
+        private @Nullable Object @Nullable [] enumValues;
+        private double minimum = Double.NaN;
+        private double maximum = Double.NaN;
+        private boolean exclusiveMinimum;
+        private boolean exclusiveMaximum;
+        private int minLength;
+        private int maxLength = Integer.MAX_VALUE;
+        private int minItems;
+        private int maxItems = Integer.MAX_VALUE;
+        private @Nullable Pattern pattern;
+        private Node[] allOf = NO_NODES;
+        private Node[] anyOf = NO_NODES;
+
+        private boolean accepts(int type) {
+            return types == ANY || type == UNKNOWN || (types & type) != 0;
+        }
+
+        private boolean hasProperty(String name) {
+            for (var propertyName : propertyNames) {
+                if (propertyName.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Whether this schema or a definition it refers to is marked {@code readOnly}.
+         */
+        private boolean isReadOnly() {
+            for (var node = this; node != null; node = node.reference) {
+                if (node.readOnly) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isReadOnlyProperty(String name) {
+            for (var index = 0; index < propertyNames.length; index++) {
+                if (propertyNames[index].equals(name)) {
+                    return propertyNodes[index].isReadOnly();
+                }
+            }
+            return false;
+        }
+
+        private boolean isRequired(String name) {
+            for (var requiredName : required) {
+                if (requiredName.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * State of a single validation: the path of the current value and the violations found so far.
+     */
+    private static final class Walk {
+
+        private String[] names = new String[16];
+        private int[] indices = new int[16];
+        private int depth;
+        private boolean coercing;
+        private boolean coerced;
+        private boolean reporting = true;
+        private int violationCount;
+        private @Nullable List<Violation> violations;
+
+        private Walk(boolean coercing) {
+            this.coercing = coercing;
+        }
+
+        private void push(@Nullable String name, int index) {
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth * 2);
+                indices = Arrays.copyOf(indices, depth * 2);
+            }
+            names[depth] = name;
+            indices[depth] = index;
+            depth++;
+        }
+
+        private void pop() {
+            depth--;
+        }
+
+        private void violation(String message) {
+            violationCount++;
+            if (!reporting) {
+                return;
+            }
+            if (violations == null) {
+                violations = new ArrayList<>();
+            }
+            if (violations.size() < MAX_VIOLATIONS) {
+                violations.add(new Violation(path(), message));
+            }
+        }
+
+        /**
+         * Validates a value against a schema without reporting violations, and coercing it only if requested.
+         *
+         * @return the validated value, or {@link #NOT_COERCED} if the value does not match the schema
+         */
+        private @Nullable Object probe(
+                ArgumentValidator validator, @Nullable Object value, Node node, boolean withCoercion) {
+            var wasReporting = reporting;
+            var wasCoercing = coercing;
+            var wasCoerced = coerced;
+            var previousCount = violationCount;
+            reporting = false;
+            coercing = withCoercion;
+            try {
+                var validated = validator.validate(value, node, this);
+                return violationCount == previousCount ? validated : NOT_COERCED;
+            } finally {
+                reporting = wasReporting;
+                coercing = wasCoercing;
+                coerced = wasCoerced;
+                violationCount = previousCount;
+            }
+        }
+
+        /**
+         * Takes the value validated by a matching alternative, which differs from the given value if it was coerced or
+         * unwrapped.
+         */
+        private @Nullable Object matched(@Nullable Object value, @Nullable Object validated) {
+            if (validated != value) {
+                coerced = true;
+            }
+            return validated;
+        }
+
+        private String path() {
+            var path = new StringBuilder("$");
+            for (var index = 0; index < depth; index++) {
+                if (names[index] != null) {
+                    path.append('.').append(names[index]);
+                } else {
+                    path.append('[').append(indices[index]).append(']');
+                }
+            }
+            return path.toString();
+        }
+    }
+}
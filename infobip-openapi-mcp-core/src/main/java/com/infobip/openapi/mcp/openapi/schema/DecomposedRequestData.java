@@ -12,8 +12,10 @@ public record DecomposedRequestData(
 
     public static final MediaType SUPPORTED_MEDIA_TYPE = MediaType.APPLICATION_JSON;
 
+    private static final DecomposedRequestData EMPTY = new DecomposedRequestData(ParametersByType.empty(), null);
+
     public static DecomposedRequestData empty() {
-        return new DecomposedRequestData(ParametersByType.empty(), null);
+        return EMPTY;
     }
 
     public static DecomposedRequestData withParameters(ParametersByType parametersByType) {
@@ -43,8 +45,10 @@ public record DecomposedRequestData(
         public static final String HEADER = "header";
         public static final String COOKIE = "cookie";
 
+        private static final ParametersByType EMPTY = new ParametersByType(Map.of(), Map.of(), Map.of(), Map.of());
+
         public static ParametersByType empty() {
-            return new ParametersByType(Map.of(), Map.of(), Map.of(), Map.of());
+            return EMPTY;
         }
     }
 
@@ -58,4 +62,11 @@ public record DecomposedRequestData(
     public Optional<Body> resolveRequestBody() {
         return Optional.ofNullable(requestBody);
     }
+
+    /**
+     * Returns request data with the same parameters and the given request body, e.g. a corrected one.
+     */
+    public DecomposedRequestData withBody(Body body) {
+        return new DecomposedRequestData(parametersByType, body);
+    }
 }
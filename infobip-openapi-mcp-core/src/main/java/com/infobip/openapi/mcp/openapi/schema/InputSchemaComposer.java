@@ -4,12 +4,11 @@ import static com.infobip.openapi.mcp.openapi.schema.Spec.SUPPORTED_PARAMETER_TY
 import static java.lang.Boolean.TRUE;
 
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
-import com.infobip.openapi.mcp.openapi.schema.DecomposedRequestData.ParametersByType;
 import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.SpecVersion;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.ObjectSchema;
@@ -99,128 +98,28 @@ public class InputSchemaComposer {
      * Decompose an input JSON back into its parameter and request body components.
      * This is the reverse operation of {@link InputSchemaComposer#compose} method.
      * TODO: add support for form parameters and multipart/form-data requests.
-     * <p>
      *
      * @param callToolRequest The MCP CallToolRequest containing the input JSON to decompose.
-     * @param operation       The operation for which the input is being decomposed.
+     * @param operation       The descriptor of the operation for which the input is being decomposed.
      * @return A DecomposedSchema object containing the decomposed parameters and request body.
+     * @deprecated Creates a decomposer of the operation on every call. Create the
+     * {@link #decomposer(OperationDescriptor) decomposer} of the operation once and decompose calls with it instead.
      */
-    public DecomposedRequestData decompose(McpSchema.@Nullable CallToolRequest callToolRequest, Operation operation) {
-        if (callToolRequest == null) {
-            return DecomposedRequestData.empty();
-        }
-
-        // Use operation to guide decomposition
-        var hasParameters =
-                operation.getParameters() != null && !operation.getParameters().isEmpty();
-        var hasRequestBody = getSupportedRequestBodySchema(operation.getRequestBody()) != null;
-        var arguments = callToolRequest.arguments();
-
-        boolean isWrappedFormat = arguments.containsKey(parametersKey) || arguments.containsKey(requestBodyKey);
-
-        if (isWrappedFormat) {
-            Map<String, Object> parameters = null;
-            Object requestBody = null;
-
-            if (arguments.containsKey(parametersKey)) {
-                if (!hasParameters) {
-                    LOGGER.warn(
-                            "Parameters are not defined in the operation, but '{}' key is present in the input arguments."
-                                    + " Skipping passed parameters. Please verify if this is the intended behavior.",
-                            parametersKey);
-                } else if (!(arguments.get(parametersKey) instanceof Map)) {
-                    LOGGER.warn(
-                            "Expected '{}' to be a Map when decomposing the input arguments. Skipping parameters.",
-                            parametersKey);
-                } else {
-                    try {
-                        @SuppressWarnings("unchecked")
-                        var parametersMap = (Map<String, Object>) arguments.get(parametersKey);
-                        parameters = parametersMap;
-                    } catch (ClassCastException exception) {
-                        LOGGER.warn("Failed to cast '{}' to Map<String, Object>. Skipping parameters.", parametersKey);
-                    }
-                }
-            }
-
-            if (arguments.containsKey(requestBodyKey)) {
-                if (!hasRequestBody) {
-                    LOGGER.warn(
-                            "Request body is not defined in the operation, but '{}' key is present in the input arguments."
-                                    + " Skipping passed request body. Please verify if this is the intended behavior.",
-                            requestBodyKey);
-                } else {
-                    // For wrapped non-object schemas (string, array, etc.), accept any type
-                    requestBody = arguments.get(requestBodyKey);
-                }
-            }
-
-            return DecomposedRequestData.withParametersAndBodyContent(
-                    organizeParametersByType(parameters, operation), requestBody);
-        }
-
-        // Handle direct format (no wrapper keys - determine by operation definition)
-        if (hasParameters && !hasRequestBody) {
-            return DecomposedRequestData.withParameters(organizeParametersByType(arguments, operation));
-        }
-
-        if (!hasParameters && hasRequestBody) {
-            return DecomposedRequestData.withRequestBody(arguments);
-        }
-
-        /*
-         * If both parameters and request body are present, or neither is present,
-         * we cannot reliably determine the schema type. The composition logic ensures
-         * that if both are present, they are wrapped in their respective keys.
-         */
-        LOGGER.warn("Cannot reliably determine schema type for operation."
-                + " Both parameters and request body exist, or neither exists."
-                + " Returning blank model.");
-        return DecomposedRequestData.empty();
+    @Deprecated(since = "1.0.1", forRemoval = true)
+    public DecomposedRequestData decompose(
+            McpSchema.@Nullable CallToolRequest callToolRequest, OperationDescriptor operation) {
+        return decomposer(operation).decompose(callToolRequest);
     }
 
     /**
-     * Organizes parameters by their type (query, path, header, cookie).
-     * This method is used to decompose the input JSON into its parameter components.
+     * Creates the decomposer of the arguments of the given operation, which works out the argument format and the
+     * parameter locations once instead of on every call.
      *
-     * @param parameters The parameters to organize.
-     * @return A ParametersByType object containing the organized parameters.
+     * @param operation The descriptor of the operation whose arguments are decomposed.
+     * @return The decomposer of the arguments of the operation.
      */
-    private ParametersByType organizeParametersByType(@Nullable Map<String, Object> parameters, Operation operation) {
-        if (parameters == null || parameters.isEmpty()) {
-            return ParametersByType.empty();
-        }
-
-        if (operation.getParameters() == null) {
-            return ParametersByType.empty();
-        }
-
-        var pathParameters = new HashMap<String, Object>();
-        var queryParameters = new HashMap<String, Object>();
-        var headerParameters = new HashMap<String, Object>();
-        var cookieParameters = new HashMap<String, Object>();
-
-        operation.getParameters().forEach(parameter -> {
-            var parameterName = parameter.getName();
-            var parameterIn = parameter.getIn();
-            var inputValue = parameters.get(parameterName);
-            if (inputValue != null) {
-                switch (parameterIn) {
-                    case ParametersByType.PATH -> pathParameters.put(parameterName, inputValue);
-                    case ParametersByType.QUERY -> queryParameters.put(parameterName, inputValue);
-                    case ParametersByType.HEADER -> headerParameters.put(parameterName, inputValue);
-                    case ParametersByType.COOKIE -> cookieParameters.put(parameterName, inputValue);
-                    default ->
-                        LOGGER.warn(
-                                "Unsupported parameter type '{}' for parameter '{}'."
-                                        + " Skipping parameter decomposition.",
-                                parameterIn,
-                                parameterName);
-                }
-            }
-        });
-
-        return new ParametersByType(pathParameters, queryParameters, headerParameters, cookieParameters);
+    public ArgumentDecomposer decomposer(OperationDescriptor operation) {
+        return new ArgumentDecomposer(parametersKey, requestBodyKey, operation);
     }
 
     /**
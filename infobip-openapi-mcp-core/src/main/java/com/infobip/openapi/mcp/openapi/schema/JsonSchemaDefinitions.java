@@ -0,0 +1,376 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Serializes tool input schemas with shared and recursive component schemas moved to JSON Schema {@code $defs}.
+ * <p>
+ * Fully resolving an OpenAPI specification inlines a component schema at every place it is referenced, so a schema
+ * used more than once is serialized more than once, and recursive schemas are left with references to
+ * {@code #/components/schemas/...}, which do not exist in a tool input schema.
+ * This class serializes such component schemas once, under the {@code $defs} keyword of the input schema, and refers
+ * to them with local references, e.g. {@code #/$defs/Address}:
+ * <ul>
+ *   <li>component schemas used more than once are inlined up to the configured nesting depth and referenced deeper
+ *   down,</li>
+ *   <li>recursive references are always referenced,</li>
+ *   <li>schemas used only once are always inlined.</li>
+ * </ul>
+ * The size of the resulting input schema is therefore linear in the size of the specification.
+ * <p>
+ * Instances are thread-safe.
+ */
+@NullMarked
+public class JsonSchemaDefinitions {
+
+    private static final String COMPONENT_SCHEMA_PREFIX = "#/components/schemas/";
+    private static final String DEFINITIONS_PREFIX = "#/$defs/";
+    private static final String DEFINITIONS_KEYWORD = "$defs";
+
+    private final int inlineDepth;
+    private final Map<ObjectMapper, ObjectMapper> mappers = new ConcurrentHashMap<>();
+
+    /**
+     * @param inlineDepth nesting depth up to which schemas used more than once are inlined
+     */
+    public JsonSchemaDefinitions(int inlineDepth) {
+        this.inlineDepth = inlineDepth;
+    }
+
+    /**
+     * Serializes the schema, moving shared and recursive component schemas of the given specification to
+     * {@code $defs}.
+     *
+     * @param schema  the composed input schema, resolved against the given specification
+     * @param openApi the resolved specification, whose component schemas are candidates for {@code $defs}
+     * @param mapper  the mapper matching the version of the specification
+     * @return the JSON representation of the schema
+     * @throws JsonProcessingException if the schema cannot be serialized
+     */
+    public String write(Schema<?> schema, OpenAPI openApi, ObjectMapper mapper) throws JsonProcessingException {
+        var state = new State(openApi, schema);
+        var writer = mappers.computeIfAbsent(mapper, JsonSchemaDefinitions::withDefinitions)
+                .writer()
+                .withAttribute(State.class, state);
+
+        var root = state.replaceComponentReferences(mapper.readTree(writer.writeValueAsString(schema)));
+        var definitions = mapper.createObjectNode();
+        for (var definition = state.nextDefinition(); definition != null; definition = state.nextDefinition()) {
+            definitions.set(
+                    definition.name(),
+                    state.replaceComponentReferences(mapper.readTree(writer.writeValueAsString(definition.schema()))));
+        }
+        if (!definitions.isEmpty() && root instanceof ObjectNode rootObject) {
+            rootObject.set(DEFINITIONS_KEYWORD, definitions);
+        }
+        return mapper.writeValueAsString(root);
+    }
+
+    private static ObjectMapper withDefinitions(ObjectMapper mapper) {
+        var module = new SimpleModule(JsonSchemaDefinitions.class.getSimpleName());
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(
+                    SerializationConfig config, BeanDescription beanDescription, JsonSerializer<?> serializer) {
+                if (Schema.class.isAssignableFrom(beanDescription.getBeanClass())) {
+                    return new DefinitionAwareSerializer((JsonSerializer<Object>) serializer);
+                }
+                return serializer;
+            }
+        });
+        return mapper.copy().registerModule(module);
+    }
+
+    /**
+     * Replaces schemas with references to their definitions, as decided by the {@link State} of the current
+     * serialization, and delegates to the original serializer otherwise.
+     */
+    private static final class DefinitionAwareSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        private DefinitionAwareSerializer(JsonSerializer<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            var state = provider.getAttribute(State.class);
+            if (!(state instanceof State definitions) || !(value instanceof Schema<?> schema)) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+            var name = definitions.componentName(schema);
+            var reference = definitions.referenceTo(schema, name);
+            if (reference != null) {
+                generator.writeStartObject();
+                generator.writeStringField("$ref", reference);
+                generator.writeEndObject();
+                return;
+            }
+            definitions.enter(name);
+            try {
+                delegate.serialize(value, generator, provider);
+            } finally {
+                definitions.exit(name);
+            }
+        }
+
+        @Override
+        public void serializeWithType(
+                Object value, JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer)
+                throws IOException {
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, @Nullable BeanProperty property)
+                throws JsonMappingException {
+            if (delegate instanceof ContextualSerializer contextual) {
+                var contextualDelegate = contextual.createContextual(provider, property);
+                if (contextualDelegate != delegate) {
+                    return new DefinitionAwareSerializer((JsonSerializer<Object>) contextualDelegate);
+                }
+            }
+            return this;
+        }
+    }
+
+    private record Definition(String name, Schema<?> schema) {}
+
+    /**
+     * State of serializing a single input schema: how often component schemas occur in it, which of them are
+     * currently being serialized and which definitions have been referenced.
+     * <p>
+     * OpenAPI 3.0 resolution reuses the component instance at every occurrence, so components are recognized by
+     * identity. OpenAPI 3.1 resolution copies them, so components with subschemas are also recognized by equality.
+     */
+    private final class State {
+
+        private final Map<String, Schema> components;
+        private final Map<Schema<?>, String> componentNames = new IdentityHashMap<>();
+        private final Map<Schema<?>, String> equalComponentNames = new HashMap<>();
+        private final Map<String, Integer> occurrences = new HashMap<>();
+        private final Set<String> serializing = new HashSet<>();
+        private final Set<String> referenced = new HashSet<>();
+        private final ArrayDeque<Definition> pending = new ArrayDeque<>();
+        private int depth;
+        private @Nullable Schema<?> definition;
+
+        private State(OpenAPI openApi, Schema<?> root) {
+            this.components =
+                    openApi.getComponents() != null && openApi.getComponents().getSchemas() != null
+                            ? openApi.getComponents().getSchemas()
+                            : Map.of();
+            components.forEach((name, component) -> {
+                componentNames.putIfAbsent(component, name);
+                if (!subschemas(component).isEmpty()) {
+                    equalComponentNames.putIfAbsent(component, name);
+                }
+            });
+            countOccurrences(root);
+        }
+
+        /**
+         * Counts how many times each component schema is referenced from the tree, descending into every schema
+         * instance only once.
+         */
+        private void countOccurrences(Schema<?> root) {
+            var visited = Collections.<Schema<?>>newSetFromMap(new IdentityHashMap<>());
+            var stack = new ArrayDeque<Schema<?>>();
+            stack.push(root);
+            visited.add(root);
+            while (!stack.isEmpty()) {
+                for (var subschema : subschemas(stack.pop())) {
+                    var name = componentName(subschema);
+                    if (name != null) {
+                        occurrences.merge(name, 1, Integer::sum);
+                    }
+                    if (visited.add(subschema)) {
+                        stack.push(subschema);
+                    }
+                }
+            }
+        }
+
+        private @Nullable String componentName(Schema<?> schema) {
+            var name = componentNames.get(schema);
+            if (name == null
+                    && !equalComponentNames.isEmpty()
+                    && !subschemas(schema).isEmpty()) {
+                name = equalComponentNames.get(schema);
+            }
+            return name;
+        }
+
+        /**
+         * @return the local reference that replaces the schema, or null if the schema is serialized in place
+         */
+        private @Nullable String referenceTo(Schema<?> schema, @Nullable String name) {
+            if (name == null) {
+                return null;
+            }
+            if (serializing.contains(name)) {
+                return define(name, schema);
+            }
+            if (schema == definition) {
+                return null;
+            }
+            var shared = occurrences.getOrDefault(name, 0) > 1;
+            if (shared && (definition != null || depth > inlineDepth)) {
+                return define(name, schema);
+            }
+            return null;
+        }
+
+        /**
+         * Replaces references to component schemas left by the resolution of recursive schemas with references to
+         * their definitions.
+         */
+        private JsonNode replaceComponentReferences(JsonNode root) {
+            var stack = new ArrayDeque<JsonNode>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                var node = stack.pop();
+                if (node instanceof ObjectNode object
+                        && object.get("$ref") instanceof TextNode ref
+                        && ref.textValue().startsWith(COMPONENT_SCHEMA_PREFIX)) {
+                    var name = ref.textValue()
+                            .substring(COMPONENT_SCHEMA_PREFIX.length())
+                            .replace("~1", "/")
+                            .replace("~0", "~");
+                    var component = components.get(name);
+                    if (component != null) {
+                        object.put("$ref", define(name, component));
+                    }
+                }
+                node.forEach(stack::push);
+            }
+            return root;
+        }
+
+        private String define(String name, Schema<?> schema) {
+            if (referenced.add(name)) {
+                pending.add(new Definition(name, schema));
+            }
+            return DEFINITIONS_PREFIX + name.replace("~", "~0").replace("/", "~1");
+        }
+
+        private @Nullable Definition nextDefinition() {
+            var next = pending.poll();
+            definition = next != null ? next.schema() : null;
+            return next;
+        }
+
+        private void enter(@Nullable String name) {
+            depth++;
+            if (name != null) {
+                serializing.add(name);
+            }
+        }
+
+        private void exit(@Nullable String name) {
+            depth--;
+            if (name != null) {
+                serializing.remove(name);
+            }
+        }
+    }
+
+    private static List<Schema<?>> subschemas(Schema<?> schema) {
+        var subschemas = new ArrayList<Schema<?>>();
+        add(subschemas, schema.getNot());
+        add(subschemas, schema.getIf());
+        add(subschemas, schema.getThen());
+        add(subschemas, schema.getElse());
+        add(subschemas, schema.getContains());
+        add(subschemas, schema.getContentSchema());
+        add(subschemas, schema.getItems());
+        add(subschemas, schema.getAdditionalItems());
+        add(subschemas, schema.getUnevaluatedItems());
+        add(subschemas, schema.getUnevaluatedProperties());
+        add(subschemas, schema.getPropertyNames());
+        if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+            subschemas.add(additionalProperties);
+        }
+        addAll(
+                subschemas,
+                schema.getProperties() != null ? schema.getProperties().values() : null);
+        addAll(
+                subschemas,
+                schema.getPatternProperties() != null
+                        ? schema.getPatternProperties().values()
+                        : null);
+        addAll(
+                subschemas,
+                schema.getDependentSchemas() != null
+                        ? schema.getDependentSchemas().values()
+                        : null);
+        addAll(subschemas, schema.getPrefixItems());
+        addAll(subschemas, schema.getAllOf());
+        addAll(subschemas, schema.getAnyOf());
+        addAll(subschemas, schema.getOneOf());
+        return subschemas;
+    }
+
+    private static void add(List<Schema<?>> subschemas, @Nullable Schema<?> schema) {
+        if (schema != null) {
+            subschemas.add(schema);
+        }
+    }
+
+    private static void addAll(List<Schema<?>> subschemas, @Nullable Collection<? extends Schema> schemas) {
+        if (schemas != null) {
+            for (Schema<?> schema : schemas) {
+                add(subschemas, schema);
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Interns JSON schemas in their {@link Map} form, so that structurally equal subtrees are stored only once.
+ * <p>
+ * Fully resolved operations inline shared component schemas (error models, pagination, addresses, ...) into the
+ * input schema of every tool. Interning replaces each such copy with a single canonical instance, and does the same
+ * for repeated strings such as property names, types and descriptions.
+ * <p>
+ * Interned maps and lists are unmodifiable and keep the order of their entries; two subtrees are only considered
+ * equal when their entries are equal and in the same order, so the serialized form of a schema never changes.
+ * Canonical instances are held weakly: once no tool references a subtree anymore, it is dropped from the pool.
+ * <p>
+ * Instances are thread-safe.
+ */
+@NullMarked
+public class JsonSchemaInterner {
+
+    private final Map<Node, WeakReference<Object>> nodes = new WeakHashMap<>();
+    private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+
+    /**
+     * Returns a canonical, unmodifiable instance structurally equal to the given schema.
+     *
+     * @param schema the JSON schema, as produced by deserializing it into a {@link Map}
+     * @return the interned schema
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Map<String, Object> intern(Map<String, Object> schema) {
+        return (Map<String, Object>) internValue(schema);
+    }
+
+    private @Nullable Object internValue(@Nullable Object value) {
+        if (value instanceof InternedMap || value instanceof InternedList) {
+            return value;
+        }
+        if (value instanceof String string) {
+            return internString(string);
+        }
+        if (value instanceof Map<?, ?> map) {
+            var children = new Object[map.size() * 2];
+            var index = 0;
+            for (var entry : map.entrySet()) {
+                children[index++] = internString(String.valueOf(entry.getKey()));
+                children[index++] = internValue(entry.getValue());
+            }
+            return canonical(new Node(true, children));
+        }
+        if (value instanceof List<?> list) {
+            var children = new Object[list.size()];
+            var index = 0;
+            for (var element : list) {
+                children[index++] = internValue(element);
+            }
+            return canonical(new Node(false, children));
+        }
+        return value;
+    }
+
+    private String internString(String value) {
+        var existing = strings.get(value);
+        var canonical = existing != null ? existing.get() : null;
+        if (canonical != null) {
+            return canonical;
+        }
+        strings.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    private Object canonical(Node node) {
+        var existing = nodes.get(node);
+        var canonical = existing != null ? existing.get() : null;
+        if (canonical != null) {
+            return canonical;
+        }
+        // The interned value references its node, which keeps the pool entry alive for as long as the value is used
+        Object created = node.map ? new InternedMap(node) : new InternedList(node);
+        nodes.put(node, new WeakReference<>(created));
+        return created;
+    }
+
+    /**
+     * Pool key of an interned map or list. Children are already interned, so containers and strings are compared by
+     * identity, which keeps lookups independent of the depth of the subtree.
+     * <p>
+     * The node also caches the hash code of its map or list as defined by {@link Map#hashCode()} and
+     * {@link List#hashCode()}. Children cache theirs in turn, so it is computed once per node instead of over the whole
+     * subtree on every call.
+     */
+    private static final class Node {
+
+        private final boolean map;
+        private final @Nullable Object[] children;
+        private final int hash;
+        private final int contentHash;
+
+        private Node(boolean map, @Nullable Object[] children) {
+            this.map = map;
+            this.children = children;
+            var result = Boolean.hashCode(map);
+            for (var child : children) {
+                result = 31 * result + childHash(child);
+            }
+            this.hash = result;
+            this.contentHash = map ? mapHash(children) : listHash(children);
+        }
+
+        private static int mapHash(@Nullable Object[] children) {
+            var result = 0;
+            for (var index = 0; index < children.length; index += 2) {
+                result += Objects.hashCode(children[index]) ^ Objects.hashCode(children[index + 1]);
+            }
+            return result;
+        }
+
+        private static int listHash(@Nullable Object[] children) {
+            var result = 1;
+            for (var child : children) {
+                result = 31 * result + Objects.hashCode(child);
+            }
+            return result;
+        }
+
+        private static int childHash(@Nullable Object child) {
+            return isCanonical(child) ? System.identityHashCode(child) : Objects.hashCode(child);
+        }
+
+        private static boolean isCanonical(@Nullable Object child) {
+            return child instanceof String || child instanceof InternedMap || child instanceof InternedList;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Node node) || map != node.map || hash != node.hash) {
+                return false;
+            }
+            if (children.length != node.children.length) {
+                return false;
+            }
+            for (var index = 0; index < children.length; index++) {
+                var child = children[index];
+                var otherChild = node.children[index];
+                if (child == otherChild) {
+                    continue;
+                }
+                if (isCanonical(child) || isCanonical(otherChild) || !Objects.equals(child, otherChild)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Unmodifiable map view over the children of its node, which are stored as alternating keys and values.
+     */
+    private static final class InternedMap extends AbstractMap<String, Object> {
+
+        private final Node node;
+
+        private InternedMap(Node node) {
+            this.node = node;
+        }
+
+        @Override
+        public @Nullable Object get(Object key) {
+            var index = indexOf(key);
+            return index >= 0 ? node.children[index + 1] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        private int indexOf(Object key) {
+            for (var index = 0; index < node.children.length; index += 2) {
+                var candidate = node.children[index];
+                if (candidate == key || Objects.equals(candidate, key)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int hashCode() {
+            return node.contentHash;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < node.children.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            var entry =
+                                    new SimpleImmutableEntry<>((String) node.children[index], node.children[index + 1]);
+                            index += 2;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return node.children.length / 2;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return node.children.length / 2;
+        }
+    }
+
+    /**
+     * Unmodifiable list view over the children of its node.
+     */
+    private static final class InternedList extends AbstractList<Object> {
+
+        private final Node node;
+
+        private InternedList(Node node) {
+            this.node = node;
+        }
+
+        @Override
+        public int hashCode() {
+            return node.contentHash;
+        }
+
+        @Override
+        public @Nullable Object get(int index) {
+            return node.children[index];
+        }
+
+        @Override
+        public int size() {
+            return node.children.length;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.json.JsonGeneratorBase;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Tool input schema that carries its own JSON representation.
+ * <p>
+ * Tool input schemas make up most of a {@code tools/list} response, but they only change on live reload. The MCP
+ * server serializes the tool list on every request, so this map serializes the input schema once, when the tool is
+ * registered, and writes the stored JSON as a raw value afterwards. Reading the map behaves like reading the wrapped
+ * schema.
+ * <p>
+ * Generators that do not write JSON text, such as the ones building trees or token buffers for conversions, are given
+ * the wrapped schema instead.
+ */
+@NullMarked
+@JsonSerialize(using = PreSerializedJsonSchema.Serializer.class)
+public final class PreSerializedJsonSchema extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> schema;
+    private final String json;
+
+    private PreSerializedJsonSchema(Map<String, Object> schema, String json) {
+        this.schema = schema;
+        this.json = json;
+    }
+
+    /**
+     * Serializes the schema with the given mapper.
+     *
+     * @param schema the input schema, which must not be modified afterwards
+     * @param mapper the mapper used to serialize the schema
+     * @return the schema with its JSON representation
+     */
+    public static PreSerializedJsonSchema of(Map<String, Object> schema, JsonMapper mapper) {
+        if (schema instanceof PreSerializedJsonSchema preSerialized) {
+            return preSerialized;
+        }
+        return new PreSerializedJsonSchema(schema, mapper.writeValueAsString(schema));
+    }
+
+    /**
+     * @return the JSON representation of the schema
+     */
+    public String json() {
+        return json;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return schema.entrySet();
+    }
+
+    @Override
+    public @Nullable Object get(Object key) {
+        return schema.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return schema.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return schema.size();
+    }
+
+    static final class Serializer extends ValueSerializer<PreSerializedJsonSchema> {
+
+        @Override
+        public void serialize(PreSerializedJsonSchema value, JsonGenerator generator, SerializationContext context) {
+            if (!(generator instanceof JsonGeneratorBase)) {
+                context.writeValue(generator, value.schema);
+                return;
+            }
+            generator.writeRawValue(value.json);
+        }
+    }
+}
@@ -1,24 +1,29 @@
 package com.infobip.openapi.mcp.openapi.tool;
 
+import com.infobip.openapi.mcp.openapi.schema.ArgumentValidator;
 import com.infobip.openapi.mcp.openapi.schema.DecomposedRequestData;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
-import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.node.ArrayNode;
-import tools.jackson.databind.node.ObjectNode;
-import tools.jackson.databind.node.StringNode;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Utility class for detecting and correcting JSON double serialization issues.
  *
- * <p>This is a temporary mitigation for cases where nested JSON constructs (objects and arrays)
+ * <p>This is a mitigation for cases where nested JSON constructs (objects and arrays)
  * are incorrectly wrapped as strings due to double serialization during MCP client integrations.
- * The long-term solution should implement full JSON schema validation at the MCP server level
- * to prevent these issues entirely.</p>
+ * Most of these are corrected before the first request by the {@link ArgumentValidator}, which uses
+ * {@link #parseEmbeddedJson(String)} for string values where the input schema expects an object or an array.
+ * {@link #correctIfDetected(DecomposedRequestData.Body)} is the fallback for the remaining cases, where the request
+ * was rejected with {@code 400 Bad Request}, and corrects all strings holding JSON regardless of the schema.</p>
  *
  * <p>Example of double serialization issue:
  * <pre>
@@ -39,7 +44,7 @@ public class JsonDoubleSerializationCorrector {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonDoubleSerializationCorrector.class);
 
-    private final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
 
     /**
      * Detects JSON double serialization and corrects it if found in request body.
@@ -57,6 +62,24 @@ public class JsonDoubleSerializationCorrector {
                 .map(correctedContent -> new DecomposedRequestData.Body(body.targetContentType(), correctedContent));
     }
 
+    /**
+     * Parses a string holding a JSON object or array, as sent by clients serializing a nested value twice.
+     *
+     * @param value the string value
+     * @return the parsed object or array, or {@code null} if the string does not hold a JSON object or array
+     */
+    public static @Nullable Object parseEmbeddedJson(String value) {
+        if (!looksLikeJsonContainer(value)) {
+            return null;
+        }
+        try {
+            return JSON_MAPPER.readValue(value, Object.class);
+        } catch (JacksonException e) {
+            // Not valid JSON, keep as string
+            return null;
+        }
+    }
+
     /**
      * Detects JSON double serialization and corrects it if found.
      *
@@ -64,19 +87,13 @@ public class JsonDoubleSerializationCorrector {
      * @return Optional containing the corrected payload if double serialization was detected and corrected,
      *         otherwise empty Optional
      */
-    private Optional<Object> correctIfDetected(Object payload) {
+    private Optional<Object> correctIfDetected(@Nullable Object payload) {
         try {
-            // Convert payload to JsonNode for easier manipulation
-            var rootNode = OBJECT_MAPPER.valueToTree(payload);
-            var correctedNode = processNode(rootNode);
-
-            // Check if any corrections were made
-            if (!rootNode.equals(correctedNode)) {
+            var correctedPayload = correct(payload);
+            if (correctedPayload != payload) {
                 LOGGER.info("JSON double serialization detected and corrected.");
-                var correctedPayload = OBJECT_MAPPER.treeToValue(correctedNode, Object.class);
-                return Optional.of(correctedPayload);
+                return Optional.ofNullable(correctedPayload);
             }
-
             return Optional.empty();
         } catch (RuntimeException e) {
             LOGGER.debug("Failed to process payload for double serialization detection: {}.", e.getMessage());
@@ -85,61 +102,68 @@ public class JsonDoubleSerializationCorrector {
     }
 
     /**
-     * Recursively processes JSON nodes to detect and unwrap double-serialized strings.
+     * Recursively unwraps double-serialized strings. Containers are copied only if one of their values was corrected,
+     * so the same instance is returned if nothing needed correction.
      */
-    private JsonNode processNode(JsonNode node) {
-        if (node.isObject()) {
-            return processObjectNode((ObjectNode) node);
-        } else if (node.isArray()) {
-            return processArrayNode((ArrayNode) node);
-        } else if (node.isTextual()) {
-            return processStringNode((StringNode) node);
-        }
-        return node;
+    private static @Nullable Object correct(@Nullable Object value) {
+        return switch (value) {
+            case Map<?, ?> map -> correctMap(map);
+            case List<?> list -> correctList(list);
+            case String string -> {
+                var parsed = parseEmbeddedJson(string);
+                yield parsed != null ? correct(parsed) : string;
+            }
+            case null, default -> value;
+        };
     }
 
-    /**
-     * Processes object nodes, recursively checking each field.
-     */
-    private JsonNode processObjectNode(ObjectNode objectNode) {
-        var result = OBJECT_MAPPER.createObjectNode();
-        for (var field : objectNode.properties()) {
-            var processedValue = processNode(field.getValue());
-            result.set(field.getKey(), processedValue);
+    private static Map<?, ?> correctMap(Map<?, ?> map) {
+        Map<Object, @Nullable Object> copy = null;
+        for (var entry : map.entrySet()) {
+            var corrected = correct(entry.getValue());
+            if (corrected != entry.getValue()) {
+                if (copy == null) {
+                    copy = new LinkedHashMap<>(map);
+                }
+                copy.put(entry.getKey(), corrected);
+            }
         }
-        return result;
+        return copy != null ? copy : map;
     }
 
-    /**
-     * Processes array nodes, recursively checking each element.
-     */
-    private JsonNode processArrayNode(ArrayNode arrayNode) {
-        var result = OBJECT_MAPPER.createArrayNode();
-        for (var element : arrayNode) {
-            var processedElement = processNode(element);
-            result.add(processedElement);
+    private static List<?> correctList(List<?> list) {
+        List<@Nullable Object> copy = null;
+        for (var index = 0; index < list.size(); index++) {
+            var element = list.get(index);
+            var corrected = correct(element);
+            if (corrected != element) {
+                if (copy == null) {
+                    copy = new ArrayList<>(list);
+                }
+                copy.set(index, corrected);
+            }
         }
-        return result;
+        return copy != null ? copy : list;
     }
 
     /**
-     * Processes text nodes to detect and unwrap double-serialized JSON.
+     * Checks whether the string starts and ends with braces or brackets, ignoring surrounding whitespace, without
+     * trimming it.
      */
-    private JsonNode processStringNode(StringNode textNode) {
-        var textValue = textNode.textValue();
-
-        // Check if it looks like JSON (starts and ends with braces/brackets after trimming)
-        var trimmed = textValue.trim();
-        if ((trimmed.startsWith("{") && trimmed.endsWith("}")) || (trimmed.startsWith("[") && trimmed.endsWith("]"))) {
-            try {
-                var parsedNode = OBJECT_MAPPER.readTree(textValue);
-                return processNode(parsedNode);
-            } catch (RuntimeException e) {
-                // Not valid JSON, keep as string
-                return textNode;
-            }
+    private static boolean looksLikeJsonContainer(String value) {
+        var start = 0;
+        var end = value.length() - 1;
+        while (start <= end && Character.isWhitespace(value.charAt(start))) {
+            start++;
         }
-
-        return textNode;
+        while (end > start && Character.isWhitespace(value.charAt(end))) {
+            end--;
+        }
+        if (start >= end) {
+            return false;
+        }
+        var first = value.charAt(start);
+        var last = value.charAt(end);
+        return (first == '{' && last == '}') || (first == '[' && last == ']');
     }
 }
@@ -0,0 +1,125 @@
+package com.infobip.openapi.mcp.openapi.tool;
+
+import com.infobip.openapi.mcp.openapi.schema.DecomposedRequestData;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compact description of the OpenAPI operation backing a tool, holding only what is needed at call time.
+ * <p>
+ * Unlike {@link FullOperation}, the descriptor does not reference the whole {@link io.swagger.v3.oas.models.OpenAPI}
+ * model or the schemas of the operation, so registered tools do not keep previous models reachable after a reload.
+ * Only the example values of the responses are shared with the model, and they must not be modified.
+ * {@link FullOperation} is used while tools are being built only.
+ *
+ * @param toolName       the name of the tool backed by the operation
+ * @param path           the path of the operation, e.g. {@code /users/{userId}}
+ * @param method         the HTTP method of the operation
+ * @param operationId    the operation identifier, or null if the operation does not declare one
+ * @param parameters     names and locations of the operation parameters
+ * @param hasRequestBody whether the operation declares a request body with a supported media type
+ * @param responses      the content types and examples of the operation responses, used for mocking
+ * @param specVersion    the version of the specification the operation comes from
+ */
+@NullMarked
+public record OperationDescriptor(
+        String toolName,
+        String path,
+        PathItem.HttpMethod method,
+        @Nullable String operationId,
+        List<Parameter> parameters,
+        boolean hasRequestBody,
+        List<ResponseContent> responses,
+        SpecVersion specVersion) {
+
+    /**
+     * Name and location ({@code query}, {@code path}, {@code header} or {@code cookie}) of an operation parameter.
+     */
+    public record Parameter(String name, String in) {}
+
+    /**
+     * A content type of an operation response, in declaration order.
+     *
+     * @param status      the status the response is declared for, e.g. {@code 200}, {@code 2xx} or {@code default}
+     * @param contentType the content type of the response, e.g. {@code application/json}
+     * @param example     the first example value of the content, or null if the content declares none
+     */
+    public record ResponseContent(
+            String status, String contentType, @Nullable Object example) {}
+
+    public OperationDescriptor {
+        parameters = List.copyOf(parameters);
+        responses = List.copyOf(responses);
+    }
+
+    /**
+     * Creates the descriptor of the given operation.
+     *
+     * @param toolName      the name of the tool backed by the operation
+     * @param fullOperation the resolved operation
+     * @return the descriptor of the operation
+     */
+    public static OperationDescriptor of(String toolName, FullOperation fullOperation) {
+        var operation = fullOperation.operation();
+        var parameters = operation.getParameters() == null
+                ? List.<Parameter>of()
+                : operation.getParameters().stream()
+                        .map(parameter -> new Parameter(parameter.getName(), parameter.getIn()))
+                        .toList();
+        var hasRequestBody = Optional.ofNullable(operation.getRequestBody())
+                .map(RequestBody::getContent)
+                .map(content -> content.get(DecomposedRequestData.SUPPORTED_MEDIA_TYPE.toString()))
+                .map(MediaType::getSchema)
+                .isPresent();
+        return new OperationDescriptor(
+                toolName,
+                fullOperation.path(),
+                fullOperation.method(),
+                operation.getOperationId(),
+                parameters,
+                hasRequestBody,
+                responseContents(operation.getResponses()),
+                fullOperation.openApi().getSpecVersion());
+    }
+
+    private static List<ResponseContent> responseContents(@Nullable ApiResponses responses) {
+        if (responses == null) {
+            return List.of();
+        }
+        var contents = new ArrayList<ResponseContent>();
+        responses.forEach((status, response) -> {
+            if (response == null || response.getContent() == null) {
+                return;
+            }
+            response.getContent()
+                    .forEach((contentType, mediaType) ->
+                            contents.add(new ResponseContent(status, contentType, example(mediaType))));
+        });
+        return contents;
+    }
+
+    private static @Nullable Object example(@Nullable MediaType mediaType) {
+        if (mediaType == null) {
+            return null;
+        }
+        return Optional.ofNullable(mediaType.getExamples()).map(Map::values).stream()
+                .flatMap(Collection::stream)
+                .filter(Objects::nonNull)
+                .map(Example::getValue)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(mediaType.getExample());
+    }
+}
@@ -4,6 +4,7 @@ import com.infobip.openapi.mcp.McpRequestContext;
 import io.modelcontextprotocol.spec.McpSchema;
 import java.util.function.BiFunction;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.springframework.core.Ordered;
 
 /**
@@ -17,19 +18,32 @@ import org.springframework.core.Ordered;
  * @param tool          The MCP tool schema definition.
  * @param toolHandler   The function that handles the tool's execution logic, accepting the call
  *                      tool request and MCP request context.
- * @param fullOperation the set of information from OpenAPI specification that
- *                      defines the API endpoint backing this tool
+ * @param operation     the descriptor of the OpenAPI operation that defines the API endpoint
+ *                      backing this tool
+ * @param specification the name of the {@link com.infobip.openapi.mcp.openapi.ApiSpecs additional specification}
+ *                      the operation comes from, or null if it comes from the primary specification
  * @see McpRequestContext
  */
 @NullMarked
 public record RegisteredTool(
         McpSchema.Tool tool,
         BiFunction<McpSchema.CallToolRequest, McpRequestContext, McpSchema.CallToolResult> toolHandler,
-        FullOperation fullOperation)
+        OperationDescriptor operation,
+        @Nullable String specification)
         implements ToolCallFilter, Ordered {
 
     public static final Integer ORDER = LOWEST_PRECEDENCE;
 
+    /**
+     * Creates a tool backed by an operation of the primary specification.
+     */
+    public RegisteredTool(
+            McpSchema.Tool tool,
+            BiFunction<McpSchema.CallToolRequest, McpRequestContext, McpSchema.CallToolResult> toolHandler,
+            OperationDescriptor operation) {
+        this(tool, toolHandler, operation, null);
+    }
+
     @Override
     public McpSchema.CallToolResult doFilter(
             McpRequestContext ctx, McpSchema.CallToolRequest req, ToolCallFilterChain chain) {
@@ -119,12 +119,12 @@ public class ToolHandler {
     /**
      * Handles the tool call by making an HTTP request to the downstream API.
      *
-     * @param fullOperation         The full operation details including path, method, and operation object.
+     * @param operation             The descriptor of the operation, including its path and method.
      * @param decomposedRequestData The decomposed schema containing parameters and request body.
      * @return The result of the tool call including response body and error status.
      */
     public McpSchema.CallToolResult handleToolCall(
-            FullOperation fullOperation, DecomposedRequestData decomposedRequestData, McpRequestContext context) {
+            OperationDescriptor operation, DecomposedRequestData decomposedRequestData, McpRequestContext context) {
         Optional<String> credential;
         try {
             credential = credentialProvider.provide(context);
@@ -133,42 +133,41 @@ public class ToolHandler {
             return callToolResult(errorModelWriter.writeErrorModelAsJson(HttpStatus.UNAUTHORIZED), true);
         }
 
-        metricService.recordToolCall(fullOperation);
+        metricService.recordToolCall(operation);
 
         var httpCallTimer = metricService.startTimer();
         var toolCallTimer = metricService.startTimer();
 
         try {
-            var response = executeHttpRequest(fullOperation, decomposedRequestData, context, credential);
-            httpCallTimer.timeApiCall(fullOperation, response.getStatusCode());
-            metricService.recordApiCall(fullOperation, response.getStatusCode());
+            var response = executeHttpRequest(operation, decomposedRequestData, context, credential);
+            httpCallTimer.timeApiCall(operation, response.getStatusCode());
+            metricService.recordApiCall(operation, response.getStatusCode());
 
             var responseBody = getResponseBodyOrDefault(response.getBody());
 
-            toolCallTimer.timeToolCall(fullOperation, response.getStatusCode().isError());
+            toolCallTimer.timeToolCall(operation, response.getStatusCode().isError());
             return callToolResult(responseBody, response.getStatusCode().isError());
         } catch (HttpStatusCodeException exception) {
-            httpCallTimer.timeApiCall(fullOperation, exception.getStatusCode());
+            httpCallTimer.timeApiCall(operation, exception.getStatusCode());
 
             var correctedRequestData = correctRequestDataIfPossible(exception, decomposedRequestData);
             if (correctedRequestData.isPresent()) {
                 var httpCallRetryTimer = metricService.startTimer();
 
                 try {
-                    var retryResponse =
-                            executeHttpRequest(fullOperation, correctedRequestData.get(), context, credential);
-                    httpCallRetryTimer.timeApiCall(fullOperation, retryResponse.getStatusCode());
-                    metricService.recordApiCall(fullOperation, retryResponse.getStatusCode());
+                    var retryResponse = executeHttpRequest(operation, correctedRequestData.get(), context, credential);
+                    httpCallRetryTimer.timeApiCall(operation, retryResponse.getStatusCode());
+                    metricService.recordApiCall(operation, retryResponse.getStatusCode());
 
                     var responseBody = getResponseBodyOrDefault(retryResponse.getBody());
 
                     toolCallTimer.timeToolCall(
-                            fullOperation, retryResponse.getStatusCode().isError());
+                            operation, retryResponse.getStatusCode().isError());
                     return callToolResult(
                             responseBody, retryResponse.getStatusCode().isError());
                 } catch (HttpStatusCodeException retryException) {
-                    httpCallRetryTimer.timeApiCall(fullOperation, retryException.getStatusCode());
-                    metricService.recordApiCall(fullOperation, retryException.getStatusCode());
+                    httpCallRetryTimer.timeApiCall(operation, retryException.getStatusCode());
+                    metricService.recordApiCall(operation, retryException.getStatusCode());
 
                     LOGGER.debug(
                             "Retry also failed with status {}: {}",
@@ -176,32 +175,32 @@ public class ToolHandler {
                             retryException.getResponseBodyAsString());
 
                     toolCallTimer.timeToolCall(
-                            fullOperation, retryException.getStatusCode().isError());
+                            operation, retryException.getStatusCode().isError());
                     return callToolResult(retryException.getResponseBodyAsString(), true);
                 } catch (RuntimeException retryException) {
-                    httpCallRetryTimer.timeApiCall(fullOperation, HttpStatus.BAD_GATEWAY);
-                    metricService.recordApiCall(fullOperation, HttpStatus.BAD_GATEWAY);
+                    httpCallRetryTimer.timeApiCall(operation, HttpStatus.BAD_GATEWAY);
+                    metricService.recordApiCall(operation, HttpStatus.BAD_GATEWAY);
 
                     LOGGER.error(
                             "Retry failed with network error: {}. Downstream request failed.",
                             retryException.getMessage(),
                             retryException);
 
-                    toolCallTimer.timeToolCall(fullOperation, true);
+                    toolCallTimer.timeToolCall(operation, true);
                     return callToolResult(errorModelWriter.writeErrorModelAsJson(HttpStatus.BAD_GATEWAY), true);
                 }
             }
 
             LOGGER.debug("HTTP status code {}: {}", exception.getStatusCode(), exception.getResponseBodyAsString());
-            metricService.recordApiCall(fullOperation, exception.getStatusCode());
-            toolCallTimer.timeToolCall(fullOperation, true);
+            metricService.recordApiCall(operation, exception.getStatusCode());
+            toolCallTimer.timeToolCall(operation, true);
             return callToolResult(exception.getResponseBodyAsString(), true);
         } catch (RuntimeException e) {
-            httpCallTimer.timeApiCall(fullOperation, HttpStatus.BAD_GATEWAY);
-            metricService.recordApiCall(fullOperation, HttpStatus.BAD_GATEWAY);
+            httpCallTimer.timeApiCall(operation, HttpStatus.BAD_GATEWAY);
+            metricService.recordApiCall(operation, HttpStatus.BAD_GATEWAY);
             LOGGER.error("Error while calling tool: {}. Downstream request failed.", e.getMessage(), e);
 
-            toolCallTimer.timeToolCall(fullOperation, true);
+            toolCallTimer.timeToolCall(operation, true);
             return callToolResult(errorModelWriter.writeErrorModelAsJson(HttpStatus.BAD_GATEWAY), true);
         }
     }
@@ -235,8 +234,7 @@ public class ToolHandler {
         return decomposedRequestData
                 .resolveRequestBody()
                 .flatMap(serializationCorrector::correctIfDetected)
-                .map(correctedBody -> DecomposedRequestData.withParametersAndBodyContent(
-                        decomposedRequestData.parametersByType(), correctedBody.content()));
+                .map(decomposedRequestData::withBody);
     }
 
     /**
@@ -258,7 +256,7 @@ public class ToolHandler {
      * to make authentication handling obvious and auditable.
      * </p>
      *
-     * @param fullOperation         the OpenAPI operation to execute
+     * @param operation             the OpenAPI operation to execute
      * @param decomposedRequestData the request parameters and body
      * @param context               the MCP request context containing HTTP request and session info
      * @param credential            the resolved credential to forward; empty means no Authorization header is set
@@ -266,14 +264,14 @@ public class ToolHandler {
      * @throws HttpStatusCodeException if the API returns an error status
      */
     private org.springframework.http.ResponseEntity<String> executeHttpRequest(
-            FullOperation fullOperation,
+            OperationDescriptor operation,
             DecomposedRequestData decomposedRequestData,
             McpRequestContext context,
             Optional<String> credential) {
         var spec = restClient
-                .method(HttpMethod.valueOf(fullOperation.method().name()))
+                .method(HttpMethod.valueOf(operation.method().name()))
                 .uri(uriBuilder -> {
-                    var builder = uriBuilder.path(fullOperation.path());
+                    var builder = uriBuilder.path(operation.path());
                     decomposedRequestData
                             .parametersByType()
                             .query()
@@ -2,17 +2,36 @@ package com.infobip.openapi.mcp.openapi.tool;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infobip.openapi.mcp.McpRequestContext;
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
+import com.infobip.openapi.mcp.openapi.ApiSpecs;
+import com.infobip.openapi.mcp.openapi.OpenApiFingerprints;
 import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
+import com.infobip.openapi.mcp.openapi.SharedSchemaCache;
+import com.infobip.openapi.mcp.openapi.schema.ArgumentDecomposer;
+import com.infobip.openapi.mcp.openapi.schema.ArgumentValidator;
 import com.infobip.openapi.mcp.openapi.schema.ComposedExample;
 import com.infobip.openapi.mcp.openapi.schema.InputExampleComposer;
 import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
+import com.infobip.openapi.mcp.openapi.schema.JsonSchemaDefinitions;
+import com.infobip.openapi.mcp.openapi.schema.JsonSchemaInterner;
+import com.infobip.openapi.mcp.openapi.schema.PreSerializedJsonSchema;
+import com.infobip.openapi.mcp.openapi.tool.discovery.ToolSearchIndex;
 import com.infobip.openapi.mcp.openapi.tool.exception.ToolRegistrationException;
 import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategy;
 import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
 import io.modelcontextprotocol.spec.McpSchema;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.core.JacksonException;
@@ -34,6 +53,30 @@ import tools.jackson.databind.json.JsonMapper;
  * The registry processes all paths and operations defined in the OpenAPI specification
  * and creates corresponding MCP tools that can be executed by MCP clients. Each tool
  * represents a single API operation with its input schema and execution logic.
+ * <p>
+ * Tools are rebuilt only for operations whose {@link OpenApiFingerprints fingerprint} changed since the
+ * previous call; tools of unchanged operations are returned as the same instances.
+ * <p>
+ * If a {@link OpenApiMcpProperties.Tools.Budget size budget} is configured, each built tool is fitted into it by
+ * {@link ToolSizeBudget}, and the sizes of the largest tools are logged and recorded as metrics.
+ * <p>
+ * If {@link OpenApiMcpProperties.Tools.Discovery discovery} is enabled, the tools are also indexed in a
+ * {@link ToolSearchIndex}, which is updated with the added, removed and rebuilt tools on each call.
+ * <p>
+ * Tools of {@link ApiSpecs additional specifications} follow the tools of the primary specification. They are named
+ * by the prefixing naming strategy of their specification and call its API through its own {@link ToolHandler}.
+ * Their fingerprints are tracked per specification, so a change of one specification rebuilds only its own tools.
+ * <p>
+ * Compiled tool definitions are kept in a {@link SharedSchemaCache} by operation fingerprint. Registries of tenants
+ * sharing the cache compile each operation their specifications have in common only once, and their tools share the
+ * same definitions and interned input schemas.
+ * <p>
+ * Unless {@link OpenApiMcpProperties.Tools.Validation validation} is disabled, the input schema of each tool is
+ * compiled into an {@link ArgumentValidator}. Tool calls with arguments violating the schema are answered with the
+ * violations without calling the API, and coerced arguments replace the given ones before they are decomposed. With
+ * the {@link OpenApiMcpProperties.Tools#jsonDoubleSerializationMitigation() JSON double serialization mitigation}
+ * enabled, the validator also unwraps objects and arrays sent as JSON strings, even if validation is disabled, so such
+ * arguments are corrected before the first request instead of after it failed.
  *
  * @see OpenApiRegistry
  * @see NamingStrategy
@@ -45,17 +88,90 @@ public class ToolRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger(ToolRegistry.class);
     private static final TypeReference<Map<String, Object>> JSON_SCHEMA_MAP_TYPE = new TypeReference<>() {};
 
-    private final OpenApiRegistry openApiRegistry;
-    private final NamingStrategy namingStrategy;
     private final InputSchemaComposer inputSchemaComposer;
     private final InputExampleComposer inputExampleComposer;
-    private final ToolHandler toolHandler;
     private final OpenApiMapperFactory openApiMapperFactory;
     private final ToolAnnotationResolver toolAnnotationResolver;
     private final JsonMapper jsonSchemaMapper = JsonMapper.builder().build();
+    private final SharedSchemaCache sharedSchemaCache;
+    private final @Nullable JsonSchemaDefinitions jsonSchemaDefinitions;
+    private final @Nullable ToolSizeBudget toolSizeBudget;
+    private final @Nullable ToolSearchIndex toolSearchIndex;
     private final OpenApiMcpProperties properties;
+    private final MetricService metricService;
+    private final List<ToolSource> sources;
 
     private List<RegisteredTool> registeredToolsCache = List.of();
+    private Map<String, FingerprintedTool> toolsByOperation = Map.of();
+    private Map<String, ToolSizeBudget.ToolSize> toolSizes = new HashMap<>();
+
+    private record FingerprintedTool(String fingerprint, RegisteredTool tool) {}
+
+    /**
+     * Specification whose operations are turned into tools. The name of an additional specification is null for the
+     * primary specification.
+     */
+    private record ToolSource(
+            @Nullable String specification,
+            OpenApiRegistry openApiRegistry,
+            NamingStrategy namingStrategy,
+            ToolHandler toolHandler) {
+
+        /**
+         * Keeps the operations of different specifications apart, empty for the primary specification.
+         */
+        String keyPrefix() {
+            return specification != null ? specification + ":" : "";
+        }
+    }
+
+    public ToolRegistry(
+            OpenApiRegistry openApiRegistry,
+            NamingStrategy namingStrategy,
+            InputSchemaComposer inputSchemaComposer,
+            InputExampleComposer inputExampleComposer,
+            ToolHandler toolHandler,
+            OpenApiMapperFactory openApiMapperFactory,
+            ToolAnnotationResolver toolAnnotationResolver,
+            OpenApiMcpProperties properties,
+            MetricService metricService) {
+        this(
+                openApiRegistry,
+                namingStrategy,
+                inputSchemaComposer,
+                inputExampleComposer,
+                toolHandler,
+                openApiMapperFactory,
+                toolAnnotationResolver,
+                properties,
+                metricService,
+                ApiSpecs.NONE);
+    }
+
+    public ToolRegistry(
+            OpenApiRegistry openApiRegistry,
+            NamingStrategy namingStrategy,
+            InputSchemaComposer inputSchemaComposer,
+            InputExampleComposer inputExampleComposer,
+            ToolHandler toolHandler,
+            OpenApiMapperFactory openApiMapperFactory,
+            ToolAnnotationResolver toolAnnotationResolver,
+            OpenApiMcpProperties properties,
+            MetricService metricService,
+            ApiSpecs apiSpecs) {
+        this(
+                openApiRegistry,
+                namingStrategy,
+                inputSchemaComposer,
+                inputExampleComposer,
+                toolHandler,
+                openApiMapperFactory,
+                toolAnnotationResolver,
+                properties,
+                metricService,
+                apiSpecs,
+                new SharedSchemaCache());
+    }
 
     public ToolRegistry(
             OpenApiRegistry openApiRegistry,
@@ -65,15 +181,31 @@ public class ToolRegistry {
             ToolHandler toolHandler,
             OpenApiMapperFactory openApiMapperFactory,
             ToolAnnotationResolver toolAnnotationResolver,
-            OpenApiMcpProperties properties) {
-        this.openApiRegistry = openApiRegistry;
-        this.namingStrategy = namingStrategy;
+            OpenApiMcpProperties properties,
+            MetricService metricService,
+            ApiSpecs apiSpecs,
+            SharedSchemaCache sharedSchemaCache) {
         this.inputSchemaComposer = inputSchemaComposer;
         this.inputExampleComposer = inputExampleComposer;
-        this.toolHandler = toolHandler;
         this.openApiMapperFactory = openApiMapperFactory;
         this.toolAnnotationResolver = toolAnnotationResolver;
         this.properties = properties;
+        this.metricService = metricService;
+        this.sharedSchemaCache = sharedSchemaCache;
+        var definitions = properties.tools().schema().definitions();
+        this.jsonSchemaDefinitions =
+                definitions.enabled() ? new JsonSchemaDefinitions(definitions.inlineDepth()) : null;
+        var budget = properties.tools().budget();
+        this.toolSizeBudget = budget.enabled()
+                ? new ToolSizeBudget(budget, properties.tools().validation().enabled())
+                : null;
+        this.toolSearchIndex = properties.tools().discovery().enabled() ? new ToolSearchIndex() : null;
+        var sources = new ArrayList<ToolSource>();
+        sources.add(new ToolSource(null, openApiRegistry, namingStrategy, toolHandler));
+        apiSpecs.specs()
+                .forEach(spec -> sources.add(new ToolSource(
+                        spec.name(), spec.openApiRegistry(), spec.namingStrategy(), spec.toolHandler())));
+        this.sources = List.copyOf(sources);
     }
 
     /**
@@ -93,39 +225,293 @@ public class ToolRegistry {
      * @throws ToolRegistrationException if a tool name cannot be determined for any operation or JSON schema resolution fails critically
      */
     public List<RegisteredTool> getTools() {
-        var openApi = openApiRegistry.openApi();
-        if (openApi.getPaths() == null || openApi.getPaths().isEmpty()) {
-            return List.of();
+        var previousToolsByOperation = toolsByOperation;
+        var currentToolsByOperation = new HashMap<String, FingerprintedTool>();
+        var registeredTools = new ArrayList<RegisteredTool>();
+        var documents = new HashMap<String, ToolSearchIndex.Document>();
+        for (var source : sources) {
+            collectTools(source, previousToolsByOperation, currentToolsByOperation, registeredTools, documents);
         }
-        var registeredTools = openApi.getPaths().entrySet().stream()
-                .flatMap(pathEntry -> pathEntry.getValue().readOperationsMap().entrySet().stream()
-                        .map(operationEntry -> new FullOperation(
-                                pathEntry.getKey(), operationEntry.getKey(), operationEntry.getValue(), openApi)))
-                .map(fullOperation -> {
-                    var toolName = determineToolName(fullOperation);
-                    var tool = McpSchema.Tool.builder()
-                            .name(toolName)
-                            .title(resolveTitle(fullOperation, toolName))
-                            .description(buildDescription(fullOperation))
-                            .inputSchema(resolveJsonSchema(fullOperation))
-                            .annotations(toolAnnotationResolver.resolve(fullOperation, toolName))
-                            .build();
-
-                    return new RegisteredTool(
-                            tool,
-                            (callToolRequest, context) -> {
-                                var decomposedArguments =
-                                        inputSchemaComposer.decompose(callToolRequest, fullOperation.operation());
-                                return toolHandler.handleToolCall(fullOperation, decomposedArguments, context);
-                            },
-                            fullOperation);
-                })
-                .toList();
+        if (sources.size() > 1) {
+            ensureUniqueNames(registeredTools);
+        }
+        this.toolsByOperation = currentToolsByOperation;
         this.registeredToolsCache = List.copyOf(registeredTools);
+        if (toolSizeBudget != null) {
+            reportToolSizes(registeredTools);
+        }
+        if (toolSearchIndex != null) {
+            toolSearchIndex.update(registeredTools, documents);
+        }
         return registeredTools;
     }
 
-    private String determineToolName(FullOperation operation) {
+    private void collectTools(
+            ToolSource source,
+            Map<String, FingerprintedTool> previousToolsByOperation,
+            Map<String, FingerprintedTool> currentToolsByOperation,
+            List<RegisteredTool> registeredTools,
+            Map<String, ToolSearchIndex.Document> documents) {
+        var specification = source.openApiRegistry().specification();
+        var openApi = specification.openApi();
+        if (openApi.getPaths() == null || openApi.getPaths().isEmpty()) {
+            return;
+        }
+        var fingerprints = specification.fingerprints();
+        for (var pathEntry : openApi.getPaths().entrySet()) {
+            for (var operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
+                var fullOperation = new FullOperation(
+                        pathEntry.getKey(), operationEntry.getKey(), operationEntry.getValue(), openApi);
+                var fingerprint = fingerprints != null
+                        ? fingerprints.operation(fullOperation.method(), fullOperation.path())
+                        : null;
+                if (fingerprint == null) {
+                    registeredTools.add(buildTool(source, fullOperation, null, documents));
+                    continue;
+                }
+                // Operations with an unchanged fingerprint produce the same tool, so the previous one is reused
+                var key = source.keyPrefix()
+                        + OpenApiFingerprints.operationKey(fullOperation.method(), fullOperation.path());
+                var previous = previousToolsByOperation.get(key);
+                var registeredTool = previous != null && previous.fingerprint().equals(fingerprint)
+                        ? previous.tool()
+                        : buildTool(source, fullOperation, fingerprint, documents);
+                currentToolsByOperation.put(key, new FingerprintedTool(fingerprint, registeredTool));
+                registeredTools.add(registeredTool);
+            }
+        }
+    }
+
+    private static void ensureUniqueNames(List<RegisteredTool> registeredTools) {
+        var names = new HashSet<String>();
+        for (var registeredTool : registeredTools) {
+            if (!names.add(registeredTool.tool().name())) {
+                throw ToolRegistrationException.becauseOfDuplicateName(
+                        registeredTool.tool().name());
+            }
+        }
+    }
+
+    private RegisteredTool buildTool(
+            ToolSource source,
+            FullOperation fullOperation,
+            @Nullable String fingerprint,
+            Map<String, ToolSearchIndex.Document> documents) {
+        var toolName = determineToolName(source.namingStrategy(), fullOperation);
+        var operationKey = fingerprint != null
+                ? SharedSchemaCache.operationKey(
+                        fullOperation.openApi().getSpecVersion(),
+                        fullOperation.method(),
+                        fullOperation.path(),
+                        fingerprint)
+                : null;
+        var compiledTool = operationKey != null ? sharedSchemaCache.tool(operationKey, toolName) : null;
+        if (compiledTool == null) {
+            compiledTool = compileTool(toolName, fullOperation);
+            if (operationKey != null) {
+                sharedSchemaCache.putTool(operationKey, compiledTool);
+            }
+        }
+        var tool = compiledTool.tool();
+        var size = compiledTool.size();
+        if (size != null) {
+            toolSizes.put(toolName, size);
+            metricService.recordToolSize(toolName, size.originalBytes(), size.bytes());
+        }
+        if (toolSearchIndex != null) {
+            documents.put(toolName, ToolSearchIndex.Document.of(tool, fullOperation));
+        }
+
+        // The handler captures the compact descriptor only, so the OpenAPI model is not retained by registered tools
+        var operation = OperationDescriptor.of(toolName, fullOperation);
+        var toolCall = new ToolCall(
+                operation, inputSchemaComposer.decomposer(operation), compiledTool.validator(), source.toolHandler());
+        return new RegisteredTool(tool, toolCall, operation, source.specification());
+    }
+
+    private SharedSchemaCache.CompiledTool compileTool(String toolName, FullOperation fullOperation) {
+        var examples = inputExampleComposer.composeExamples(fullOperation);
+        var description = buildDescription(fullOperation, examples);
+        var inputSchema = resolveJsonSchema(fullOperation);
+        // Arguments are validated against the complete schema, which the budget may have shortened
+        var validation = properties.tools().validation();
+        var mitigation = properties.tools().jsonDoubleSerializationMitigation();
+        var validator = validation.enabled() || mitigation
+                ? ArgumentValidator.compile(
+                        inputSchema,
+                        validation.enabled() && validation.coercion(),
+                        mitigation ? JsonDoubleSerializationCorrector::parseEmbeddedJson : null)
+                : null;
+        ToolSizeBudget.ToolSize size = null;
+        if (toolSizeBudget != null) {
+            var fitted = toolSizeBudget.fit(
+                    toolName,
+                    maxExamples -> buildDescription(
+                            fullOperation, examples.subList(0, Math.min(maxExamples, examples.size()))),
+                    inputSchema);
+            description = fitted.description();
+            inputSchema = fitted.inputSchema();
+            size = fitted.size();
+            if (size.reduced()) {
+                LOGGER.debug(
+                        "Reduced tool {} from {} to {} bytes to fit the budget.",
+                        toolName,
+                        size.originalBytes(),
+                        size.bytes());
+            }
+        }
+        var tool = McpSchema.Tool.builder()
+                .name(toolName)
+                .title(resolveTitle(fullOperation, toolName))
+                .description(description)
+                .inputSchema(finishJsonSchema(inputSchema))
+                .annotations(toolAnnotationResolver.resolve(fullOperation, toolName))
+                .build();
+        return new SharedSchemaCache.CompiledTool(tool, size, validator);
+    }
+
+    /**
+     * Creates a copy of a tool registered by this registry that calls the API through the given handler instead of
+     * the handler of its specification. Arguments of the copy are validated and decomposed like those of the tool.
+     *
+     * @param registeredTool a tool registered by this registry
+     * @param toolHandler    the handler the copy calls the API through
+     * @return the copy of the tool
+     * @throws IllegalArgumentException if the tool was not registered by a tool registry
+     */
+    public RegisteredTool withToolHandler(RegisteredTool registeredTool, ToolHandler toolHandler) {
+        if (!(registeredTool.toolHandler() instanceof ToolCall toolCall)) {
+            throw new IllegalArgumentException(
+                    "Tool " + registeredTool.tool().name() + " was not registered by a tool registry.");
+        }
+        return new RegisteredTool(
+                registeredTool.tool(),
+                toolCall.withToolHandler(toolHandler),
+                registeredTool.operation(),
+                registeredTool.specification());
+    }
+
+    /**
+     * Handles calls of a registered tool: validates the arguments, decomposes them and calls the API.
+     */
+    private final class ToolCall
+            implements BiFunction<McpSchema.CallToolRequest, McpRequestContext, McpSchema.CallToolResult> {
+
+        private final OperationDescriptor operation;
+        private final ArgumentDecomposer decomposer;
+        private final @Nullable ArgumentValidator validator;
+        private final ToolHandler toolHandler;
+        private final boolean validationEnabled =
+                properties.tools().validation().enabled();
+
+        private ToolCall(
+                OperationDescriptor operation,
+                ArgumentDecomposer decomposer,
+                @Nullable ArgumentValidator validator,
+                ToolHandler toolHandler) {
+            this.operation = operation;
+            this.decomposer = decomposer;
+            this.validator = validator;
+            this.toolHandler = toolHandler;
+        }
+
+        private ToolCall withToolHandler(ToolHandler toolHandler) {
+            return new ToolCall(operation, decomposer, validator, toolHandler);
+        }
+
+        @Override
+        public McpSchema.CallToolResult apply(McpSchema.CallToolRequest callToolRequest, McpRequestContext context) {
+            var request = callToolRequest;
+            if (validator != null) {
+                // Without validation, the validator only unwraps double-serialized arguments and its violations are
+                // ignored
+                var validation = validator.validate(callToolRequest.arguments());
+                if (validationEnabled) {
+                    if (!validation.valid()) {
+                        metricService.recordArgumentValidation(operation, "invalid");
+                        return invalidArgumentsResult(validation.violations());
+                    }
+                    metricService.recordArgumentValidation(operation, validation.coerced() ? "coerced" : "valid");
+                }
+                if (validation.coerced()) {
+                    request = new McpSchema.CallToolRequest(
+                            callToolRequest.name(), validation.arguments(), callToolRequest.meta());
+                }
+            }
+            var decomposedArguments = decomposer.decompose(request);
+            return toolHandler.handleToolCall(operation, decomposedArguments, context);
+        }
+    }
+
+    /**
+     * Builds the result of a call with arguments violating the input schema. The API is not called, and the
+     * violations are listed so the caller can correct the arguments.
+     */
+    private McpSchema.CallToolResult invalidArgumentsResult(List<ArgumentValidator.Violation> violations) {
+        var error = new LinkedHashMap<String, Object>();
+        error.put("error", "Invalid Arguments");
+        error.put(
+                "description",
+                "The arguments do not match the input schema of the tool. Correct them and call the tool again.");
+        error.put(
+                "violations",
+                violations.stream()
+                        .map(violation -> Map.of("path", violation.path(), "message", violation.message()))
+                        .toList());
+        return McpSchema.CallToolResult.builder()
+                .content(List.of(new McpSchema.TextContent(jsonSchemaMapper.writeValueAsString(error))))
+                .isError(true)
+                .build();
+    }
+
+    /**
+     * Interns the input schema and, if enabled, serializes it once into a {@link PreSerializedJsonSchema}, so
+     * {@code tools/list} requests write the stored JSON instead of serializing the schema again.
+     */
+    private Map<String, Object> finishJsonSchema(Map<String, Object> inputSchema) {
+        var internedSchema = sharedSchemaCache.jsonSchemaInterner().intern(inputSchema);
+        if (!properties.tools().schema().preSerialized()) {
+            return internedSchema;
+        }
+        return PreSerializedJsonSchema.of(internedSchema, jsonSchemaMapper);
+    }
+
+    private void reportToolSizes(List<RegisteredTool> registeredTools) {
+        var currentToolSizes = new HashMap<String, ToolSizeBudget.ToolSize>();
+        for (var registeredTool : registeredTools) {
+            var name = registeredTool.tool().name();
+            var size = toolSizes.get(name);
+            if (size != null) {
+                currentToolSizes.put(name, size);
+            }
+        }
+        this.toolSizes = currentToolSizes;
+
+        var budget = properties.tools().budget();
+        var reduced = currentToolSizes.values().stream()
+                .filter(ToolSizeBudget.ToolSize::reduced)
+                .count();
+        var overBudget = currentToolSizes.values().stream()
+                .filter(size -> size.bytes() > budget.maxBytes())
+                .count();
+        LOGGER.info(
+                "Reduced {} out of {} tools to fit the budget of {} bytes, {} tools remain over the budget.",
+                reduced,
+                currentToolSizes.size(),
+                budget.maxBytes(),
+                overBudget);
+        if (budget.reportLargest() > 0 && LOGGER.isInfoEnabled()) {
+            LOGGER.info(
+                    "Largest tools: {}",
+                    getToolSizes().stream()
+                            .limit(budget.reportLargest())
+                            .map(size ->
+                                    size.toolName() + " (" + size.originalBytes() + " -> " + size.bytes() + " bytes)")
+                            .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static String determineToolName(NamingStrategy namingStrategy, FullOperation operation) {
         try {
             return namingStrategy.name(operation);
         } catch (RuntimeException exception) {
@@ -157,20 +543,30 @@ public class ToolRegistry {
      * This method creates a JSON schema representation of the operation's parameters
      * that can be used by MCP clients to understand the expected input format.
      * The schema is generated based on the OpenAPI specification version.
+     * <p>
+     * If shared schema definitions are enabled, component schemas used more than once or recursively are emitted
+     * under {@code $defs} by {@link JsonSchemaDefinitions}. The returned schema is mutable, so it can be fitted into
+     * the size budget before it is {@link JsonSchemaInterner interned}, which stores subtrees shared between
+     * operations, such as common component schemas, only once across all tools.
      *
      * @param fullOperation the OpenAPI operation to create a schema for
-     * @return a map representing the input JSON schema, or an empty object schema if resolution fails
+     * @return a mutable map representing the input JSON schema, or an empty object schema if resolution fails
      */
     private Map<String, Object> resolveJsonSchema(FullOperation fullOperation) {
         var composedSchema = inputSchemaComposer.compose(fullOperation);
         if (composedSchema == null) {
             // Due to the way how the underlying framework works, we need to explicitly provide an empty object schema
-            return Map.of("type", "object", "properties", Map.of());
+            var emptySchema = new HashMap<String, Object>();
+            emptySchema.put("type", "object");
+            emptySchema.put("properties", new HashMap<>());
+            return emptySchema;
         }
 
         try {
-            var stringSchemaRepresentation =
-                    openApiMapperFactory.mapper(fullOperation.openApi()).writeValueAsString(composedSchema);
+            var mapper = openApiMapperFactory.mapper(fullOperation.openApi());
+            var stringSchemaRepresentation = jsonSchemaDefinitions != null
+                    ? jsonSchemaDefinitions.write(composedSchema, fullOperation.openApi(), mapper)
+                    : mapper.writeValueAsString(composedSchema);
             LOGGER.debug(
                     "Resolved JSON schema for operation {}: {}",
                     fullOperation.operation().getOperationId(),
@@ -205,9 +601,10 @@ public class ToolRegistry {
      * If only one of summary/description exists, returns whichever is present.
      *
      * @param fullOperation the OpenAPI operation
+     * @param examples      the request examples to append
      * @return the constructed description, or null if neither description, summary, nor examples exist
      */
-    private String buildDescription(FullOperation fullOperation) {
+    private @Nullable String buildDescription(FullOperation fullOperation, List<ComposedExample> examples) {
         var summary = fullOperation.operation().getSummary();
         var description = fullOperation.operation().getDescription();
 
@@ -230,7 +627,7 @@ public class ToolRegistry {
         }
 
         // Append examples if feature is enabled
-        var exampleBlock = buildExampleBlock(fullOperation);
+        var exampleBlock = buildExampleBlock(fullOperation, examples);
         if (exampleBlock != null) {
             return baseDescription != null
                     ? new StringBuilder(baseDescription)
@@ -267,10 +664,10 @@ public class ToolRegistry {
      * where the description paragraph is omitted when absent.
      *
      * @param fullOperation the OpenAPI operation
+     * @param examples      the composed examples of the operation
      * @return a Markdown block string, or null if no examples found or serialization fails
      */
-    private String buildExampleBlock(FullOperation fullOperation) {
-        var examples = inputExampleComposer.composeExamples(fullOperation);
+    private @Nullable String buildExampleBlock(FullOperation fullOperation, List<ComposedExample> examples) {
         if (examples.isEmpty()) {
             return null;
         }
@@ -316,4 +713,25 @@ public class ToolRegistry {
     public List<RegisteredTool> getRegisteredToolsCache() {
         return registeredToolsCache;
     }
+
+    /**
+     * Returns the index of the registered tools, which is updated by each {@link #getTools()} call.
+     *
+     * @return the search index, or {@code null} if discovery is disabled
+     */
+    public @Nullable ToolSearchIndex getSearchIndex() {
+        return toolSearchIndex;
+    }
+
+    /**
+     * Returns the sizes of the registered tools before and after they were fitted into the size budget, largest
+     * first. Empty if no budget is configured.
+     *
+     * @return the sizes of the registered tools
+     */
+    public List<ToolSizeBudget.ToolSize> getToolSizes() {
+        return toolSizes.values().stream()
+                .sorted(Comparator.comparingInt(ToolSizeBudget.ToolSize::bytes).reversed())
+                .toList();
+    }
 }
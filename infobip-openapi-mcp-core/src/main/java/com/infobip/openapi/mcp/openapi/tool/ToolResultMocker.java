@@ -4,19 +4,9 @@ import com.infobip.openapi.mcp.McpRequestContext;
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
 import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
 import io.modelcontextprotocol.spec.McpSchema;
-import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.examples.Example;
-import io.swagger.v3.oas.models.media.Content;
-import io.swagger.v3.oas.models.media.MediaType;
-import io.swagger.v3.oas.models.responses.ApiResponse;
-import io.swagger.v3.oas.models.responses.ApiResponses;
-import java.util.Collection;
+import io.swagger.v3.oas.models.SpecVersion;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.jspecify.annotations.NullMarked;
@@ -62,18 +52,18 @@ public class ToolResultMocker implements ToolCallFilter, Ordered {
 
         LOGGER.trace("Mocking tool call {}...", req.name());
 
-        var fullOperation = ctx.openApiOperation();
-        if (fullOperation == null) {
+        var operation = ctx.openApiOperation();
+        if (operation == null) {
             LOGGER.error("Missing OpenAPI operation for tool {}, returning MCP error response", req.name());
             return callToolResult(MISSING_EXAMPLE_ERR_MSG, true);
         }
 
-        var responseBody = pickExample(fullOperation.operation(), fullOperation.openApi());
+        var responseBody = pickExample(operation);
         if (responseBody == null) {
             LOGGER.error(
                     "Missing examples in OpenAPI operation {}: {} for tool {}, returning MCP error response",
-                    fullOperation.method(),
-                    fullOperation.path(),
+                    operation.method(),
+                    operation.path(),
                     req.name());
             return callToolResult(MISSING_EXAMPLE_ERR_MSG, true);
         }
@@ -83,59 +73,43 @@ public class ToolResultMocker implements ToolCallFilter, Ordered {
     }
 
     @Nullable
-    private String pickExample(Operation operation, OpenAPI openApi) {
-        var responses = operation.getResponses();
-        if (responses == null || responses.isEmpty()) {
+    private String pickExample(OperationDescriptor operation) {
+        var responses = operation.responses();
+        if (responses.isEmpty()) {
             return null;
         }
 
-        return successfulResponseExtractors()
-                .map(extractor -> extractor.apply(responses))
+        return successfulStatuses()
+                .map(status -> supportedContentOf(responses, status))
                 .filter(Objects::nonNull)
-                .map(ApiResponse::getContent)
-                .map(this::extractSupportedMediaType)
-                .map(this::extractExampleValue)
-                .map(exampleValue -> serializeToString(exampleValue, openApi))
+                .map(OperationDescriptor.ResponseContent::example)
+                .map(exampleValue -> serializeToString(exampleValue, operation.specVersion()))
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(null);
     }
 
-    private static Stream<Function<ApiResponses, @Nullable ApiResponse>> successfulResponseExtractors() {
+    private static Stream<String> successfulStatuses() {
         return Stream.concat(
-                Stream.of(res -> res.getDefault(), res -> res.get("2xx")),
-                IntStream.range(200, 300).mapToObj(Integer::toString).map(status -> res -> res.get(status)));
+                Stream.of("default", "2xx"), IntStream.range(200, 300).mapToObj(Integer::toString));
     }
 
-    private @Nullable MediaType extractSupportedMediaType(@Nullable Content content) {
-        if (content == null) {
-            return null;
-        }
-
-        return content.keySet().stream()
-                .filter(type -> type.contains(SUPPORTED_MEDIA_TYPE))
-                .findFirst()
-                .map(content::get)
-                .orElse(null);
-    }
-
-    private @Nullable Object extractExampleValue(@Nullable MediaType mediaType) {
-        return Optional.ofNullable(mediaType).map(MediaType::getExamples).map(Map::values).stream()
-                .flatMap(Collection::stream)
-                .map(Example::getValue)
-                .filter(Objects::nonNull)
+    private static OperationDescriptor.@Nullable ResponseContent supportedContentOf(
+            List<OperationDescriptor.ResponseContent> responses, String status) {
+        return responses.stream()
+                .filter(response -> response.status().equals(status))
+                .filter(response -> response.contentType().contains(SUPPORTED_MEDIA_TYPE))
                 .findFirst()
-                .or(() -> Optional.ofNullable(mediaType).map(MediaType::getExample))
                 .orElse(null);
     }
 
-    private @Nullable String serializeToString(@Nullable Object exampleValue, OpenAPI openApi) {
+    private @Nullable String serializeToString(@Nullable Object exampleValue, SpecVersion specVersion) {
         if (exampleValue == null) {
             return null;
         }
 
         try {
-            return openApiMapperFactory.mapper(openApi).writeValueAsString(exampleValue);
+            return openApiMapperFactory.mapper(specVersion).writeValueAsString(exampleValue);
             // TODO: catch only JacksonException once swagger-core migrates to Jackson 3
         } catch (com.fasterxml.jackson.core.JsonProcessingException | JacksonException e) {
             LOGGER.warn("Failed to serialize example into JSON. Example value: `{}`", exampleValue, e);
@@ -0,0 +1,226 @@
+package com.infobip.openapi.mcp.openapi.tool;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reduces tool descriptions and input schemas that exceed the configured {@link OpenApiMcpProperties.Tools.Budget
+ * size budget}.
+ * <p>
+ * The size of a tool is the UTF-8 encoded size of its description and serialized input schema, which is what every
+ * {@code tools/list} response carries for it. Tools over the budget are reduced in steps, each of which is applied
+ * only if the tool is still over the budget after the previous one:
+ * <ol>
+ *   <li>{@code example} and {@code examples} keywords are removed from the input schema,</li>
+ *   <li>the description keeps only its first request example,</li>
+ *   <li>schema descriptions are trimmed to the configured length,</li>
+ *   <li>enums with more values than configured are replaced with a description listing the first values; if arguments
+ *   are validated, the description also tells that other values are rejected with a list of all values, which the
+ *   invalid arguments result of the call carries,</li>
+ *   <li>request examples are removed from the description,</li>
+ *   <li>schema descriptions are removed.</li>
+ * </ol>
+ * A tool that is still over the budget after all steps is registered in its reduced form. Input schemas are reduced in
+ * place, so they must be mutable and not yet shared with other tools.
+ */
+@NullMarked
+public class ToolSizeBudget {
+
+    private static final String ELLIPSIS = "…";
+    private static final Set<String> SCHEMA_KEYWORDS = Set.of(
+            "items",
+            "additionalItems",
+            "additionalProperties",
+            "unevaluatedItems",
+            "unevaluatedProperties",
+            "propertyNames",
+            "contains",
+            "contentSchema",
+            "not",
+            "if",
+            "then",
+            "else");
+    private static final Set<String> SCHEMA_LIST_KEYWORDS = Set.of("allOf", "anyOf", "oneOf", "prefixItems", "items");
+    private static final Set<String> SCHEMA_MAP_KEYWORDS =
+            Set.of("properties", "patternProperties", "dependentSchemas", "$defs", "definitions");
+
+    private final OpenApiMcpProperties.Tools.Budget budget;
+    private final boolean argumentsValidated;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    public ToolSizeBudget(OpenApiMcpProperties.Tools.Budget budget) {
+        this(budget, false);
+    }
+
+    /**
+     * @param budget             the size budget
+     * @param argumentsValidated whether tool call arguments are validated against the complete input schema, which
+     *                           rejects values of collapsed enums that are not listed
+     */
+    public ToolSizeBudget(OpenApiMcpProperties.Tools.Budget budget, boolean argumentsValidated) {
+        this.budget = budget;
+        this.argumentsValidated = argumentsValidated;
+    }
+
+    /**
+     * Size of a tool before and after it was fitted into the budget.
+     *
+     * @param toolName      the name of the tool
+     * @param originalBytes the size of the tool as composed from the OpenAPI specification
+     * @param bytes         the size of the tool as registered
+     */
+    public record ToolSize(String toolName, int originalBytes, int bytes) {
+
+        public boolean reduced() {
+            return bytes < originalBytes;
+        }
+    }
+
+    /**
+     * A tool description and input schema fitted into the budget.
+     *
+     * @param description the description of the tool
+     * @param inputSchema the input schema of the tool
+     * @param size        the size of the tool before and after fitting
+     */
+    public record Fitted(@Nullable String description, Map<String, Object> inputSchema, ToolSize size) {}
+
+    /**
+     * Fits the tool into the budget.
+     *
+     * @param toolName    the name of the tool
+     * @param description the description of the tool, given the maximal number of request examples to include
+     * @param inputSchema the mutable input schema of the tool, reduced in place
+     * @return the fitted description and input schema
+     */
+    public Fitted fit(String toolName, IntFunction<@Nullable String> description, Map<String, Object> inputSchema) {
+        var currentDescription = description.apply(Integer.MAX_VALUE);
+        var originalBytes = sizeOf(currentDescription, inputSchema);
+        var bytes = originalBytes;
+        var maxBytes = budget.maxBytes();
+        if (maxBytes == null || bytes <= maxBytes) {
+            return new Fitted(currentDescription, inputSchema, new ToolSize(toolName, originalBytes, bytes));
+        }
+
+        var steps = List.of(
+                new Step(Integer.MAX_VALUE, ToolSizeBudget::removeExamples),
+                new Step(1, null),
+                new Step(1, this::trimDescription),
+                new Step(1, this::collapseEnum),
+                new Step(0, null),
+                new Step(0, ToolSizeBudget::removeDescription));
+        for (var step : steps) {
+            if (step.schemaReduction() != null) {
+                forEachSchema(inputSchema, step.schemaReduction());
+            }
+            currentDescription = description.apply(step.examples());
+            bytes = sizeOf(currentDescription, inputSchema);
+            if (bytes <= maxBytes) {
+                break;
+            }
+        }
+        return new Fitted(currentDescription, inputSchema, new ToolSize(toolName, originalBytes, bytes));
+    }
+
+    /**
+     * A reduction step: the number of request examples kept in the description and the reduction applied to every
+     * schema.
+     */
+    private record Step(int examples, @Nullable Consumer<Map<String, Object>> schemaReduction) {}
+
+    private int sizeOf(@Nullable String description, Map<String, Object> inputSchema) {
+        var descriptionBytes = description != null ? description.getBytes(StandardCharsets.UTF_8).length : 0;
+        return descriptionBytes + jsonMapper.writeValueAsBytes(inputSchema).length;
+    }
+
+    private static void removeExamples(Map<String, Object> schema) {
+        if (schema.containsKey("example")) {
+            schema.remove("example");
+        }
+        if (schema.containsKey("examples")) {
+            schema.remove("examples");
+        }
+    }
+
+    private void trimDescription(Map<String, Object> schema) {
+        if (schema.get("description") instanceof String description
+                && description.length() > budget.maxDescriptionLength()) {
+            schema.put("description", trim(description, budget.maxDescriptionLength()));
+        }
+    }
+
+    private void collapseEnum(Map<String, Object> schema) {
+        if (!(schema.get("enum") instanceof List<?> values) || values.size() <= budget.maxEnumValues()) {
+            return;
+        }
+        var listed = values.stream()
+                .limit(budget.maxEnumValues())
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        var collapsed = "One of " + values.size() + " values, e.g. " + listed + ", " + ELLIPSIS
+                + (argumentsValidated ? " Calls with any other value fail and list all values." : "");
+        var description = schema.get("description") instanceof String existing && !existing.isBlank()
+                ? existing + "\n\n" + collapsed
+                : collapsed;
+        schema.remove("enum");
+        schema.put("description", description);
+    }
+
+    private static void removeDescription(Map<String, Object> schema) {
+        if (schema.containsKey("description")) {
+            schema.remove("description");
+        }
+    }
+
+    private static String trim(String text, int length) {
+        var end = length - ELLIPSIS.length();
+        var lastSpace = text.lastIndexOf(' ', end);
+        if (lastSpace > end / 2) {
+            end = lastSpace;
+        }
+        return text.substring(0, Math.max(end, 0)).stripTrailing() + ELLIPSIS;
+    }
+
+    /**
+     * Applies the action to the schema and all of its subschemas. Keys of {@code properties} and similar keywords are
+     * property names, so a property named {@code description} or {@code example} is not mistaken for a keyword.
+     */
+    @SuppressWarnings("unchecked")
+    private static void forEachSchema(Map<String, Object> root, Consumer<Map<String, Object>> action) {
+        var pending = new ArrayList<Map<String, Object>>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            var schema = pending.removeLast();
+            action.accept(schema);
+            for (var entry : schema.entrySet()) {
+                var keyword = entry.getKey();
+                var value = entry.getValue();
+                if (SCHEMA_KEYWORDS.contains(keyword) && value instanceof Map<?, ?> subschema) {
+                    pending.add((Map<String, Object>) subschema);
+                } else if (SCHEMA_LIST_KEYWORDS.contains(keyword) && value instanceof List<?> subschemas) {
+                    for (var subschema : subschemas) {
+                        if (subschema instanceof Map<?, ?> map) {
+                            pending.add((Map<String, Object>) map);
+                        }
+                    }
+                } else if (SCHEMA_MAP_KEYWORDS.contains(keyword) && value instanceof Map<?, ?> subschemas) {
+                    for (var subschema : subschemas.values()) {
+                        if (subschema instanceof Map<?, ?> map) {
+                            pending.add((Map<String, Object>) map);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.infobip.openapi.mcp.openapi.tool.discovery;
+
+import com.infobip.openapi.mcp.McpRequestContext;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Meta tools which let clients discover and call the registered tools without listing them.
+ * <p>
+ * With {@link OpenApiMcpProperties.Tools.Discovery discovery} enabled, only two tools are registered with the MCP
+ * server:
+ * <ul>
+ *   <li>{@value #SEARCH_TOOL_NAME} returns the tools best matching a free text query from the
+ *   {@link ToolSearchIndex}, together with their input schemas</li>
+ *   <li>{@value #INVOKE_TOOL_NAME} calls a tool by name with the given arguments, through the same
+ *   {@link RegisteredTool} handler and tool call filters as a direct call</li>
+ * </ul>
+ * This keeps the tool list of large APIs out of the context of the model, which only loads the schemas of the tools
+ * it searched for.
+ * <p>
+ * When {@code tools/list} results are filtered per caller, e.g. by the scopes of the caller's token, the same filter is
+ * applied to the search results, so that discovery does not reveal tools the caller would not see listed.
+ */
+@NullMarked
+public class ToolDiscovery {
+
+    public static final String SEARCH_TOOL_NAME = "search_tools";
+    public static final String INVOKE_TOOL_NAME = "invoke_tool";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ToolDiscovery.class);
+    private static final TypeReference<Map<String, Object>> ARGUMENTS_TYPE = new TypeReference<>() {};
+
+    private final ToolSearchIndex index;
+    private final int maxResults;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final McpSchema.Tool searchTool;
+    private final McpSchema.Tool invokeTool;
+    private final @Nullable Function<McpRequestContext, Predicate<RegisteredTool>> visibleTools;
+
+    public ToolDiscovery(ToolSearchIndex index, OpenApiMcpProperties.Tools.Discovery discovery) {
+        this(index, discovery, null);
+    }
+
+    /**
+     * @param index        the index of the registered tools
+     * @param discovery    the discovery configuration
+     * @param visibleTools returns the filter of the tools visible to the caller of a request, or {@code null} if all
+     *                     tools are visible to every caller
+     */
+    public ToolDiscovery(
+            ToolSearchIndex index,
+            OpenApiMcpProperties.Tools.Discovery discovery,
+            @Nullable Function<McpRequestContext, Predicate<RegisteredTool>> visibleTools) {
+        this.index = index;
+        this.visibleTools = visibleTools;
+        this.maxResults = discovery.maxResults();
+        this.searchTool = McpSchema.Tool.builder()
+                .name(SEARCH_TOOL_NAME)
+                .title("Search tools")
+                .description("Searches the available API operations by keywords and returns the best matching tools "
+                        + "with their input schemas. Call the found tools with " + INVOKE_TOOL_NAME + ".")
+                .inputSchema(Map.of(
+                        "type",
+                        "object",
+                        "properties",
+                        Map.of(
+                                "query",
+                                Map.of(
+                                        "type",
+                                        "string",
+                                        "description",
+                                        "Keywords describing the operation, for example \"send sms message\"."),
+                                "limit",
+                                Map.of(
+                                        "type",
+                                        "integer",
+                                        "minimum",
+                                        1,
+                                        "maximum",
+                                        maxResults,
+                                        "description",
+                                        "Maximum number of returned tools.")),
+                        "required",
+                        List.of("query")))
+                .annotations(new McpSchema.ToolAnnotations(null, true, false, true, false, null))
+                .build();
+        this.invokeTool = McpSchema.Tool.builder()
+                .name(INVOKE_TOOL_NAME)
+                .title("Invoke tool")
+                .description("Calls a tool found by " + SEARCH_TOOL_NAME + " with arguments matching its input schema.")
+                .inputSchema(Map.of(
+                        "type",
+                        "object",
+                        "properties",
+                        Map.of(
+                                "name",
+                                Map.of(
+                                        "type",
+                                        "string",
+                                        "description",
+                                        "Name of a tool returned by " + SEARCH_TOOL_NAME + "."),
+                                "arguments",
+                                Map.of(
+                                        "type",
+                                        "object",
+                                        "description",
+                                        "Arguments matching the input schema of the tool.")),
+                        "required",
+                        List.of("name")))
+                .annotations(new McpSchema.ToolAnnotations(null, false, true, false, true, null))
+                .build();
+    }
+
+    public McpSchema.Tool searchTool() {
+        return searchTool;
+    }
+
+    public McpSchema.Tool invokeTool() {
+        return invokeTool;
+    }
+
+    /**
+     * Handles a call of the {@value #SEARCH_TOOL_NAME} tool.
+     *
+     * @param request the call of the search tool
+     * @return the found tools as JSON text content
+     */
+    public McpSchema.CallToolResult search(McpSchema.CallToolRequest request) {
+        return search(request, tool -> true);
+    }
+
+    /**
+     * Handles a call of the {@value #SEARCH_TOOL_NAME} tool, returning only the tools visible to the caller.
+     *
+     * @param request the call of the search tool
+     * @param context the context of the request, used to determine the tools visible to the caller
+     * @return the found tools as JSON text content
+     */
+    public McpSchema.CallToolResult search(McpSchema.CallToolRequest request, McpRequestContext context) {
+        return search(request, visibleTools != null ? visibleTools.apply(context) : tool -> true);
+    }
+
+    private McpSchema.CallToolResult search(McpSchema.CallToolRequest request, Predicate<RegisteredTool> visible) {
+        var arguments = request.arguments() != null ? request.arguments() : Map.<String, Object>of();
+        if (!(arguments.get("query") instanceof String query) || query.isBlank()) {
+            return callToolResult("Argument 'query' is required.", true);
+        }
+        var limit = arguments.get("limit") instanceof Number number
+                ? Math.clamp(number.longValue(), 1, maxResults)
+                : maxResults;
+        // Built from maps rather than records, so the result is serialized without reflection
+        var tools = index.search(query, limit, visible).stream()
+                .map(hit -> {
+                    var tool = hit.tool().tool();
+                    var entry = new LinkedHashMap<String, Object>();
+                    entry.put("name", tool.name());
+                    entry.put("title", tool.title());
+                    entry.put("description", tool.description());
+                    entry.put("inputSchema", tool.inputSchema());
+                    return entry;
+                })
+                .toList();
+        try {
+            return callToolResult(jsonMapper.writeValueAsString(Map.of("tools", tools)), false);
+        } catch (JacksonException exception) {
+            LOGGER.error("Failed to serialize search results for query '{}'.", query, exception);
+            return callToolResult("Failed to serialize search results.", true);
+        }
+    }
+
+    /**
+     * Handles a call of the {@value #INVOKE_TOOL_NAME} tool by resolving the target tool and passing a call of it to
+     * the given function.
+     *
+     * @param request the call of the invoke tool
+     * @param call    the function calling the resolved tool with the request for it
+     * @return the result of the target tool, or an error result if the tool does not exist
+     */
+    public McpSchema.CallToolResult invoke(
+            McpSchema.CallToolRequest request,
+            BiFunction<RegisteredTool, McpSchema.CallToolRequest, McpSchema.CallToolResult> call) {
+        var arguments = request.arguments() != null ? request.arguments() : Map.<String, Object>of();
+        if (!(arguments.get("name") instanceof String name)) {
+            return callToolResult("Argument 'name' is required.", true);
+        }
+        var target = index.find(name);
+        if (target == null) {
+            return callToolResult(
+                    "Unknown tool '" + name + "'. Use " + SEARCH_TOOL_NAME + " to find available tools.", true);
+        }
+        var targetRequest = McpSchema.CallToolRequest.builder()
+                .name(name)
+                .arguments(targetArguments(arguments.get("arguments")))
+                .meta(request.meta())
+                .build();
+        return call.apply(target, targetRequest);
+    }
+
+    /**
+     * Models sometimes pass the arguments as a JSON string instead of an object, which is parsed here. Arguments that
+     * are neither are passed as empty, so the target tool reports the missing input.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> targetArguments(@Nullable Object arguments) {
+        return switch (arguments) {
+            case Map<?, ?> map -> (Map<String, Object>) map;
+            case String json -> {
+                try {
+                    yield jsonMapper.readValue(json, ARGUMENTS_TYPE);
+                } catch (JacksonException exception) {
+                    yield Map.of();
+                }
+            }
+            case null, default -> Map.of();
+        };
+    }
+
+    private static McpSchema.CallToolResult callToolResult(String text, boolean isError) {
+        return McpSchema.CallToolResult.builder()
+                .content(List.of(new McpSchema.TextContent(text)))
+                .isError(isError)
+                .build();
+    }
+}
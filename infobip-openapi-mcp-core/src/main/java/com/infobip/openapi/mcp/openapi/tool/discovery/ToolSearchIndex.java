@@ -0,0 +1,320 @@
+package com.infobip.openapi.mcp.openapi.tool.discovery;
+
+import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.core.util.RefUtils;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Inverted index over registered tools, ranked with BM25.
+ * <p>
+ * Each tool is indexed as a {@link Document} of terms taken from its name, title, description, tags and parameter
+ * names. Terms of the name, title and tags are weighted higher than terms of the description and parameters, so a
+ * query matching the name of an operation ranks it above operations which only mention the query in their
+ * description. Terms are lowercased and split on non-alphanumeric characters and camel case boundaries, and a plural
+ * {@code s} is dropped, so {@code sendSmsMessages} matches the query {@code send sms message}.
+ * <p>
+ * The index is {@link #update updated} incrementally: only tools which were added, removed or rebuilt since the
+ * previous update are re-indexed. Searches only visit the postings of the query terms, so their latency depends on
+ * how many tools share the query terms rather than on the size of the catalog.
+ */
+@NullMarked
+public class ToolSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 3;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int TAG_WEIGHT = 2;
+    private static final int PARAMETER_WEIGHT = 1;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final Pattern WORD_BOUNDARY =
+            Pattern.compile("[^\\p{L}\\p{N}]+|(?<=\\p{Ll})(?=\\p{Lu})|(?<=\\p{L})(?=\\p{N})|(?<=\\p{N})(?=\\p{L})");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedTool> tools = new HashMap<>();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    private record IndexedTool(RegisteredTool tool, Document document) {}
+
+    /**
+     * Weighted terms of a single tool.
+     *
+     * @param termFrequencies the weighted number of occurrences of each term
+     * @param length          the sum of the weighted term frequencies
+     */
+    public record Document(Map<String, Integer> termFrequencies, int length) {
+
+        /**
+         * Creates a document from the tool and the operation it was built from.
+         *
+         * @param tool      the MCP tool
+         * @param operation the OpenAPI operation, or {@code null} to index the tool only
+         * @return the document of the tool
+         */
+        public static Document of(McpSchema.Tool tool, @Nullable FullOperation operation) {
+            var termFrequencies = new HashMap<String, Integer>();
+            addTerms(termFrequencies, tool.name(), NAME_WEIGHT);
+            addTerms(termFrequencies, tool.title(), TITLE_WEIGHT);
+            if (operation != null) {
+                var openApiOperation = operation.operation();
+                addTerms(termFrequencies, openApiOperation.getDescription(), DESCRIPTION_WEIGHT);
+                if (openApiOperation.getTags() != null) {
+                    openApiOperation.getTags().forEach(tag -> addTerms(termFrequencies, tag, TAG_WEIGHT));
+                }
+                parameterNames(operation).forEach(name -> addTerms(termFrequencies, name, PARAMETER_WEIGHT));
+            } else {
+                addTerms(termFrequencies, tool.description(), DESCRIPTION_WEIGHT);
+            }
+            var length = termFrequencies.values().stream()
+                    .mapToInt(Integer::intValue)
+                    .sum();
+            return new Document(Map.copyOf(termFrequencies), length);
+        }
+
+        private static void addTerms(Map<String, Integer> termFrequencies, @Nullable String text, int weight) {
+            for (var term : tokenize(text)) {
+                termFrequencies.merge(term, weight, Integer::sum);
+            }
+        }
+
+        /**
+         * Collects the names of the operation parameters and of the top level properties of the JSON request body.
+         */
+        private static List<String> parameterNames(FullOperation operation) {
+            var names = new ArrayList<String>();
+            var openApiOperation = operation.operation();
+            if (openApiOperation.getParameters() != null) {
+                for (var parameter : openApiOperation.getParameters()) {
+                    if (parameter.getName() != null) {
+                        names.add(parameter.getName());
+                    }
+                }
+            }
+            var requestBody = openApiOperation.getRequestBody();
+            if (requestBody == null || requestBody.getContent() == null) {
+                return names;
+            }
+            for (var mediaType : requestBody.getContent().values()) {
+                var schema = resolve(mediaType.getSchema(), operation);
+                if (schema != null && schema.getProperties() != null) {
+                    names.addAll(schema.getProperties().keySet());
+                }
+            }
+            return names;
+        }
+
+        private static @Nullable Schema<?> resolve(@Nullable Schema<?> schema, FullOperation operation) {
+            if (schema == null || schema.get$ref() == null) {
+                return schema;
+            }
+            var components = operation.openApi().getComponents();
+            if (components == null || components.getSchemas() == null) {
+                return null;
+            }
+            return components
+                    .getSchemas()
+                    .get(RefUtils.extractSimpleName(schema.get$ref()).getKey());
+        }
+    }
+
+    /**
+     * Tool found by a search.
+     *
+     * @param tool  the registered tool
+     * @param score the BM25 score of the tool for the query
+     */
+    public record Hit(RegisteredTool tool, double score) {}
+
+    /**
+     * Updates the index to contain exactly the given tools. Tools which are already indexed as the same instance are
+     * kept as they are, tools which were removed or rebuilt are dropped, and new tools are indexed from their
+     * documents.
+     *
+     * @param registeredTools all currently registered tools
+     * @param documents       the documents of the new or rebuilt tools by tool name; tools without a document are
+     *                        indexed from the tool definition only
+     */
+    public void update(List<RegisteredTool> registeredTools, Map<String, Document> documents) {
+        var currentTools = new HashMap<String, RegisteredTool>();
+        registeredTools.forEach(
+                registeredTool -> currentTools.put(registeredTool.tool().name(), registeredTool));
+        lock.writeLock().lock();
+        try {
+            var removedNames = tools.entrySet().stream()
+                    .filter(entry ->
+                            currentTools.get(entry.getKey()) != entry.getValue().tool())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            removedNames.forEach(this::remove);
+            for (var entry : currentTools.entrySet()) {
+                if (!tools.containsKey(entry.getKey())) {
+                    var registeredTool = entry.getValue();
+                    var document = documents.get(entry.getKey());
+                    add(registeredTool, document != null ? document : Document.of(registeredTool.tool(), null));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the tools matching the query.
+     *
+     * @param query the free text query
+     * @param limit the maximum number of returned tools
+     * @return the matching tools, best match first
+     */
+    public List<Hit> search(String query, int limit) {
+        return search(query, limit, tool -> true);
+    }
+
+    /**
+     * Searches the tools matching the query among the tools accepted by the filter.
+     *
+     * @param query  the free text query
+     * @param limit  the maximum number of returned tools
+     * @param filter accepts the tools that may be returned
+     * @return the matching tools, best match first
+     */
+    public List<Hit> search(String query, int limit, Predicate<RegisteredTool> filter) {
+        var terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (tools.isEmpty()) {
+                return List.of();
+            }
+            var toolCount = tools.size();
+            var averageLength = (double) totalLength / toolCount;
+            var scores = new HashMap<String, Double>();
+            for (var term : terms) {
+                var posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                var idf = Math.log(1 + (toolCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (var entry : posting.entrySet()) {
+                    var termFrequency = entry.getValue();
+                    var length = tools.get(entry.getKey()).document().length();
+                    var score = idf
+                            * termFrequency
+                            * (K1 + 1)
+                            / (termFrequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(entry.getKey(), score, Double::sum);
+                }
+            }
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score)
+                    .reversed()
+                    .thenComparing(hit -> hit.tool().tool().name());
+            // Keeps the best hits only, with the worst of them at the head of the queue
+            var best = new PriorityQueue<>(ranking.reversed());
+            for (var entry : scores.entrySet()) {
+                var tool = tools.get(entry.getKey()).tool();
+                if (!filter.test(tool)) {
+                    continue;
+                }
+                best.add(new Hit(tool, entry.getValue()));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            return best.stream().sorted(ranking).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param toolName the name of the tool
+     * @return the indexed tool with the given name, or {@code null} if there is none
+     */
+    public @Nullable RegisteredTool find(String toolName) {
+        lock.readLock().lock();
+        try {
+            var indexedTool = tools.get(toolName);
+            return indexedTool != null ? indexedTool.tool() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed tools
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tools.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(RegisteredTool registeredTool, Document document) {
+        var name = registeredTool.tool().name();
+        tools.put(name, new IndexedTool(registeredTool, document));
+        document.termFrequencies().forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                .put(name, frequency));
+        totalLength += document.length();
+    }
+
+    private void remove(String name) {
+        var indexedTool = tools.remove(name);
+        if (indexedTool == null) {
+            return;
+        }
+        for (var term : indexedTool.document().termFrequencies().keySet()) {
+            var posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(name);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= indexedTool.document().length();
+    }
+
+    static List<String> tokenize(@Nullable String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        var terms = new ArrayList<String>();
+        for (var word : WORD_BOUNDARY.split(text)) {
+            if (!word.isEmpty()) {
+                terms.add(normalize(word.toLowerCase(Locale.ROOT)));
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String term) {
+        if (term.length() > 4 && term.endsWith("ies")) {
+            return term.substring(0, term.length() - 3) + "y";
+        }
+        if (term.length() > 3 && term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us")) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+}
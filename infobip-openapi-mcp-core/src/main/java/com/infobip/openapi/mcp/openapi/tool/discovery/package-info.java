@@ -0,0 +1,14 @@
+/**
+ * Dynamic tool discovery for large APIs.
+ * <p>
+ * Instead of registering one MCP tool per OpenAPI operation, the server registers a tool searching the operations
+ * and a tool invoking them by name. The registered tools are indexed by
+ * {@link com.infobip.openapi.mcp.openapi.tool.discovery.ToolSearchIndex} and exposed through
+ * {@link com.infobip.openapi.mcp.openapi.tool.discovery.ToolDiscovery}.
+ *
+ * @see com.infobip.openapi.mcp.config.OpenApiMcpProperties.Tools.Discovery
+ */
+@NullMarked
+package com.infobip.openapi.mcp.openapi.tool.discovery;
+
+import org.jspecify.annotations.NullMarked;
@@ -8,6 +8,10 @@ import org.jspecify.annotations.NonNull;
  */
 public final class ToolRegistrationException extends RuntimeException {
 
+    private ToolRegistrationException(String message) {
+        super(message);
+    }
+
     private ToolRegistrationException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -29,4 +33,11 @@ public final class ToolRegistrationException extends RuntimeException {
                         operation.method(), operation.path(), cause.getMessage()),
                 cause);
     }
+
+    public static @NonNull ToolRegistrationException becauseOfDuplicateName(String toolName) {
+        return new ToolRegistrationException(String.format(
+                "Unable to register tool: %s. "
+                        + "The name is not unique across OpenAPI specifications, configure distinct tool prefixes.",
+                toolName));
+    }
 }
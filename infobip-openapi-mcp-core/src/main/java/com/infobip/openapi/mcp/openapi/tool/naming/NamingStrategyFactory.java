@@ -22,11 +22,13 @@ import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
  * The factory can wrap base strategies with additional functionality:
  * </p>
  * <ul>
+ *   <li>Name prefixing via {@link PrefixNamingStrategy} for additional OpenAPI specifications</li>
  *   <li>Length trimming via {@link TrimNamingStrategy} when maxLength is configured</li>
  * </ul>
  *
  * @see NamingStrategy
  * @see NamingStrategyType
+ * @see PrefixNamingStrategy
  * @see TrimNamingStrategy
  * @see OpenApiMcpProperties.Tools.Naming
  */
@@ -45,6 +47,21 @@ public class NamingStrategyFactory {
      * @throws IllegalArgumentException if an unsupported strategy type is provided
      */
     public NamingStrategy create(OpenApiMcpProperties.Tools.Naming naming) {
+        return create(naming, "");
+    }
+
+    /**
+     * Creates a {@link NamingStrategy} based on the provided configuration, prepending the given prefix to all names.
+     * <p>
+     * The prefix is applied before length trimming, so prefixed names still respect the configured maximum length.
+     * </p>
+     *
+     * @param naming the tool naming configuration containing strategy type and optional parameters
+     * @param prefix the prefix to prepend to all names, or an empty string for no prefix
+     * @return the configured naming strategy, potentially wrapped with decorators
+     * @throws IllegalArgumentException if an unsupported strategy type is provided
+     */
+    public NamingStrategy create(OpenApiMcpProperties.Tools.Naming naming, String prefix) {
         NamingStrategy baseStrategy =
                 switch (naming.strategy()) {
                     case OPERATION_ID -> new OperationIdStrategy();
@@ -52,6 +69,10 @@ public class NamingStrategyFactory {
                     case ENDPOINT -> new EndpointStrategy();
                 };
 
+        if (!prefix.isEmpty()) {
+            baseStrategy = new PrefixNamingStrategy(baseStrategy, prefix);
+        }
+
         if (naming.maxLength() != null) {
             return new TrimNamingStrategy(baseStrategy, naming.maxLength());
         }
@@ -0,0 +1,46 @@
+package com.infobip.openapi.mcp.openapi.tool.naming;
+
+import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+
+/**
+ * A decorator naming strategy that prepends a fixed prefix to tool names.
+ * <p>
+ * This strategy is used for additional OpenAPI specifications served by the same MCP server, so tools of different
+ * specifications get distinct names even if their operations are named the same.
+ * </p>
+ *
+ * <h3>Examples:</h3>
+ * <p>With prefix = {@code "billing_"}:</p>
+ * <ul>
+ *   <li>{@code "get_invoice"} → {@code "billing_get_invoice"}</li>
+ * </ul>
+ *
+ * <p>
+ * When combined with {@link TrimNamingStrategy} by the {@link NamingStrategyFactory}, the prefix is applied first, so
+ * prefixed names still respect the configured maximum length.
+ * </p>
+ *
+ * @see NamingStrategy
+ * @see NamingStrategyFactory
+ */
+public class PrefixNamingStrategy implements NamingStrategy {
+
+    private final NamingStrategy delegate;
+    private final String prefix;
+
+    /**
+     * Creates a new prefixing naming strategy that wraps the given delegate.
+     *
+     * @param delegate the naming strategy to wrap and delegate name generation to
+     * @param prefix   the prefix to prepend to generated names
+     */
+    public PrefixNamingStrategy(NamingStrategy delegate, String prefix) {
+        this.delegate = delegate;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public String name(FullOperation operation) {
+        return prefix + delegate.name(operation);
+    }
+}
@@ -0,0 +1,140 @@
+package com.infobip.openapi.mcp.pagination;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Cuts {@code tools/list} and {@code prompts/list} results into pages of the configured
+ * {@link OpenApiMcpProperties.Pagination#pageSize() size}.
+ * <p>
+ * Pages are ordered by name, so the order does not depend on the order in which tools were registered or reloaded.
+ * The ordered list is kept along with the catalog version and the list it was sorted from, so later pages of an
+ * unchanged list are sliced from it instead of sorting the list on every request.
+ * <p>
+ * Cursors are opaque to clients and encode the catalog version and the offset of the next page. A cursor is only
+ * accepted while the catalog version is unchanged, because offsets into a changed catalog would skip or repeat
+ * entries.
+ */
+@NullMarked
+public class CatalogPaginator {
+
+    private static final String SEPARATOR = ":";
+
+    private final int pageSize;
+    private final LongSupplier catalogVersion;
+    private final AtomicReference<@Nullable Sorted<McpSchema.Tool>> sortedTools = new AtomicReference<>();
+    private final AtomicReference<@Nullable Sorted<McpSchema.Prompt>> sortedPrompts = new AtomicReference<>();
+
+    /**
+     * @param pagination     the pagination configuration, which must have a page size
+     * @param catalogVersion the supplier of the current catalog version
+     */
+    public CatalogPaginator(OpenApiMcpProperties.Pagination pagination, LongSupplier catalogVersion) {
+        if (!pagination.enabled()) {
+            throw new IllegalArgumentException("Page size must be set to paginate list results.");
+        }
+        this.pageSize = pagination.pageSize();
+        this.catalogVersion = catalogVersion;
+    }
+
+    /**
+     * Position of a page in the catalog.
+     *
+     * @param catalogVersion the catalog version the page is taken from
+     * @param offset         the index of the first entry of the page
+     */
+    public record Position(long catalogVersion, int offset) {}
+
+    /**
+     * Resolves the position of the requested page. It has to be resolved before listing the catalog, so that a reload
+     * that starts while the catalog is listed invalidates the cursor of the next page.
+     *
+     * @param cursor the cursor of the list request, or {@code null} for the first page
+     * @return the position of the requested page
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another catalog version
+     */
+    public Position position(@Nullable String cursor) {
+        var currentVersion = catalogVersion.getAsLong();
+        if (cursor == null) {
+            return new Position(currentVersion, 0);
+        }
+        var position = decode(cursor);
+        if (position.catalogVersion() != currentVersion) {
+            throw InvalidCursorException.becauseCatalogChanged(position.catalogVersion(), currentVersion);
+        }
+        return position;
+    }
+
+    public McpSchema.ListToolsResult page(McpSchema.ListToolsResult result, Position position) {
+        var page = slice(sorted(result.tools(), McpSchema.Tool::name, position, sortedTools), position);
+        return new McpSchema.ListToolsResult(page.entries(), page.nextCursor(), result.meta());
+    }
+
+    public McpSchema.ListPromptsResult page(McpSchema.ListPromptsResult result, Position position) {
+        var page = slice(sorted(result.prompts(), McpSchema.Prompt::name, position, sortedPrompts), position);
+        return new McpSchema.ListPromptsResult(page.entries(), page.nextCursor(), result.meta());
+    }
+
+    private record Page<T>(List<T> entries, @Nullable String nextCursor) {}
+
+    /**
+     * A list ordered by name, along with the catalog version and the list it was sorted from.
+     */
+    private record Sorted<T>(long catalogVersion, List<T> source, List<T> entries) {
+
+        boolean matches(long catalogVersion, List<T> source) {
+            // Lists built for every request hold the same entries, so comparing them is cheaper than sorting again
+            return this.catalogVersion == catalogVersion && (this.source == source || this.source.equals(source));
+        }
+    }
+
+    private static <T> List<T> sorted(
+            List<T> entries, Function<T, String> name, Position position, AtomicReference<@Nullable Sorted<T>> cache) {
+        var cached = cache.get();
+        if (cached != null && cached.matches(position.catalogVersion(), entries)) {
+            return cached.entries();
+        }
+        var sorted = entries.stream().sorted(Comparator.comparing(name)).toList();
+        cache.set(new Sorted<>(position.catalogVersion(), entries, sorted));
+        return sorted;
+    }
+
+    private <T> Page<T> slice(List<T> sorted, Position position) {
+        var from = Math.min(position.offset(), sorted.size());
+        var to = Math.min(from + pageSize, sorted.size());
+        var page = sorted.subList(from, to);
+        var nextCursor = to < sorted.size() ? encode(new Position(position.catalogVersion(), to)) : null;
+        return new Page<>(page, nextCursor);
+    }
+
+    private static String encode(Position position) {
+        var value = position.catalogVersion() + SEPARATOR + position.offset();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decode(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var parts = value.split(SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw InvalidCursorException.becauseOfMalformedCursor(cursor);
+            }
+            var offset = Integer.parseInt(parts[1]);
+            if (offset < 0) {
+                throw InvalidCursorException.becauseOfMalformedCursor(cursor);
+            }
+            return new Position(Long.parseLong(parts[0]), offset);
+        } catch (IllegalArgumentException e) {
+            throw InvalidCursorException.becauseOfMalformedCursor(cursor);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.infobip.openapi.mcp.pagination;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Exception thrown when a list request carries a cursor that cannot be used to continue the listing.
+ */
+public final class InvalidCursorException extends RuntimeException {
+
+    private InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public static @NonNull InvalidCursorException becauseOfMalformedCursor(String cursor) {
+        return new InvalidCursorException(String.format("Invalid cursor: %s.", cursor));
+    }
+
+    public static @NonNull InvalidCursorException becauseCatalogChanged(long cursorVersion, long catalogVersion) {
+        return new InvalidCursorException(String.format(
+                "Invalid cursor: catalog changed from version %d to %d since the cursor was issued. "
+                        + "List again without a cursor.",
+                cursorVersion, catalogVersion));
+    }
+}
@@ -0,0 +1,106 @@
+package com.infobip.openapi.mcp.pagination;
+
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.server.McpStatelessServerHandler;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpStatelessServerTransport;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stateless server transport that paginates {@code tools/list} and {@code prompts/list} responses of the MCP server.
+ * <p>
+ * The MCP SDK does not support cursors, so list requests are passed to the server unchanged, and the complete result
+ * is cut into the requested page by the {@link CatalogPaginator}. The cursor is checked before the request reaches the
+ * server, and invalid cursors are answered with an {@code Invalid params} error. All other requests and the transport
+ * lifecycle are delegated as they are.
+ */
+@NullMarked
+public class PaginatingStatelessServerTransport implements McpStatelessServerTransport {
+
+    private static final Set<String> PAGINATED_METHODS =
+            Set.of(McpSchema.METHOD_TOOLS_LIST, McpSchema.METHOD_PROMPT_LIST);
+
+    private final McpStatelessServerTransport delegate;
+    private final CatalogPaginator paginator;
+
+    public PaginatingStatelessServerTransport(McpStatelessServerTransport delegate, CatalogPaginator paginator) {
+        this.delegate = delegate;
+        this.paginator = paginator;
+    }
+
+    @Override
+    public void setMcpHandler(McpStatelessServerHandler mcpHandler) {
+        delegate.setMcpHandler(new PaginatingHandler(mcpHandler));
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+        return delegate.closeGracefully();
+    }
+
+    @Override
+    public List<String> protocolVersions() {
+        return delegate.protocolVersions();
+    }
+
+    private class PaginatingHandler implements McpStatelessServerHandler {
+
+        private final McpStatelessServerHandler delegate;
+
+        private PaginatingHandler(McpStatelessServerHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Mono<McpSchema.JSONRPCResponse> handleRequest(
+                McpTransportContext transportContext, McpSchema.JSONRPCRequest request) {
+            if (!PAGINATED_METHODS.contains(request.method())) {
+                return delegate.handleRequest(transportContext, request);
+            }
+            CatalogPaginator.Position position;
+            try {
+                position = paginator.position(cursorOf(request));
+            } catch (InvalidCursorException e) {
+                return Mono.just(McpSchema.JSONRPCResponse.error(
+                        request.id(),
+                        new McpSchema.JSONRPCResponse.JSONRPCError(
+                                McpSchema.ErrorCodes.INVALID_PARAMS, e.getMessage())));
+            }
+            return delegate.handleRequest(transportContext, request).map(response -> page(response, position));
+        }
+
+        @Override
+        public Mono<Void> handleNotification(
+                McpTransportContext transportContext, McpSchema.JSONRPCNotification notification) {
+            return delegate.handleNotification(transportContext, notification);
+        }
+
+        private McpSchema.JSONRPCResponse page(McpSchema.JSONRPCResponse response, CatalogPaginator.Position position) {
+            return switch (response.result()) {
+                case McpSchema.ListToolsResult tools ->
+                    McpSchema.JSONRPCResponse.result(response.id(), paginator.page(tools, position));
+                case McpSchema.ListPromptsResult prompts ->
+                    McpSchema.JSONRPCResponse.result(response.id(), paginator.page(prompts, position));
+                case null, default -> response;
+            };
+        }
+
+        private static @Nullable String cursorOf(McpSchema.JSONRPCRequest request) {
+            return switch (request.params()) {
+                case Map<?, ?> params when params.get("cursor") instanceof String cursor -> cursor;
+                case McpSchema.PaginatedRequest paginatedRequest -> paginatedRequest.cursor();
+                case null, default -> null;
+            };
+        }
+    }
+}
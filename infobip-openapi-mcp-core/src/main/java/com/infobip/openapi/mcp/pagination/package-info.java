@@ -0,0 +1,14 @@
+/**
+ * Cursor pagination of {@code tools/list} and {@code prompts/list} responses.
+ *
+ * <p>The MCP SDK answers list requests with all registered tools and prompts and ignores cursors. With pagination
+ * configured, {@link com.infobip.openapi.mcp.pagination.PaginatingStatelessServerTransport} intercepts list requests of
+ * the stateless protocol and lets {@link com.infobip.openapi.mcp.pagination.CatalogPaginator} cut the SDK response
+ * into pages ordered by name. Cursors carry the catalog version of
+ * {@link com.infobip.openapi.mcp.openapi.ToolLiveReload}, so a cursor issued before the catalog changed is rejected
+ * with an {@code Invalid params} error instead of continuing with a page of the new catalog.
+ */
+@NullMarked
+package com.infobip.openapi.mcp.pagination;
+
+import org.jspecify.annotations.NullMarked;
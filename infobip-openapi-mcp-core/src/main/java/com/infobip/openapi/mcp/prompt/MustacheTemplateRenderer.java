@@ -68,7 +68,22 @@ class MustacheTemplateRenderer {
     }
 
     /**
-     * Removes all compiled templates. Called before live reload recompilation.
+     * Removes compiled templates of a single prompt. Called before live reload recompiles a changed prompt
+     * or when a prompt is removed.
+     *
+     * @param promptName the prompt name
+     */
+    void remove(String promptName) {
+        var prefix = promptName + "_";
+        compiledTemplates
+                .keySet()
+                .removeIf(key -> key.startsWith(prefix)
+                        && key.length() > prefix.length()
+                        && key.substring(prefix.length()).chars().allMatch(Character::isDigit));
+    }
+
+    /**
+     * Removes all compiled templates.
      */
     void clear() {
         compiledTemplates.clear();
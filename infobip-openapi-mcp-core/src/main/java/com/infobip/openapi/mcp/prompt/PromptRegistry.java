@@ -7,6 +7,7 @@ import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
 import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
 import com.infobip.openapi.mcp.openapi.schema.Spec;
 import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.OpenAPI;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -31,6 +32,9 @@ import tools.jackson.databind.ObjectMapper;
  *   <li><b>Resolved mode</b> — prompts with a {@code resolve} block that
  *       delegates to a backend HTTP endpoint.</li>
  * </ul>
+ *
+ * <p>Prompts whose definition fingerprint did not change since the previous {@link #getPrompts()} call are
+ * reused together with their compiled templates.
  */
 public class PromptRegistry {
 
@@ -45,6 +49,9 @@ public class PromptRegistry {
     private final MustacheTemplateRenderer templateRenderer = new MustacheTemplateRenderer();
 
     private volatile List<RegisteredPrompt> registeredPromptsCache = List.of();
+    private Map<String, FingerprintedPrompt> promptsByName = Map.of();
+
+    private record FingerprintedPrompt(String fingerprint, RegisteredPrompt prompt) {}
 
     public PromptRegistry(
             OpenApiRegistry openApiRegistry,
@@ -68,19 +75,46 @@ public class PromptRegistry {
      * @return a list of registered prompts ready for MCP server registration
      */
     public List<RegisteredPrompt> getPrompts() {
-        var definitions = parseExtension();
+        var specification = openApiRegistry.specification();
+        var definitions = parseExtension(specification.openApi());
         if (definitions.isEmpty()) {
             LOGGER.debug("No prompt definitions found in OpenAPI spec.");
+            templateRenderer.clear();
+            promptsByName = Map.of();
             registeredPromptsCache = List.of();
             return registeredPromptsCache;
         }
 
         validateUniqueNames(definitions);
 
-        templateRenderer.clear();
+        var fingerprints = specification.fingerprints();
+        var previousPromptsByName = promptsByName;
+        var currentPromptsByName = new HashMap<String, FingerprintedPrompt>();
+        var registeredPrompts = new ArrayList<RegisteredPrompt>();
+        for (var definition : definitions) {
+            var fingerprint = fingerprints != null ? fingerprints.prompts().get(definition.name()) : null;
+            var previous = previousPromptsByName.get(definition.name());
+            RegisteredPrompt registeredPrompt;
+            if (fingerprint != null
+                    && previous != null
+                    && previous.fingerprint().equals(fingerprint)) {
+                // Unchanged prompts keep their compiled templates
+                registeredPrompt = previous.prompt();
+            } else {
+                templateRenderer.remove(definition.name());
+                registeredPrompt = buildRegisteredPrompt(definition);
+            }
+            if (fingerprint != null) {
+                currentPromptsByName.put(definition.name(), new FingerprintedPrompt(fingerprint, registeredPrompt));
+            }
+            registeredPrompts.add(registeredPrompt);
+        }
+        previousPromptsByName.keySet().stream()
+                .filter(name -> !currentPromptsByName.containsKey(name))
+                .forEach(templateRenderer::remove);
+        promptsByName = currentPromptsByName;
 
-        registeredPromptsCache =
-                definitions.stream().map(this::buildRegisteredPrompt).toList();
+        registeredPromptsCache = List.copyOf(registeredPrompts);
         LOGGER.info(
                 "Registered {} prompt(s): {}",
                 registeredPromptsCache.size(),
@@ -95,8 +129,8 @@ public class PromptRegistry {
         return registeredPromptsCache;
     }
 
-    private List<PromptExtensionDefinition> parseExtension() {
-        var extensions = openApiRegistry.openApi().getExtensions();
+    private List<PromptExtensionDefinition> parseExtension(OpenAPI openApi) {
+        var extensions = openApi.getExtensions();
         if (extensions == null) {
             LOGGER.debug("OpenAPI spec has no extensions, skipping prompt parsing.");
             return List.of();
@@ -11,7 +11,11 @@ import org.jspecify.annotations.NullMarked;
 public class OpenApiMapperFactory {
 
     public ObjectMapper mapper(OpenAPI openApi) {
-        return switch (openApi.getSpecVersion()) {
+        return mapper(openApi.getSpecVersion());
+    }
+
+    public ObjectMapper mapper(SpecVersion specVersion) {
+        return switch (specVersion) {
             case SpecVersion.V30 -> Json.mapper();
             case SpecVersion.V31 -> Json31.mapper();
         };
@@ -0,0 +1,61 @@
+package com.infobip.openapi.mcp.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs blocking tasks, such as loading OpenAPI specifications, in parallel on virtual threads.
+ */
+@NullMarked
+public final class ParallelTasks {
+
+    private ParallelTasks() {}
+
+    /**
+     * Runs the given tasks in parallel and waits for all of them. A single task is run on the calling thread. Every
+     * task runs to completion even if another one fails, and the first failure is thrown afterwards, with the other
+     * failures suppressed.
+     *
+     * @param tasks the tasks to run
+     * @param <T>   the type of the task results
+     * @return the results of the tasks, in task order
+     */
+    public static <T extends @Nullable Object> List<T> run(List<Supplier<T>> tasks) {
+        var results = new ArrayList<T>();
+        if (tasks.size() == 1) {
+            results.add(tasks.getFirst().get());
+            return results;
+        }
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = tasks.stream().map(task -> executor.submit(task::get)).toList();
+            RuntimeException failure = null;
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    var cause = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new IllegalStateException(e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for parallel tasks.", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return results;
+        }
+    }
+}
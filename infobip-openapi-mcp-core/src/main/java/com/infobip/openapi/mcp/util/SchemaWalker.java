@@ -1,22 +1,16 @@
 package com.infobip.openapi.mcp.util;
 
-import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Content;
-import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.oas.models.parameters.Parameter;
-import io.swagger.v3.oas.models.parameters.RequestBody;
-import io.swagger.v3.oas.models.responses.ApiResponse;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * SchemaWalker is a utility class that can be used to access all
@@ -25,82 +19,120 @@ import org.jspecify.annotations.NonNull;
  * pass the specification as an argument to its walk method.
  * SchemaWalker will invoke the visitor with every schema present
  * in the provided specification.
+ * <p>
+ * Every schema is visited before its subschemas, so subschemas added
+ * or removed by the visitor are taken into account.
  */
 public class SchemaWalker {
 
     private final @NonNull Consumer<@NonNull Schema<?>> schemaVisitor;
+    private final @Nullable Set<Schema<?>> visited;
 
     /**
      * @param schemaVisitor that will be invoked for every schema in the specification.
      */
     public SchemaWalker(@NonNull Consumer<@NonNull Schema<?>> schemaVisitor) {
+        this(schemaVisitor, null);
+    }
+
+    private SchemaWalker(@NonNull Consumer<@NonNull Schema<?>> schemaVisitor, @Nullable Set<Schema<?>> visited) {
         this.schemaVisitor = schemaVisitor;
+        this.visited = visited;
     }
 
     /**
-     * @param openApi specification that will be traversed
+     * Creates a walker that visits every schema instance at most once, together with its subschemas, across all walks
+     * of the walker. Use it when the same schema instance is reachable from several places, for example when
+     * component schemas are placed into other schemas.
+     *
+     * @param schemaVisitor that will be invoked once for every schema instance in the specification.
+     * @return the walker
      */
-    public void walk(@NonNull OpenAPI openApi) {
-        Stream.concat(schemasFromPaths(openApi), schemasFromComponents(openApi)).forEach(this::visitAllSchemasIn);
+    public static @NonNull SchemaWalker visitingEachSchemaOnce(@NonNull Consumer<@NonNull Schema<?>> schemaVisitor) {
+        return new SchemaWalker(schemaVisitor, Collections.newSetFromMap(new IdentityHashMap<>()));
     }
 
-    private Stream<Schema> schemasFromComponents(OpenAPI openApi) {
-        return Optional.ofNullable(openApi.getComponents()).map(Components::getSchemas).stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull);
+    /**
+     * @param openApi specification that will be traversed
+     */
+    public void walk(@NonNull OpenAPI openApi) {
+        walkOperations(openApi);
+        walkComponents(openApi);
     }
 
-    private Stream<Schema> schemasFromPaths(OpenAPI openApi) {
-        return Optional.ofNullable(openApi.getPaths()).stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .map(PathItem::readOperations)
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .flatMap(this::schemasFromOperation)
-                .filter(Objects::nonNull);
+    /**
+     * Visits schemas of operation parameters, request bodies and responses, and their subschemas.
+     *
+     * @param openApi specification that will be traversed
+     */
+    public void walkOperations(@NonNull OpenAPI openApi) {
+        if (openApi.getPaths() == null) {
+            return;
+        }
+        for (var pathItem : openApi.getPaths().values()) {
+            if (pathItem == null) {
+                continue;
+            }
+            for (var operation : pathItem.readOperations()) {
+                visitOperation(operation);
+            }
+        }
     }
 
-    private Stream<Schema> schemasFromOperation(Operation operation) {
-        var parameters = schemasFromParameters(operation);
-        var requests = schemasFromRequest(operation);
-        var responses = schemasFromResponses(operation);
-        return Stream.concat(parameters, Stream.concat(requests, responses));
+    /**
+     * Visits schemas declared in {@code components.schemas}, and their subschemas.
+     *
+     * @param openApi specification that will be traversed
+     */
+    public void walkComponents(@NonNull OpenAPI openApi) {
+        if (openApi.getComponents() == null || openApi.getComponents().getSchemas() == null) {
+            return;
+        }
+        visitAll(openApi.getComponents().getSchemas().values());
     }
 
-    private Stream<Schema> schemasFromParameters(Operation operation) {
-        return Optional.ofNullable(operation.getParameters()).stream()
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .map(Parameter::getSchema)
-                .filter(Objects::nonNull);
+    private void visitOperation(Operation operation) {
+        if (operation.getParameters() != null) {
+            for (var parameter : operation.getParameters()) {
+                if (parameter != null) {
+                    visitAllSchemasIn(parameter.getSchema());
+                }
+            }
+        }
+        if (operation.getRequestBody() != null) {
+            visitContent(operation.getRequestBody().getContent());
+        }
+        if (operation.getResponses() != null) {
+            for (var response : operation.getResponses().values()) {
+                if (response != null) {
+                    visitContent(response.getContent());
+                }
+            }
+        }
     }
 
-    private Stream<Schema> schemasFromRequest(Operation operation) {
-        return Optional.ofNullable(operation.getRequestBody()).map(RequestBody::getContent).stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .map(MediaType::getSchema)
-                .filter(Objects::nonNull);
+    private void visitContent(@Nullable Content content) {
+        if (content == null) {
+            return;
+        }
+        for (var mediaType : content.values()) {
+            if (mediaType != null) {
+                visitAllSchemasIn(mediaType.getSchema());
+            }
+        }
     }
 
-    private Stream<Schema> schemasFromResponses(Operation operation) {
-        return Optional.ofNullable(operation.getResponses()).map(Map::values).stream()
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .map(ApiResponse::getContent)
-                .filter(Objects::nonNull)
-                .map(Content::values)
-                .flatMap(Collection::stream)
-                .map(MediaType::getSchema)
-                .filter(Objects::nonNull);
+    private void visitAll(@Nullable Collection<? extends Schema> schemas) {
+        if (schemas == null) {
+            return;
+        }
+        for (var schema : schemas) {
+            visitAllSchemasIn(schema);
+        }
     }
 
-    private void visitAllSchemasIn(Schema<?> schema) {
-        if (schema == null) {
+    private void visitAllSchemasIn(@Nullable Schema<?> schema) {
+        if (schema == null || (visited != null && !visited.add(schema))) {
             return;
         }
 
@@ -117,22 +149,14 @@ public class SchemaWalker {
         visitAllSchemasIn(schema.getAdditionalItems());
 
         if (schema.getProperties() != null) {
-            schema.getProperties().values().forEach(this::visitAllSchemasIn);
+            visitAll(schema.getProperties().values());
         }
         if (schema.getDependentSchemas() != null) {
-            schema.getDependentSchemas().values().forEach(this::visitAllSchemasIn);
-        }
-        if (schema.getPrefixItems() != null) {
-            schema.getPrefixItems().forEach(this::visitAllSchemasIn);
-        }
-        if (schema.getAllOf() != null) {
-            schema.getAllOf().forEach(this::visitAllSchemasIn);
-        }
-        if (schema.getAnyOf() != null) {
-            schema.getAnyOf().forEach(this::visitAllSchemasIn);
-        }
-        if (schema.getOneOf() != null) {
-            schema.getOneOf().forEach(this::visitAllSchemasIn);
+            visitAll(schema.getDependentSchemas().values());
         }
+        visitAll(schema.getPrefixItems());
+        visitAll(schema.getAllOf());
+        visitAll(schema.getAnyOf());
+        visitAll(schema.getOneOf());
     }
 }
@@ -4,6 +4,7 @@ import com.infobip.openapi.mcp.McpRequestContextFactory;
 import com.infobip.openapi.mcp.openapi.tool.OrderingToolCallFilterChainFactory;
 import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
 import com.infobip.openapi.mcp.openapi.tool.ToolCallFilter;
+import com.infobip.openapi.mcp.openapi.tool.discovery.ToolDiscovery;
 import io.modelcontextprotocol.server.McpServerFeatures;
 import io.modelcontextprotocol.server.McpStatelessServerFeatures;
 import java.util.List;
@@ -24,7 +25,7 @@ public class ToolSpecBuilder {
                 .tool(registeredTool.tool())
                 .callHandler((mcpSyncServerExchange, callToolRequest) -> {
                     var context = contextFactory.forStatefulTransport(
-                            mcpSyncServerExchange, callToolRequest, registeredTool.fullOperation());
+                            mcpSyncServerExchange, callToolRequest, registeredTool.operation());
                     return chainFactory.get().doFilter(context, callToolRequest);
                 })
                 .build();
@@ -37,9 +38,58 @@ public class ToolSpecBuilder {
                 .tool(registeredTool.tool())
                 .callHandler((mcpTransportContext, callToolRequest) -> {
                     var context = contextFactory.forStatelessTransport(
-                            mcpTransportContext, callToolRequest, registeredTool.fullOperation());
+                            mcpTransportContext, callToolRequest, registeredTool.operation());
                     return chainFactory.get().doFilter(context, callToolRequest);
                 })
                 .build();
     }
+
+    /**
+     * Builds the {@link ToolDiscovery} meta tools. Tools invoked through them run through the same filters as tools
+     * registered directly.
+     */
+    public List<McpServerFeatures.SyncToolSpecification> buildSyncDiscoveryToolSpecifications(
+            ToolDiscovery toolDiscovery) {
+        return List.of(
+                McpServerFeatures.SyncToolSpecification.builder()
+                        .tool(toolDiscovery.searchTool())
+                        .callHandler((mcpSyncServerExchange, callToolRequest) -> toolDiscovery.search(callToolRequest))
+                        .build(),
+                McpServerFeatures.SyncToolSpecification.builder()
+                        .tool(toolDiscovery.invokeTool())
+                        .callHandler((mcpSyncServerExchange, callToolRequest) ->
+                                toolDiscovery.invoke(callToolRequest, (registeredTool, targetRequest) -> {
+                                    var context = contextFactory.forStatefulTransport(
+                                            mcpSyncServerExchange, targetRequest, registeredTool.operation());
+                                    return new OrderingToolCallFilterChainFactory(registeredTool, filters)
+                                            .get()
+                                            .doFilter(context, targetRequest);
+                                }))
+                        .build());
+    }
+
+    /**
+     * Builds the {@link ToolDiscovery} meta tools for the stateless transport. Searches only return the tools visible to
+     * the caller of the request.
+     */
+    public List<McpStatelessServerFeatures.SyncToolSpecification> buildSyncStatelessDiscoveryToolSpecifications(
+            ToolDiscovery toolDiscovery) {
+        return List.of(
+                McpStatelessServerFeatures.SyncToolSpecification.builder()
+                        .tool(toolDiscovery.searchTool())
+                        .callHandler((mcpTransportContext, callToolRequest) -> toolDiscovery.search(
+                                callToolRequest, contextFactory.forStatelessRequest(mcpTransportContext)))
+                        .build(),
+                McpStatelessServerFeatures.SyncToolSpecification.builder()
+                        .tool(toolDiscovery.invokeTool())
+                        .callHandler((mcpTransportContext, callToolRequest) ->
+                                toolDiscovery.invoke(callToolRequest, (registeredTool, targetRequest) -> {
+                                    var context = contextFactory.forStatelessTransport(
+                                            mcpTransportContext, targetRequest, registeredTool.operation());
+                                    return new OrderingToolCallFilterChainFactory(registeredTool, filters)
+                                            .get()
+                                            .doFilter(context, targetRequest);
+                                }))
+                        .build());
+    }
 }
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
 import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -499,7 +500,7 @@ class McpRequestContextFactoryTest {
         var requestAttributes = new ServletRequestAttributes(mockRequest);
         var sessionId = "session-complete-with-tool";
         var toolName = "post_messages";
-        var fullOperation = givenOperation();
+        var operation = givenOperation();
 
         given(callToolRequest.name()).willReturn(toolName);
         given(exchange.sessionId()).willReturn(sessionId);
@@ -511,7 +512,7 @@ class McpRequestContextFactoryTest {
             mockedHolder.when(RequestContextHolder::currentRequestAttributes).thenReturn(requestAttributes);
 
             // when
-            var context = factory.forStatefulTransport(exchange, callToolRequest, fullOperation);
+            var context = factory.forStatefulTransport(exchange, callToolRequest, operation);
 
             // then
             then(context).isNotNull();
@@ -520,7 +521,7 @@ class McpRequestContextFactoryTest {
             then(context.clientInfo()).isEqualTo(clientInfo);
             then(context.clientInfo().name()).isEqualTo("Claude Desktop");
             then(context.clientInfo().version()).isEqualTo("2025-06-18");
-            then(context.openApiOperation()).isEqualTo(fullOperation);
+            then(context.openApiOperation()).isEqualTo(operation);
             then(context.toolName()).isEqualTo(toolName);
         }
     }
@@ -628,7 +629,28 @@ class McpRequestContextFactoryTest {
         }
     }
 
-    private FullOperation givenOperation() {
-        return new FullOperation("/", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+    @Test
+    @SuppressWarnings("removal")
+    void shouldDescribeResolvedOperationPassedToDeprecatedFactoryMethod() {
+        // given
+        given(callToolRequest.name()).willReturn("getUsers");
+        var fullOperation = new FullOperation(
+                "/users", PathItem.HttpMethod.GET, new Operation().operationId("listUsers"), new OpenAPI());
+        try (MockedStatic<RequestContextHolder> mockedHolder = mockStatic(RequestContextHolder.class)) {
+            mockedHolder
+                    .when(RequestContextHolder::currentRequestAttributes)
+                    .thenThrow(new IllegalStateException("No request context available"));
+
+            // when
+            var context = factory.forStatelessTransport(null, callToolRequest, fullOperation);
+
+            // then
+            then(context.openApiOperation()).isEqualTo(OperationDescriptor.of("getUsers", fullOperation));
+        }
+    }
+
+    private OperationDescriptor givenOperation() {
+        return OperationDescriptor.of(
+                "testTool", new FullOperation("/", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
     }
 }
@@ -0,0 +1,62 @@
+package com.infobip.openapi.mcp.auth.scope;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import io.swagger.v3.oas.models.PathItem;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ScopeRequirementsTest {
+
+    private final ScopeRequirements requirements = ScopeRequirements.of(Map.of(
+            "GET /users", List.of("users:read", "users:manage"),
+            "DELETE /users/{id}", List.of("users:manage"),
+            "GET /status", List.of()));
+
+    @Test
+    void shouldPermitOperationWhenCallerHasAnyAcceptedScope() {
+        // given
+        var grantedScopes = requirements.grantedScopes(Set.of("users:read"));
+
+        // when / then
+        then(requirements.isPermitted(PathItem.HttpMethod.GET, "/users", grantedScopes))
+                .isTrue();
+        then(requirements.isPermitted(PathItem.HttpMethod.DELETE, "/users/{id}", grantedScopes))
+                .isFalse();
+    }
+
+    @Test
+    void shouldPermitOperationsWithoutScopes() {
+        // given
+        var grantedScopes = requirements.grantedScopes(Set.of());
+
+        // when / then
+        then(requirements.isPermitted(PathItem.HttpMethod.GET, "/status", grantedScopes))
+                .isTrue();
+        then(requirements.isPermitted(PathItem.HttpMethod.POST, "/unknown", grantedScopes))
+                .isTrue();
+    }
+
+    @Test
+    void shouldIgnoreScopesNotAcceptedByAnyOperation() {
+        // when
+        var withUnknownScopes = requirements.grantedScopes(Set.of("users:manage", "billing:read", "sms:send"));
+        var withoutUnknownScopes = requirements.grantedScopes(Set.of("users:manage"));
+
+        // then
+        then(withUnknownScopes).isEqualTo(withoutUnknownScopes);
+    }
+
+    @Test
+    void shouldPermitEveryOperationWhenNoScopesAreDiscovered() {
+        // when
+        var grantedScopes = ScopeRequirements.EMPTY.grantedScopes(Set.of("users:read"));
+
+        // then
+        then(grantedScopes.isEmpty()).isTrue();
+        then(ScopeRequirements.EMPTY.isPermitted(PathItem.HttpMethod.GET, "/users", grantedScopes))
+                .isTrue();
+    }
+}
@@ -0,0 +1,160 @@
+package com.infobip.openapi.mcp.auth.scope;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScopedToolListTest {
+
+    @Mock
+    private ScopeDiscoveryService scopeDiscoveryService;
+
+    @Mock
+    private ToolRegistry toolRegistry;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final List<RegisteredTool> registeredTools = List.of(
+            givenTool("list_users", PathItem.HttpMethod.GET, "/users"),
+            givenTool("create_user", PathItem.HttpMethod.POST, "/users"),
+            givenTool("get_status", PathItem.HttpMethod.GET, "/status"));
+    private final McpSchema.ListToolsResult result = new McpSchema.ListToolsResult(
+            List.of(
+                    registeredTools.get(0).tool(),
+                    registeredTools.get(1).tool(),
+                    registeredTools.get(2).tool(),
+                    McpSchema.Tool.builder().name("search_tools").build()),
+            null);
+
+    private ScopedToolList scopedToolList;
+
+    @BeforeEach
+    void setUp() {
+        given(toolRegistry.getRegisteredToolsCache()).willReturn(registeredTools);
+        given(scopeDiscoveryService.getScopeRequirements())
+                .willReturn(ScopeRequirements.of(Map.of(
+                        "GET /users", Set.of("users:read", "users:manage"),
+                        "POST /users", Set.of("users:manage"),
+                        "GET /status", Set.of())));
+        scopedToolList = new ScopedToolList(scopeDiscoveryService, toolRegistry, catalogVersion::get);
+    }
+
+    @Test
+    void shouldKeepToolsPermittedByCallerScopes() {
+        // when
+        var filtered = scopedToolList.filter(result, Set.of("users:read", "billing:read"));
+
+        // then
+        then(filtered.tools())
+                .extracting(McpSchema.Tool::name)
+                .containsExactly("list_users", "get_status", "search_tools");
+    }
+
+    @Test
+    void shouldKeepOnlyToolsWithoutScopesForCallerWithoutScopes() {
+        // when
+        var filtered = scopedToolList.filter(result, Set.of());
+
+        // then
+        then(filtered.tools()).extracting(McpSchema.Tool::name).containsExactly("get_status", "search_tools");
+    }
+
+    @Test
+    void shouldPermitSameToolsAsListedForCaller() {
+        // when
+        var permitted = scopedToolList.permittedTools(Set.of("users:read"));
+
+        // then
+        then(registeredTools.stream().filter(permitted).map(tool -> tool.tool().name()))
+                .containsExactly("list_users", "get_status");
+    }
+
+    @Test
+    void shouldShareCachedListBetweenCallersWithSameRelevantScopes() {
+        // when
+        var first = scopedToolList.filter(result, Set.of("users:manage"));
+        var second = scopedToolList.filter(result, Set.of("users:manage", "billing:read"));
+
+        // then
+        then(second.tools()).isSameAs(first.tools());
+        then(first.tools())
+                .extracting(McpSchema.Tool::name)
+                .containsExactly("list_users", "create_user", "get_status", "search_tools");
+    }
+
+    @Test
+    void shouldDropCacheWhenCatalogVersionChanges() {
+        // given
+        var first = scopedToolList.filter(result, Set.of("users:read"));
+        catalogVersion.addAndGet(2);
+
+        // when
+        var second = scopedToolList.filter(result, Set.of("users:read"));
+
+        // then
+        then(second.tools()).isNotSameAs(first.tools()).isEqualTo(first.tools());
+    }
+
+    @Test
+    void shouldNotCacheWhileCatalogIsUpdated() {
+        // given
+        catalogVersion.incrementAndGet();
+
+        // when
+        var first = scopedToolList.filter(result, Set.of("users:read"));
+        var second = scopedToolList.filter(result, Set.of("users:read"));
+
+        // then
+        then(second.tools()).isNotSameAs(first.tools());
+    }
+
+    @Test
+    void shouldKeepToolsOfAdditionalSpecificationsSharingPathOfPrimaryOperation() {
+        // given
+        var billingTool = new RegisteredTool(
+                McpSchema.Tool.builder().name("billing_create_user").build(),
+                (request, context) -> null,
+                new OperationDescriptor(
+                        "billing_create_user",
+                        "/users",
+                        PathItem.HttpMethod.POST,
+                        "createUser",
+                        List.of(),
+                        false,
+                        List.of(),
+                        SpecVersion.V30),
+                "billing");
+        var tools = List.of(registeredTools.get(1), billingTool);
+        given(toolRegistry.getRegisteredToolsCache()).willReturn(tools);
+
+        // when
+        var filtered = scopedToolList.filter(
+                new McpSchema.ListToolsResult(
+                        tools.stream().map(RegisteredTool::tool).toList(), null),
+                Set.of());
+
+        // then
+        then(filtered.tools()).extracting(McpSchema.Tool::name).containsExactly("billing_create_user");
+    }
+
+    private static RegisteredTool givenTool(String name, PathItem.HttpMethod method, String path) {
+        var tool = McpSchema.Tool.builder().name(name).build();
+        var operation = new OperationDescriptor(name, path, method, name, List.of(), false, List.of(), SpecVersion.V30);
+        return new RegisteredTool(tool, (request, context) -> null, operation);
+    }
+}
@@ -119,6 +119,12 @@ class UserAgentEnricherTest {
                 userAgent,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
     }
 }
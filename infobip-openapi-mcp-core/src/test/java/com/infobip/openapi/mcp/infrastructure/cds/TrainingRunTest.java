@@ -0,0 +1,153 @@
+package com.infobip.openapi.mcp.infrastructure.cds;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+import com.infobip.openapi.mcp.McpRequestContext;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.enricher.ApiRequestEnricherChain;
+import com.infobip.openapi.mcp.error.DefaultErrorModelProvider;
+import com.infobip.openapi.mcp.error.ErrorModelWriter;
+import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
+import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import com.infobip.openapi.mcp.openapi.tool.ToolCallFilter;
+import com.infobip.openapi.mcp.openapi.tool.ToolCallFilterChain;
+import com.infobip.openapi.mcp.openapi.tool.ToolHandler;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import com.infobip.openapi.mcp.progress.DefaultProgressUpdateProvider;
+import com.infobip.openapi.mcp.prompt.PromptRegistry;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.Ordered;
+import tools.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingRunTest {
+
+    @Mock
+    private ToolRegistry toolRegistry;
+
+    @Mock
+    private PromptRegistry promptRegistry;
+
+    @Mock
+    private OpenApiMcpProperties properties;
+
+    private final List<McpSchema.CallToolRequest> filteredRequests = new ArrayList<>();
+
+    private TrainingRun trainingRun;
+
+    @BeforeEach
+    void setUp() {
+        var objectMapper = new ObjectMapper();
+        lenient()
+                .when(properties.tools())
+                .thenReturn(new OpenApiMcpProperties.Tools(null, null, true, null, null, null, null, null, null, null));
+        trainingRun = new TrainingRun(
+                toolRegistry,
+                promptRegistry,
+                objectMapper,
+                new ErrorModelWriter(objectMapper, new DefaultErrorModelProvider()),
+                properties,
+                new ApiRequestEnricherChain(List.of()),
+                new NoOpMetricService(),
+                new DefaultProgressUpdateProvider(),
+                List.of(new RecordingToolCallFilter(filteredRequests)));
+    }
+
+    @Test
+    void shouldCallFirstToolThroughStub() {
+        // given
+        var registeredTool = givenTool(
+                "updateUser",
+                PathItem.HttpMethod.PUT,
+                "/users/{userId}",
+                List.of(
+                        new OperationDescriptor.Parameter("userId", "path"),
+                        new OperationDescriptor.Parameter("verbose", "query")),
+                true);
+        given(toolRegistry.getTools()).willReturn(List.of(registeredTool));
+        given(toolRegistry.withToolHandler(eq(registeredTool), any())).willAnswer(invocation -> {
+            ToolHandler toolHandler = invocation.getArgument(1);
+            var decomposer =
+                    new InputSchemaComposer(properties.tools().schema()).decomposer(registeredTool.operation());
+            return new RegisteredTool(
+                    registeredTool.tool(),
+                    (request, context) -> toolHandler.handleToolCall(
+                            registeredTool.operation(), decomposer.decompose(request), context),
+                    registeredTool.operation());
+        });
+        given(promptRegistry.getPrompts()).willReturn(List.of());
+
+        // when
+        var succeededCalls = trainingRun.run();
+
+        // then
+        then(succeededCalls).isEqualTo(1);
+        then(filteredRequests)
+                .singleElement()
+                .extracting(McpSchema.CallToolRequest::arguments)
+                .isEqualTo(Map.of("_params", Map.of("userId", "training"), "_body", Map.of()));
+    }
+
+    @Test
+    void shouldSkipToolCallWithoutTools() {
+        // given
+        given(toolRegistry.getTools()).willReturn(List.of());
+        given(promptRegistry.getPrompts()).willReturn(List.of());
+
+        // when
+        var succeededCalls = trainingRun.run();
+
+        // then
+        then(succeededCalls).isZero();
+    }
+
+    private static RegisteredTool givenTool(
+            String name,
+            PathItem.HttpMethod method,
+            String path,
+            List<OperationDescriptor.Parameter> parameters,
+            boolean hasRequestBody) {
+        var tool = McpSchema.Tool.builder()
+                .name(name)
+                .inputSchema(Map.of("type", "object"))
+                .build();
+        var operation = new OperationDescriptor(
+                name, path, method, name, parameters, hasRequestBody, List.of(), SpecVersion.V30);
+        return new RegisteredTool(tool, (request, context) -> null, operation);
+    }
+
+    /**
+     * Records the requests it passes on to the tool.
+     */
+    private record RecordingToolCallFilter(List<McpSchema.CallToolRequest> requests)
+            implements ToolCallFilter, Ordered {
+
+        @Override
+        public McpSchema.CallToolResult doFilter(
+                McpRequestContext ctx, McpSchema.CallToolRequest req, ToolCallFilterChain chain) {
+            requests.add(req);
+            return chain.doFilter(ctx, req);
+        }
+
+        @Override
+        public int getOrder() {
+            return RegisteredTool.ORDER - 1;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.infobip.openapi.mcp.openapi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.tool.ToolHandler;
+import com.infobip.openapi.mcp.openapi.tool.naming.OperationIdStrategy;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ApiSpecsTest {
+
+    @Mock
+    private OpenApiRegistry primaryRegistry;
+
+    @Mock
+    private OpenApiRegistry billingRegistry;
+
+    @Mock
+    private OpenApiRegistry usersRegistry;
+
+    @Mock
+    private ToolHandler toolHandler;
+
+    @Test
+    void shouldLoadSpecsInParallel() {
+        // given
+        var loading = new CountDownLatch(2);
+
+        // when
+        var apiSpecs = ApiSpecs.load(List.of(givenSpec("billing"), givenSpec("users")), spec -> {
+            loading.countDown();
+            try {
+                // Each loader waits for the other one, which only finishes if they run at the same time
+                then(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return givenApiSpec(spec.name(), spec.name().equals("billing") ? billingRegistry : usersRegistry);
+        });
+
+        // then
+        then(apiSpecs.specs()).extracting(ApiSpecs.ApiSpec::name).containsExactly("billing", "users");
+    }
+
+    @Test
+    void shouldReturnNoSpecsWhenNoneAreConfigured() {
+        // when
+        var apiSpecs = ApiSpecs.load(List.of(), spec -> {
+            throw new AssertionError("No spec should be loaded.");
+        });
+
+        // then
+        then(apiSpecs).isSameAs(ApiSpecs.NONE);
+    }
+
+    @Test
+    void shouldReloadAllSpecsWhenOneFails() {
+        // given
+        var apiSpecs = givenApiSpecs();
+        willThrow(new IllegalStateException("Billing API is down"))
+                .given(billingRegistry)
+                .reload();
+
+        // when / then
+        thenThrownBy(() -> apiSpecs.reload(primaryRegistry)).hasMessage("Billing API is down");
+        BDDMockito.then(primaryRegistry).should().reload();
+        BDDMockito.then(usersRegistry).should().reload();
+    }
+
+    @Test
+    void shouldCombineFingerprintsOfAllSpecs() {
+        // given
+        var apiSpecs = givenApiSpecs();
+        given(primaryRegistry.fingerprints()).willReturn(givenFingerprints("primary"));
+        given(billingRegistry.fingerprints()).willReturn(givenFingerprints("billing-v1"));
+        given(usersRegistry.fingerprints()).willReturn(givenFingerprints("users-v1"));
+        var before = apiSpecs.fingerprint(primaryRegistry);
+        given(billingRegistry.fingerprints()).willReturn(givenFingerprints("billing-v2"));
+
+        // when
+        var after = apiSpecs.fingerprint(primaryRegistry);
+
+        // then
+        then(after).isNotEqualTo(before).startsWith("primary");
+    }
+
+    @Test
+    void shouldUsePrimaryFingerprintWithoutAdditionalSpecs() {
+        // given
+        given(primaryRegistry.fingerprints()).willReturn(givenFingerprints("primary"));
+
+        // when / then
+        then(ApiSpecs.NONE.fingerprint(primaryRegistry)).isEqualTo("primary");
+    }
+
+    private ApiSpecs givenApiSpecs() {
+        return ApiSpecs.load(
+                List.of(givenSpec("billing"), givenSpec("users")),
+                spec -> givenApiSpec(spec.name(), spec.name().equals("billing") ? billingRegistry : usersRegistry));
+    }
+
+    private ApiSpecs.ApiSpec givenApiSpec(String name, OpenApiRegistry registry) {
+        return new ApiSpecs.ApiSpec(name, registry, new OperationIdStrategy(), toolHandler);
+    }
+
+    private static OpenApiMcpProperties.Spec givenSpec(String name) {
+        return new OpenApiMcpProperties.Spec(
+                name, URI.create("https://" + name + ".example.com/openapi.json"), null, null, null, null, null, null);
+    }
+
+    private static OpenApiFingerprints givenFingerprints(String document) {
+        return new OpenApiFingerprints(document, Map.of(), Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,157 @@
+package com.infobip.openapi.mcp.openapi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.Test;
+
+class OpenApiFingerprinterTest {
+
+    private static final String SPEC = """
+            {
+              "openapi": "3.0.1",
+              "info": { "title": "Shop", "version": "1.0.0" },
+              "x-mcp-prompts": [
+                { "name": "greet", "description": "Greet", "messages": [ { "role": "user", "content": "Hi" } ] },
+                { "name": "farewell", "description": "Bye", "messages": [ { "role": "user", "content": "Bye" } ] }
+              ],
+              "paths": {
+                "/orders": {
+                  "get": {
+                    "operationId": "getOrders",
+                    "responses": { "200": { "$ref": "#/components/responses/Orders" } }
+                  }
+                },
+                "/users": {
+                  "parameters": [ { "name": "tenant", "in": "header", "schema": { "type": "string" } } ],
+                  "get": {
+                    "operationId": "getUsers",
+                    "responses": { "200": { "description": "ok", "content": { "application/json": {
+                      "schema": { "$ref": "#/components/schemas/User" } } } } }
+                  },
+                  "delete": { "operationId": "deleteUsers", "responses": { "204": { "description": "deleted" } } }
+                }
+              },
+              "components": {
+                "responses": {
+                  "Orders": { "description": "ok", "content": { "application/json": {
+                    "schema": { "type": "array", "items": { "$ref": "#/components/schemas/Order" } } } } }
+                },
+                "schemas": {
+                  "Order": { "type": "object", "properties": {
+                    "id": { "type": "string" }, "owner": { "$ref": "#/components/schemas/User" } } },
+                  "User": { "type": "object", "properties": { "name": { "type": "string" } } },
+                  "Unused": { "type": "string" }
+                }
+              }
+            }
+            """;
+
+    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
+    private final OpenApiFingerprinter fingerprinter = new OpenApiFingerprinter(new OpenApiMapperFactory());
+
+    @Test
+    void shouldProduceEqualFingerprintsForEqualSpecifications() {
+        // when
+        var first = fingerprinter.fingerprint(givenOpenApi(SPEC));
+        var second = fingerprinter.fingerprint(givenOpenApi(SPEC));
+
+        // then
+        then(second).isEqualTo(first);
+        then(first.operations()).containsOnlyKeys("GET /orders", "GET /users", "DELETE /users");
+        then(first.prompts()).containsOnlyKeys("greet", "farewell");
+        then(second.changedOperations(first)).isEmpty();
+    }
+
+    @Test
+    void shouldCollectTransitiveComponentReferences() {
+        // when
+        var fingerprints = fingerprinter.fingerprint(givenOpenApi(SPEC));
+
+        // then
+        then(fingerprints.operationComponents().get("GET /orders"))
+                .containsExactly(
+                        "#/components/responses/Orders", "#/components/schemas/Order", "#/components/schemas/User");
+        then(fingerprints.operationComponents().get("GET /users")).containsExactly("#/components/schemas/User");
+        then(fingerprints.operationComponents().get("DELETE /users")).isEmpty();
+    }
+
+    @Test
+    void shouldChangeOnlyOperationsThatReferenceChangedComponent() {
+        // given
+        var previous = fingerprinter.fingerprint(givenOpenApi(SPEC));
+        var changedSpec = givenOpenApi(SPEC);
+        changedSpec.getComponents().getSchemas().get("User").setDescription("A registered user");
+
+        // when
+        var current = fingerprinter.fingerprint(changedSpec);
+
+        // then
+        then(current.document()).isNotEqualTo(previous.document());
+        then(current.changedOperations(previous)).containsExactlyInAnyOrder("GET /orders", "GET /users");
+    }
+
+    @Test
+    void shouldChangeAllOperationsOfPathWhenPathLevelParametersChange() {
+        // given
+        var previous = fingerprinter.fingerprint(givenOpenApi(SPEC));
+        var changedSpec = givenOpenApi(SPEC);
+        changedSpec.getPaths().get("/users").getParameters().getFirst().setRequired(true);
+
+        // when
+        var current = fingerprinter.fingerprint(changedSpec);
+
+        // then
+        then(current.changedOperations(previous)).containsExactlyInAnyOrder("GET /users", "DELETE /users");
+    }
+
+    @Test
+    void shouldChangeOnlyDocumentFingerprintWhenVersionChanges() {
+        // given
+        var previous = fingerprinter.fingerprint(givenOpenApi(SPEC));
+        var changedSpec = givenOpenApi(SPEC);
+        changedSpec.getInfo().setVersion("1.0.1");
+
+        // when
+        var current = fingerprinter.fingerprint(changedSpec);
+
+        // then
+        then(current.document()).isNotEqualTo(previous.document());
+        then(current.operations()).isEqualTo(previous.operations());
+        then(current.prompts()).isEqualTo(previous.prompts());
+    }
+
+    @Test
+    void shouldNotChangeOperationsWhenUnreferencedComponentChanges() {
+        // given
+        var previous = fingerprinter.fingerprint(givenOpenApi(SPEC));
+        var changedSpec = givenOpenApi(SPEC);
+        changedSpec.getComponents().getSchemas().get("Unused").setFormat("uuid");
+
+        // when
+        var current = fingerprinter.fingerprint(changedSpec);
+
+        // then
+        then(current.document()).isNotEqualTo(previous.document());
+        then(current.changedOperations(previous)).isEmpty();
+    }
+
+    @Test
+    void shouldFingerprintPromptsIndependently() {
+        // given
+        var previous = fingerprinter.fingerprint(givenOpenApi(SPEC));
+
+        // when
+        var current = fingerprinter.fingerprint(givenOpenApi(SPEC.replace("\"Hi\"", "\"Hello\"")));
+
+        // then
+        then(current.prompts().get("greet")).isNotEqualTo(previous.prompts().get("greet"));
+        then(current.prompts().get("farewell")).isEqualTo(previous.prompts().get("farewell"));
+    }
+
+    private OpenAPI givenOpenApi(String spec) {
+        return parser.readContents(spec, null, null).getOpenAPI();
+    }
+}
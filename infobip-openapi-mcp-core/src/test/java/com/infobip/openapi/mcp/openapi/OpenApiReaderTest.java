@@ -4,30 +4,43 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
+import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
 import com.infobip.openapi.mcp.openapi.exception.InvalidOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.web.client.RestClient;
 
 @ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
 class OpenApiReaderTest {
@@ -43,7 +56,7 @@ class OpenApiReaderTest {
 
         private OpenApiReader openApiReader;
 
-        private final URI testUri = URI.create("https://example.com/api/openapi.yaml");
+        private final URI testUri = URI.create("file:///api/openapi.yaml");
 
         @BeforeEach
         void setUp() {
@@ -318,7 +331,7 @@ class OpenApiReaderTest {
             // When & Then
             thenThrownBy(() -> realOpenApiReader.read(apiUri))
                     .isInstanceOf(InvalidOpenApiException.class)
-                    .hasMessageContaining("Invalid OpenAPI spec: " + apiUri);
+                    .hasMessageContaining("Unable to fetch OpenAPI spec: " + apiUri);
         }
 
         @Test
@@ -525,4 +538,150 @@ class OpenApiReaderTest {
             then(result.getComponents().getParameters()).containsKey("UserIdParam");
         }
     }
+
+    @Nested
+    class ConditionalFetchTests {
+
+        private static final String SPEC = """
+                openapi: 3.0.3
+                info:
+                  title: Cached API
+                  version: 1.0.0
+                paths: {}
+                """;
+
+        private WireMockServer wireMockServer;
+        private URI apiUri;
+
+        @TempDir
+        private Path cacheDirectory;
+
+        @BeforeEach
+        void setUp() {
+            wireMockServer = new WireMockServer(wireMockConfig().port(0));
+            wireMockServer.start();
+            apiUri = URI.create(wireMockServer.baseUrl() + "/api/openapi.yaml");
+        }
+
+        @AfterEach
+        void tearDown() {
+            wireMockServer.stop();
+        }
+
+        @Test
+        void shouldSkipParsingWhenSpecificationWasNotModified() {
+            // Given
+            wireMockServer.stubFor(get(urlEqualTo("/api/openapi.yaml"))
+                    .withHeader("If-None-Match", equalTo("\"v1\""))
+                    .atPriority(1)
+                    .willReturn(aResponse().withStatus(304)));
+            wireMockServer.stubFor(get(urlEqualTo("/api/openapi.yaml"))
+                    .atPriority(2)
+                    .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(SPEC)));
+            var reader = givenReader();
+
+            // When
+            var first = reader.readIfModified(apiUri, null);
+            var second = reader.readIfModified(apiUri, first.orElseThrow().validators());
+
+            // Then
+            then(first)
+                    .hasValueSatisfying(revision ->
+                            then(revision.openApi().getInfo().getTitle()).isEqualTo("Cached API"));
+            then(second).isEmpty();
+            wireMockServer.verify(
+                    1, getRequestedFor(urlEqualTo("/api/openapi.yaml")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        }
+
+        @Test
+        void shouldReadGzipCompressedSpecification() throws IOException {
+            // Given
+            var compressed = new ByteArrayOutputStream();
+            try (var gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(SPEC.getBytes(StandardCharsets.UTF_8));
+            }
+            wireMockServer.stubFor(get(urlEqualTo("/api/openapi.yaml"))
+                    .withHeader("Accept-Encoding", containing("gzip"))
+                    .willReturn(
+                            aResponse().withHeader("Content-Encoding", "gzip").withBody(compressed.toByteArray())));
+
+            // When
+            var result = givenReader().read(apiUri);
+
+            // Then
+            then(result.getInfo().getTitle()).isEqualTo("Cached API");
+        }
+
+        @Test
+        void shouldUseCachedSpecificationWhenHostIsUnreachable(CapturedOutput output) {
+            // Given
+            wireMockServer.stubFor(get(urlEqualTo("/api/openapi.yaml"))
+                    .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(SPEC)));
+            givenReader().read(apiUri);
+            wireMockServer.stop();
+
+            // When
+            var result = givenReader().read(apiUri);
+
+            // Then
+            then(result.getInfo().getTitle()).isEqualTo("Cached API");
+            then(output.getOut()).contains("Using the cached specification from " + cacheDirectory);
+        }
+
+        @Test
+        void shouldCountCacheFallbackAsSingleFetchResult() {
+            // Given
+            wireMockServer.stubFor(get(urlEqualTo("/api/openapi.yaml"))
+                    .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(SPEC)));
+            givenReader().read(apiUri);
+            wireMockServer.stop();
+            var metricService = mock(MetricService.class);
+            given(metricService.startSpecFetchTimer()).willReturn(mock(MetricService.SpecFetchTimer.class));
+            var reader = new OpenApiReader(new OpenAPIV3Parser(), RestClient.create(), cacheDirectory, metricService);
+
+            // When
+            reader.read(apiUri);
+
+            // Then
+            verify(metricService).recordSpecFetch("cache_fallback", 0);
+            verify(metricService, never()).recordSpecFetch(eq("failure"), anyLong());
+        }
+
+        @Test
+        void shouldUseCachedSpecificationWhenNotModifiedSinceRestart() {
+            // Given
+            wireMockServer.stubFor(get(urlEqualTo("/api/openapi.yaml"))
+                    .withHeader("If-None-Match", equalTo("\"v1\""))
+                    .atPriority(1)
+                    .willReturn(aResponse().withStatus(304)));
+            wireMockServer.stubFor(get(urlEqualTo("/api/openapi.yaml"))
+                    .atPriority(2)
+                    .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(SPEC)));
+            givenReader().read(apiUri);
+
+            // When
+            var result = givenReader().read(apiUri);
+
+            // Then
+            then(result.getInfo().getTitle()).isEqualTo("Cached API");
+            wireMockServer.verify(
+                    1, getRequestedFor(urlEqualTo("/api/openapi.yaml")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        }
+
+        @Test
+        void shouldThrowWhenHostIsUnreachableAndNothingIsCached() {
+            // Given
+            wireMockServer.stop();
+
+            // When & Then
+            thenThrownBy(() -> givenReader().read(apiUri))
+                    .isInstanceOf(InvalidOpenApiException.class)
+                    .hasMessageContaining("Unable to fetch OpenAPI spec: " + apiUri);
+        }
+
+        private OpenApiReader givenReader() {
+            return new OpenApiReader(
+                    new OpenAPIV3Parser(), RestClient.create(), cacheDirectory, new NoOpMetricService());
+        }
+    }
 }
@@ -0,0 +1,317 @@
+package com.infobip.openapi.mcp.openapi;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
+import com.infobip.openapi.mcp.openapi.catalog.CatalogReader;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiFilterChain;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClient;
+
+@ExtendWith(MockitoExtension.class)
+class OpenApiRegistryTest {
+
+    private static final URI OPEN_API_URL = URI.create("https://api.example.com/openapi.json");
+
+    private static final String SPEC = """
+            {
+              "openapi": "3.0.1",
+              "info": { "title": "Shop", "version": "1.0.0" },
+              "paths": {
+                "/orders": {
+                  "get": {
+                    "operationId": "getOrders",
+                    "responses": { "200": { "description": "ok", "content": { "application/json": {
+                      "schema": { "$ref": "#/components/schemas/Order" } } } } }
+                  }
+                },
+                "/users": {
+                  "get": {
+                    "operationId": "getUsers",
+                    "responses": { "200": { "description": "ok", "content": { "application/json": {
+                      "schema": { "$ref": "#/components/schemas/User" } } } } }
+                  }
+                }
+              },
+              "components": {
+                "schemas": {
+                  "Order": { "type": "object", "properties": { "id": { "type": "string" } } },
+                  "User": { "type": "object", "properties": { "name": { "type": "string" } } }
+                }
+              }
+            }
+            """;
+
+    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
+    private final OpenApiMapperFactory mapperFactory = new OpenApiMapperFactory();
+
+    @Mock
+    private OpenApiReader openApiReader;
+
+    private OpenApiResolver openApiResolver;
+    private OpenApiMcpProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        openApiResolver = spy(new OpenApiResolver(parser, mapperFactory));
+        properties = new OpenApiMcpProperties(
+                OPEN_API_URL, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    void shouldSkipResolvingWhenSpecificationDidNotChange() {
+        // given
+        given(openApiReader.readRevision(OPEN_API_URL)).willReturn(givenRevision(givenOpenApi(SPEC), "v1"));
+        given(openApiReader.readIfModified(OPEN_API_URL, givenValidators("v1")))
+                .willReturn(Optional.of(givenRevision(givenOpenApi(SPEC), "v2")));
+        var registry = givenRegistry();
+        var givenOpenApi = registry.openApi();
+
+        // when
+        registry.reload();
+
+        // then
+        then(registry.openApi()).isSameAs(givenOpenApi);
+        verify(openApiResolver, times(1)).resolve(any());
+    }
+
+    @Test
+    void shouldSkipReloadWhenSpecificationWasNotModified() {
+        // given
+        given(openApiReader.readRevision(OPEN_API_URL)).willReturn(givenRevision(givenOpenApi(SPEC), "v1"));
+        given(openApiReader.readIfModified(OPEN_API_URL, givenValidators("v1"))).willReturn(Optional.empty());
+        var registry = givenRegistry();
+        var givenOpenApi = registry.openApi();
+
+        // when
+        registry.reload();
+
+        // then
+        then(registry.openApi()).isSameAs(givenOpenApi);
+        verify(openApiResolver, times(1)).resolve(any());
+    }
+
+    @Test
+    void shouldResolveOnlyChangedOperations() {
+        // given
+        var givenChangedSpec = givenOpenApi(SPEC);
+        givenChangedSpec.getComponents().getSchemas().get("User").setDescription("A registered user");
+        given(openApiReader.readRevision(OPEN_API_URL)).willReturn(givenRevision(givenOpenApi(SPEC), "v1"));
+        given(openApiReader.readIfModified(OPEN_API_URL, givenValidators("v1")))
+                .willReturn(Optional.of(givenRevision(givenChangedSpec, "v2")));
+        var registry = givenRegistry();
+        var givenOrdersOperation = registry.openApi().getPaths().get("/orders").getGet();
+
+        // when
+        registry.reload();
+
+        // then
+        var captor = ArgumentCaptor.forClass(OpenAPI.class);
+        verify(openApiResolver, times(2)).resolve(captor.capture());
+        var resolvedChanges = captor.getAllValues().getLast();
+        then(resolvedChanges.getPaths()).containsOnlyKeys("/users");
+        then(resolvedChanges.getComponents().getSchemas()).containsOnlyKeys("User");
+
+        var paths = registry.openApi().getPaths();
+        then(paths).containsOnlyKeys("/orders", "/users");
+        then(paths.get("/orders").getGet()).isSameAs(givenOrdersOperation);
+        var usersSchema = paths.get("/users")
+                .getGet()
+                .getResponses()
+                .get("200")
+                .getContent()
+                .get("application/json")
+                .getSchema();
+        then(usersSchema.get$ref()).isNull();
+        then(usersSchema.getDescription()).isEqualTo("A registered user");
+        then(registry.fingerprints().changedOperations(null)).containsExactlyInAnyOrder("GET /orders", "GET /users");
+    }
+
+    @Test
+    void shouldDetectChangesWithoutVersionChange() {
+        // given
+        var givenChangedSpec = givenOpenApi(SPEC);
+        givenChangedSpec.getPaths().get("/orders").getGet().setSummary("List orders");
+        given(openApiReader.readRevision(OPEN_API_URL)).willReturn(givenRevision(givenOpenApi(SPEC), "v1"));
+        given(openApiReader.readIfModified(OPEN_API_URL, givenValidators("v1")))
+                .willReturn(Optional.of(givenRevision(givenChangedSpec, "v2")));
+        var registry = givenRegistry();
+
+        // when
+        registry.reload();
+
+        // then
+        then(registry.openApi().getInfo().getVersion()).isEqualTo("1.0.0");
+        then(registry.openApi().getPaths().get("/orders").getGet().getSummary()).isEqualTo("List orders");
+    }
+
+    @Test
+    void shouldKeepUnchangedOperationsWhenOperationIsAdded() {
+        // given
+        var givenChangedSpec = givenOpenApi(SPEC);
+        var givenDeleteOperation = givenOpenApi(SPEC).getPaths().get("/users").getGet();
+        givenDeleteOperation.setOperationId("deleteUsers");
+        givenChangedSpec.getPaths().get("/users").setDelete(givenDeleteOperation);
+        given(openApiReader.readRevision(OPEN_API_URL)).willReturn(givenRevision(givenOpenApi(SPEC), "v1"));
+        given(openApiReader.readIfModified(OPEN_API_URL, givenValidators("v1")))
+                .willReturn(Optional.of(givenRevision(givenChangedSpec, "v2")));
+        var registry = givenRegistry();
+        var givenUsersOperation = registry.openApi().getPaths().get("/users").getGet();
+
+        // when
+        registry.reload();
+
+        // then
+        var usersPathItem = registry.openApi().getPaths().get("/users");
+        then(usersPathItem.getGet()).isSameAs(givenUsersOperation);
+        then(usersPathItem.getDelete().getOperationId()).isEqualTo("deleteUsers");
+    }
+
+    @Test
+    void shouldRememberRevisionOnlyOnceApplied() {
+        // given
+        var givenChangedSpec = givenOpenApi(SPEC);
+        givenChangedSpec.getInfo().setVersion("1.0.1");
+        var givenChangedRevision = givenRevision(givenChangedSpec, "v2");
+        given(openApiReader.readRevision(OPEN_API_URL)).willReturn(givenRevision(givenOpenApi(SPEC), "v1"));
+        given(openApiReader.readIfModified(OPEN_API_URL, givenValidators("v1")))
+                .willReturn(Optional.of(givenChangedRevision));
+        var registry = givenRegistry();
+        willThrow(new IllegalStateException("Unable to resolve"))
+                .willCallRealMethod()
+                .given(openApiResolver)
+                .resolve(any());
+        thenThrownBy(registry::reload).isInstanceOf(IllegalStateException.class);
+
+        // when
+        registry.reload();
+
+        // then
+        then(registry.openApi().getInfo().getVersion()).isEqualTo("1.0.1");
+        verify(openApiReader, times(2)).readIfModified(OPEN_API_URL, givenValidators("v1"));
+        verify(openApiReader, times(1)).remember(OPEN_API_URL, givenChangedRevision);
+    }
+
+    @Nested
+    class SharedReader {
+
+        private WireMockServer wireMockServer;
+        private URI openApiUrl;
+
+        @BeforeEach
+        void setUp() {
+            wireMockServer = new WireMockServer(wireMockConfig().port(0));
+            wireMockServer.start();
+            openApiUrl = URI.create(wireMockServer.baseUrl() + "/openapi.json");
+        }
+
+        @AfterEach
+        void tearDown() {
+            wireMockServer.stop();
+        }
+
+        @Test
+        void shouldReloadTenantsOfSameSpecificationIndependently() {
+            // given
+            givenServedSpec("1.0.0");
+            var reader = new OpenApiReader(parser, RestClient.create(), null, new NoOpMetricService());
+            var tenantProperties = new OpenApiMcpProperties(
+                    openApiUrl,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null);
+            var firstTenant = givenRegistry(tenantProperties, reader);
+            var secondTenant = givenRegistry(tenantProperties, reader);
+            givenServedSpec("1.0.1");
+            firstTenant.reload();
+
+            // when
+            secondTenant.reload();
+
+            // then
+            then(firstTenant.openApi().getInfo().getVersion()).isEqualTo("1.0.1");
+            then(secondTenant.openApi().getInfo().getVersion()).isEqualTo("1.0.1");
+            wireMockServer.verify(
+                    2, getRequestedFor(urlEqualTo("/openapi.json")).withHeader("If-None-Match", equalTo("\"1.0.0\"")));
+        }
+
+        private void givenServedSpec(String version) {
+            wireMockServer.resetMappings();
+            wireMockServer.stubFor(get(urlEqualTo("/openapi.json"))
+                    .withHeader("If-None-Match", equalTo("\"" + version + "\""))
+                    .atPriority(1)
+                    .willReturn(aResponse().withStatus(304)));
+            wireMockServer.stubFor(get(urlEqualTo("/openapi.json"))
+                    .atPriority(2)
+                    .willReturn(aResponse()
+                            .withHeader("ETag", "\"" + version + "\"")
+                            .withBody(SPEC.replace("\"1.0.0\"", "\"" + version + "\""))));
+        }
+    }
+
+    private OpenApiRegistry givenRegistry() {
+        return givenRegistry(properties, openApiReader);
+    }
+
+    private OpenApiRegistry givenRegistry(OpenApiMcpProperties properties, OpenApiReader openApiReader) {
+        return new OpenApiRegistry(
+                properties,
+                openApiReader,
+                new OpenApiFilterChain(List.of(), properties),
+                openApiResolver,
+                new CatalogReader(parser),
+                new OpenApiFingerprinter(mapperFactory));
+    }
+
+    private OpenApiReader.Revision givenRevision(OpenAPI openApi, String etag) {
+        return new OpenApiReader.Revision(openApi, givenValidators(etag), null);
+    }
+
+    private OpenApiReader.Validators givenValidators(String etag) {
+        return new OpenApiReader.Validators("\"" + etag + "\"", null);
+    }
+
+    private OpenAPI givenOpenApi(String spec) {
+        return parser.readContents(spec, null, null).getOpenAPI();
+    }
+}
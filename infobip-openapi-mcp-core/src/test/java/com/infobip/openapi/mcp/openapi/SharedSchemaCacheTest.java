@@ -0,0 +1,69 @@
+package com.infobip.openapi.mcp.openapi;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import org.junit.jupiter.api.Test;
+
+class SharedSchemaCacheTest {
+
+    private final SharedSchemaCache cache = new SharedSchemaCache();
+
+    @Test
+    void shouldReturnCanonicalOperationForSameKey() {
+        // given
+        var key = SharedSchemaCache.operationKey(SpecVersion.V30, PathItem.HttpMethod.GET, "/users", "abc");
+        var first = new Operation().operationId("getUsers");
+        var second = new Operation().operationId("getUsers");
+
+        // when
+        var cachedFirst = cache.operation(key, first);
+        var cachedSecond = cache.operation(key, second);
+
+        // then
+        then(cachedFirst).isSameAs(first);
+        then(cachedSecond).isSameAs(first);
+    }
+
+    @Test
+    void shouldKeepOperationsWithDifferentKeysApart() {
+        // given
+        var first = new Operation().operationId("getUsers");
+        var second = new Operation().operationId("getUsers");
+
+        // when
+        var cachedFirst = cache.operation(
+                SharedSchemaCache.operationKey(SpecVersion.V30, PathItem.HttpMethod.GET, "/users", "abc"), first);
+        var cachedSecond = cache.operation(
+                SharedSchemaCache.operationKey(SpecVersion.V31, PathItem.HttpMethod.GET, "/users", "abc"), second);
+        var cachedThird = cache.operation(
+                SharedSchemaCache.operationKey(SpecVersion.V30, PathItem.HttpMethod.GET, "/users", "def"), second);
+
+        // then
+        then(cachedFirst).isSameAs(first);
+        then(cachedSecond).isSameAs(second);
+        then(cachedThird).isSameAs(second);
+        then(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnCachedToolByName() {
+        // given
+        var key = SharedSchemaCache.operationKey(SpecVersion.V30, PathItem.HttpMethod.GET, "/users", "abc");
+        var tool = McpSchema.Tool.builder().name("get_users").build();
+        cache.putTool(key, new SharedSchemaCache.CompiledTool(tool, null, null));
+
+        // when
+        var cached = cache.tool(key, "get_users");
+        var renamed = cache.tool(key, "acme_get_users");
+
+        // then
+        then(cached).isNotNull();
+        then(cached.tool()).isSameAs(tool);
+        then(cached.size()).isNull();
+        then(renamed).isNull();
+    }
+}
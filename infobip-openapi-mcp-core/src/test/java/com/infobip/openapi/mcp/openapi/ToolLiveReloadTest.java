@@ -3,12 +3,14 @@ package com.infobip.openapi.mcp.openapi;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.infobip.openapi.mcp.auth.scope.ScopeDiscoveryService;
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
 import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
+import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
 import com.infobip.openapi.mcp.openapi.schema.InputExampleComposer;
 import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
 import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
@@ -30,6 +32,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.assertj.core.api.BDDAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -63,8 +66,14 @@ class ToolLiveReloadTest {
             null,
             null,
             null,
-            new OpenApiMcpProperties.Tools(null, null, null, true, null, null, null),
-            new OpenApiMcpProperties.LiveReload(true, "0 */1 * * * *", 1));
+            new OpenApiMcpProperties.Tools(null, null, null, true, null, null, null, null, null, null),
+            new OpenApiMcpProperties.LiveReload(true, "0 */1 * * * *", 1),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
 
     @Mock
     private McpSyncServer givenMcpSyncServer;
@@ -107,9 +116,10 @@ class ToolLiveReloadTest {
 
     private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
     private final OpenApiMapperFactory mapperFactory = new OpenApiMapperFactory();
+    private final OpenApiFingerprinter fingerprinter = new OpenApiFingerprinter(mapperFactory);
     private final OperationIdStrategy namingStrategy = new OperationIdStrategy();
     private final InputSchemaComposer inputSchemaComposer =
-            new InputSchemaComposer(new OpenApiMcpProperties.Tools.Schema(null, null));
+            new InputSchemaComposer(new OpenApiMcpProperties.Tools.Schema(null, null, null, null));
     private final InputExampleComposer inputExampleComposer = new InputExampleComposer(PROPERTIES);
     private final ToolAnnotationResolver toolAnnotationResolver = new ToolAnnotationResolver(Map.of());
 
@@ -125,7 +135,8 @@ class ToolLiveReloadTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                PROPERTIES);
+                PROPERTIES,
+                new NoOpMetricService());
         given(metricService.startLiveReloadTimer()).willReturn(liveReloadTimer);
     }
 
@@ -138,10 +149,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_ADDED_TOOL_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -157,6 +165,7 @@ class ToolLiveReloadTest {
 
             var capturedToolSpec = syncToolSpecCaptor.getValue();
             BDDAssertions.then(capturedToolSpec.tool().name()).isEqualTo("createUser");
+            BDDAssertions.then(givenOpenApiLiveReload.catalogVersion()).isEqualTo(2);
         }
 
         @Test
@@ -165,10 +174,7 @@ class ToolLiveReloadTest {
             var givenEmptyOpenApi = loadOpenApi(WITH_DELETED_TOOL_SPEC);
             var givenMultipleToolsOpenApi = loadOpenApi(MULTIPLE_TOOLS_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenEmptyOpenApi)
-                    .willReturn(givenEmptyOpenApi)
-                    .willReturn(givenMultipleToolsOpenApi);
+            givenReload(givenEmptyOpenApi, givenMultipleToolsOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -199,10 +205,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEmptyOpenApi = loadOpenApi(WITH_DELETED_TOOL_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEmptyOpenApi);
+            givenReload(givenBaseOpenApi, givenEmptyOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -224,10 +227,7 @@ class ToolLiveReloadTest {
             var givenMultipleToolsOpenApi = loadOpenApi(MULTIPLE_TOOLS_SPEC);
             var givenEmptyOpenApi = loadOpenApi(WITH_DELETED_TOOL_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenMultipleToolsOpenApi)
-                    .willReturn(givenMultipleToolsOpenApi)
-                    .willReturn(givenEmptyOpenApi);
+            givenReload(givenMultipleToolsOpenApi, givenEmptyOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -255,10 +255,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_EDITED_TITLE_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -275,16 +272,36 @@ class ToolLiveReloadTest {
             BDDAssertions.then(syncToolSpecCaptor.getValue().tool().title()).isEqualTo("List All Users");
         }
 
+        @Test
+        void shouldDetectChangeWhenVersionDoesNotChange() throws InterruptedException {
+            // Given
+            var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
+            var givenEditedOpenApi = loadOpenApi(WITH_EDITED_TITLE_SPEC);
+            givenEditedOpenApi.getInfo().setVersion(givenBaseOpenApi.getInfo().getVersion());
+
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
+
+            givenToolRegistry.getTools();
+            var givenOpenApiLiveReload = givenOpenApiLiveReload();
+            setupToolSpecBuilderForNewTools();
+
+            // When
+            givenOpenApiLiveReload.reloadOnSchedule();
+
+            // Then
+            then(givenMcpSyncServer).should().addTool(syncToolSpecCaptor.capture());
+            then(givenMcpSyncServer).should(never()).removeTool(any());
+
+            BDDAssertions.then(syncToolSpecCaptor.getValue().tool().title()).isEqualTo("List All Users");
+        }
+
         @Test
         void shouldDetectChangeWhenToolDescriptionChanges() throws InterruptedException {
             // Given
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_EDITED_DESCRIPTION_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -308,10 +325,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_EDITED_SCHEMA_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -338,10 +352,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_EDITED_ANNOTATIONS_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -366,10 +377,7 @@ class ToolLiveReloadTest {
             var givenMultipleToolsOpenApi = loadOpenApi(MULTIPLE_TOOLS_SPEC);
             var givenEditedMultipleToolsOpenApi = loadOpenApi(MULTIPLE_TOOLS_EDITED_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenMultipleToolsOpenApi)
-                    .willReturn(givenMultipleToolsOpenApi)
-                    .willReturn(givenEditedMultipleToolsOpenApi);
+            givenReload(givenMultipleToolsOpenApi, givenEditedMultipleToolsOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -426,14 +434,11 @@ class ToolLiveReloadTest {
     class NoChanges {
 
         @Test
-        void shouldNotReloadToolsWhenVersionDoesNotChange() throws InterruptedException {
+        void shouldNotReloadToolsWhenSpecificationDoesNotChange() throws InterruptedException {
             // Given
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi);
+            givenReload(givenBaseOpenApi, givenBaseOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -455,10 +460,7 @@ class ToolLiveReloadTest {
             var givenSameToolsDifferentVersion = loadOpenApi(BASE_SPEC);
             givenSameToolsDifferentVersion.getInfo().setVersion("1.0.1");
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenSameToolsDifferentVersion);
+            givenReload(givenBaseOpenApi, givenSameToolsDifferentVersion);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -471,6 +473,7 @@ class ToolLiveReloadTest {
             then(givenMcpSyncServer).should(never()).addTool(any());
             then(givenMcpSyncServer).should(never()).removeTool(any());
             then(givenMcpSyncServer).should(never()).notifyToolsListChanged();
+            BDDAssertions.then(givenOpenApiLiveReload.catalogVersion()).isZero();
         }
     }
 
@@ -491,10 +494,7 @@ class ToolLiveReloadTest {
             postOperation.setDescription("Create a new order");
             givenCustomOpenApi.getPaths().get("/orders").setPost(postOperation);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenMultipleToolsOpenApi)
-                    .willReturn(givenMultipleToolsOpenApi)
-                    .willReturn(givenCustomOpenApi);
+            givenReload(givenMultipleToolsOpenApi, givenCustomOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -524,10 +524,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_ADDED_TOOL_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -551,10 +548,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_ADDED_TOOL_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -568,14 +562,11 @@ class ToolLiveReloadTest {
         }
 
         @Test
-        void shouldNotReloadScopesWhenVersionDoesNotChange() throws InterruptedException {
+        void shouldNotReloadScopesWhenSpecificationDoesNotChange() throws InterruptedException {
             // Given
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi);
+            givenReload(givenBaseOpenApi, givenBaseOpenApi);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -594,10 +585,7 @@ class ToolLiveReloadTest {
             var givenSameToolsDifferentVersion = loadOpenApi(BASE_SPEC);
             givenSameToolsDifferentVersion.getInfo().setVersion("1.0.1");
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenSameToolsDifferentVersion);
+            givenReload(givenBaseOpenApi, givenSameToolsDifferentVersion);
 
             givenToolRegistry.getTools();
             var givenOpenApiLiveReload = givenOpenApiLiveReload();
@@ -610,6 +598,26 @@ class ToolLiveReloadTest {
         }
     }
 
+    private void givenReload(OpenAPI givenCurrentOpenApi, OpenAPI givenReloadedOpenApi) {
+        var reloaded = new AtomicBoolean(false);
+        var givenCurrentFingerprints = fingerprinter.fingerprint(givenCurrentOpenApi);
+        var givenReloadedFingerprints = fingerprinter.fingerprint(givenReloadedOpenApi);
+        var givenCurrentSpecification =
+                new OpenApiRegistry.Specification(givenCurrentOpenApi, givenCurrentFingerprints);
+        var givenReloadedSpecification =
+                new OpenApiRegistry.Specification(givenReloadedOpenApi, givenReloadedFingerprints);
+        given(givenOpenApiRegistry.specification())
+                .willAnswer(invocation -> reloaded.get() ? givenReloadedSpecification : givenCurrentSpecification);
+        given(givenOpenApiRegistry.fingerprints())
+                .willAnswer(invocation -> reloaded.get() ? givenReloadedFingerprints : givenCurrentFingerprints);
+        willAnswer(invocation -> {
+                    reloaded.set(true);
+                    return null;
+                })
+                .given(givenOpenApiRegistry)
+                .reload();
+    }
+
     private void setupToolSpecBuilderForNewTools() {
         given(toolSpecBuilder.buildSyncToolSpecification(any())).willAnswer(invocation -> {
             var registeredTool = invocation.getArgument(0, RegisteredTool.class);
@@ -640,7 +648,8 @@ class ToolLiveReloadTest {
                 promptSpecBuilder,
                 PROPERTIES,
                 metricService,
-                mcpServerMetaData);
+                mcpServerMetaData,
+                ApiSpecs.NONE);
     }
 
     @Nested
@@ -652,10 +661,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_ADDED_TOOL_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
 
@@ -679,7 +685,8 @@ class ToolLiveReloadTest {
                     promptSpecBuilder,
                     PROPERTIES,
                     metricService,
-                    mcpServerMetaData);
+                    mcpServerMetaData,
+                    ApiSpecs.NONE);
             setupToolSpecBuilderForNewTools();
 
             // When
@@ -696,10 +703,7 @@ class ToolLiveReloadTest {
             var givenBaseOpenApi = loadOpenApi(BASE_SPEC);
             var givenEditedOpenApi = loadOpenApi(WITH_ADDED_TOOL_SPEC);
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenEditedOpenApi);
+            givenReload(givenBaseOpenApi, givenEditedOpenApi);
 
             givenToolRegistry.getTools();
 
@@ -720,7 +724,8 @@ class ToolLiveReloadTest {
                     promptSpecBuilder,
                     PROPERTIES,
                     metricService,
-                    mcpServerMetaData);
+                    mcpServerMetaData,
+                    ApiSpecs.NONE);
             setupToolSpecBuilderForNewTools();
 
             // When
@@ -738,10 +743,7 @@ class ToolLiveReloadTest {
             var givenSameVersion = loadOpenApi(BASE_SPEC);
             givenSameVersion.getInfo().setVersion("1.0.1");
 
-            given(givenOpenApiRegistry.openApi())
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenBaseOpenApi)
-                    .willReturn(givenSameVersion);
+            givenReload(givenBaseOpenApi, givenSameVersion);
 
             givenToolRegistry.getTools();
 
@@ -762,7 +764,8 @@ class ToolLiveReloadTest {
                     promptSpecBuilder,
                     PROPERTIES,
                     metricService,
-                    mcpServerMetaData);
+                    mcpServerMetaData,
+                    ApiSpecs.NONE);
 
             // When
             givenOpenApiLiveReload.reloadOnSchedule();
@@ -0,0 +1,151 @@
+package com.infobip.openapi.mcp.openapi.catalog;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.OpenApiFingerprinter;
+import com.infobip.openapi.mcp.openapi.OpenApiReader;
+import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
+import com.infobip.openapi.mcp.openapi.OpenApiResolver;
+import com.infobip.openapi.mcp.openapi.exception.InvalidOpenApiException;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiFilterChain;
+import com.infobip.openapi.mcp.openapi.schema.Spec;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CatalogCompilerTest {
+
+    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
+    private final OpenApiMapperFactory mapperFactory = new OpenApiMapperFactory();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldCompileCatalogThatMatchesRuntimePipeline() {
+        // given
+        var properties = givenProperties(givenResourceUri("/openapi/petstore.json"), null);
+        var target = tempDir.resolve(CatalogCompiler.DEFAULT_LOCATION);
+
+        // when
+        var metadata = new CatalogCompiler(properties).compile(target);
+        var catalog = new CatalogReader(parser).read(target.toUri().toString());
+
+        // then
+        then(target).exists();
+        then(metadata.formatVersion()).isEqualTo(CatalogMetadata.CURRENT_FORMAT_VERSION);
+        then(metadata.specVersion()).isEqualTo("1.0.0");
+        then(metadata.tools()).containsExactly("listpets", "createpets", "showpetbyid");
+        then(metadata.prompts()).isEmpty();
+
+        var runtimeOpenApi = new OpenApiResolver(parser, mapperFactory)
+                .resolve(new OpenApiReader(parser).read(properties.openApiUrl()));
+        then(catalog.getExtensions()).doesNotContainKey(Spec.MCP_CATALOG_EXTENSION);
+        then(catalog.getPaths()).isEqualTo(runtimeOpenApi.getPaths());
+        then(catalog.getInfo()).isEqualTo(runtimeOpenApi.getInfo());
+    }
+
+    @Test
+    void shouldWriteCompactJson() throws IOException {
+        // given
+        var properties = givenProperties(givenResourceUri("/openapi/petstore.json"), null);
+        var target = tempDir.resolve("catalog.json");
+
+        // when
+        new CatalogCompiler(properties).compile(target);
+
+        // then
+        then(Files.readString(target)).doesNotContain("\n").contains("\"" + Spec.MCP_CATALOG_EXTENSION + "\"");
+    }
+
+    @Test
+    void shouldFailCompilationOfInvalidSpec() throws IOException {
+        // given
+        var invalidSpec = Files.writeString(tempDir.resolve("invalid.json"), "{\"not\": \"openapi\"}");
+        var properties = givenProperties(invalidSpec.toUri(), null);
+
+        // when & then
+        thenThrownBy(() -> new CatalogCompiler(properties).compile(tempDir.resolve("catalog.json")))
+                .isInstanceOf(InvalidOpenApiException.class);
+        then(tempDir.resolve("catalog.json")).doesNotExist();
+    }
+
+    @Test
+    void shouldLoadPrecompiledCatalogWithoutReadingSpec() {
+        // given
+        var target = tempDir.resolve("catalog.json");
+        new CatalogCompiler(givenProperties(givenResourceUri("/openapi/petstore.json"), null)).compile(target);
+        var openApiReader = mock(OpenApiReader.class);
+        var openApiFilterChain = mock(OpenApiFilterChain.class);
+        var openApiResolver = mock(OpenApiResolver.class);
+
+        // when
+        var registry = new OpenApiRegistry(
+                givenProperties(null, target.toUri().toString()),
+                openApiReader,
+                openApiFilterChain,
+                openApiResolver,
+                new CatalogReader(parser),
+                new OpenApiFingerprinter(new OpenApiMapperFactory()));
+
+        // then
+        then(registry.openApi().getPaths()).containsOnlyKeys("/pets", "/pets/{petId}");
+        verifyNoInteractions(openApiReader, openApiFilterChain, openApiResolver);
+    }
+
+    @Test
+    void shouldRejectSpecWithoutCatalogMetadata() {
+        // given
+        var location = givenResourceUri("/openapi/petstore.json").toString();
+
+        // when & then
+        thenThrownBy(() -> new CatalogReader(parser).read(location))
+                .isInstanceOf(InvalidOpenApiException.class)
+                .satisfies(exception -> then(((InvalidOpenApiException) exception).getMessages())
+                        .containsExactly("Missing '" + Spec.MCP_CATALOG_EXTENSION + "' extension."));
+    }
+
+    @Test
+    void shouldFailOnMissingCatalog() {
+        // given
+        var location = "classpath:does/not/exist.json";
+
+        // when & then
+        thenThrownBy(() -> new CatalogReader(parser).read(location))
+                .isInstanceOf(InvalidOpenApiException.class)
+                .hasMessageContaining(location);
+    }
+
+    private OpenApiMcpProperties givenProperties(URI openApiUrl, String precompiledCatalog) {
+        return new OpenApiMcpProperties(
+                openApiUrl,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                precompiledCatalog,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    private URI givenResourceUri(String resourcePath) {
+        return URI.create(getClass().getResource(resourcePath).toString());
+    }
+}
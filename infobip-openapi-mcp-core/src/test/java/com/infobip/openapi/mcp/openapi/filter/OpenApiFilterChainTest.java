@@ -5,8 +5,13 @@ import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
 import com.infobip.openapi.mcp.openapi.exception.OpenApiFilterException;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.jspecify.annotations.NullMarked;
@@ -242,8 +247,144 @@ class OpenApiFilterChainTest {
                 .contains("Skipping OpenAPI filter: MyCustomFilterName as it is disabled in the configuration");
     }
 
+    @Test
+    void shouldApplyConsecutiveSchemaFiltersInSingleTraversal() {
+        // Given
+        var properties = createPropertiesWithFilters(Map.of());
+        var openApi = openApiWithSchemas();
+        var visits = new ArrayList<String>();
+        var first = new RecordingSchemaFilter("First", visits);
+        var second = new RecordingSchemaFilter("Second", visits);
+
+        var filterChain = new OpenApiFilterChain(List.of(first, second), properties);
+
+        // When
+        filterChain.filter(openApi);
+
+        // Then
+        then(visits)
+                .containsExactly("First:Pet", "Second:Pet", "First:name", "Second:name", "First:Owner", "Second:Owner");
+    }
+
+    @Test
+    void shouldNotFuseSchemaFiltersAcrossOtherFilters() {
+        // Given
+        var properties = createPropertiesWithFilters(Map.of());
+        var openApi = openApiWithSchemas();
+        var visits = new ArrayList<String>();
+        var first = new RecordingSchemaFilter("First", visits);
+        var second = new RecordingSchemaFilter("Second", visits);
+        OpenApiFilter barrier = spec -> {
+            visits.add("Barrier");
+            return spec;
+        };
+
+        var filterChain = new OpenApiFilterChain(List.of(first, barrier, second), properties);
+
+        // When
+        filterChain.filter(openApi);
+
+        // Then
+        then(visits)
+                .containsExactly(
+                        "First:Pet",
+                        "First:name",
+                        "First:Owner",
+                        "Barrier",
+                        "Second:Pet",
+                        "Second:name",
+                        "Second:Owner");
+    }
+
+    @Test
+    void shouldSkipDisabledSchemaFilter() {
+        // Given
+        var properties = createPropertiesWithFilters(Map.of("Second", false));
+        var openApi = openApiWithSchemas();
+        var visits = new ArrayList<String>();
+        var first = new RecordingSchemaFilter("First", visits);
+        var second = new RecordingSchemaFilter("Second", visits);
+
+        var filterChain = new OpenApiFilterChain(List.of(first, second), properties);
+
+        // When
+        filterChain.filter(openApi);
+
+        // Then
+        then(visits).containsExactly("First:Pet", "First:name", "First:Owner");
+    }
+
+    @Test
+    void shouldReportFailingSchemaFilterByName(CapturedOutput output) {
+        // Given
+        var properties = createPropertiesWithFilters(Map.of());
+        var visits = new ArrayList<String>();
+        var recording = new RecordingSchemaFilter("Recording", visits);
+        var faulty = new FaultySchemaFilter();
+
+        var filterChain = new OpenApiFilterChain(List.of(recording, faulty), properties);
+
+        // When & Then
+        thenThrownBy(() -> filterChain.filter(openApiWithSchemas()))
+                .isInstanceOf(OpenApiFilterException.class)
+                .hasMessageContaining("OpenAPI spec filtering failed by filter: FaultySchemaFilter")
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        then(output.getOut()).contains("Error applying filter: FaultySchemaFilter");
+        then(visits).containsExactly("Recording:Pet");
+    }
+
+    @Test
+    void shouldVisitSubtypesMappedByFlattenedDiscriminatorOnce() {
+        // Given
+        var properties = createPropertiesWithFilters(Map.of());
+        var openApi = new OpenAPI()
+                .info(new Info().title("Schemas").version("1.0.0"))
+                .components(new Components()
+                        .addSchemas(
+                                "Base",
+                                new Schema<>()
+                                        .title("Base")
+                                        .discriminator(new Discriminator()
+                                                .propertyName("kind")
+                                                .mapping("a", "#/components/schemas/A")
+                                                .mapping("b", "#/components/schemas/B"))
+                                        .addProperty("kind", new StringSchema().title("kind")))
+                        .addSchemas(
+                                "A",
+                                new Schema<>()
+                                        .title("A")
+                                        .addProperty("kind", new StringSchema())
+                                        .addProperty("name", new StringSchema().title("A.name")))
+                        .addSchemas("B", new Schema<>().title("B")));
+        var visits = new ArrayList<String>();
+        var recording = new RecordingSchemaFilter("Recording", visits);
+
+        var filterChain = new OpenApiFilterChain(List.of(new DiscriminatorFlattener(), recording), properties);
+
+        // When
+        filterChain.filter(openApi);
+
+        // Then
+        then(openApi.getComponents().getSchemas().get("Base").getOneOf())
+                .contains(openApi.getComponents().getSchemas().get("B"));
+        then(visits).filteredOn("Recording:A.name"::equals).hasSize(1);
+        then(visits).filteredOn("Recording:B"::equals).hasSize(1);
+    }
+
+    private OpenAPI openApiWithSchemas() {
+        return new OpenAPI()
+                .info(new Info().title("Schemas").version("1.0.0"))
+                .components(new Components()
+                        .addSchemas(
+                                "Pet",
+                                new Schema<>().title("Pet").addProperty("name", new StringSchema().title("name")))
+                        .addSchemas("Owner", new Schema<>().title("Owner")));
+    }
+
     private OpenApiMcpProperties createPropertiesWithFilters(Map<String, Boolean> filterConfig) {
-        return new OpenApiMcpProperties(null, null, null, null, null, null, null, filterConfig, null, null);
+        return new OpenApiMcpProperties(
+                null, null, null, null, null, null, null, filterConfig, null, null, null, null, null, null, null, null);
     }
 
     // Test filter implementations
@@ -320,4 +461,40 @@ class OpenApiFilterChainTest {
             return "MyCustomFilterName";
         }
     }
+
+    /**
+     * Test schema filter that records the titles of the schemas it visits
+     */
+    @NullMarked
+    private static class RecordingSchemaFilter implements SchemaFilter {
+
+        private final String name;
+        private final List<String> visits;
+
+        RecordingSchemaFilter(String name, List<String> visits) {
+            this.name = name;
+            this.visits = visits;
+        }
+
+        @Override
+        public void filterSchema(Schema<?> schema, OpenAPI openApi) {
+            visits.add(name + ":" + schema.getTitle());
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+
+    /**
+     * Test schema filter that throws an exception for every schema
+     */
+    @NullMarked
+    private static class FaultySchemaFilter implements SchemaFilter {
+        @Override
+        public void filterSchema(Schema<?> schema, OpenAPI openApi) {
+            throw new IllegalStateException("Something went wrong in schema filter");
+        }
+    }
 }
@@ -0,0 +1,268 @@
+package com.infobip.openapi.mcp.openapi.filter;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties.Pruning;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties.Pruning.OperationRule;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OpenApiPrunerTest {
+
+    private final OpenApiMapperFactory mapperFactory = new OpenApiMapperFactory();
+
+    @Nested
+    class OperationSelection {
+
+        @Test
+        void shouldKeepAllOperationsWithoutRules() {
+            // given
+            var pruner = givenPruner(List.of(), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(operationIds(actual)).containsExactlyInAnyOrder("listPets", "createPet", "getPet", "listOwners");
+        }
+
+        @Test
+        void shouldKeepOperationsMatchingPathGlob() {
+            // given
+            var pruner = givenPruner(List.of(rule(List.of("/pets/**"), null, null, null, null)), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(operationIds(actual)).containsExactlyInAnyOrder("listPets", "createPet", "getPet");
+            then(actual.getPaths()).doesNotContainKey("/owners");
+        }
+
+        @Test
+        void shouldRequireAllCriteriaOfRuleToMatch() {
+            // given
+            var pruner = givenPruner(
+                    List.of(rule(List.of("/pets/**"), List.of(PathItem.HttpMethod.GET), null, null, null)), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(operationIds(actual)).containsExactlyInAnyOrder("listPets", "getPet");
+        }
+
+        @Test
+        void shouldKeepOperationsMatchingAnyRule() {
+            // given
+            var pruner = givenPruner(
+                    List.of(
+                            rule(null, null, List.of("owners"), null, null),
+                            rule(null, null, null, List.of("create*"), null)),
+                    List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(operationIds(actual)).containsExactlyInAnyOrder("createPet", "listOwners");
+        }
+
+        @Test
+        void shouldKeepOperationsWithExtensionFlag() {
+            // given
+            var pruner = givenPruner(List.of(rule(null, null, null, null, List.of("x-mcp"))), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(operationIds(actual)).containsExactly("getPet");
+        }
+
+        @Test
+        void shouldRemoveExcludedOperationsEvenIfIncluded() {
+            // given
+            var pruner = givenPruner(
+                    List.of(rule(List.of("/pets/**"), null, null, null, null)),
+                    List.of(rule(null, List.of(PathItem.HttpMethod.POST), null, null, null)));
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(operationIds(actual)).containsExactlyInAnyOrder("listPets", "getPet");
+        }
+    }
+
+    @Nested
+    class ComponentRemoval {
+
+        @Test
+        void shouldKeepTransitivelyReferencedComponents() {
+            // given
+            var pruner = givenPruner(List.of(rule(null, null, null, List.of("getPet"), null)), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(actual.getComponents().getSchemas()).containsOnlyKeys("Pet", "Category", "Dog", "Cat");
+            then(actual.getComponents().getParameters()).containsOnlyKeys("PetId");
+            then(actual.getComponents().getResponses()).isEmpty();
+        }
+
+        @Test
+        void shouldRemoveComponentsOfRemovedOperations() {
+            // given
+            var pruner = givenPruner(List.of(rule(null, null, List.of("owners"), null, null)), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(actual.getComponents().getSchemas()).containsOnlyKeys("Owner");
+            then(actual.getComponents().getParameters()).isEmpty();
+            then(actual.getComponents().getResponses()).containsOnlyKeys("Owners");
+        }
+
+        @Test
+        void shouldRemoveUnusedComponentsWithoutRules() {
+            // given
+            var pruner = givenPruner(List.of(), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(actual.getComponents().getSchemas()).doesNotContainKey("Unused");
+        }
+
+        @Test
+        void shouldKeepSecuritySchemes() {
+            // given
+            var pruner = givenPruner(List.of(rule(null, null, List.of("owners"), null, null)), List.of());
+
+            // when
+            var actual = pruner.filter(givenOpenApi());
+
+            // then
+            then(actual.getComponents().getSecuritySchemes()).containsOnlyKeys("basic");
+        }
+    }
+
+    private OpenApiPruner givenPruner(List<OperationRule> include, List<OperationRule> exclude) {
+        return new OpenApiPruner(new Pruning(include, exclude), mapperFactory);
+    }
+
+    private static OperationRule rule(
+            List<String> paths,
+            List<PathItem.HttpMethod> methods,
+            List<String> tags,
+            List<String> operationIds,
+            List<String> extensions) {
+        return new OperationRule(paths, methods, tags, operationIds, extensions);
+    }
+
+    private static List<String> operationIds(OpenAPI openApi) {
+        return openApi.getPaths().values().stream()
+                .flatMap(pathItem -> pathItem.readOperations().stream())
+                .map(Operation::getOperationId)
+                .toList();
+    }
+
+    private static OpenAPI givenOpenApi() {
+        return new OpenAPI()
+                .path(
+                        "/pets",
+                        new PathItem()
+                                .get(new Operation()
+                                        .operationId("listPets")
+                                        .tags(List.of("pets"))
+                                        .responses(jsonResponse(new ArraySchema().items(ref("Pet")))))
+                                .post(new Operation()
+                                        .operationId("createPet")
+                                        .tags(List.of("pets"))
+                                        .responses(jsonResponse(ref("Pet")))))
+                .path(
+                        "/pets/{petId}",
+                        new PathItem()
+                                .get(new Operation()
+                                        .operationId("getPet")
+                                        .tags(List.of("pets"))
+                                        .addParametersItem(new Parameter().$ref("#/components/parameters/PetId"))
+                                        .responses(jsonResponse(ref("Pet")))
+                                        .extensions(Map.of("x-mcp", true))))
+                .path(
+                        "/owners",
+                        new PathItem()
+                                .get(new Operation()
+                                        .operationId("listOwners")
+                                        .tags(List.of("owners"))
+                                        .responses(new ApiResponses()
+                                                .addApiResponse(
+                                                        "200",
+                                                        new ApiResponse().$ref("#/components/responses/Owners")))))
+                .components(new Components()
+                        .addSchemas(
+                                "Pet",
+                                new ObjectSchema()
+                                        .addProperty("category", ref("Category"))
+                                        .addProperty("kind", new StringSchema())
+                                        .discriminator(new Discriminator()
+                                                .propertyName("kind")
+                                                .mapping("dog", "#/components/schemas/Dog")
+                                                .mapping("cat", "Cat")))
+                        .addSchemas("Category", new ObjectSchema().addProperty("name", new StringSchema()))
+                        .addSchemas("Dog", new ObjectSchema().addProperty("kind", new StringSchema()))
+                        .addSchemas("Cat", new ObjectSchema().addProperty("kind", new StringSchema()))
+                        .addSchemas("Owner", new ObjectSchema().addProperty("name", new StringSchema()))
+                        .addSchemas("Unused", new ObjectSchema())
+                        .addParameters(
+                                "PetId",
+                                new Parameter().name("petId").in("path").schema(new StringSchema()))
+                        .addResponses(
+                                "Owners",
+                                new ApiResponse()
+                                        .content(new Content()
+                                                .addMediaType(
+                                                        "application/json",
+                                                        new MediaType().schema(new ArraySchema().items(ref("Owner"))))))
+                        .addSecuritySchemes(
+                                "basic",
+                                new SecurityScheme()
+                                        .type(SecurityScheme.Type.HTTP)
+                                        .scheme("basic")));
+    }
+
+    private static ApiResponses jsonResponse(Schema<?> schema) {
+        return new ApiResponses()
+                .addApiResponse(
+                        "200",
+                        new ApiResponse()
+                                .content(new Content()
+                                        .addMediaType("application/json", new MediaType().schema(schema))));
+    }
+
+    private static Schema<?> ref(String name) {
+        return new Schema<>().$ref("#/components/schemas/" + name);
+    }
+}
@@ -0,0 +1,425 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.openapi.schema.ArgumentValidator.Violation;
+import com.infobip.openapi.mcp.openapi.tool.JsonDoubleSerializationCorrector;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+class ArgumentValidatorTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private static final String MESSAGE_SCHEMA = """
+            {
+              "type": "object",
+              "properties": {
+                "_params": {
+                  "type": "object",
+                  "properties": {
+                    "limit": { "type": "integer", "minimum": 1, "maximum": 100 },
+                    "channel": { "type": "string", "enum": ["SMS", "MMS"] }
+                  }
+                },
+                "_body": {
+                  "type": "object",
+                  "required": ["messages"],
+                  "properties": {
+                    "messages": {
+                      "type": "array",
+                      "minItems": 1,
+                      "items": { "$ref": "#/$defs/Message" }
+                    }
+                  }
+                }
+              },
+              "$defs": {
+                "Message": {
+                  "type": "object",
+                  "required": ["to"],
+                  "additionalProperties": false,
+                  "properties": {
+                    "to": { "type": "string", "pattern": "^[0-9]+$" },
+                    "text": { "type": "string", "maxLength": 5 },
+                    "tags": { "type": "array", "items": { "type": "string" } }
+                  }
+                }
+              }
+            }
+            """;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldReturnSameArgumentsWhenValid() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, true, true);
+        var arguments = givenJson("""
+                { "_params": { "limit": 10, "channel": "SMS" }, "_body": { "messages": [ { "to": "385" } ] } }
+                """);
+
+        // when
+        var validation = validator.validate(arguments);
+
+        // then
+        then(validation.valid()).isTrue();
+        then(validation.coerced()).isFalse();
+        then(validation.arguments()).isSameAs(arguments);
+    }
+
+    @Test
+    void shouldReportViolationsWithPaths() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, true, true);
+        var arguments = givenJson("""
+                {
+                  "_params": { "limit": 0, "channel": "FAX" },
+                  "_body": { "messages": [ { "to": "385" }, { "to": "abc", "text": "too long", "from": "me" } ] }
+                }
+                """);
+
+        // when
+        var validation = validator.validate(arguments);
+
+        // then
+        then(validation.valid()).isFalse();
+        then(validation.violations())
+                .containsExactlyInAnyOrder(
+                        new Violation("$._params.limit", "must be at least 1"),
+                        new Violation("$._params.channel", "must be one of \"SMS\", \"MMS\""),
+                        new Violation("$._body.messages[1].to", "must match the pattern ^[0-9]+$"),
+                        new Violation("$._body.messages[1].text", "must be at most 5 characters long"),
+                        new Violation("$._body.messages[1].from", "is not a known property"));
+    }
+
+    @Test
+    void shouldReportMissingRequiredPropertiesAndWrongTypes() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, true, true);
+        var arguments = givenJson("""
+                { "_params": { "limit": true }, "_body": { } }
+                """);
+
+        // when
+        var validation = validator.validate(arguments);
+
+        // then
+        then(validation.violations())
+                .containsExactlyInAnyOrder(
+                        new Violation("$._params.limit", "must be an integer but was a boolean"),
+                        new Violation("$._body.messages", "is required"));
+    }
+
+    @Test
+    void shouldCoerceNumericStringsSingleValuesAndEnumCase() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, true, true);
+        var arguments = givenJson("""
+                {
+                  "_params": { "limit": "10", "channel": "sms" },
+                  "_body": { "messages": { "to": "385", "tags": "promo" } }
+                }
+                """);
+
+        // when
+        var validation = validator.validate(arguments);
+
+        // then
+        then(validation.valid()).isTrue();
+        then(validation.coerced()).isTrue();
+        then(validation.arguments()).isEqualTo(givenJson("""
+                        {
+                          "_params": { "limit": 10, "channel": "SMS" },
+                          "_body": { "messages": [ { "to": "385", "tags": ["promo"] } ] }
+                        }
+                        """));
+        then(arguments).isEqualTo(givenJson("""
+                {
+                  "_params": { "limit": "10", "channel": "sms" },
+                  "_body": { "messages": { "to": "385", "tags": "promo" } }
+                }
+                """));
+    }
+
+    @Test
+    void shouldNotCoerceWhenCoercionIsDisabled() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, false, true);
+        var arguments = givenJson("""
+                { "_params": { "limit": "10", "channel": "sms" } }
+                """);
+
+        // when
+        var validation = validator.validate(arguments);
+
+        // then
+        then(validation.violations())
+                .containsExactlyInAnyOrder(
+                        new Violation("$._params.limit", "must be an integer but was a string"),
+                        new Violation("$._params.channel", "must be one of \"SMS\", \"MMS\""));
+    }
+
+    @Test
+    void shouldNotCoerceFractionalStringsToIntegers() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, true, true);
+
+        // when
+        var validation = validator.validate(givenJson("""
+                { "_params": { "limit": "1.5" } }
+                """));
+
+        // then
+        then(validation.violations())
+                .containsExactly(new Violation("$._params.limit", "must be an integer but was a string"));
+    }
+
+    @Test
+    void shouldUnwrapDoubleSerializedObjectsAndArraysWhereSchemaExpectsThem() {
+        // given
+        var messages = jsonMapper.writeValueAsString(List.of(Map.of("to", "385", "text", "[1]")));
+        var arguments = Map.<String, Object>of("_body", jsonMapper.writeValueAsString(Map.of("messages", messages)));
+
+        // when
+        var unwrapped = givenValidator(MESSAGE_SCHEMA, false, true).validate(arguments);
+        var rejected = givenValidator(MESSAGE_SCHEMA, false, false).validate(arguments);
+
+        // then
+        then(unwrapped.valid()).isTrue();
+        then(unwrapped.coerced()).isTrue();
+        then(unwrapped.arguments()).isEqualTo(givenJson("""
+                { "_body": { "messages": [ { "to": "385", "text": "[1]" } ] } }
+                """));
+        then(rejected.violations()).containsExactly(new Violation("$._body", "must be an object but was a string"));
+    }
+
+    @Test
+    void shouldReportDoubleSerializedValuesNotMatchingSchema() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, false, true);
+        var body = Map.of("messages", List.of(Map.of("to", 385)));
+
+        // when
+        var validation = validator.validate(Map.of("_body", jsonMapper.writeValueAsString(body)));
+
+        // then
+        then(validation.violations())
+                .containsExactly(new Violation("$._body.messages[0].to", "must be a string but was an integer"));
+    }
+
+    @Test
+    void shouldNeitherRequireNorCheckReadOnlyProperties() {
+        // given
+        var validator = givenValidator("""
+                {
+                  "type": "object",
+                  "required": ["id", "createdAt", "name"],
+                  "properties": {
+                    "id": { "type": "string", "readOnly": true },
+                    "createdAt": { "$ref": "#/$defs/Timestamp" },
+                    "name": { "type": "string" }
+                  },
+                  "$defs": {
+                    "Timestamp": { "type": "string", "readOnly": true }
+                  }
+                }
+                """, true, true);
+
+        // when
+        var withoutReadOnly = validator.validate(Map.of("name", "Jane"));
+        var withReadOnly = validator.validate(Map.of("id", 42, "name", "Jane"));
+        var withoutName = validator.validate(Map.of());
+
+        // then
+        then(withoutReadOnly.valid()).isTrue();
+        then(withReadOnly.valid()).isTrue();
+        then(withoutName.violations()).containsExactly(new Violation("$.name", "is required"));
+    }
+
+    @Test
+    void shouldTreatNullOptionalPropertiesAsAbsent() {
+        // given
+        var validator = givenValidator(MESSAGE_SCHEMA, true, true);
+        var arguments = new HashMap<String, Object>();
+        arguments.put("_params", null);
+
+        // when
+        var validation = validator.validate(arguments);
+
+        // then
+        then(validation.valid()).isTrue();
+    }
+
+    @Test
+    void shouldValidateNullArgumentsAsEmpty() {
+        // given
+        var validator = givenValidator("""
+                { "type": "object", "required": ["id"], "properties": { "id": { "type": "string" } } }
+                """, true, true);
+
+        // when
+        var validation = validator.validate(null);
+
+        // then
+        then(validation.violations()).containsExactly(new Violation("$.id", "is required"));
+    }
+
+    @Test
+    void shouldAcceptAnyMatchingAlternative() {
+        // given
+        var validator = givenValidator("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "id": { "anyOf": [ { "type": "string", "minLength": 3 }, { "type": "integer" } ] },
+                    "size": { "oneOf": [ { "type": "integer" }, { "type": "array", "items": { "type": "integer" } } ] }
+                  }
+                }
+                """, true, true);
+
+        // when
+        var valid = validator.validate(givenJson("{ \"id\": 42, \"size\": [1, 2] }"));
+        var coerced = validator.validate(givenJson("{ \"size\": \"7\" }"));
+        var invalid = validator.validate(givenJson("{ \"id\": \"ab\" }"));
+
+        // then
+        then(valid.valid()).isTrue();
+        then(valid.coerced()).isFalse();
+        then(coerced.arguments()).isEqualTo(Map.of("size", 7));
+        then(invalid.violations()).containsExactly(new Violation("$.id", "does not match any of the allowed schemas"));
+    }
+
+    @Test
+    void shouldUnwrapDoubleSerializedObjectsUnderAlternatives() {
+        // given
+        var schema = """
+                {
+                  "type": "object",
+                  "properties": {
+                    "destination": {
+                      "oneOf": [
+                        { "type": "object", "required": ["to"], "properties": { "to": { "type": "string" } } },
+                        { "type": "object", "required": ["email"], "properties": { "email": { "type": "string" } } }
+                      ]
+                    }
+                  }
+                }
+                """;
+        var arguments = Map.<String, Object>of("destination", jsonMapper.writeValueAsString(Map.of("email", "a@b.c")));
+
+        // when
+        var unwrapped = givenValidator(schema, false, true).validate(arguments);
+        var coerced = givenValidator(schema, true, true).validate(arguments);
+
+        // then
+        then(unwrapped.valid()).isTrue();
+        then(unwrapped.coerced()).isTrue();
+        then(unwrapped.arguments()).isEqualTo(Map.of("destination", Map.of("email", "a@b.c")));
+        then(coerced.arguments()).isEqualTo(unwrapped.arguments());
+    }
+
+    @Test
+    void shouldHonourOpenApi30NullableAndExclusiveBounds() {
+        // given
+        var validator = givenValidator("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "note": { "type": "string", "nullable": true },
+                    "ratio": { "type": "number", "minimum": 0, "exclusiveMinimum": true, "exclusiveMaximum": 1 }
+                  },
+                  "required": ["note"]
+                }
+                """, true, true);
+        var arguments = new HashMap<String, Object>();
+        arguments.put("note", null);
+        arguments.put("ratio", 0);
+
+        // when
+        var validation = validator.validate(arguments);
+
+        // then
+        then(validation.violations()).containsExactly(new Violation("$.ratio", "must be greater than 0"));
+    }
+
+    @Test
+    void shouldValidateRecursiveDefinitions() {
+        // given
+        var validator = givenValidator("""
+                {
+                  "$ref": "#/$defs/Node",
+                  "$defs": {
+                    "Node": {
+                      "type": "object",
+                      "properties": {
+                        "name": { "type": "string" },
+                        "children": { "type": "array", "items": { "$ref": "#/$defs/Node" } }
+                      }
+                    },
+                    "Loop": { "$ref": "#/$defs/Loop" }
+                  }
+                }
+                """, true, true);
+
+        // when
+        var validation = validator.validate(givenJson("""
+                { "name": "root", "children": [ { "name": "leaf", "children": [ { "name": 1 } ] } ] }
+                """));
+
+        // then
+        then(validation.violations())
+                .containsExactly(
+                        new Violation("$.children[0].children[0].name", "must be a string but was an integer"));
+    }
+
+    @Test
+    void shouldLimitNumberOfViolations() {
+        // given
+        var validator = givenValidator("""
+                { "type": "object", "properties": { "ids": { "type": "array", "items": { "type": "integer" } } } }
+                """, false, true);
+        var ids = new ArrayList<Object>();
+        for (var index = 0; index < 50; index++) {
+            ids.add("id" + index);
+        }
+
+        // when
+        var validation = validator.validate(Map.of("ids", ids));
+
+        // then
+        then(validation.violations()).hasSize(ArgumentValidator.MAX_VIOLATIONS);
+        then(validation.violations().getFirst())
+                .isEqualTo(new Violation("$.ids[0]", "must be an integer but was a string"));
+    }
+
+    @Test
+    void shouldRejectEverythingForFalseSchema() {
+        // given
+        var validator = givenValidator("""
+                { "type": "object", "properties": { "legacy": false } }
+                """, true, true);
+
+        // when
+        var validation = validator.validate(Map.of("legacy", List.of()));
+
+        // then
+        then(validation.violations()).containsExactly(new Violation("$.legacy", "is not allowed"));
+    }
+
+    private ArgumentValidator givenValidator(String schema, boolean coercion, boolean unwrapJsonStrings) {
+        return ArgumentValidator.compile(
+                givenJson(schema),
+                coercion,
+                unwrapJsonStrings ? JsonDoubleSerializationCorrector::parseEmbeddedJson : null);
+    }
+
+    private Map<String, Object> givenJson(String json) {
+        return jsonMapper.readValue(json, MAP_TYPE);
+    }
+}
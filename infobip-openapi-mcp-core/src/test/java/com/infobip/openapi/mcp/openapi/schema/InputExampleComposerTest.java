@@ -710,12 +710,21 @@ class InputExampleComposerTest {
                 null,
                 new OpenApiMcpProperties.Tools(
                         null,
-                        new OpenApiMcpProperties.Tools.Schema(parametersKey, requestBodyKey),
+                        new OpenApiMcpProperties.Tools.Schema(parametersKey, requestBodyKey, null, null),
                         null,
                         null,
                         null,
                         mode,
+                        null,
+                        null,
+                        null,
                         null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null));
     }
 
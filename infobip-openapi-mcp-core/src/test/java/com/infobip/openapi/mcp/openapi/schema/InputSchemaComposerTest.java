@@ -6,6 +6,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
 import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.models.SpecVersion;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +34,7 @@ import org.springframework.boot.test.system.OutputCaptureExtension;
 class InputSchemaComposerTest {
 
     private final InputSchemaComposer composer =
-            new InputSchemaComposer(new OpenApiMcpProperties.Tools.Schema(null, null));
+            new InputSchemaComposer(new OpenApiMcpProperties.Tools.Schema(null, null, null, null));
 
     @Nested
     @DisplayName("compose method")
@@ -543,7 +545,8 @@ class InputSchemaComposerTest {
             var operation = new Operation();
 
             // when
-            var result = composer.decompose(null, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(null);
 
             // then
             then(result).isEqualTo(DecomposedRequestData.empty());
@@ -557,7 +560,8 @@ class InputSchemaComposerTest {
             var callToolRequest = createCallToolRequestWithBothParametersAndRequestBody();
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -580,7 +584,8 @@ class InputSchemaComposerTest {
             var callToolRequest = createCallToolRequestWithParameters();
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -601,7 +606,8 @@ class InputSchemaComposerTest {
             var callToolRequest = createCallToolRequestWithRequestBody();
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -624,7 +630,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result.parametersByType()).isEqualTo(DecomposedRequestData.ParametersByType.empty());
@@ -647,7 +654,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isEqualTo(DecomposedRequestData.empty());
@@ -670,7 +678,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -702,7 +711,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -723,7 +733,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -747,7 +758,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -775,7 +787,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -797,7 +810,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose parameters even without requestSchema key
             then(result).isNotNull();
@@ -827,7 +841,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose request body even without requestParameters key
             then(result).isNotNull();
@@ -855,7 +870,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose parameters from requestParameters key
             then(result).isNotNull();
@@ -884,7 +900,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose request body from requestSchema key
             then(result).isNotNull();
@@ -913,7 +930,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should handle empty parameters gracefully
             then(result).isNotNull();
@@ -938,7 +956,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should handle empty request body gracefully
             then(result).isNotNull();
@@ -961,7 +980,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose the wrapped string schema
             then(result).isNotNull();
@@ -981,7 +1001,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose the wrapped array schema
             then(result).isNotNull();
@@ -1001,7 +1022,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose the wrapped number schema
             then(result).isNotNull();
@@ -1021,7 +1043,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose the wrapped boolean schema
             then(result).isNotNull();
@@ -1042,7 +1065,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose both parameters and wrapped string schema
             then(result).isNotNull();
@@ -1064,7 +1088,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose both parameters and wrapped array schema
             then(result).isNotNull();
@@ -1085,7 +1110,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should properly decompose the complex array schema
             then(result).isNotNull();
@@ -1106,7 +1132,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then - Should handle null value gracefully
             then(result).isNotNull();
@@ -1124,7 +1151,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -1150,7 +1178,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -1166,6 +1195,44 @@ class InputSchemaComposerTest {
                                     + " Skipping passed request body. Please verify if this is the intended behavior.");
         }
 
+        @Test
+        void shouldNotWarnWhenOperationWithoutArgumentsIsCalledWithoutArguments(CapturedOutput output) {
+            // given
+            var callToolRequest = new McpSchema.CallToolRequest("test-tool", Map.of());
+
+            // when
+            var result = composer.decomposer(createOperationDescriptor(new Operation()))
+                    .decompose(callToolRequest);
+
+            // then
+            then(result).isSameAs(DecomposedRequestData.empty());
+            then(output.getOut()).doesNotContain("Cannot reliably determine schema type");
+        }
+
+        @Test
+        void shouldReuseDecomposerAcrossCalls(CapturedOutput output) {
+            // given
+            var operation = createOperationWithParameters();
+            var parameters = new ArrayList<>(operation.getParameters());
+            parameters.add(new Parameter().name("formParam").in("form").schema(new StringSchema()));
+            operation.setParameters(parameters);
+            var decomposer = composer.decomposer(createOperationDescriptor(operation));
+
+            // when
+            var first = decomposer.decompose(new McpSchema.CallToolRequest("test-tool", Map.of("userId", "1")));
+            var second = decomposer.decompose(
+                    new McpSchema.CallToolRequest("test-tool", Map.of("limit", 5, "formParam", "x")));
+
+            // then
+            then(first.parametersByType().path()).containsOnly(entry("userId", "1"));
+            then(first.parametersByType().query()).isSameAs(Map.of());
+            then(second.parametersByType().path()).isSameAs(Map.of());
+            then(second.parametersByType().query()).containsOnly(entry("limit", 5));
+            then(second.parametersByType().cookie()).isSameAs(Map.of());
+            then(output.getOut().split("Unsupported parameter type 'form' for parameter 'formParam'", -1))
+                    .hasSize(2);
+        }
+
         @Test
         void shouldWarnForBothKeysWhenOperationHasNeitherParametersNorRequestBody(CapturedOutput output) {
             // given
@@ -1176,7 +1243,8 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = composer.decompose(callToolRequest, operation);
+            var result =
+                    composer.decomposer(createOperationDescriptor(operation)).decompose(callToolRequest);
 
             // then
             then(result).isEqualTo(DecomposedRequestData.empty());
@@ -1199,6 +1267,10 @@ class InputSchemaComposerTest {
      * Helper method to create a FullOperation with default OpenAPI 3.1 spec version for testing.
      * This ensures all tests use the correct OpenAPI version handling.
      */
+    private OperationDescriptor createOperationDescriptor(Operation operation) {
+        return OperationDescriptor.of("testTool", createFullOperation(operation));
+    }
+
     private FullOperation createFullOperation(Operation operation) {
         return new FullOperation("/test", PathItem.HttpMethod.GET, operation, new OpenAPI());
     }
@@ -2016,7 +2088,7 @@ class InputSchemaComposerTest {
         private final String customParametersKey = "customParams";
         private final String customRequestBodyKey = "customBody";
         private final InputSchemaComposer customComposer = new InputSchemaComposer(
-                new OpenApiMcpProperties.Tools.Schema(customParametersKey, customRequestBodyKey));
+                new OpenApiMcpProperties.Tools.Schema(customParametersKey, customRequestBodyKey, null, null));
 
         @Test
         void shouldUseCustomWrapperKeysInComposition() throws Exception {
@@ -2079,7 +2151,9 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = customComposer.decompose(callToolRequest, operation);
+            var result = customComposer
+                    .decomposer(createOperationDescriptor(operation))
+                    .decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -2105,7 +2179,9 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = customComposer.decompose(callToolRequest, operation);
+            var result = customComposer
+                    .decomposer(createOperationDescriptor(operation))
+                    .decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -2132,7 +2208,9 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = customComposer.decompose(callToolRequest, operation);
+            var result = customComposer
+                    .decomposer(createOperationDescriptor(operation))
+                    .decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -2186,7 +2264,9 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = customComposer.decompose(callToolRequest, operation);
+            var result = customComposer
+                    .decomposer(createOperationDescriptor(operation))
+                    .decompose(callToolRequest);
 
             // then
             then(result).isNotNull();
@@ -2206,7 +2286,9 @@ class InputSchemaComposerTest {
             var callToolRequest = new McpSchema.CallToolRequest("test-tool", arguments);
 
             // when
-            var result = customComposer.decompose(callToolRequest, operation);
+            var result = customComposer
+                    .decomposer(createOperationDescriptor(operation))
+                    .decompose(callToolRequest);
 
             // then - Should properly decompose parameters even without custom request body key
             then(result).isNotNull();
@@ -0,0 +1,171 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonSchemaDefinitionsTest {
+
+    private static final String SPEC = """
+            {
+              "openapi": "%s",
+              "info": { "title": "Tree", "version": "1.0.0" },
+              "paths": {
+                "/orders": {
+                  "post": {
+                    "operationId": "createOrder",
+                    "requestBody": {
+                      "content": {
+                        "application/json": {
+                          "schema": {
+                            "type": "object",
+                            "properties": {
+                              "billing": { "$ref": "#/components/schemas/Address" },
+                              "shipping": {
+                                "type": "object",
+                                "properties": { "address": { "$ref": "#/components/schemas/Address" } }
+                              },
+                              "category": { "$ref": "#/components/schemas/Category" },
+                              "note": { "$ref": "#/components/schemas/Note" }
+                            }
+                          }
+                        }
+                      }
+                    },
+                    "responses": { "200": { "description": "OK" } }
+                  }
+                }
+              },
+              "components": {
+                "schemas": {
+                  "Address": {
+                    "type": "object",
+                    "properties": { "street": { "type": "string" }, "city": { "type": "string" } }
+                  },
+                  "Category": {
+                    "type": "object",
+                    "properties": {
+                      "name": { "type": "string" },
+                      "children": { "type": "array", "items": { "$ref": "#/components/schemas/Category" } }
+                    }
+                  },
+                  "Note": { "type": "object", "properties": { "text": { "type": "string" } } }
+                }
+              }
+            }
+            """;
+
+    private final OpenApiMapperFactory mapperFactory = new OpenApiMapperFactory();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3.0.1", "3.1.0"})
+    void shouldReferenceSharedSchemaBelowInlineDepth(String version) throws Exception {
+        // given
+        var openApi = givenResolvedOpenApi(version);
+        var definitions = new JsonSchemaDefinitions(1);
+
+        // when
+        var actual = write(definitions, openApi);
+
+        // then
+        then(actual.at("/properties/billing/properties/street/type").asText()).isEqualTo("string");
+        then(actual.at("/properties/shipping/properties/address/$ref").asText()).isEqualTo("#/$defs/Address");
+        then(actual.at("/$defs/Address/properties/city/type").asText()).isEqualTo("string");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3.0.1", "3.1.0"})
+    void shouldReferenceAllOccurrencesOfSharedSchemaWithoutInlining(String version) throws Exception {
+        // given
+        var openApi = givenResolvedOpenApi(version);
+        var definitions = new JsonSchemaDefinitions(0);
+
+        // when
+        var actual = write(definitions, openApi);
+
+        // then
+        then(actual.at("/properties/billing/$ref").asText()).isEqualTo("#/$defs/Address");
+        then(actual.at("/properties/shipping/properties/address/$ref").asText()).isEqualTo("#/$defs/Address");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3.0.1", "3.1.0"})
+    void shouldReferenceRecursiveSchemas(String version) throws Exception {
+        // given
+        var openApi = givenResolvedOpenApi(version);
+        var definitions = new JsonSchemaDefinitions(1);
+
+        // when
+        var actual = write(definitions, openApi);
+
+        // then
+        then(actual.at("/properties/category/properties/name/type").asText()).isEqualTo("string");
+        then(actual.at("/properties/category/properties/children/items/$ref").asText())
+                .isEqualTo("#/$defs/Category");
+        then(actual.at("/$defs/Category/properties/children/items/$ref").asText())
+                .isEqualTo("#/$defs/Category");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3.0.1", "3.1.0"})
+    void shouldInlineSchemasUsedOnce(String version) throws Exception {
+        // given
+        var openApi = givenResolvedOpenApi(version);
+        var definitions = new JsonSchemaDefinitions(0);
+
+        // when
+        var actual = write(definitions, openApi);
+
+        // then
+        then(actual.at("/properties/note/properties/text/type").asText()).isEqualTo("string");
+        then(actual.at("/$defs").has("Note")).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3.0.1", "3.1.0"})
+    void shouldNotAddDefinitionsWhenNothingIsShared(String version) throws Exception {
+        // given
+        var openApi = givenResolvedOpenApi(version);
+        var definitions = new JsonSchemaDefinitions(1);
+        Schema<?> note = openApi.getComponents().getSchemas().get("Note");
+        var mapper = mapperFactory.mapper(openApi);
+
+        // when
+        var actual = mapper.readTree(definitions.write(note, openApi, mapper));
+
+        // then
+        then(actual.has("$defs")).isFalse();
+        then(actual).isEqualTo(mapper.readTree(mapper.writeValueAsString(note)));
+    }
+
+    private JsonNode write(JsonSchemaDefinitions definitions, OpenAPI openApi) throws Exception {
+        ObjectMapper mapper = mapperFactory.mapper(openApi);
+        var schema = openApi.getPaths()
+                .get("/orders")
+                .getPost()
+                .getRequestBody()
+                .getContent()
+                .get("application/json")
+                .getSchema();
+        return mapper.readTree(definitions.write(schema, openApi, mapper));
+    }
+
+    private static OpenAPI givenResolvedOpenApi(String version) {
+        var options = new ParseOptions();
+        options.setResolve(true);
+        options.setResolveFully(true);
+        options.setResolveRequestBody(true);
+        options.setResolveCombinators(true);
+        return new OpenAPIV3Parser()
+                .readContents(SPEC.formatted(version), null, options)
+                .getOpenAPI();
+    }
+}
@@ -0,0 +1,183 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+class JsonSchemaInternerTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final JsonSchemaInterner interner = new JsonSchemaInterner();
+
+    @Test
+    void shouldShareStructurallyEqualSubtrees() {
+        // given
+        var address = """
+                { "type": "object", "properties": { "street": { "type": "string" }, "city": { "type": "string" } } }
+                """;
+        var first = givenSchema("{ \"type\": \"object\", \"properties\": { \"billing\": " + address + " } }");
+        var second = givenSchema("{ \"type\": \"object\", \"properties\": { \"shipping\": " + address + " } }");
+
+        // when
+        var internedFirst = interner.intern(first);
+        var internedSecond = interner.intern(second);
+
+        // then
+        then(internedFirst).isEqualTo(first);
+        then(internedSecond).isEqualTo(second);
+        then(properties(internedFirst).get("billing"))
+                .isSameAs(properties(internedSecond).get("shipping"));
+    }
+
+    @Test
+    void shouldReturnSameInstanceForEqualSchemas() {
+        // given
+        var schema =
+                "{ \"type\": \"object\", \"required\": [\"id\"], \"properties\": { \"id\": { \"type\": \"integer\" } } }";
+
+        // when
+        var first = interner.intern(givenSchema(schema));
+        var second = interner.intern(givenSchema(schema));
+
+        // then
+        then(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldKeepEntryOrder() {
+        // given
+        var first = givenSchema("{ \"a\": \"x\", \"b\": \"y\" }");
+        var second = givenSchema("{ \"b\": \"y\", \"a\": \"x\" }");
+
+        // when
+        var internedFirst = interner.intern(first);
+        var internedSecond = interner.intern(second);
+
+        // then
+        then(internedFirst).isNotSameAs(internedSecond);
+        then(internedFirst.keySet()).containsExactly("a", "b");
+        then(internedSecond.keySet()).containsExactly("b", "a");
+        then(jsonMapper.writeValueAsString(internedSecond)).isEqualTo("{\"b\":\"y\",\"a\":\"x\"}");
+    }
+
+    @Test
+    void shouldInternStrings() {
+        // given
+        var first = new HashMap<String, Object>();
+        first.put("description", new String("Shared description"));
+        var second = new HashMap<String, Object>();
+        second.put("summary", new String("Shared description"));
+
+        // when
+        var internedFirst = interner.intern(first);
+        var internedSecond = interner.intern(second);
+
+        // then
+        then(internedFirst.get("description")).isSameAs(internedSecond.get("summary"));
+    }
+
+    @Test
+    void shouldDistinguishNumbersOfDifferentTypes() {
+        // given
+        var first = new LinkedHashMap<String, Object>();
+        first.put("minimum", 1);
+        var second = new LinkedHashMap<String, Object>();
+        second.put("minimum", 1.0);
+
+        // when
+        var internedFirst = interner.intern(first);
+        var internedSecond = interner.intern(second);
+
+        // then
+        then(internedFirst.get("minimum")).isEqualTo(1);
+        then(internedSecond.get("minimum")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldPreserveNullValues() {
+        // given
+        var schema = givenSchema("{ \"type\": \"string\", \"default\": null, \"enum\": [\"a\", null] }");
+
+        // when
+        var interned = interner.intern(schema);
+
+        // then
+        then(interned).containsEntry("default", null);
+        then(interned.get("enum")).asInstanceOf(InstanceOfAssertFactories.LIST).containsExactly("a", null);
+    }
+
+    @Test
+    void shouldReturnUnmodifiableSchemas() {
+        // given
+        var interned = interner.intern(givenSchema("{ \"type\": \"object\", \"required\": [\"id\"] }"));
+
+        // when & then
+        thenThrownBy(() -> interned.put("type", "string")).isInstanceOf(UnsupportedOperationException.class);
+        thenThrownBy(() -> ((List<Object>) interned.get("required")).add("name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldKeepInputUnchanged() {
+        // given
+        var required = new ArrayList<Object>(List.of("id"));
+        var schema = new LinkedHashMap<String, Object>();
+        schema.put("required", required);
+
+        // when
+        interner.intern(schema);
+
+        // then
+        then(schema.get("required")).isSameAs(required);
+        required.add("name");
+        then(required).containsExactly("id", "name");
+    }
+
+    @Test
+    void shouldLookUpEntriesByKey() {
+        // given
+        var interned = interner.intern(givenSchema("{ \"type\": \"string\", \"default\": null }"));
+
+        // when & then
+        then(interned.get("type")).isEqualTo("string");
+        then(interned.get(new String("type"))).isEqualTo("string");
+        then(interned.get("format")).isNull();
+        then(interned.containsKey("default")).isTrue();
+        then(interned.containsKey("format")).isFalse();
+    }
+
+    @Test
+    void shouldHashLikeEqualMapsAndLists() {
+        // given
+        var schema = givenSchema(
+                "{ \"type\": \"object\", \"required\": [\"id\"], \"properties\": { \"id\": { \"type\": \"integer\" } } }");
+
+        // when
+        var interned = interner.intern(schema);
+
+        // then
+        then(interned.hashCode()).isEqualTo(new HashMap<>(schema).hashCode());
+        then(interned.get("required").hashCode()).isEqualTo(List.of("id").hashCode());
+        then(properties(interned).hashCode()).isEqualTo(properties(schema).hashCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> properties(Map<String, Object> schema) {
+        return (Map<String, Object>) schema.get("properties");
+    }
+
+    private Map<String, Object> givenSchema(String json) {
+        return jsonMapper.readValue(json, MAP_TYPE);
+    }
+}
@@ -0,0 +1,80 @@
+package com.infobip.openapi.mcp.openapi.schema;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+class PreSerializedJsonSchemaTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private final Map<String, Object> schema = JSON_MAPPER.readValue("""
+            {
+              "type": "object",
+              "properties": {
+                "name": { "type": "string", "description": "Name with \\"quotes\\" and ünicode." },
+                "tags": { "type": "array", "items": { "type": "string" } }
+              },
+              "required": ["name"]
+            }
+            """, new TypeReference<>() {});
+
+    @Test
+    void shouldSerializeToolLikeWrappedSchema() {
+        // given
+        var preSerialized = PreSerializedJsonSchema.of(schema, JSON_MAPPER);
+        var tool =
+                McpSchema.Tool.builder().name("tool").inputSchema(preSerialized).build();
+        var expectedTool =
+                McpSchema.Tool.builder().name("tool").inputSchema(schema).build();
+
+        // when
+        var actual = JSON_MAPPER.writeValueAsString(new McpSchema.ListToolsResult(List.of(tool), null));
+
+        // then
+        then(actual)
+                .isEqualTo(JSON_MAPPER.writeValueAsString(new McpSchema.ListToolsResult(List.of(expectedTool), null)));
+        then(preSerialized.json()).isEqualTo(JSON_MAPPER.writeValueAsString(schema));
+    }
+
+    @Test
+    void shouldConvertToTreeLikeWrappedSchema() {
+        // given
+        var preSerialized = PreSerializedJsonSchema.of(schema, JSON_MAPPER);
+
+        // when
+        var actual = JSON_MAPPER.valueToTree(Map.of("inputSchema", preSerialized));
+
+        // then
+        then(actual.at("/inputSchema/properties/name/type").asString()).isEqualTo("string");
+        then(actual.get("inputSchema")).isEqualTo(JSON_MAPPER.valueToTree(schema));
+    }
+
+    @Test
+    void shouldReadLikeWrappedSchema() {
+        // when
+        var actual = PreSerializedJsonSchema.of(schema, JSON_MAPPER);
+
+        // then
+        then(actual).isEqualTo(schema).hasSameHashCodeAs(schema);
+        then(actual.get("required")).isEqualTo(List.of("name"));
+        then(actual).containsKey("properties").doesNotContainKey("description");
+    }
+
+    @Test
+    void shouldNotSerializeAgainWhenAlreadyPreSerialized() {
+        // given
+        var preSerialized = PreSerializedJsonSchema.of(schema, JSON_MAPPER);
+
+        // when
+        var actual = PreSerializedJsonSchema.of(preSerialized, JSON_MAPPER);
+
+        // then
+        then(actual).isSameAs(preSerialized);
+    }
+}
@@ -68,8 +68,10 @@ class JsonDoubleSerializationIntegrationTest {
                 .build();
 
         // Setup mock properties with lenient stubbing to avoid unnecessary stubbing errors
-        var toolsConfigEnabled = new OpenApiMcpProperties.Tools(null, null, true, null, null, null, null);
-        var toolsConfigDisabled = new OpenApiMcpProperties.Tools(null, null, false, null, null, null, null);
+        var toolsConfigEnabled =
+                new OpenApiMcpProperties.Tools(null, null, true, null, null, null, null, null, null, null);
+        var toolsConfigDisabled =
+                new OpenApiMcpProperties.Tools(null, null, false, null, null, null, null, null, null, null);
 
         lenient().when(propertiesWithMitigationEnabled.tools()).thenReturn(toolsConfigEnabled);
         lenient().when(propertiesWithMitigationDisabled.tools()).thenReturn(toolsConfigDisabled);
@@ -133,7 +135,8 @@ class JsonDoubleSerializationIntegrationTest {
             // Convert to objects for processing
             var doubleSerializedPayload = objectMapper.readValue(inputJson, Object.class);
 
-            var fullOperation = new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(doubleSerializedPayload);
 
             // First call with double-serialized payload should return 400
@@ -151,8 +154,8 @@ class JsonDoubleSerializationIntegrationTest {
                     .willReturn(aResponse().withStatus(200).withBody("{\"messageId\":\"12345\",\"status\":\"sent\"}")));
 
             // When
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should succeed after retry with corrected payload
             then(result.isError()).isFalse();
@@ -188,7 +191,8 @@ class JsonDoubleSerializationIntegrationTest {
             // Convert to object for processing
             var validPayload = objectMapper.readValue(validJson, Object.class);
 
-            var fullOperation = new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(validPayload);
 
             wireMockServer.stubFor(post(urlPathEqualTo("/send"))
@@ -197,8 +201,8 @@ class JsonDoubleSerializationIntegrationTest {
                     .willReturn(aResponse().withStatus(200).withBody("{\"messageId\":\"67890\",\"status\":\"sent\"}")));
 
             // When
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should succeed on first try
             then(result.isError()).isFalse();
@@ -227,7 +231,8 @@ class JsonDoubleSerializationIntegrationTest {
             // Convert to object for processing
             var payload = objectMapper.readValue(inputJson, Object.class);
 
-            var fullOperation = new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(payload);
 
             wireMockServer.stubFor(post(urlPathEqualTo("/send"))
@@ -238,8 +243,8 @@ class JsonDoubleSerializationIntegrationTest {
                             .withBody("{\"error\":\"Forbidden\",\"message\":\"Access denied\"}")));
 
             // When
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should fail without retry (not 400 status)
             then(result.isError()).isTrue();
@@ -283,7 +288,9 @@ class JsonDoubleSerializationIntegrationTest {
             // Convert to objects for processing
             var outerPayload = objectMapper.readValue(inputJson, Object.class);
 
-            var fullOperation = new FullOperation("/process", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation("/process", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(outerPayload);
 
             // First call with double-serialized payload should return 400
@@ -299,8 +306,8 @@ class JsonDoubleSerializationIntegrationTest {
                     .willReturn(aResponse().withStatus(200).withBody("{\"processed\":true,\"id\":\"nested-123\"}")));
 
             // When
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should succeed after retry with fully corrected payload
             then(result.isError()).isFalse();
@@ -339,7 +346,8 @@ class JsonDoubleSerializationIntegrationTest {
 
             var doubleSerializedPayload = objectMapper.readValue(inputJson, Object.class);
 
-            var fullOperation = new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(doubleSerializedPayload);
 
             // First call with double-serialized payload should return 400 (triggers retry)
@@ -355,8 +363,8 @@ class JsonDoubleSerializationIntegrationTest {
                     .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
 
             // When
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should return 502 Bad Gateway for network error, not throw exception
             then(result.isError()).isTrue();
@@ -391,8 +399,9 @@ class JsonDoubleSerializationIntegrationTest {
             // Convert to objects for processing
             var payload = objectMapper.readValue(inputJson, Object.class);
 
-            var fullOperation =
-                    new FullOperation("/validate", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation("/validate", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(payload);
 
             // First call with double-serialized payload returns 400 indicating JSON issue
@@ -406,8 +415,8 @@ class JsonDoubleSerializationIntegrationTest {
                     .willReturn(aResponse().withStatus(400).withBody("{\"error\":\"Missing required field: name\"}")));
 
             // When
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should return the second error (from corrected payload attempt)
             then(result.isError()).isTrue();
@@ -439,7 +448,8 @@ class JsonDoubleSerializationIntegrationTest {
             // Convert to object for processing
             var payload = objectMapper.readValue(inputJson, Object.class);
 
-            var fullOperation = new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/send", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(payload);
 
             wireMockServer.stubFor(post(urlPathEqualTo("/send"))
@@ -449,8 +459,8 @@ class JsonDoubleSerializationIntegrationTest {
                             .withBody("{\"error\":\"Bad request\",\"message\":\"Invalid JSON structure\"}")));
 
             // When
-            var result = toolHandlerWithMitigationDisabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationDisabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should fail without retry
             then(result.isError()).isTrue();
@@ -474,15 +484,16 @@ class JsonDoubleSerializationIntegrationTest {
         @Test
         void shouldHandleEmptyRequestBodyGracefully() throws Exception {
             // Given - Request with no body
-            var fullOperation = new FullOperation("/status", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/status", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
 
             wireMockServer.stubFor(get(urlPathEqualTo("/status"))
                     .willReturn(aResponse().withStatus(400).withBody("{\"error\":\"Bad request\"}")));
 
             // When - Feature enabled handler
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should not retry (no body to mitigate)
             then(result.isError()).isTrue();
@@ -499,7 +510,8 @@ class JsonDoubleSerializationIntegrationTest {
         @Test
         void shouldHandleNonJsonPayloadsGracefully() throws Exception {
             // Given - String payload (not JSON object)
-            var fullOperation = new FullOperation("/upload", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/upload", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody("simple string payload");
 
             wireMockServer.stubFor(post(urlPathEqualTo("/upload"))
@@ -507,8 +519,8 @@ class JsonDoubleSerializationIntegrationTest {
                     .willReturn(aResponse().withStatus(400).withBody("{\"error\":\"Invalid format\"}")));
 
             // When
-            var result = toolHandlerWithMitigationEnabled.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithMitigationEnabled.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then - Should not retry (no JSON to mitigate)
             then(result.isError()).isTrue();
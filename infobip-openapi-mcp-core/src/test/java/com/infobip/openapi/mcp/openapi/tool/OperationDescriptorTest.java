@@ -0,0 +1,103 @@
+package com.infobip.openapi.mcp.openapi.tool;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.junit.jupiter.api.Test;
+
+class OperationDescriptorTest {
+
+    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
+
+    @Test
+    void shouldDescribeOperation() {
+        // given
+        var openApi = parser.readContents("""
+                {
+                  "openapi": "3.1.0",
+                  "info": { "title": "Test API", "version": "1.0.0" },
+                  "paths": {
+                    "/users/{userId}": {
+                      "put": {
+                        "operationId": "updateUser",
+                        "parameters": [
+                          { "name": "userId", "in": "path", "required": true, "schema": { "type": "string" } },
+                          { "name": "X-Tenant", "in": "header", "schema": { "type": "string" } }
+                        ],
+                        "requestBody": { "content": { "application/json": { "schema": { "type": "object" } } } },
+                        "responses": {
+                          "200": {
+                            "description": "Updated",
+                            "content": {
+                              "application/json": {
+                                "schema": { "type": "object" },
+                                "examples": { "updated": { "value": { "id": "1" } } }
+                              },
+                              "text/plain": { "example": "Updated" }
+                            }
+                          },
+                          "404": { "description": "Not found" }
+                        }
+                      }
+                    }
+                  }
+                }
+                """).getOpenAPI();
+        var operation = openApi.getPaths().get("/users/{userId}").getPut();
+
+        // when
+        var descriptor = OperationDescriptor.of(
+                "updateUser", new FullOperation("/users/{userId}", PathItem.HttpMethod.PUT, operation, openApi));
+
+        // then
+        then(descriptor.toolName()).isEqualTo("updateUser");
+        then(descriptor.path()).isEqualTo("/users/{userId}");
+        then(descriptor.method()).isEqualTo(PathItem.HttpMethod.PUT);
+        then(descriptor.operationId()).isEqualTo("updateUser");
+        then(descriptor.parameters())
+                .containsExactly(
+                        new OperationDescriptor.Parameter("userId", "path"),
+                        new OperationDescriptor.Parameter("X-Tenant", "header"));
+        then(descriptor.hasRequestBody()).isTrue();
+        then(descriptor.responses())
+                .extracting(
+                        OperationDescriptor.ResponseContent::status, OperationDescriptor.ResponseContent::contentType)
+                .containsExactly(tuple("200", "application/json"), tuple("200", "text/plain"));
+        then(descriptor.responses().get(0).example()).hasToString("{\"id\":\"1\"}");
+        then(descriptor.responses().get(1).example()).isEqualTo("Updated");
+        then(descriptor.specVersion()).isEqualTo(SpecVersion.V31);
+    }
+
+    @Test
+    void shouldNotReportUnsupportedRequestBody() {
+        // given
+        var operation =
+                parser.readContents("""
+                {
+                  "openapi": "3.0.1",
+                  "info": { "title": "Test API", "version": "1.0.0" },
+                  "paths": {
+                    "/upload": {
+                      "post": {
+                        "requestBody": { "content": { "multipart/form-data": { "schema": { "type": "object" } } } },
+                        "responses": { "204": { "description": "Uploaded" } }
+                      }
+                    }
+                  }
+                }
+                """).getOpenAPI().getPaths().get("/upload").getPost();
+
+        // when
+        var descriptor = OperationDescriptor.of(
+                "upload", new FullOperation("/upload", PathItem.HttpMethod.POST, operation, new OpenAPI()));
+
+        // then
+        then(descriptor.operationId()).isNull();
+        then(descriptor.parameters()).isEmpty();
+        then(descriptor.hasRequestBody()).isFalse();
+    }
+}
@@ -88,7 +88,7 @@ class ToolHandlerTest {
                 .build();
 
         // Setup mock properties
-        var toolsConfig = new OpenApiMcpProperties.Tools(null, null, true, null, null, null, null);
+        var toolsConfig = new OpenApiMcpProperties.Tools(null, null, true, null, null, null, null, null, null, null);
         lenient().when(properties.tools()).thenReturn(toolsConfig);
 
         // Create actual ErrorModelWriter with DefaultErrorModelProvider
@@ -125,7 +125,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleGetRequestWithQueryParameters() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(), Map.of("limit", "10", "offset", "0"), Map.of(), Map.of()),
@@ -139,7 +140,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -149,7 +150,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleGetRequestWithCollectionQueryParametersRespectingOpenApiDefaults() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(), Map.of("role", List.of("admin", "user")), Map.of(), Map.of()),
@@ -163,7 +165,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -173,7 +175,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleGetRequestWithObjectQueryParameterExplodedAsFormStyle() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var colorParameter = new LinkedHashMap<String, Object>();
             colorParameter.put("R", 100);
             colorParameter.put("G", 200);
@@ -192,7 +195,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -202,7 +205,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandlePostRequestWithRequestBody() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var requestBodyData = Map.<String, Object>of("name", "John Doe", "email", "john@example.com");
             var decomposedSchema = DecomposedRequestData.withRequestBody(requestBodyData);
             var responseBody = "{\"id\":1,\"name\":\"John Doe\",\"email\":\"john@example.com\"}";
@@ -214,7 +218,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(201).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -224,8 +228,9 @@ class ToolHandlerTest {
         @Test
         void shouldHandlePostRequestWithJsonArrayRequestBody() {
             // Given
-            var fullOperation =
-                    new FullOperation("/users/batch", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation("/users/batch", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var requestBodyData = List.of(
                     Map.of("name", "John Doe", "email", "john@example.com"),
                     Map.of("name", "Jane Smith", "email", "jane@example.com"));
@@ -242,7 +247,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(201).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -252,8 +257,9 @@ class ToolHandlerTest {
         @Test
         void shouldHandlePostRequestWithStringRequestBody() {
             // Given
-            var fullOperation =
-                    new FullOperation("/users/import", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation("/users/import", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var requestBodyData = "John Doe,john@example.com";
             var decomposedSchema = DecomposedRequestData.withRequestBody(requestBodyData);
             var responseBody = "{\"imported\":2,\"message\":\"Users imported successfully\"}";
@@ -265,7 +271,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(201).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -275,8 +281,9 @@ class ToolHandlerTest {
         @Test
         void shouldHandlePutRequestWithPathParameters() {
             // Given
-            var fullOperation =
-                    new FullOperation("/users/{id}", PathItem.HttpMethod.PUT, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation("/users/{id}", PathItem.HttpMethod.PUT, new Operation(), new OpenAPI()));
             var requestBodyData = Map.<String, Object>of("name", "Jane Doe");
             var decomposedSchema = DecomposedRequestData.withParametersAndBodyContent(
                     new DecomposedRequestData.ParametersByType(Map.of("id", "123"), Map.of(), Map.of(), Map.of()),
@@ -290,7 +297,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -300,8 +307,13 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithMultiplePathParameters() {
             // Given
-            var fullOperation = new FullOperation(
-                    "/users/{userId}/orders/{orderId}", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation(
+                            "/users/{userId}/orders/{orderId}",
+                            PathItem.HttpMethod.GET,
+                            new Operation(),
+                            new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of("userId", "42", "orderId", 1001), Map.of(), Map.of(), Map.of()),
@@ -313,7 +325,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -323,7 +335,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithHeaders() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(),
@@ -340,7 +353,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -350,7 +363,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithMultipleHeaderValuesRespectingOpenAPIDefaults() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(), Map.of(), Map.of("X-Multi-Value-Header", List.of("value1", "value2")), Map.of()),
@@ -363,7 +377,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -373,7 +387,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithObjectHeaderValueAsCommaSeparatedPairs() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var colorHeader = new LinkedHashMap<String, Object>();
             colorHeader.put("R", 100);
             colorHeader.put("G", 200);
@@ -390,7 +405,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -400,7 +415,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithCookies() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(), Map.of(), Map.of(), Map.of("sessionId", "abc123", "preference", "dark-mode")),
@@ -414,7 +430,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -424,7 +440,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithMultipleCookieValuesRespectingOpenAPIDefaults() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(), Map.of(), Map.of(), Map.of("multiCookie", List.of("value1", "value2"))),
@@ -438,7 +455,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -448,7 +465,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithObjectCookieValueExplodedAsSeparateCookies() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var colorCookie = new LinkedHashMap<String, Object>();
             colorCookie.put("R", 100);
             colorCookie.put("G", 200);
@@ -467,7 +485,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -477,7 +495,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleRequestWithAuthenticationHeader() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "Authenticated response";
 
@@ -490,7 +509,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext(mockRequest));
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext(mockRequest));
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -500,8 +519,9 @@ class ToolHandlerTest {
         @Test
         void shouldHandleDeleteRequestWithoutBody() {
             // Given
-            var fullOperation =
-                    new FullOperation("/users/{id}", PathItem.HttpMethod.DELETE, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation("/users/{id}", PathItem.HttpMethod.DELETE, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(Map.of("id", "123"), Map.of(), Map.of(), Map.of()),
                     null);
@@ -511,7 +531,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(204)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo("{\"message\":\"Tool call completed successfully\"}");
@@ -521,8 +541,9 @@ class ToolHandlerTest {
         @Test
         void shouldHandleComplexRequestWithAllParameterTypes() {
             // Given
-            var fullOperation =
-                    new FullOperation("/users/{id}/posts", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool",
+                    new FullOperation("/users/{id}/posts", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var requestBodyData = Map.<String, Object>of("title", "New Post", "content", "Post content");
             var decomposedSchema = DecomposedRequestData.withParametersAndBodyContent(
                     new DecomposedRequestData.ParametersByType(
@@ -551,7 +572,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(201).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext(mockRequest));
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext(mockRequest));
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -561,7 +582,8 @@ class ToolHandlerTest {
         @Test
         void shouldNotOverrideAcceptHeaderWhenProvidedAsHeaderParameter() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(),
@@ -579,7 +601,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -589,7 +611,8 @@ class ToolHandlerTest {
         @Test
         void shouldNotOverrideAcceptHeaderWhenProvidedAsHeaderParameterCaseInsensitive() {
             // Given - Test with lowercase "accept" header
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = new DecomposedRequestData(
                     new DecomposedRequestData.ParametersByType(
                             Map.of(),
@@ -607,7 +630,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -622,7 +645,8 @@ class ToolHandlerTest {
         void shouldCompleteNormallyWhenProgressEnabledButClientDidNotRequestProgress() {
             // given
             lenient().when(properties.progressNotificationsEnabled()).thenReturn(true);
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "{\"users\":[]}";
 
@@ -631,7 +655,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // when — context has no progressToken, so no thread should be spawned
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -642,7 +666,8 @@ class ToolHandlerTest {
         void shouldSendProgressNotificationsWhenProviderReturnsTotalNull() {
             // given
             lenient().when(properties.progressNotificationsEnabled()).thenReturn(true);
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "{\"users\":[]}";
 
@@ -661,7 +686,7 @@ class ToolHandlerTest {
                             aResponse().withStatus(200).withBody(responseBody).withFixedDelay(100)));
 
             // when
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, context);
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, context);
 
             // then — null total means unknown duration, not an error; notifications must still be sent
             then(result.isError()).isFalse();
@@ -674,7 +699,8 @@ class ToolHandlerTest {
         void shouldCompleteSuccessfullyWhenProgressUpdateProviderTotalThrows() {
             // given
             lenient().when(properties.progressNotificationsEnabled()).thenReturn(true);
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "{\"users\":[]}";
 
@@ -687,7 +713,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // when — total() throws; progress notifications are skipped but the API call proceeds
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, context);
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, context);
 
             // then
             then(result.isError()).isFalse();
@@ -698,7 +724,8 @@ class ToolHandlerTest {
         void shouldCompleteSuccessfullyWhenProgressUpdateProviderNextThrows() {
             // given
             lenient().when(properties.progressNotificationsEnabled()).thenReturn(true);
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "{\"users\":[]}";
 
@@ -715,7 +742,7 @@ class ToolHandlerTest {
             var context = createProgressContext(n -> {});
 
             // when
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, context);
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, context);
 
             // then — tool call succeeds even though the notification provider threw
             then(result.isError()).isFalse();
@@ -727,7 +754,8 @@ class ToolHandlerTest {
         void shouldCompleteSuccessfullyWhenNotificationCallbackThrows() {
             // given
             lenient().when(properties.progressNotificationsEnabled()).thenReturn(true);
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "{\"users\":[]}";
 
@@ -746,7 +774,7 @@ class ToolHandlerTest {
                             aResponse().withStatus(200).withBody(responseBody).withFixedDelay(100)));
 
             // when
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, context);
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, context);
 
             // then — tool call succeeds even though the notification callback threw
             then(result.isError()).isFalse();
@@ -758,7 +786,8 @@ class ToolHandlerTest {
         void shouldReturnErrorAndCleanUpNotificationThreadOnHttpError() {
             // given
             lenient().when(properties.progressNotificationsEnabled()).thenReturn(true);
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var errorBody = "{\"error\":\"Internal Server Error\"}";
 
@@ -771,7 +800,7 @@ class ToolHandlerTest {
 
             // when — HTTP returns error immediately; notification thread is interrupted and joined
             // before handleToolCall returns (proven by the test not hanging)
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, context);
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, context);
 
             // then
             then(result.isError()).isTrue();
@@ -782,7 +811,8 @@ class ToolHandlerTest {
         void shouldReturnBadGatewayAndCleanUpNotificationThreadOnHttpTimeout() {
             // given
             lenient().when(properties.progressNotificationsEnabled()).thenReturn(true);
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
 
             // notificationSemaphore has 0 permits: notification thread blocks on acquire() until interrupted
@@ -794,7 +824,7 @@ class ToolHandlerTest {
 
             // when — HTTP times out; notification thread is interrupted and joined
             // before handleToolCall returns (proven by the test not hanging)
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, context);
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, context);
 
             // then
             then(result.isError()).isTrue();
@@ -808,7 +838,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleNotFoundErrorException() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var errorResponse = "{\"error\":\"Not found\"}";
 
@@ -817,7 +848,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(404).withBody(errorResponse)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(errorResponse);
@@ -827,7 +858,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleUnauthorizedErrorException() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var errorResponse = "{\"error\":\"Unauthorized\"}";
 
@@ -836,7 +868,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(401).withBody(errorResponse)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(errorResponse);
@@ -846,7 +878,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleForbiddenErrorException() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var errorResponse = "{\"error\":\"Forbidden\"}";
 
@@ -855,7 +888,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(403).withBody(errorResponse)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(errorResponse);
@@ -865,7 +898,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleBadRequestErrorException() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.POST, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.POST, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.withRequestBody(Map.of("invalid", "data"));
             var errorResponse = "{\"error\":\"Bad request\"}";
 
@@ -874,7 +908,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(400).withBody(errorResponse)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(errorResponse);
@@ -884,7 +918,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleHttpServerErrorException() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var errorResponse = "{\"error\":\"Internal server error\"}";
 
@@ -893,7 +928,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(500).withBody(errorResponse)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(errorResponse);
@@ -903,7 +938,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleReadTimeout() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
 
             wireMockServer.stubFor(get(urlPathEqualTo("/users"))
@@ -911,7 +947,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withFixedDelay(TIMEOUT_MS + 100))); // This will cause a read timeout
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(EXPECTED_BAD_GATEWAY_ERROR_JSON);
@@ -921,7 +957,8 @@ class ToolHandlerTest {
         @Test
         void shouldHandleConnectionTimeout() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
 
             // Create a separate RestClient that connects to a non-existent port to force connection timeout
@@ -936,7 +973,8 @@ class ToolHandlerTest {
 
             // Create mock properties for this test
             var propertiesDisabled = org.mockito.Mockito.mock(OpenApiMcpProperties.class);
-            var toolsConfigDisabled = new OpenApiMcpProperties.Tools(null, null, false, null, null, null, null);
+            var toolsConfigDisabled =
+                    new OpenApiMcpProperties.Tools(null, null, false, null, null, null, null, null, null, null);
             lenient().when(propertiesDisabled.tools()).thenReturn(toolsConfigDisabled);
 
             var emptyEnricherChain = new ApiRequestEnricherChain(List.of());
@@ -950,7 +988,7 @@ class ToolHandlerTest {
                     new DefaultProgressUpdateProvider());
 
             // When
-            var result = toolHandlerWithBadPort.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandlerWithBadPort.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(EXPECTED_BAD_GATEWAY_ERROR_JSON);
@@ -960,7 +998,8 @@ class ToolHandlerTest {
         @Test
         void shouldReturnErrorWhenCredentialProviderThrows() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
 
             var toolHandlerWithThrowingExtractor = new ToolHandler(
@@ -975,8 +1014,8 @@ class ToolHandlerTest {
                     new DefaultProgressUpdateProvider());
 
             // When
-            var result = toolHandlerWithThrowingExtractor.handleToolCall(
-                    fullOperation, decomposedSchema, createTestContext());
+            var result =
+                    toolHandlerWithThrowingExtractor.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(EXPECTED_UNAUTHORIZED_ERROR_JSON);
@@ -990,7 +1029,8 @@ class ToolHandlerTest {
         @Test
         void shouldNotAddAuthorizationHeaderWhenRequestHasNoAuthHeader() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "Response without auth";
 
@@ -1003,7 +1043,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext(mockRequest));
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext(mockRequest));
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -1013,7 +1053,8 @@ class ToolHandlerTest {
         @Test
         void shouldNotAddAuthorizationHeaderWhenRequestHasEmptyAuthHeader() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "Response without auth";
 
@@ -1026,7 +1067,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext(mockRequest));
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext(mockRequest));
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -1036,7 +1077,8 @@ class ToolHandlerTest {
         @Test
         void shouldAddAuthorizationHeaderWhenRequestHasValidToken() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "Authorized response";
             var authToken = "Bearer valid-token-123";
@@ -1050,7 +1092,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext(mockRequest));
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext(mockRequest));
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -1060,7 +1102,8 @@ class ToolHandlerTest {
         @Test
         void shouldNotAddXFFHeaderWhenRequestHasNoRemoteAddr() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "Response without XFF";
 
@@ -1075,7 +1118,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext(mockRequest));
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext(mockRequest));
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -1085,7 +1128,8 @@ class ToolHandlerTest {
         @Test
         void shouldAddXFFHeaderWhenRequestHasRemoteAddr() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "Response with XFF";
             var clientIp = "203.0.113.1";
@@ -1099,7 +1143,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext(mockRequest));
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext(mockRequest));
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -1109,7 +1153,8 @@ class ToolHandlerTest {
         @Test
         void shouldNotAddHeadersWhenRequestContextIsNull() {
             // Given
-            var fullOperation = new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+            var operation = OperationDescriptor.of(
+                    "testTool", new FullOperation("/users", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
             var decomposedSchema = DecomposedRequestData.empty();
             var responseBody = "Response without context";
 
@@ -1122,7 +1167,7 @@ class ToolHandlerTest {
                     .willReturn(aResponse().withStatus(200).withBody(responseBody)));
 
             // When
-            var result = toolHandler.handleToolCall(fullOperation, decomposedSchema, createTestContext());
+            var result = toolHandler.handleToolCall(operation, decomposedSchema, createTestContext());
 
             // Then
             then(extractTextContent(result.content())).isEqualTo(responseBody);
@@ -6,23 +6,36 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 import com.infobip.openapi.mcp.McpRequestContext;
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
+import com.infobip.openapi.mcp.openapi.ApiSpecs;
+import com.infobip.openapi.mcp.openapi.OpenApiFingerprinter;
 import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
+import com.infobip.openapi.mcp.openapi.OpenApiResolver;
+import com.infobip.openapi.mcp.openapi.SharedSchemaCache;
 import com.infobip.openapi.mcp.openapi.schema.ComposedExample;
 import com.infobip.openapi.mcp.openapi.schema.DecomposedRequestData;
 import com.infobip.openapi.mcp.openapi.schema.InputExampleComposer;
 import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
+import com.infobip.openapi.mcp.openapi.schema.PreSerializedJsonSchema;
 import com.infobip.openapi.mcp.openapi.schema.Spec.ExamplesMode;
 import com.infobip.openapi.mcp.openapi.tool.exception.ToolRegistrationException;
 import com.infobip.openapi.mcp.openapi.tool.naming.OperationIdStrategy;
+import com.infobip.openapi.mcp.openapi.tool.naming.PrefixNamingStrategy;
 import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
+import java.net.URI;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -47,7 +60,7 @@ class ToolRegistryTest {
 
     private final OperationIdStrategy namingStrategy = new OperationIdStrategy();
     private final InputSchemaComposer inputSchemaComposer =
-            new InputSchemaComposer(new OpenApiMcpProperties.Tools.Schema(null, null));
+            new InputSchemaComposer(new OpenApiMcpProperties.Tools.Schema(null, null, null, null));
     private InputExampleComposer inputExampleComposer = new InputExampleComposer(OpenApiMcpProperties.withDefaults());
     private final ToolAnnotationResolver toolAnnotationResolver = new ToolAnnotationResolver(Map.of());
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -69,7 +82,13 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, true, null, null, null),
+                new OpenApiMcpProperties.Tools(null, null, null, true, null, null, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         toolRegistry = new ToolRegistry(
                 openApiRegistry,
@@ -79,7 +98,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
     }
 
     @Test
@@ -94,7 +114,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -116,7 +136,7 @@ class ToolRegistryTest {
               "paths": {}
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -155,7 +175,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -217,7 +237,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -290,7 +310,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -357,7 +377,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When & Then
         thenThrownBy(() -> toolRegistry.getTools())
@@ -386,7 +406,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -418,7 +438,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -451,7 +471,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -496,7 +516,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -532,7 +552,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -604,7 +624,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -702,7 +722,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -788,7 +808,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         var expectedResult = McpSchema.CallToolResult.builder()
                 .content(List.of(new McpSchema.TextContent("Success")))
@@ -815,7 +835,7 @@ class ToolRegistryTest {
         then(result).isEqualTo(expectedResult);
 
         // Verify toolHandler was called with the correct arguments
-        ArgumentCaptor<FullOperation> operationCaptor = ArgumentCaptor.forClass(FullOperation.class);
+        ArgumentCaptor<OperationDescriptor> operationCaptor = ArgumentCaptor.forClass(OperationDescriptor.class);
         ArgumentCaptor<DecomposedRequestData> argumentsCaptor = ArgumentCaptor.forClass(DecomposedRequestData.class);
         ArgumentCaptor<McpRequestContext> contextCaptor = ArgumentCaptor.forClass(McpRequestContext.class);
 
@@ -824,7 +844,8 @@ class ToolRegistryTest {
                 .handleToolCall(operationCaptor.capture(), argumentsCaptor.capture(), contextCaptor.capture());
 
         var capturedOperation = operationCaptor.getValue();
-        then(capturedOperation.operation().getOperationId()).isEqualTo("getUser");
+        then(capturedOperation.operationId()).isEqualTo("getUser");
+        then(capturedOperation.toolName()).isEqualTo("getUser");
         then(capturedOperation.path()).isEqualTo("/users/{userId}");
         then(capturedOperation.method()).isEqualTo(io.swagger.v3.oas.models.PathItem.HttpMethod.GET);
 
@@ -834,6 +855,67 @@ class ToolRegistryTest {
         then(capturedArguments.requestBody()).isNull();
     }
 
+    @Test
+    void shouldDecomposeArgumentsOfToolCallingApiThroughOtherHandler() {
+        // Given
+        var openApi = parseOpenAPI("""
+            {
+              "openapi": "3.1.0",
+              "info": {
+                "title": "Test API",
+                "version": "1.0.0"
+              },
+              "paths": {
+                "/users/{userId}": {
+                  "get": {
+                    "operationId": "getUser",
+                    "parameters": [
+                      {
+                        "name": "userId",
+                        "in": "path",
+                        "required": true,
+                        "schema": {
+                          "type": "string"
+                        }
+                      }
+                    ]
+                  }
+                }
+              }
+            }
+            """);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
+        var otherToolHandler = mock(ToolHandler.class);
+        var getUser = toolRegistry.getTools().getFirst();
+        var registeredTool = toolRegistry.withToolHandler(getUser, otherToolHandler);
+        var callToolRequest = McpSchema.CallToolRequest.builder()
+                .name("getUser")
+                .arguments(Map.of("userId", "123"))
+                .build();
+
+        // When
+        registeredTool.toolHandler().apply(callToolRequest, createTestContext());
+
+        // Then
+        then(registeredTool.tool()).isSameAs(getUser.tool());
+        ArgumentCaptor<DecomposedRequestData> argumentsCaptor = ArgumentCaptor.forClass(DecomposedRequestData.class);
+        BDDMockito.then(otherToolHandler).should().handleToolCall(any(), argumentsCaptor.capture(), any());
+        then(argumentsCaptor.getValue().parametersByType().path()).containsOnly(entry("userId", "123"));
+        BDDMockito.then(toolHandler).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldRejectCopyingToolNotRegisteredByToolRegistry() {
+        // Given
+        var registeredTool =
+                new RegisteredTool(McpSchema.Tool.builder().name("getUser").build(), (request, context) -> null, null);
+
+        // When & Then
+        thenThrownBy(() -> toolRegistry.withToolHandler(registeredTool, toolHandler))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tool getUser was not registered by a tool registry.");
+    }
+
     @Test
     void shouldPrependSummaryToDescriptionWhenBothPresent() {
         // Given
@@ -855,7 +937,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -889,7 +971,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -913,7 +995,13 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, false, null, null, null),
+                new OpenApiMcpProperties.Tools(null, null, null, false, null, null, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         toolRegistry = new ToolRegistry(
                 openApiRegistry,
@@ -923,7 +1011,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
 
         var openApi = parseOpenAPI("""
             {
@@ -943,7 +1032,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -967,7 +1056,13 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, false, null, null, null),
+                new OpenApiMcpProperties.Tools(null, null, null, false, null, null, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         toolRegistry = new ToolRegistry(
                 openApiRegistry,
@@ -977,7 +1072,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
 
         var openApi = parseOpenAPI("""
             {
@@ -996,7 +1092,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1028,7 +1124,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1061,7 +1157,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1094,7 +1190,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1126,7 +1222,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1160,7 +1256,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1194,7 +1290,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1240,7 +1336,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1281,7 +1377,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1308,7 +1404,13 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.ALL, null),
+                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.ALL, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         inputExampleComposer = new InputExampleComposer(properties);
         toolRegistry = new ToolRegistry(
@@ -1319,7 +1421,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
 
         var openApi = parseOpenAPI("""
             {
@@ -1348,7 +1451,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1373,7 +1476,13 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.SKIP, null),
+                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.SKIP, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         inputExampleComposer = new InputExampleComposer(properties);
         toolRegistry = new ToolRegistry(
@@ -1384,7 +1493,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
 
         var openApi = parseOpenAPI("""
             {
@@ -1412,7 +1522,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1449,7 +1559,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1471,7 +1581,13 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.ALL, null),
+                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.ALL, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         inputExampleComposer = new InputExampleComposer(properties);
         toolRegistry = new ToolRegistry(
@@ -1482,7 +1598,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
         var openApi = parseOpenAPI("""
             {
               "openapi": "3.1.0",
@@ -1508,7 +1625,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1532,7 +1649,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
 
         var openApi = parseOpenAPI("""
             {
@@ -1550,7 +1668,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
         given(mockExampleComposer.composeExamples(any()))
                 .willReturn(List.of(new ComposedExample(null, "An example description", Map.of("id", "user-123"))));
 
@@ -1576,7 +1694,13 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.ALL, null),
+                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.ALL, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         inputExampleComposer = new InputExampleComposer(properties);
         toolRegistry = new ToolRegistry(
@@ -1587,7 +1711,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
 
         var openApi = parseOpenAPI("""
             {
@@ -1625,7 +1750,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1652,7 +1777,14 @@ class ToolRegistryTest {
                 null,
                 null,
                 null,
-                new OpenApiMcpProperties.Tools(null, null, null, true, null, ExamplesMode.ANNOTATED, null),
+                new OpenApiMcpProperties.Tools(
+                        null, null, null, true, null, ExamplesMode.ANNOTATED, null, null, null, null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null);
         inputExampleComposer = new InputExampleComposer(properties);
         toolRegistry = new ToolRegistry(
@@ -1663,7 +1795,8 @@ class ToolRegistryTest {
                 toolHandler,
                 mapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                new NoOpMetricService());
 
         var openApi = parseOpenAPI("""
             {
@@ -1699,7 +1832,7 @@ class ToolRegistryTest {
               }
             }
             """);
-        given(openApiRegistry.openApi()).willReturn(openApi);
+        given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
         // When
         var result = toolRegistry.getTools();
@@ -1794,7 +1927,7 @@ class ToolRegistryTest {
                   }
                 }
                 """);
-            given(openApiRegistry.openApi()).willReturn(openApi);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
             // When
             var result = toolRegistry.getTools();
@@ -1895,7 +2028,7 @@ class ToolRegistryTest {
                   }
                 }
                 """);
-            given(openApiRegistry.openApi()).willReturn(openApi);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
             // When
             var result = toolRegistry.getTools();
@@ -1960,7 +2093,7 @@ class ToolRegistryTest {
                   }
                 }
                 """);
-            given(openApiRegistry.openApi()).willReturn(openApi);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
             // When
             var result = toolRegistry.getTools();
@@ -2031,7 +2164,7 @@ class ToolRegistryTest {
                       }
                     }
                     """);
-            given(openApiRegistry.openApi()).willReturn(openApi);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
             // When
             var result = toolRegistry.getTools();
@@ -2081,7 +2214,7 @@ class ToolRegistryTest {
                       }
                     }
                     """);
-            given(openApiRegistry.openApi()).willReturn(openApi);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
 
             // When
             var result = toolRegistry.getTools();
@@ -2102,6 +2235,857 @@ class ToolRegistryTest {
         }
     }
 
+    @Nested
+    class Interning {
+
+        private static final int OPERATIONS = 200;
+
+        @Test
+        void shouldStoreSharedSubschemasOnceAcrossLargeSpecification() {
+            // Given
+            var openApi = new OpenApiResolver(parser, mapperFactory).resolve(parseOpenAPI(givenLargeSpecification()));
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
+
+            // When
+            var result = toolRegistry.getTools();
+
+            // Then
+            then(result).hasSize(OPERATIONS);
+            var addresses = result.stream()
+                    .map(tool -> properties(tool.tool().inputSchema()).get("address"))
+                    .distinct()
+                    .toList();
+            then(addresses).hasSize(1);
+
+            // Footprint: objects reachable from all input schemas, with and without sharing of identical subtrees
+            var reachable = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+            var total = 0;
+            for (var tool : result) {
+                total += countNodes(tool.tool().inputSchema(), reachable);
+            }
+            then(reachable.size()).isLessThan(total / 20);
+        }
+
+        private String givenLargeSpecification() {
+            var paths = new StringBuilder();
+            for (var index = 0; index < OPERATIONS; index++) {
+                if (index > 0) {
+                    paths.append(',');
+                }
+                paths.append("""
+                        "/customers/%1$d/orders": {
+                          "post": {
+                            "operationId": "createOrder%1$d",
+                            "requestBody": { "content": { "application/json": { "schema": {
+                              "type": "object",
+                              "properties": {
+                                "address": { "$ref": "#/components/schemas/Address" },
+                                "page": { "$ref": "#/components/schemas/Page" }
+                              }
+                            } } } }
+                          }
+                        }
+                        """.formatted(index));
+            }
+            var addressProperties = new StringBuilder();
+            for (var index = 0; index < 50; index++) {
+                if (index > 0) {
+                    addressProperties.append(',');
+                }
+                addressProperties.append("""
+                        "line%1$d": { "type": "string", "description": "Address line %1$d of the customer." }
+                        """.formatted(index));
+            }
+            return """
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Shop", "version": "1.0.0" },
+                      "paths": { %s },
+                      "components": { "schemas": {
+                        "Address": { "type": "object", "properties": { %s } },
+                        "Page": { "type": "object", "properties": {
+                          "size": { "type": "integer", "minimum": 1 },
+                          "cursor": { "type": "string", "description": "Opaque cursor of the next page." }
+                        } }
+                      } }
+                    }
+                    """.formatted(paths, addressProperties);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> properties(Map<String, Object> schema) {
+            return (Map<String, Object>) schema.get("properties");
+        }
+
+        private int countNodes(Object node, Set<Object> reachable) {
+            reachable.add(node);
+            var count = 1;
+            if (node instanceof Map<?, ?> map) {
+                for (var entry : map.entrySet()) {
+                    count += countNodes(entry.getKey(), reachable);
+                    if (entry.getValue() != null) {
+                        count += countNodes(entry.getValue(), reachable);
+                    }
+                }
+            } else if (node instanceof List<?> list) {
+                for (var element : list) {
+                    if (element != null) {
+                        count += countNodes(element, reachable);
+                    }
+                }
+            }
+            return count;
+        }
+    }
+
+    @Nested
+    class PreSerialization {
+
+        private static final String SPEC = """
+                {
+                  "openapi": "3.0.1",
+                  "info": { "title": "Test API", "version": "1.0.0" },
+                  "paths": {
+                    "/users": {
+                      "get": {
+                        "operationId": "listUsers",
+                        "parameters": [ { "name": "page", "in": "query", "schema": { "type": "integer" } } ]
+                      }
+                    }
+                  }
+                }
+                """;
+
+        @Test
+        void shouldNotPreSerializeInputSchemasByDefault() {
+            // Given
+            given(openApiRegistry.specification())
+                    .willReturn(new OpenApiRegistry.Specification(parseOpenAPI(SPEC), null));
+
+            // When
+            var result = toolRegistry.getTools();
+
+            // Then
+            then(result.getFirst().tool().inputSchema()).isNotInstanceOf(PreSerializedJsonSchema.class);
+        }
+
+        @Test
+        void shouldPreSerializeInputSchemasWhenEnabled() {
+            // Given
+            var enabledProperties = new OpenApiMcpProperties(
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    new OpenApiMcpProperties.Tools(
+                            null,
+                            new OpenApiMcpProperties.Tools.Schema(null, null, null, true),
+                            null,
+                            true,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null);
+            var enabledRegistry = new ToolRegistry(
+                    openApiRegistry,
+                    namingStrategy,
+                    inputSchemaComposer,
+                    inputExampleComposer,
+                    toolHandler,
+                    mapperFactory,
+                    toolAnnotationResolver,
+                    enabledProperties,
+                    new NoOpMetricService());
+            given(openApiRegistry.specification())
+                    .willReturn(new OpenApiRegistry.Specification(parseOpenAPI(SPEC), null));
+
+            // When
+            var result = enabledRegistry.getTools();
+
+            // Then
+            var inputSchema = result.getFirst().tool().inputSchema();
+            then(inputSchema).isInstanceOf(PreSerializedJsonSchema.class);
+            assertJsonEquals(((PreSerializedJsonSchema) inputSchema).json(), writeInputSchema(inputSchema));
+        }
+    }
+
+    @Nested
+    class Budget {
+
+        @Test
+        void shouldFitToolsIntoBudgetAndReportSizesLargestFirst() {
+            // Given
+            var budgetProperties = new OpenApiMcpProperties(
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    new OpenApiMcpProperties.Tools(
+                            null,
+                            null,
+                            null,
+                            true,
+                            null,
+                            null,
+                            null,
+                            new OpenApiMcpProperties.Tools.Budget(300, null, null, null),
+                            null,
+                            null),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null);
+            var budgetRegistry = new ToolRegistry(
+                    openApiRegistry,
+                    namingStrategy,
+                    inputSchemaComposer,
+                    inputExampleComposer,
+                    toolHandler,
+                    mapperFactory,
+                    toolAnnotationResolver,
+                    budgetProperties,
+                    new NoOpMetricService());
+            var openApi = parseOpenAPI("""
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Test API", "version": "1.0.0" },
+                      "paths": {
+                        "/users": {
+                          "post": {
+                            "operationId": "createUser",
+                            "description": "Create a user.",
+                            "requestBody": { "content": { "application/json": { "schema": {
+                              "type": "object",
+                              "properties": {
+                                "name": { "type": "string", "example": "%s" }
+                              }
+                            } } } }
+                          },
+                          "get": {
+                            "operationId": "listUsers",
+                            "description": "List users."
+                          }
+                        }
+                      }
+                    }
+                    """.formatted("John ".repeat(100)));
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
+
+            // When
+            var result = budgetRegistry.getTools();
+
+            // Then
+            then(result).hasSize(2);
+            then(writeInputSchema(result.getFirst().tool().inputSchema())).doesNotContain("example");
+            var sizes = budgetRegistry.getToolSizes();
+            then(sizes).extracting(ToolSizeBudget.ToolSize::toolName).containsExactly("createUser", "listUsers");
+            then(sizes.getFirst().reduced()).isTrue();
+            then(sizes.getFirst().bytes()).isLessThanOrEqualTo(300);
+            then(sizes.getLast().reduced()).isFalse();
+        }
+
+        @Test
+        void shouldListAllValuesOfCollapsedEnumWhenRejectingArguments() {
+            // Given
+            var budgetProperties = new OpenApiMcpProperties(
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    new OpenApiMcpProperties.Tools(
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            new OpenApiMcpProperties.Tools.Budget(200, null, 2, null),
+                            null,
+                            null),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null);
+            var budgetRegistry = new ToolRegistry(
+                    openApiRegistry,
+                    namingStrategy,
+                    inputSchemaComposer,
+                    inputExampleComposer,
+                    toolHandler,
+                    mapperFactory,
+                    toolAnnotationResolver,
+                    budgetProperties,
+                    new NoOpMetricService());
+            var values =
+                    IntStream.range(0, 30).mapToObj(i -> "\"VALUE_" + i + "\"").toList();
+            var openApi = parseOpenAPI("""
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Test API", "version": "1.0.0" },
+                      "paths": {
+                        "/users": {
+                          "get": {
+                            "operationId": "listUsers",
+                            "parameters": [
+                              { "name": "status", "in": "query", "schema": { "type": "string", "enum": [%s] } }
+                            ]
+                          }
+                        }
+                      }
+                    }
+                    """.formatted(String.join(", ", values)));
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
+            var registeredTool = budgetRegistry.getTools().getFirst();
+            var callToolRequest = McpSchema.CallToolRequest.builder()
+                    .name("listUsers")
+                    .arguments(Map.of("status", "OTHER"))
+                    .build();
+
+            // When
+            var result = registeredTool.toolHandler().apply(callToolRequest, createTestContext());
+
+            // Then
+            then(writeInputSchema(registeredTool.tool().inputSchema()))
+                    .doesNotContain("VALUE_29")
+                    .contains("Calls with any other value fail and list all values.");
+            then(result.isError()).isTrue();
+            then(((McpSchema.TextContent) result.content().getFirst()).text()).contains("VALUE_0", "VALUE_29");
+            BDDMockito.then(toolHandler).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void shouldNotReportSizesWithoutBudget() {
+            // Given
+            var openApi = parseOpenAPI("""
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Test API", "version": "1.0.0" },
+                      "paths": { "/users": { "get": { "operationId": "listUsers" } } }
+                    }
+                    """);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
+
+            // When
+            var result = toolRegistry.getTools();
+
+            // Then
+            then(result).hasSize(1);
+            then(toolRegistry.getToolSizes()).isEmpty();
+        }
+    }
+
+    @Nested
+    class Discovery {
+
+        @Test
+        void shouldIndexToolsForSearch() {
+            // Given
+            var discoveryProperties = new OpenApiMcpProperties(
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    new OpenApiMcpProperties.Tools(
+                            null,
+                            null,
+                            null,
+                            true,
+                            null,
+                            null,
+                            null,
+                            null,
+                            new OpenApiMcpProperties.Tools.Discovery(true, null),
+                            null),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null);
+            var discoveryRegistry = new ToolRegistry(
+                    openApiRegistry,
+                    namingStrategy,
+                    inputSchemaComposer,
+                    inputExampleComposer,
+                    toolHandler,
+                    mapperFactory,
+                    toolAnnotationResolver,
+                    discoveryProperties,
+                    new NoOpMetricService());
+            var openApi = parseOpenAPI("""
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Test API", "version": "1.0.0" },
+                      "paths": {
+                        "/users": {
+                          "post": { "operationId": "createUser", "summary": "Create a user", "tags": ["Accounts"] },
+                          "get": {
+                            "operationId": "listUsers",
+                            "parameters": [ { "name": "emailDomain", "in": "query", "schema": { "type": "string" } } ]
+                          }
+                        }
+                      }
+                    }
+                    """);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
+
+            // When
+            var result = discoveryRegistry.getTools();
+
+            // Then
+            var index = discoveryRegistry.getSearchIndex();
+            then(index).isNotNull();
+            then(index.size()).isEqualTo(result.size());
+            then(index.search("accounts", 10))
+                    .extracting(hit -> hit.tool().tool().name())
+                    .containsExactly("createUser");
+            then(index.search("email domain", 10))
+                    .extracting(hit -> hit.tool().tool().name())
+                    .containsExactly("listUsers");
+        }
+
+        @Test
+        void shouldNotIndexToolsWhenDiscoveryIsDisabled() {
+            // When / Then
+            then(toolRegistry.getSearchIndex()).isNull();
+        }
+    }
+
+    @Nested
+    class MultipleSpecs {
+
+        @Mock
+        private OpenApiRegistry billingRegistry;
+
+        @Mock
+        private ToolHandler billingToolHandler;
+
+        private final OpenApiFingerprinter fingerprinter = new OpenApiFingerprinter(mapperFactory);
+
+        @Test
+        void shouldServeToolsOfAllSpecsWithPrefixedNames() {
+            // Given
+            var registry = givenRegistryWithBillingSpec("billing_");
+            givenSpec(openApiRegistry, "getUser", "/users");
+            givenSpec(billingRegistry, "getInvoice", "/invoices");
+
+            // When
+            var result = registry.getTools();
+
+            // Then
+            then(result).extracting(tool -> tool.tool().name()).containsExactly("getUser", "billing_getInvoice");
+            then(result).extracting(RegisteredTool::specification).containsExactly(null, "billing");
+        }
+
+        @Test
+        void shouldCallApiOfSpecOfTool() {
+            // Given
+            var registry = givenRegistryWithBillingSpec("billing_");
+            givenSpec(openApiRegistry, "getUser", "/users");
+            givenSpec(billingRegistry, "getInvoice", "/invoices");
+            var expectedResult = McpSchema.CallToolResult.builder()
+                    .content(List.of(new McpSchema.TextContent("Invoice")))
+                    .build();
+            given(billingToolHandler.handleToolCall(any(), any(), any())).willReturn(expectedResult);
+            var billingTool = registry.getTools().getLast();
+
+            // When
+            var result = billingTool
+                    .toolHandler()
+                    .apply(
+                            McpSchema.CallToolRequest.builder()
+                                    .name("billing_getInvoice")
+                                    .arguments(Map.of())
+                                    .build(),
+                            createTestContext());
+
+            // Then
+            then(result).isEqualTo(expectedResult);
+            BDDMockito.then(toolHandler).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void shouldNotRebuildToolsOfUnchangedSpec() {
+            // Given
+            var registry = givenRegistryWithBillingSpec("billing_");
+            givenSpec(openApiRegistry, "getUser", "/users");
+            givenSpec(billingRegistry, "getInvoice", "/invoices");
+            var previousTools = registry.getTools();
+            givenSpec(openApiRegistry, "getUserById", "/users");
+
+            // When
+            var result = registry.getTools();
+
+            // Then
+            then(result).extracting(tool -> tool.tool().name()).containsExactly("getUserById", "billing_getInvoice");
+            then(result.getLast()).isSameAs(previousTools.getLast());
+        }
+
+        @Test
+        void shouldRejectToolNamesUsedBySeveralSpecs() {
+            // Given
+            var registry = givenRegistryWithBillingSpec("");
+            givenSpec(openApiRegistry, "getStatus", "/status");
+            givenSpec(billingRegistry, "getStatus", "/status");
+
+            // When / Then
+            thenThrownBy(registry::getTools)
+                    .isInstanceOf(ToolRegistrationException.class)
+                    .hasMessageContaining("getStatus");
+        }
+
+        private ToolRegistry givenRegistryWithBillingSpec(String toolPrefix) {
+            var spec = new OpenApiMcpProperties.Spec(
+                    "billing",
+                    URI.create("https://billing.example.com/openapi.json"),
+                    null,
+                    toolPrefix,
+                    null,
+                    null,
+                    null,
+                    null);
+            var apiSpecs = ApiSpecs.load(
+                    List.of(spec),
+                    loaded -> new ApiSpecs.ApiSpec(
+                            loaded.name(),
+                            billingRegistry,
+                            new PrefixNamingStrategy(namingStrategy, loaded.toolPrefix()),
+                            billingToolHandler));
+            return new ToolRegistry(
+                    openApiRegistry,
+                    namingStrategy,
+                    inputSchemaComposer,
+                    inputExampleComposer,
+                    toolHandler,
+                    mapperFactory,
+                    toolAnnotationResolver,
+                    properties,
+                    new NoOpMetricService(),
+                    apiSpecs);
+        }
+
+        private void givenSpec(OpenApiRegistry registry, String operationId, String path) {
+            var openApi = parseOpenAPI("""
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Test API", "version": "1.0.0" },
+                      "paths": { "%s": { "get": { "operationId": "%s" } } }
+                    }
+                    """.formatted(path, operationId));
+            given(registry.specification())
+                    .willReturn(new OpenApiRegistry.Specification(openApi, fingerprinter.fingerprint(openApi)));
+        }
+    }
+
+    @Nested
+    class SharedCache {
+
+        @Mock
+        private OpenApiRegistry tenantRegistry;
+
+        private final OpenApiFingerprinter fingerprinter = new OpenApiFingerprinter(mapperFactory);
+        private final SharedSchemaCache sharedSchemaCache = new SharedSchemaCache();
+
+        @Test
+        void shouldShareToolsOfSameOperationsBetweenRegistries() {
+            // Given
+            var primary = givenRegistry(openApiRegistry);
+            var tenant = givenRegistry(tenantRegistry);
+            givenSpec(openApiRegistry, "getUser", "/users", "string");
+            givenSpec(tenantRegistry, "getUser", "/users", "string");
+
+            // When
+            var primaryTools = primary.getTools();
+            var tenantTools = tenant.getTools();
+
+            // Then
+            then(tenantTools.getFirst().tool()).isSameAs(primaryTools.getFirst().tool());
+        }
+
+        @Test
+        void shouldNotShareToolsOfDifferentOperations() {
+            // Given
+            var primary = givenRegistry(openApiRegistry);
+            var tenant = givenRegistry(tenantRegistry);
+            givenSpec(openApiRegistry, "getUser", "/users", "string");
+            givenSpec(tenantRegistry, "getUser", "/users", "integer");
+
+            // When
+            var primaryTools = primary.getTools();
+            var tenantTools = tenant.getTools();
+
+            // Then
+            then(tenantTools.getFirst().tool())
+                    .isNotEqualTo(primaryTools.getFirst().tool());
+        }
+
+        private ToolRegistry givenRegistry(OpenApiRegistry registry) {
+            return new ToolRegistry(
+                    registry,
+                    namingStrategy,
+                    inputSchemaComposer,
+                    inputExampleComposer,
+                    toolHandler,
+                    mapperFactory,
+                    toolAnnotationResolver,
+                    properties,
+                    new NoOpMetricService(),
+                    ApiSpecs.NONE,
+                    sharedSchemaCache);
+        }
+
+        private void givenSpec(OpenApiRegistry registry, String operationId, String path, String parameterType) {
+            var openApi = parseOpenAPI("""
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Test API", "version": "1.0.0" },
+                      "paths": {
+                        "%s": {
+                          "get": {
+                            "operationId": "%s",
+                            "parameters": [ { "name": "id", "in": "query", "schema": { "type": "%s" } } ]
+                          }
+                        }
+                      }
+                    }
+                    """.formatted(path, operationId, parameterType));
+            given(registry.specification())
+                    .willReturn(new OpenApiRegistry.Specification(openApi, fingerprinter.fingerprint(openApi)));
+        }
+    }
+
+    @Nested
+    class ArgumentValidation {
+
+        @BeforeEach
+        void givenSpec() {
+            var openApi = parseOpenAPI("""
+                    {
+                      "openapi": "3.0.1",
+                      "info": { "title": "Test API", "version": "1.0.0" },
+                      "paths": {
+                        "/users": {
+                          "get": {
+                            "operationId": "listUsers",
+                            "parameters": [
+                              { "name": "limit", "in": "query", "required": true, "schema": { "type": "integer" } },
+                              { "name": "status", "in": "query", "schema": { "type": "string", "enum": ["ACTIVE"] } }
+                            ]
+                          },
+                          "post": {
+                            "operationId": "createUser",
+                            "requestBody": {
+                              "content": {
+                                "application/json": {
+                                  "schema": {
+                                    "type": "object",
+                                    "properties": {
+                                      "address": { "type": "object", "properties": { "city": { "type": "string" } } }
+                                    }
+                                  }
+                                }
+                              }
+                            }
+                          }
+                        }
+                      }
+                    }
+                    """);
+            given(openApiRegistry.specification()).willReturn(new OpenApiRegistry.Specification(openApi, null));
+        }
+
+        @Test
+        void shouldRejectInvalidArgumentsWithoutCallingApi() {
+            // Given
+            var registeredTool = tool(toolRegistry, "listUsers");
+            var callToolRequest = McpSchema.CallToolRequest.builder()
+                    .name("listUsers")
+                    .arguments(Map.of("status", "DELETED"))
+                    .build();
+
+            // When
+            var result = registeredTool.toolHandler().apply(callToolRequest, createTestContext());
+
+            // Then
+            then(result.isError()).isTrue();
+            assertJsonEquals("""
+                    {
+                      "error": "Invalid Arguments",
+                      "description": "The arguments do not match the input schema of the tool. Correct them and call the tool again.",
+                      "violations": [
+                        { "path": "$.status", "message": "must be \\"ACTIVE\\"" },
+                        { "path": "$.limit", "message": "is required" }
+                      ]
+                    }
+                    """, ((McpSchema.TextContent) result.content().getFirst()).text());
+            BDDMockito.then(toolHandler).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void shouldCallApiWithCoercedArguments() {
+            // Given
+            var registeredTool = tool(toolRegistry, "listUsers");
+            var callToolRequest = McpSchema.CallToolRequest.builder()
+                    .name("listUsers")
+                    .arguments(Map.of("limit", "10", "status", "active"))
+                    .build();
+
+            // When
+            registeredTool.toolHandler().apply(callToolRequest, createTestContext());
+
+            // Then
+            ArgumentCaptor<DecomposedRequestData> argumentsCaptor =
+                    ArgumentCaptor.forClass(DecomposedRequestData.class);
+            BDDMockito.then(toolHandler).should().handleToolCall(any(), argumentsCaptor.capture(), any());
+            then(argumentsCaptor.getValue().parametersByType().query())
+                    .containsOnly(entry("limit", 10), entry("status", "ACTIVE"));
+        }
+
+        @Test
+        void shouldCallApiWithUnvalidatedArgumentsWhenValidationIsDisabled() {
+            // Given
+            var validationProperties = new OpenApiMcpProperties(
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    new OpenApiMcpProperties.Tools(
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            new OpenApiMcpProperties.Tools.Validation(false, null)),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null);
+            var registry = new ToolRegistry(
+                    openApiRegistry,
+                    namingStrategy,
+                    inputSchemaComposer,
+                    inputExampleComposer,
+                    toolHandler,
+                    mapperFactory,
+                    toolAnnotationResolver,
+                    validationProperties,
+                    new NoOpMetricService());
+            var callToolRequest = McpSchema.CallToolRequest.builder()
+                    .name("listUsers")
+                    .arguments(Map.of("status", "DELETED"))
+                    .build();
+
+            // When
+            tool(registry, "listUsers").toolHandler().apply(callToolRequest, createTestContext());
+
+            // Then
+            ArgumentCaptor<DecomposedRequestData> argumentsCaptor =
+                    ArgumentCaptor.forClass(DecomposedRequestData.class);
+            BDDMockito.then(toolHandler).should().handleToolCall(any(), argumentsCaptor.capture(), any());
+            then(argumentsCaptor.getValue().parametersByType().query()).containsOnly(entry("status", "DELETED"));
+        }
+
+        @Test
+        void shouldUnwrapDoubleSerializedArgumentsBeforeCallingApi() {
+            // Given
+            var registeredTool = tool(toolRegistry, "createUser");
+            var callToolRequest = McpSchema.CallToolRequest.builder()
+                    .name("createUser")
+                    .arguments(Map.of("address", "{\"city\": \"Zagreb\"}"))
+                    .build();
+
+            // When
+            registeredTool.toolHandler().apply(callToolRequest, createTestContext());
+
+            // Then
+            ArgumentCaptor<DecomposedRequestData> argumentsCaptor =
+                    ArgumentCaptor.forClass(DecomposedRequestData.class);
+            BDDMockito.then(toolHandler).should().handleToolCall(any(), argumentsCaptor.capture(), any());
+            then(argumentsCaptor.getValue().requestBody().content())
+                    .isEqualTo(Map.of("address", Map.of("city", "Zagreb")));
+        }
+
+        @Test
+        void shouldValidateArgumentsOfToolCallingApiThroughOtherHandler() {
+            // Given
+            var otherToolHandler = mock(ToolHandler.class);
+            var listUsers = tool(toolRegistry, "listUsers");
+            var registeredTool = toolRegistry.withToolHandler(listUsers, otherToolHandler);
+            var invalidRequest = McpSchema.CallToolRequest.builder()
+                    .name("listUsers")
+                    .arguments(Map.of("status", "DELETED"))
+                    .build();
+            var validRequest = McpSchema.CallToolRequest.builder()
+                    .name("listUsers")
+                    .arguments(Map.of("limit", 10))
+                    .build();
+
+            // When
+            var invalidResult = registeredTool.toolHandler().apply(invalidRequest, createTestContext());
+            registeredTool.toolHandler().apply(validRequest, createTestContext());
+
+            // Then
+            then(invalidResult.isError()).isTrue();
+            then(registeredTool.tool()).isSameAs(listUsers.tool());
+            ArgumentCaptor<DecomposedRequestData> argumentsCaptor =
+                    ArgumentCaptor.forClass(DecomposedRequestData.class);
+            BDDMockito.then(otherToolHandler).should().handleToolCall(any(), argumentsCaptor.capture(), any());
+            then(argumentsCaptor.getValue().parametersByType().query()).containsOnly(entry("limit", 10));
+            BDDMockito.then(toolHandler).shouldHaveNoInteractions();
+        }
+
+        private RegisteredTool tool(ToolRegistry registry, String name) {
+            return registry.getTools().stream()
+                    .filter(registeredTool -> registeredTool.tool().name().equals(name))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+
     private OpenAPI parseOpenAPI(String jsonSpec) {
         return parser.readContents(jsonSpec).getOpenAPI();
     }
@@ -281,7 +281,9 @@ class ToolResultMockerTest {
         var mocker = new ToolResultMocker(givenEnabledMockProps(), mapperFactory);
         var givenCtx = Mockito.mock(McpRequestContext.class);
         given(givenCtx.openApiOperation())
-                .willReturn(new FullOperation("/mock/path", PathItem.HttpMethod.GET, givenOperation, new OpenAPI()));
+                .willReturn(OperationDescriptor.of(
+                        "mockTool",
+                        new FullOperation("/mock/path", PathItem.HttpMethod.GET, givenOperation, new OpenAPI())));
         var givenReq = Mockito.mock(McpSchema.CallToolRequest.class);
         ToolCallFilterChain givenChain = (McpRequestContext ctx, McpSchema.CallToolRequest req) -> {
             throw new IllegalStateException("Should not be called");
@@ -350,7 +352,9 @@ class ToolResultMockerTest {
         var mocker = new ToolResultMocker(givenEnabledMockProps(), mapperFactory);
         var givenCtx = Mockito.mock(McpRequestContext.class);
         given(givenCtx.openApiOperation())
-                .willReturn(new FullOperation("/mock/path", PathItem.HttpMethod.GET, givenOperation, new OpenAPI()));
+                .willReturn(OperationDescriptor.of(
+                        "mockTool",
+                        new FullOperation("/mock/path", PathItem.HttpMethod.GET, givenOperation, new OpenAPI())));
         var givenReq = Mockito.mock(McpSchema.CallToolRequest.class);
         ToolCallFilterChain givenChain = (McpRequestContext ctx, McpSchema.CallToolRequest req) -> {
             throw new IllegalStateException("Should not be called");
@@ -369,7 +373,8 @@ class ToolResultMockerTest {
     }
 
     private OpenApiMcpProperties givenEnabledMockProps() {
-        var tools = new OpenApiMcpProperties.Tools(null, null, null, null, true, null, null);
-        return new OpenApiMcpProperties(null, null, null, null, null, null, null, null, tools, null);
+        var tools = new OpenApiMcpProperties.Tools(null, null, null, null, true, null, null, null, null, null);
+        return new OpenApiMcpProperties(
+                null, null, null, null, null, null, null, null, tools, null, null, null, null, null, null, null);
     }
 }
@@ -0,0 +1,238 @@
+package com.infobip.openapi.mcp.openapi.tool;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+class ToolSizeBudgetTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final String LONG_TEXT = "Lorem ipsum dolor sit amet. ".repeat(40);
+
+    @Test
+    void shouldKeepToolWithinBudgetUnchanged() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(10_000, null, null, null));
+        var schema = givenSchema("""
+                {"type": "object", "properties": {"name": {"type": "string", "example": "John"}}}
+                """);
+        var expectedSchema = givenSchema("""
+                {"type": "object", "properties": {"name": {"type": "string", "example": "John"}}}
+                """);
+
+        // when
+        var fitted = budget.fit("tool", examples -> "Description", schema);
+
+        // then
+        then(fitted.description()).isEqualTo("Description");
+        then(fitted.inputSchema()).isEqualTo(expectedSchema);
+        then(fitted.size().reduced()).isFalse();
+        then(fitted.size().bytes()).isEqualTo(fitted.size().originalBytes());
+    }
+
+    @Test
+    void shouldNotReduceToolWhenBudgetIsDisabled() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(null, null, null, null));
+        var schema = givenSchema("""
+                {"type": "object", "properties": {"name": {"type": "string", "description": "%s"}}}
+                """.formatted(LONG_TEXT));
+
+        // when
+        var fitted = budget.fit("tool", examples -> "Description", schema);
+
+        // then
+        then(fitted.inputSchema()).extractingByKey("properties").asString().contains(LONG_TEXT);
+        then(fitted.size().reduced()).isFalse();
+    }
+
+    @Test
+    void shouldRemoveSchemaExamplesFirst() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(1_500, null, null, null));
+        var schema = givenSchema("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "name": {"type": "string", "description": "%s", "example": "%s"},
+                    "example": {"type": "string", "examples": ["%s"]}
+                  }
+                }
+                """.formatted(LONG_TEXT.substring(0, 500), LONG_TEXT, LONG_TEXT));
+        var requestedExamples = new ArrayList<Integer>();
+
+        // when
+        var fitted = budget.fit(
+                "tool",
+                examples -> {
+                    requestedExamples.add(examples);
+                    return "Description";
+                },
+                schema);
+
+        // then
+        var expectedSchema = givenSchema("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "name": {"type": "string", "description": "%s"},
+                    "example": {"type": "string"}
+                  }
+                }
+                """.formatted(LONG_TEXT.substring(0, 500)));
+        then(fitted.inputSchema()).isEqualTo(expectedSchema);
+        then(requestedExamples).containsExactly(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        then(fitted.size().reduced()).isTrue();
+        then(fitted.size().bytes()).isLessThanOrEqualTo(1_500);
+    }
+
+    @Test
+    void shouldKeepOnlyFirstDescriptionExampleBeforeReducingSchema() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(1_000, null, null, null));
+        var schema = givenSchema("""
+                {"type": "object", "properties": {"name": {"type": "string", "description": "%s"}}}
+                """.formatted(LONG_TEXT.substring(0, 500)));
+
+        // when
+        var fitted = budget.fit("tool", examples -> "Example\n".repeat(Math.min(examples, 200)), schema);
+
+        // then
+        then(fitted.description()).isEqualTo("Example\n");
+        then(fitted.inputSchema()).extractingByKey("properties").asString().contains(LONG_TEXT.substring(0, 500));
+    }
+
+    @Test
+    void shouldTrimLongSchemaDescriptions() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(1_000, 50, null, null));
+        var schema = givenSchema("""
+                {
+                  "type": "object",
+                  "description": "Short.",
+                  "properties": {
+                    "name": {"type": "string", "description": "%s"},
+                    "description": {"type": "string", "description": "%s"}
+                  }
+                }
+                """.formatted(LONG_TEXT, LONG_TEXT));
+
+        // when
+        var fitted = budget.fit("tool", examples -> null, schema);
+
+        // then
+        var actual = JSON_MAPPER.valueToTree(fitted.inputSchema());
+        then(actual.get("description").asString()).isEqualTo("Short.");
+        then(actual.at("/properties/name/description").asString())
+                .isEqualTo("Lorem ipsum dolor sit amet. Lorem ipsum dolor sit…")
+                .hasSizeLessThanOrEqualTo(50);
+        then(actual.at("/properties/description/description").asString()).hasSizeLessThanOrEqualTo(50);
+        then(actual.at("/properties/description/type").asString()).isEqualTo("string");
+        then(fitted.size().bytes()).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    void shouldCollapseLargeEnums() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(1_000, null, 3, null));
+        var values =
+                IntStream.range(0, 100).mapToObj(i -> "\"VALUE_" + i + "\"").toList();
+        var schema = givenSchema("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "status": {"type": "string", "description": "The status.", "enum": [%s]},
+                    "flag": {"type": "string", "enum": ["ON", "OFF"]}
+                  }
+                }
+                """.formatted(String.join(", ", values)));
+
+        // when
+        var fitted = budget.fit("tool", examples -> null, schema);
+
+        // then
+        var actual = JSON_MAPPER.valueToTree(fitted.inputSchema());
+        then(actual.at("/properties/status/enum").isMissingNode()).isTrue();
+        then(actual.at("/properties/status/description").asString())
+                .isEqualTo("The status.\n\nOne of 100 values, e.g. VALUE_0, VALUE_1, VALUE_2, …");
+        then(actual.at("/properties/flag/enum")).hasSize(2);
+    }
+
+    @Test
+    void shouldTellThatOtherValuesOfCollapsedEnumsAreRejectedWhenArgumentsAreValidated() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(500, null, 2, null), true);
+        var values =
+                IntStream.range(0, 100).mapToObj(i -> "\"VALUE_" + i + "\"").toList();
+        var schema = givenSchema("""
+                {"type": "object", "properties": {"status": {"type": "string", "enum": [%s]}}}
+                """.formatted(String.join(", ", values)));
+
+        // when
+        var fitted = budget.fit("tool", examples -> null, schema);
+
+        // then
+        then(JSON_MAPPER
+                        .valueToTree(fitted.inputSchema())
+                        .at("/properties/status/description")
+                        .asString())
+                .isEqualTo(
+                        "One of 100 values, e.g. VALUE_0, VALUE_1, … Calls with any other value fail and list all values.");
+    }
+
+    @Test
+    void shouldRemoveDescriptionExamplesAndSchemaDescriptionsAsLastResort() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(10, null, null, null));
+        var schema = givenSchema("""
+                {"type": "object", "properties": {"name": {"type": "string", "description": "The name."}}}
+                """);
+
+        // when
+        var fitted = budget.fit("tool", examples -> examples > 0 ? "Description with example" : "Description", schema);
+
+        // then
+        then(fitted.description()).isEqualTo("Description");
+        then(fitted.inputSchema()).isEqualTo(givenSchema("""
+                        {"type": "object", "properties": {"name": {"type": "string"}}}
+                        """));
+        then(fitted.size().reduced()).isTrue();
+        then(fitted.size().bytes()).isGreaterThan(10);
+    }
+
+    @Test
+    void shouldReduceSchemasNestedInCombinatorsAndItems() {
+        // given
+        var budget = new ToolSizeBudget(new OpenApiMcpProperties.Tools.Budget(200, null, null, null));
+        var schema = givenSchema("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "items": {
+                      "type": "array",
+                      "items": {"oneOf": [{"type": "string", "example": "%s"}, {"type": "integer", "examples": [1]}]}
+                    }
+                  },
+                  "additionalProperties": {"type": "string", "example": "%s"}
+                }
+                """.formatted(LONG_TEXT, LONG_TEXT));
+
+        // when
+        var fitted = budget.fit("tool", examples -> null, schema);
+
+        // then
+        then(JSON_MAPPER.writeValueAsString(fitted.inputSchema()))
+                .doesNotContain("example")
+                .doesNotContain(LONG_TEXT);
+    }
+
+    private static Map<String, Object> givenSchema(String json) {
+        return JSON_MAPPER.readValue(json, new TypeReference<>() {});
+    }
+}
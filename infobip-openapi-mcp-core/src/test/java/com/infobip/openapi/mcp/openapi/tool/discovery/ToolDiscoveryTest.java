@@ -0,0 +1,184 @@
+package com.infobip.openapi.mcp.openapi.tool.discovery;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.McpRequestContext;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class ToolDiscoveryTest {
+
+    private final ToolSearchIndex index = new ToolSearchIndex();
+    private final ToolDiscovery toolDiscovery =
+            new ToolDiscovery(index, new OpenApiMcpProperties.Tools.Discovery(true, 2));
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private RegisteredTool sendSms;
+
+    @BeforeEach
+    void setUp() {
+        sendSms = givenTool("send_sms_message", "Send SMS message");
+        index.update(
+                List.of(
+                        sendSms,
+                        givenTool("get_sms_logs", "Get SMS logs"),
+                        givenTool("get_sms_reports", "Get SMS delivery reports"),
+                        givenTool("create_user", "Create user")),
+                Map.of());
+    }
+
+    @Test
+    void shouldDefineSearchAndInvokeTools() {
+        // when / then
+        then(toolDiscovery.searchTool().name()).isEqualTo(ToolDiscovery.SEARCH_TOOL_NAME);
+        then(toolDiscovery.searchTool().annotations().readOnlyHint()).isTrue();
+        then(toolDiscovery.invokeTool().name()).isEqualTo(ToolDiscovery.INVOKE_TOOL_NAME);
+    }
+
+    @Test
+    void shouldReturnMatchingToolsWithInputSchemas() {
+        // when
+        var result = toolDiscovery.search(givenRequest(ToolDiscovery.SEARCH_TOOL_NAME, Map.of("query", "send sms")));
+
+        // then
+        then(result.isError()).isFalse();
+        var tools = searchedTools(result);
+        then(tools).hasSize(2);
+        then(tools.getFirst())
+                .containsEntry("name", "send_sms_message")
+                .containsEntry("title", "Send SMS message")
+                .containsEntry("inputSchema", Map.of("type", "object"));
+    }
+
+    @Test
+    void shouldReturnOnlyToolsVisibleToCaller() {
+        // given
+        var context = new McpRequestContext();
+        var scopedDiscovery = new ToolDiscovery(
+                index,
+                new OpenApiMcpProperties.Tools.Discovery(true, 2),
+                requestContext -> tool -> requestContext == context && tool != sendSms);
+
+        // when
+        var result = scopedDiscovery.search(
+                givenRequest(ToolDiscovery.SEARCH_TOOL_NAME, Map.of("query", "send sms")), context);
+
+        // then
+        then(searchedTools(result))
+                .extracting(tool -> tool.get("name"))
+                .containsExactly("get_sms_logs", "get_sms_reports");
+    }
+
+    @Test
+    void shouldCapLimitAtMaxResults() {
+        // when
+        var result =
+                toolDiscovery.search(givenRequest(ToolDiscovery.SEARCH_TOOL_NAME, Map.of("query", "sms", "limit", 50)));
+
+        // then
+        then(searchedTools(result)).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectSearchWithoutQuery() {
+        // when
+        var result = toolDiscovery.search(givenRequest(ToolDiscovery.SEARCH_TOOL_NAME, Map.of()));
+
+        // then
+        then(result.isError()).isTrue();
+    }
+
+    @Test
+    void shouldInvokeToolWithArguments() {
+        // given
+        var calls = new ArrayList<McpSchema.CallToolRequest>();
+        var request = givenRequest(
+                ToolDiscovery.INVOKE_TOOL_NAME,
+                Map.of("name", "send_sms_message", "arguments", Map.of("to", "41793026727")));
+
+        // when
+        var result = toolDiscovery.invoke(request, (tool, toolRequest) -> {
+            then(tool).isSameAs(sendSms);
+            calls.add(toolRequest);
+            return McpSchema.CallToolResult.builder().isError(false).build();
+        });
+
+        // then
+        then(result.isError()).isFalse();
+        then(calls).singleElement().satisfies(call -> {
+            then(call.name()).isEqualTo("send_sms_message");
+            then(call.arguments()).isEqualTo(Map.of("to", "41793026727"));
+        });
+    }
+
+    @Test
+    void shouldParseArgumentsPassedAsJsonString() {
+        // given
+        var calls = new ArrayList<McpSchema.CallToolRequest>();
+        var request = givenRequest(
+                ToolDiscovery.INVOKE_TOOL_NAME,
+                Map.of("name", "send_sms_message", "arguments", "{\"to\":\"41793026727\"}"));
+
+        // when
+        toolDiscovery.invoke(request, (tool, toolRequest) -> {
+            calls.add(toolRequest);
+            return McpSchema.CallToolResult.builder().build();
+        });
+
+        // then
+        then(calls)
+                .singleElement()
+                .extracting(McpSchema.CallToolRequest::arguments)
+                .isEqualTo(Map.of("to", "41793026727"));
+    }
+
+    @Test
+    void shouldReturnErrorForUnknownTool() {
+        // when
+        var result = toolDiscovery.invoke(
+                givenRequest(ToolDiscovery.INVOKE_TOOL_NAME, Map.of("name", "delete_everything")),
+                (tool, toolRequest) -> {
+                    throw new AssertionError("Unknown tool must not be called.");
+                });
+
+        // then
+        then(result.isError()).isTrue();
+        then(((McpSchema.TextContent) result.content().getFirst()).text())
+                .contains("delete_everything")
+                .contains(ToolDiscovery.SEARCH_TOOL_NAME);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> searchedTools(McpSchema.CallToolResult result) {
+        var text = ((McpSchema.TextContent) result.content().getFirst()).text();
+        return (List<Map<String, Object>>) jsonMapper.readValue(text, Map.class).get("tools");
+    }
+
+    private static McpSchema.CallToolRequest givenRequest(String name, Map<String, Object> arguments) {
+        return McpSchema.CallToolRequest.builder()
+                .name(name)
+                .arguments(arguments)
+                .build();
+    }
+
+    private static RegisteredTool givenTool(String name, String title) {
+        var tool = McpSchema.Tool.builder()
+                .name(name)
+                .title(title)
+                .inputSchema(Map.of("type", "object"))
+                .build();
+        var operation = new OperationDescriptor(
+                name, "/" + name, PathItem.HttpMethod.POST, name, List.of(), false, List.of(), SpecVersion.V30);
+        return new RegisteredTool(tool, (request, context) -> null, operation);
+    }
+}
@@ -0,0 +1,179 @@
+package com.infobip.openapi.mcp.openapi.tool.discovery;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import com.infobip.openapi.mcp.openapi.tool.OperationDescriptor;
+import com.infobip.openapi.mcp.openapi.tool.RegisteredTool;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class ToolSearchIndexTest {
+
+    private final ToolSearchIndex index = new ToolSearchIndex();
+
+    @Test
+    void shouldRankNameMatchAboveDescriptionMatch() {
+        // given
+        var sendSms = givenTool("send_sms_message", "Send SMS message", "Sends a text message to a phone number.");
+        var getReports =
+                givenTool("get_delivery_reports", "Get delivery reports", "Returns reports of each sent sms message.");
+        var createUser = givenTool("create_user", "Create user", "Creates a new user account.");
+        index.update(List.of(getReports, sendSms, createUser), Map.of());
+
+        // when
+        var hits = index.search("send sms", 10);
+
+        // then
+        then(hits)
+                .extracting(hit -> hit.tool().tool().name())
+                .containsExactly("send_sms_message", "get_delivery_reports");
+        then(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void shouldMatchTagsAndParameterNames() {
+        // given
+        var operation = new Operation()
+                .tags(List.of("Messaging"))
+                .addParametersItem(new PathParameter().name("bulkId"))
+                .requestBody(new RequestBody()
+                        .content(new Content()
+                                .addMediaType(
+                                        "application/json",
+                                        new MediaType().schema(new Schema<>().$ref("#/components/schemas/Request")))));
+        var openApi = new OpenAPI()
+                .components(new Components()
+                        .addSchemas("Request", new ObjectSchema().addProperty("scheduledAt", new StringSchema())));
+        var tool = givenTool("reschedule", "Reschedule", null);
+        var document = ToolSearchIndex.Document.of(
+                tool.tool(), new FullOperation("/bulks/{bulkId}", PathItem.HttpMethod.PUT, operation, openApi));
+        index.update(List.of(tool, givenTool("create_user", "Create user", null)), Map.of("reschedule", document));
+
+        // when / then
+        then(index.search("messaging", 10))
+                .extracting(hit -> hit.tool().tool().name())
+                .containsExactly("reschedule");
+        then(index.search("bulk", 10))
+                .extracting(hit -> hit.tool().tool().name())
+                .containsExactly("reschedule");
+        then(index.search("scheduled at", 10))
+                .extracting(hit -> hit.tool().tool().name())
+                .containsExactly("reschedule");
+    }
+
+    @Test
+    void shouldSplitCamelCaseAndIgnorePlurals() {
+        // when
+        var terms = ToolSearchIndex.tokenize("sendSmsMessages to user-accounts, categories and status");
+
+        // then
+        then(terms).containsExactly("send", "sms", "message", "to", "user", "account", "category", "and", "status");
+    }
+
+    @Test
+    void shouldLimitResults() {
+        // given
+        var tools = IntStream.range(0, 20)
+                .mapToObj(i -> givenTool("list_users_" + i, "List users", null))
+                .toList();
+        index.update(tools, Map.of());
+
+        // when
+        var hits = index.search("users", 5);
+
+        // then
+        then(hits).hasSize(5);
+    }
+
+    @Test
+    void shouldReturnNothingForUnknownTerms() {
+        // given
+        index.update(List.of(givenTool("create_user", "Create user", null)), Map.of());
+
+        // when / then
+        then(index.search("webhook", 10)).isEmpty();
+        then(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldUpdateIncrementally() {
+        // given
+        var createUser = givenTool("create_user", "Create user", null);
+        var deleteUser = givenTool("delete_user", "Delete user", null);
+        index.update(List.of(createUser, deleteUser), Map.of());
+        var changedDeleteUser = givenTool("delete_user", "Remove account", null);
+        var listOrders = givenTool("list_orders", "List orders", null);
+
+        // when
+        index.update(List.of(createUser, changedDeleteUser, listOrders), Map.of());
+
+        // then
+        then(index.size()).isEqualTo(3);
+        then(index.find("create_user")).isSameAs(createUser);
+        then(index.find("delete_user")).isSameAs(changedDeleteUser);
+        then(index.search("remove", 10)).extracting(ToolSearchIndex.Hit::tool).containsExactly(changedDeleteUser);
+        then(index.search("orders", 10)).extracting(ToolSearchIndex.Hit::tool).containsExactly(listOrders);
+        then(index.search("delete", 10)).extracting(ToolSearchIndex.Hit::tool).containsExactly(changedDeleteUser);
+    }
+
+    @Test
+    void shouldRemoveToolsMissingFromUpdate() {
+        // given
+        var createUser = givenTool("create_user", "Create user", null);
+        index.update(List.of(createUser, givenTool("delete_user", "Delete user", null)), Map.of());
+
+        // when
+        index.update(List.of(createUser), Map.of());
+
+        // then
+        then(index.find("delete_user")).isNull();
+        then(index.search("delete", 10)).isEmpty();
+        then(index.search("user", 10)).extracting(ToolSearchIndex.Hit::tool).containsExactly(createUser);
+    }
+
+    @Test
+    void shouldFindBestMatchAmongManyTools() {
+        // given
+        var tools = IntStream.range(0, 10_000)
+                .mapToObj(i -> givenTool(
+                        "operation_" + i, "Operation " + i, "Manages resource " + (i % 100) + " of the account."))
+                .toList();
+        index.update(tools, Map.of());
+
+        // when
+        var hits = index.search("operation 4242", 3);
+
+        // then
+        then(hits).hasSize(3);
+        then(hits.getFirst().tool().tool().name()).isEqualTo("operation_4242");
+    }
+
+    private static RegisteredTool givenTool(String name, String title, @Nullable String description) {
+        var tool = McpSchema.Tool.builder()
+                .name(name)
+                .title(title)
+                .description(description)
+                .inputSchema(Map.of("type", "object"))
+                .build();
+        var operation = new OperationDescriptor(
+                name, "/" + name, PathItem.HttpMethod.POST, name, List.of(), false, List.of(), SpecVersion.V30);
+        return new RegisteredTool(tool, (request, context) -> null, operation);
+    }
+}
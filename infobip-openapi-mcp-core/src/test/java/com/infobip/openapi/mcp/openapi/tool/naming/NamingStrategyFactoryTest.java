@@ -3,6 +3,10 @@ package com.infobip.openapi.mcp.openapi.tool.naming;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.tool.FullOperation;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import org.junit.jupiter.api.Test;
 
 class NamingStrategyFactoryTest {
@@ -60,7 +64,7 @@ class NamingStrategyFactoryTest {
     @Test
     void shouldCreateEndpointStrategyByDefault() {
         // Given - using default configuration
-        var tools = new OpenApiMcpProperties.Tools(null, null, null, null, null, null, null);
+        var tools = new OpenApiMcpProperties.Tools(null, null, null, null, null, null, null, null, null, null);
         var naming = tools.naming(); // Uses defaults
 
         // When
@@ -71,6 +75,32 @@ class NamingStrategyFactoryTest {
         then(naming.strategy()).isEqualTo(NamingStrategyType.SANITIZED_OPERATION_ID);
     }
 
+    @Test
+    void shouldCreatePrefixedStrategyWhenPrefixSpecified() {
+        // Given
+        var naming = createNaming(NamingStrategyType.OPERATION_ID, null);
+
+        // When
+        var result = factory.create(naming, "billing_");
+
+        // Then
+        then(result).isInstanceOf(PrefixNamingStrategy.class);
+    }
+
+    @Test
+    void shouldTrimPrefixedNames() {
+        // Given
+        var naming = createNaming(NamingStrategyType.OPERATION_ID, 12);
+        var operation = new Operation().operationId("getInvoices");
+        var fullOperation = new FullOperation("/invoices", PathItem.HttpMethod.GET, operation, new OpenAPI());
+
+        // When
+        var result = factory.create(naming, "billing_").name(fullOperation);
+
+        // Then
+        then(result).isEqualTo("billing_getI");
+    }
+
     private OpenApiMcpProperties.Tools.Naming createNaming(NamingStrategyType strategy, Integer maxLength) {
         return new OpenApiMcpProperties.Tools.Naming(strategy, maxLength);
     }
@@ -0,0 +1,175 @@
+package com.infobip.openapi.mcp.pagination;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CatalogPaginatorTest {
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final CatalogPaginator paginator =
+            new CatalogPaginator(new OpenApiMcpProperties.Pagination(2), catalogVersion::get);
+
+    @Test
+    void shouldReturnFirstPageOrderedByName() {
+        // given
+        var result = givenTools("delete_user", "create_user", "list_users", "get_user", "update_user");
+
+        // when
+        var page = paginator.page(result, paginator.position(null));
+
+        // then
+        then(page.tools()).extracting(McpSchema.Tool::name).containsExactly("create_user", "delete_user");
+        then(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void shouldListAllEntriesExactlyOnceAcrossPages() {
+        // given
+        var result = givenTools("delete_user", "create_user", "list_users", "get_user", "update_user");
+        var names = new ArrayList<String>();
+        String cursor = null;
+
+        // when
+        do {
+            var page = paginator.page(result, paginator.position(cursor));
+            page.tools().forEach(tool -> names.add(tool.name()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        then(names).containsExactly("create_user", "delete_user", "get_user", "list_users", "update_user");
+    }
+
+    @Test
+    void shouldNotReturnCursorWithLastPage() {
+        // given
+        var result = givenTools("b", "a");
+
+        // when
+        var page = paginator.page(result, paginator.position(null));
+
+        // then
+        then(page.tools()).extracting(McpSchema.Tool::name).containsExactly("a", "b");
+        then(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldContinueListingFromListRebuiltForEveryRequest() {
+        // given
+        var firstPage = paginator.page(givenTools("c", "b", "a"), paginator.position(null));
+
+        // when
+        var secondPage = paginator.page(givenTools("c", "b", "a"), paginator.position(firstPage.nextCursor()));
+
+        // then
+        then(firstPage.tools()).extracting(McpSchema.Tool::name).containsExactly("a", "b");
+        then(secondPage.tools()).extracting(McpSchema.Tool::name).containsExactly("c");
+    }
+
+    @Test
+    void shouldPageEachListOfSameCatalogVersionInItsOwnOrder() {
+        // given
+        var position = paginator.position(null);
+        paginator.page(givenTools("d", "c", "b", "a"), position);
+
+        // when
+        var page = paginator.page(givenTools("d", "b"), position);
+
+        // then
+        then(page.tools()).extracting(McpSchema.Tool::name).containsExactly("b", "d");
+        then(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldSortListAgainAfterCatalogChanges() {
+        // given
+        var result = givenTools("b", "a", "c");
+        paginator.page(result, paginator.position(null));
+        catalogVersion.incrementAndGet();
+
+        // when
+        var page = paginator.page(givenTools("z", "y", "x"), paginator.position(null));
+
+        // then
+        then(page.tools()).extracting(McpSchema.Tool::name).containsExactly("x", "y");
+    }
+
+    @Test
+    void shouldPaginatePrompts() {
+        // given
+        var result = new McpSchema.ListPromptsResult(
+                List.of(givenPrompt("summary"), givenPrompt("analysis"), givenPrompt("report")), null);
+
+        // when
+        var firstPage = paginator.page(result, paginator.position(null));
+        var secondPage = paginator.page(result, paginator.position(firstPage.nextCursor()));
+
+        // then
+        then(firstPage.prompts()).extracting(McpSchema.Prompt::name).containsExactly("analysis", "report");
+        then(secondPage.prompts()).extracting(McpSchema.Prompt::name).containsExactly("summary");
+        then(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForPreviousCatalogVersion() {
+        // given
+        var result = givenTools("a", "b", "c");
+        var cursor = paginator.page(result, paginator.position(null)).nextCursor();
+        catalogVersion.addAndGet(2);
+
+        // when / then
+        thenThrownBy(() -> paginator.position(cursor))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("catalog changed from version 0 to 2");
+    }
+
+    @Test
+    void shouldRejectCursorWhenCatalogChangesWhileListing() {
+        // given
+        var result = givenTools("a", "b", "c");
+        var position = paginator.position(null);
+        catalogVersion.incrementAndGet();
+        var cursor = paginator.page(result, position).nextCursor();
+        catalogVersion.incrementAndGet();
+
+        // when / then
+        thenThrownBy(() -> paginator.position(cursor)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "MTIz", "MDotMQ", "eDox", "MDox:"})
+    void shouldRejectMalformedCursor(String cursor) {
+        // when / then
+        thenThrownBy(() -> paginator.position(cursor))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("Invalid cursor: %s.", cursor);
+    }
+
+    @Test
+    void shouldRequirePageSize() {
+        // when / then
+        thenThrownBy(() -> new CatalogPaginator(new OpenApiMcpProperties.Pagination(null), catalogVersion::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static McpSchema.ListToolsResult givenTools(String... names) {
+        var tools = Arrays.stream(names)
+                .map(name -> McpSchema.Tool.builder().name(name).build())
+                .toList();
+        return new McpSchema.ListToolsResult(tools, null);
+    }
+
+    private static McpSchema.Prompt givenPrompt(String name) {
+        return new McpSchema.Prompt(name, null, List.of());
+    }
+}
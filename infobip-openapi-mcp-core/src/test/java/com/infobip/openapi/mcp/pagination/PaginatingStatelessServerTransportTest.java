@@ -0,0 +1,134 @@
+package com.infobip.openapi.mcp.pagination;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpStatelessServerFeatures;
+import io.modelcontextprotocol.server.McpStatelessServerHandler;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpStatelessServerTransport;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class PaginatingStatelessServerTransportTest {
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final CapturingTransport delegate = new CapturingTransport();
+
+    @BeforeEach
+    void setUp() {
+        var paginator = new CatalogPaginator(new OpenApiMcpProperties.Pagination(3), catalogVersion::get);
+        var tools = IntStream.rangeClosed(1, 7)
+                .mapToObj(i -> new McpStatelessServerFeatures.SyncToolSpecification(
+                        McpSchema.Tool.builder().name("tool_" + i).build(),
+                        (context, request) -> McpSchema.CallToolResult.builder().build()))
+                .toList();
+        var prompts = List.of(
+                new McpStatelessServerFeatures.SyncPromptSpecification(
+                        new McpSchema.Prompt("summary", null, List.of()), (context, request) -> null),
+                new McpStatelessServerFeatures.SyncPromptSpecification(
+                        new McpSchema.Prompt("analysis", null, List.of()), (context, request) -> null));
+        McpServer.sync(new PaginatingStatelessServerTransport(delegate, paginator))
+                .capabilities(McpSchema.ServerCapabilities.builder()
+                        .tools(true)
+                        .prompts(true)
+                        .build())
+                .tools(tools)
+                .prompts(prompts)
+                .build();
+    }
+
+    @Test
+    void shouldPaginateToolsList() {
+        // when
+        var firstPage = (McpSchema.ListToolsResult)
+                listRequest(McpSchema.METHOD_TOOLS_LIST, null).result();
+        var secondPage = (McpSchema.ListToolsResult)
+                listRequest(McpSchema.METHOD_TOOLS_LIST, firstPage.nextCursor()).result();
+        var thirdPage = (McpSchema.ListToolsResult) listRequest(McpSchema.METHOD_TOOLS_LIST, secondPage.nextCursor())
+                .result();
+
+        // then
+        then(firstPage.tools()).extracting(McpSchema.Tool::name).containsExactly("tool_1", "tool_2", "tool_3");
+        then(secondPage.tools()).extracting(McpSchema.Tool::name).containsExactly("tool_4", "tool_5", "tool_6");
+        then(thirdPage.tools()).extracting(McpSchema.Tool::name).containsExactly("tool_7");
+        then(thirdPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldPaginatePromptsList() {
+        // when
+        var page = (McpSchema.ListPromptsResult)
+                listRequest(McpSchema.METHOD_PROMPT_LIST, null).result();
+
+        // then
+        then(page.prompts()).extracting(McpSchema.Prompt::name).containsExactly("analysis", "summary");
+        then(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldAnswerStaleCursorWithInvalidParamsError() {
+        // given
+        var firstPage = (McpSchema.ListToolsResult)
+                listRequest(McpSchema.METHOD_TOOLS_LIST, null).result();
+        catalogVersion.addAndGet(2);
+
+        // when
+        var response = listRequest(McpSchema.METHOD_TOOLS_LIST, firstPage.nextCursor());
+
+        // then
+        then(response.result()).isNull();
+        then(response.error()).isNotNull();
+        then(response.error().code()).isEqualTo(McpSchema.ErrorCodes.INVALID_PARAMS);
+        then(response.error().message()).contains("catalog changed");
+    }
+
+    @Test
+    void shouldPassOtherRequestsThrough() {
+        // when
+        var response = request(McpSchema.METHOD_TOOLS_CALL, Map.of("name", "tool_1", "arguments", Map.of()));
+
+        // then
+        then(response.error()).isNull();
+        then(response.result()).isInstanceOf(McpSchema.CallToolResult.class);
+    }
+
+    private McpSchema.JSONRPCResponse listRequest(String method, @Nullable String cursor) {
+        var params = new HashMap<String, Object>();
+        if (cursor != null) {
+            params.put("cursor", cursor);
+        }
+        return request(method, params);
+    }
+
+    private McpSchema.JSONRPCResponse request(String method, Map<String, Object> params) {
+        var request = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, method, "1", params);
+        return delegate.handler
+                .handleRequest(McpTransportContext.EMPTY, request)
+                .block();
+    }
+
+    private static class CapturingTransport implements McpStatelessServerTransport {
+
+        private McpStatelessServerHandler handler;
+
+        @Override
+        public void setMcpHandler(McpStatelessServerHandler mcpHandler) {
+            this.handler = mcpHandler;
+        }
+
+        @Override
+        public Mono<Void> closeGracefully() {
+            return Mono.empty();
+        }
+    }
+}
@@ -88,6 +88,22 @@ class MustacheTemplateRendererTest {
                 .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void shouldRemoveCompiledTemplatesOfSinglePrompt() {
+        // Given
+        renderer.compileTemplates("greet", List.of(new PromptMessageDefinition(McpSchema.Role.USER, "Hello {{name}}")));
+        renderer.compileTemplates(
+                "greet_formal", List.of(new PromptMessageDefinition(McpSchema.Role.USER, "Good day {{name}}")));
+
+        // When
+        renderer.remove("greet");
+
+        // Then
+        thenThrownBy(() -> renderer.render("greet", 0, Map.of("name", "Alice")))
+                .isInstanceOf(IllegalStateException.class);
+        then(renderer.render("greet_formal", 0, Map.of("name", "Alice"))).isEqualTo("Good day Alice");
+    }
+
     @Test
     void shouldThrowWhenRenderingNonExistentTemplate() {
         // When / Then
@@ -12,6 +12,7 @@ import com.infobip.openapi.mcp.auth.CredentialProvider;
 import com.infobip.openapi.mcp.enricher.ApiRequestEnricherChain;
 import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
 import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
+import com.infobip.openapi.mcp.openapi.OpenApiFingerprints;
 import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -80,7 +81,7 @@ class PromptRegistryTest {
             // Given
             var openApi = new OpenAPI();
             openApi.addExtension("x-other", "value");
-            when(openApiRegistry.openApi()).thenReturn(openApi);
+            when(openApiRegistry.specification()).thenReturn(new OpenApiRegistry.Specification(openApi, null));
             var registry = new PromptRegistry(
                     openApiRegistry,
                     restClient,
@@ -651,7 +652,7 @@ class PromptRegistryTest {
                             "name", "unreachable",
                             "description", "Unreachable",
                             "resolve", Map.of("path", "/prompts/unreachable"))));
-            when(openApiRegistry.openApi()).thenReturn(openApi);
+            when(openApiRegistry.specification()).thenReturn(new OpenApiRegistry.Specification(openApi, null));
             var registry = new PromptRegistry(
                     openApiRegistry,
                     unreachableRestClient,
@@ -806,6 +807,43 @@ class PromptRegistryTest {
             // Then
             then(registry.getRegisteredPromptsCache()).hasSize(1);
         }
+
+        @Test
+        void shouldReusePromptsWithUnchangedFingerprint() {
+            // Given
+            var givenOpenApi = givenOpenApiWithExtension(List.of(
+                    Map.of(
+                            "name", "greet",
+                            "description", "Greet",
+                            "messages", List.of(Map.of("role", "user", "content", "Hello"))),
+                    Map.of(
+                            "name", "farewell",
+                            "description", "Farewell",
+                            "messages", List.of(Map.of("role", "user", "content", "Bye")))));
+            when(openApiRegistry.specification())
+                    .thenReturn(new OpenApiRegistry.Specification(
+                            givenOpenApi, givenFingerprints(Map.of("greet", "1", "farewell", "1"))))
+                    .thenReturn(new OpenApiRegistry.Specification(
+                            givenOpenApi, givenFingerprints(Map.of("greet", "1", "farewell", "2"))));
+            var registry = givenRegistry(noOpCredentialProvider);
+            var givenPrompts = registry.getPrompts();
+
+            // When
+            var prompts = registry.getPrompts();
+
+            // Then
+            then(prompts.get(0)).isSameAs(givenPrompts.get(0));
+            then(prompts.get(1)).isNotSameAs(givenPrompts.get(1));
+            then(prompts.get(1)
+                            .handler()
+                            .apply(CONTEXT, new McpSchema.GetPromptRequest("farewell", Map.of()))
+                            .messages())
+                    .hasSize(1);
+        }
+    }
+
+    private OpenApiFingerprints givenFingerprints(Map<String, String> prompts) {
+        return new OpenApiFingerprints("document", Map.of(), Map.of(), prompts);
     }
 
     private PromptRegistry givenRegistryWithExtension(List<Map<String, Object>> promptsExtension) {
@@ -814,11 +852,20 @@ class PromptRegistryTest {
 
     private PromptRegistry givenRegistryWithExtension(
             List<Map<String, Object>> promptsExtension, CredentialProvider credentialProvider) {
+        when(openApiRegistry.specification())
+                .thenReturn(new OpenApiRegistry.Specification(givenOpenApiWithExtension(promptsExtension), null));
+        return givenRegistry(credentialProvider);
+    }
+
+    private OpenAPI givenOpenApiWithExtension(List<Map<String, Object>> promptsExtension) {
         var openApi = new OpenAPI();
         if (promptsExtension != null) {
             openApi.addExtension("x-mcp-prompts", promptsExtension);
         }
-        when(openApiRegistry.openApi()).thenReturn(openApi);
+        return openApi;
+    }
+
+    private PromptRegistry givenRegistry(CredentialProvider credentialProvider) {
         return new PromptRegistry(
                 openApiRegistry, restClient, OBJECT_MAPPER, credentialProvider, noOpEnricherChain, metricService);
     }
@@ -3,9 +3,14 @@ package com.infobip.openapi.mcp.util;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -34,4 +39,22 @@ class SchemaWalkerTest {
         // then
         then(count.get()).isEqualTo(expectedNumberOfSchemas);
     }
+
+    @Test
+    void shouldVisitSharedSchemaInstanceOnce() {
+        // given
+        var shared = new Schema<>().addProperty("name", new StringSchema());
+        var givenSpec = new OpenAPI()
+                .components(new Components()
+                        .addSchemas("Shared", shared)
+                        .addSchemas("Union", new Schema<>().addOneOfItem(shared).addAnyOfItem(shared)));
+        var count = new AtomicInteger(0);
+        var walker = SchemaWalker.visitingEachSchemaOnce(s -> count.getAndIncrement());
+
+        // when
+        walker.walk(givenSpec);
+
+        // then
+        then(count.get()).isEqualTo(3);
+    }
 }
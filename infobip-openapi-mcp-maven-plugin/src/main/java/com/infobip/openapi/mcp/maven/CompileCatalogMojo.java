@@ -0,0 +1,177 @@
+package com.infobip.openapi.mcp.maven;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.catalog.CatalogCompiler;
+import com.infobip.openapi.mcp.openapi.schema.Spec.ExamplesMode;
+import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategyType;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * Compiles the OpenAPI specification into a precompiled catalog that is packaged with the application.
+ * <p>
+ * The goal runs the same read, filter and resolve pipeline as the Spring Boot starter does on startup and
+ * registers tools and prompts from the result, so an invalid specification fails the build. The catalog is
+ * written to {@code outputDirectory/catalogPath} and is picked up at runtime by setting
+ * {@code infobip.openapi.mcp.precompiled-catalog=classpath:META-INF/openapi-mcp/catalog.json}.
+ * <p>
+ * Tool related parameters should mirror the {@code infobip.openapi.mcp.tools} properties of the application,
+ * so that validation at build time matches the tools registered at runtime.
+ */
+@Mojo(name = "compile-catalog", defaultPhase = LifecyclePhase.GENERATE_RESOURCES, threadSafe = true)
+public class CompileCatalogMojo extends AbstractMojo {
+
+    /**
+     * URL of the OpenAPI specification, or a path to it relative to the project base directory.
+     */
+    @Parameter(property = "openapi.mcp.openApiUrl", required = true)
+    private String openApiUrl;
+
+    /**
+     * Directory the catalog is written to. Defaults to the classes directory, so the catalog ends up in the jar.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File outputDirectory;
+
+    /**
+     * Path of the catalog relative to {@code outputDirectory}.
+     */
+    @Parameter(property = "openapi.mcp.catalogPath", defaultValue = CatalogCompiler.DEFAULT_LOCATION)
+    private String catalogPath;
+
+    /**
+     * Filters to enable or disable, keyed by filter name. All built-in filters are enabled by default.
+     */
+    @Parameter
+    private Map<String, Boolean> filters;
+
+    /**
+     * Rules selecting the operations to include, mirrors {@code infobip.openapi.mcp.pruning.include}. Each
+     * {@code <operationRule>} can list {@code paths}, {@code methods}, {@code tags}, {@code operationIds} and
+     * {@code extensions}.
+     */
+    @Parameter
+    private List<OperationRule> includeOperations;
+
+    /**
+     * Rules selecting the operations to exclude, mirrors {@code infobip.openapi.mcp.pruning.exclude}.
+     */
+    @Parameter
+    private List<OperationRule> excludeOperations;
+
+    /**
+     * Tool naming strategy, mirrors {@code infobip.openapi.mcp.tools.naming.strategy}.
+     */
+    @Parameter
+    private NamingStrategyType namingStrategy;
+
+    /**
+     * Maximum tool name length, mirrors {@code infobip.openapi.mcp.tools.naming.max-length}.
+     */
+    @Parameter
+    private Integer namingMaxLength;
+
+    /**
+     * Parameters key, mirrors {@code infobip.openapi.mcp.tools.schema.parameters-key}.
+     */
+    @Parameter
+    private String parametersKey;
+
+    /**
+     * Request body key, mirrors {@code infobip.openapi.mcp.tools.schema.request-body-key}.
+     */
+    @Parameter
+    private String requestBodyKey;
+
+    /**
+     * Mirrors {@code infobip.openapi.mcp.tools.prepend-summary-to-description}.
+     */
+    @Parameter
+    private Boolean prependSummaryToDescription;
+
+    /**
+     * Mirrors {@code infobip.openapi.mcp.tools.examples-mode}.
+     */
+    @Parameter
+    private ExamplesMode examplesMode;
+
+    /**
+     * Skips catalog compilation.
+     */
+    @Parameter(property = "openapi.mcp.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Parameter(defaultValue = "${project.basedir}", readonly = true, required = true)
+    private File basedir;
+
+    @Override
+    public void execute() throws MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping OpenAPI MCP catalog compilation.");
+            return;
+        }
+
+        OpenAPIV3Parser.setEncoding(StandardCharsets.UTF_8.name());
+        var properties = bindProperties();
+        var target = outputDirectory.toPath().resolve(catalogPath);
+
+        try {
+            new CatalogCompiler(properties).compile(target);
+        } catch (RuntimeException exception) {
+            throw new MojoFailureException(
+                    "Unable to compile OpenAPI MCP catalog from " + openApiUrl + ": " + exception.getMessage(),
+                    exception);
+        }
+    }
+
+    /**
+     * Binds the parameters to {@link OpenApiMcpProperties} by property name, like the application binds its
+     * configuration, so that properties without a parameter keep their defaults.
+     */
+    private OpenApiMcpProperties bindProperties() {
+        var settings = new LinkedHashMap<String, Object>();
+        settings.put("open-api-url", resolveOpenApiUrl());
+        putIfSet(settings, "filters", filters);
+        putIfSet(settings, "pruning.include", toProperties(includeOperations));
+        putIfSet(settings, "pruning.exclude", toProperties(excludeOperations));
+        putIfSet(settings, "tools.naming.strategy", namingStrategy);
+        putIfSet(settings, "tools.naming.max-length", namingMaxLength);
+        putIfSet(settings, "tools.schema.parameters-key", parametersKey);
+        putIfSet(settings, "tools.schema.request-body-key", requestBodyKey);
+        putIfSet(settings, "tools.prepend-summary-to-description", prependSummaryToDescription);
+        putIfSet(settings, "tools.examples-mode", examplesMode);
+        var source = new MapConfigurationPropertySource();
+        settings.forEach((name, value) -> source.put(OpenApiMcpProperties.PREFIX + "." + name, value));
+        return new Binder(source).bindOrCreate(OpenApiMcpProperties.PREFIX, OpenApiMcpProperties.class);
+    }
+
+    private static void putIfSet(Map<String, Object> settings, String name, Object value) {
+        if (value != null) {
+            settings.put(name, value);
+        }
+    }
+
+    private static List<OpenApiMcpProperties.Pruning.OperationRule> toProperties(List<OperationRule> rules) {
+        return rules != null ? rules.stream().map(OperationRule::toProperties).toList() : null;
+    }
+
+    private URI resolveOpenApiUrl() {
+        var uri = URI.create(openApiUrl);
+        if (uri.getScheme() != null) {
+            return uri;
+        }
+        return basedir.toPath().resolve(openApiUrl).toUri();
+    }
+}
@@ -0,0 +1,32 @@
+package com.infobip.openapi.mcp.maven;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import io.swagger.v3.oas.models.PathItem;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Operation rule of the {@code includeOperations} and {@code excludeOperations} parameters, mirrors an entry of the
+ * {@code infobip.openapi.mcp.pruning.include} and {@code infobip.openapi.mcp.pruning.exclude} properties.
+ */
+public class OperationRule {
+
+    private List<String> paths;
+    private List<String> methods;
+    private List<String> tags;
+    private List<String> operationIds;
+    private List<String> extensions;
+
+    OpenApiMcpProperties.Pruning.OperationRule toProperties() {
+        return new OpenApiMcpProperties.Pruning.OperationRule(
+                paths,
+                methods != null
+                        ? methods.stream()
+                                .map(method -> PathItem.HttpMethod.valueOf(method.toUpperCase(Locale.ROOT)))
+                                .toList()
+                        : null,
+                tags,
+                operationIds,
+                extensions);
+    }
+}
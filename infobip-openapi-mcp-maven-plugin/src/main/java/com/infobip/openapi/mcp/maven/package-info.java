@@ -0,0 +1,4 @@
+/**
+ * Maven plugin that compiles the OpenAPI specification into a precompiled catalog at build time.
+ */
+package com.infobip.openapi.mcp.maven;
@@ -0,0 +1,103 @@
+package com.infobip.openapi.mcp.maven;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import com.infobip.openapi.mcp.openapi.catalog.CatalogCompiler;
+import com.infobip.openapi.mcp.openapi.catalog.CatalogReader;
+import com.infobip.openapi.mcp.openapi.schema.Spec;
+import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategyType;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.plugin.MojoFailureException;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CompileCatalogMojoTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldCompileCatalogReadableAtRuntime() throws Exception {
+        // given
+        var mojo = givenMojo("src/test/resources/openapi/petstore.json");
+
+        // when
+        mojo.execute();
+
+        // then
+        var target = tempDir.resolve(CatalogCompiler.DEFAULT_LOCATION);
+        then(target).exists();
+        var catalog =
+                new CatalogReader(new OpenAPIV3Parser()).read(target.toUri().toString());
+        then(catalog.getInfo().getVersion()).isEqualTo("1.0.0");
+        then(catalog.getPaths()).containsOnlyKeys("/pets", "/pets/{petId}");
+    }
+
+    @Test
+    void shouldApplyParametersToCompiledCatalog() throws Exception {
+        // given
+        var mojo = givenMojo("src/test/resources/openapi/petstore.json");
+        var excludePost = new OperationRule();
+        set(excludePost, "methods", List.of("post"));
+        set(mojo, "excludeOperations", List.of(excludePost));
+        set(mojo, "filters", Map.of("DiscriminatorFlattener", false));
+        set(mojo, "namingStrategy", NamingStrategyType.OPERATION_ID);
+
+        // when
+        mojo.execute();
+
+        // then
+        var target = tempDir.resolve(CatalogCompiler.DEFAULT_LOCATION);
+        var catalog =
+                new OpenAPIV3Parser().readContents(Files.readString(target)).getOpenAPI();
+        then(catalog.getPaths().get("/pets").getPost()).isNull();
+        then(catalog.getExtensions().get(Spec.MCP_CATALOG_EXTENSION))
+                .asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsEntry("tools", List.of("listPets", "showPetById"));
+    }
+
+    @Test
+    void shouldFailBuildOfInvalidSpec() throws Exception {
+        // given
+        Files.writeString(tempDir.resolve("invalid.json"), "{\"not\": \"openapi\"}");
+        var mojo = givenMojo(tempDir.resolve("invalid.json").toString());
+
+        // when & then
+        thenThrownBy(mojo::execute).isInstanceOf(MojoFailureException.class);
+        then(tempDir.resolve(CatalogCompiler.DEFAULT_LOCATION)).doesNotExist();
+    }
+
+    @Test
+    void shouldSkipCompilation() throws Exception {
+        // given
+        var mojo = givenMojo("src/test/resources/openapi/petstore.json");
+        set(mojo, "skip", true);
+
+        // when
+        mojo.execute();
+
+        // then
+        then(tempDir.resolve(CatalogCompiler.DEFAULT_LOCATION)).doesNotExist();
+    }
+
+    private CompileCatalogMojo givenMojo(String openApiUrl) throws ReflectiveOperationException {
+        var mojo = new CompileCatalogMojo();
+        set(mojo, "openApiUrl", openApiUrl);
+        set(mojo, "outputDirectory", tempDir.toFile());
+        set(mojo, "catalogPath", CatalogCompiler.DEFAULT_LOCATION);
+        set(mojo, "basedir", Path.of("").toAbsolutePath().toFile());
+        return mojo;
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        var field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -8,11 +8,13 @@ import com.infobip.openapi.mcp.auth.CredentialProvider;
 import com.infobip.openapi.mcp.auth.scope.JwtScopeService;
 import com.infobip.openapi.mcp.auth.scope.WwwAuthenticateProvider;
 import com.infobip.openapi.mcp.auth.web.InitialAuthenticationFilter;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
 import com.infobip.openapi.mcp.enricher.ApiRequestEnricherChain;
 import com.infobip.openapi.mcp.error.ErrorModelWriter;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.ai.mcp.server.common.autoconfigure.McpServerStdioDisabledCondition;
 import org.springframework.ai.mcp.server.common.autoconfigure.properties.McpServerProperties;
 import org.springframework.ai.mcp.server.common.autoconfigure.properties.McpServerSseProperties;
@@ -53,6 +55,7 @@ class AuthConfiguration {
             @Qualifier(AUTHORIZATION_REST_CLIENT_QUALIFIER) RestClient restClient,
             AuthProperties authProperties,
             ErrorModelWriter errorModelWriter,
+            OpenApiMcpProperties openApiMcpProperties,
             McpServerProperties mcpServerProperties,
             Optional<McpServerSseProperties> mcpServerSseProperties,
             Optional<McpServerStreamableHttpProperties> mcpServerStreamableHttpProperties,
@@ -72,12 +75,13 @@ class AuthConfiguration {
                 credentialProvider);
 
         var registration = new FilterRegistrationBean<>(filter);
-        registration.setUrlPatterns(
-                provideUrlPatterns(mcpServerProperties, mcpServerSseProperties, mcpServerStreamableHttpProperties));
+        registration.setUrlPatterns(provideUrlPatterns(
+                openApiMcpProperties, mcpServerProperties, mcpServerSseProperties, mcpServerStreamableHttpProperties));
         return registration;
     }
 
     private Collection<String> provideUrlPatterns(
+            OpenApiMcpProperties openApiMcpProperties,
             McpServerProperties mcpServerProperties,
             Optional<McpServerSseProperties> mcpServerSseProperties,
             Optional<McpServerStreamableHttpProperties> mcpServerStreamableHttpProperties) {
@@ -86,7 +90,17 @@ class AuthConfiguration {
         }
 
         switch (mcpServerProperties.getProtocol()) {
-            case STATELESS, STREAMABLE -> {
+            case STATELESS -> {
+                // Tenants are only served with the stateless protocol, each at its own endpoint
+                return Stream.concat(
+                                mcpServerStreamableHttpProperties
+                                        .map(McpServerStreamableHttpProperties::getMcpEndpoint)
+                                        .stream(),
+                                openApiMcpProperties.tenants().stream().map(OpenApiMcpProperties.Tenant::endpoint))
+                        .distinct()
+                        .toList();
+            }
+            case STREAMABLE -> {
                 return mcpServerStreamableHttpProperties
                         .map(McpServerStreamableHttpProperties::getMcpEndpoint)
                         .map(List::of)
@@ -2,10 +2,15 @@ package com.infobip.openapi.mcp.autoconfiguration;
 
 import static com.infobip.openapi.mcp.autoconfiguration.Qualifiers.TOOL_HANDLER_REST_CLIENT_QUALIFIER;
 
+import com.infobip.openapi.mcp.McpRequestContext;
 import com.infobip.openapi.mcp.McpRequestContextFactory;
 import com.infobip.openapi.mcp.auth.CredentialProvider;
 import com.infobip.openapi.mcp.auth.HttpServletRequestCredentialProvider;
+import com.infobip.openapi.mcp.auth.ScopeProperties;
+import com.infobip.openapi.mcp.auth.scope.JwtScopeService;
 import com.infobip.openapi.mcp.auth.scope.ScopeDiscoveryService;
+import com.infobip.openapi.mcp.auth.scope.ScopeFilteringStatelessServerTransport;
+import com.infobip.openapi.mcp.auth.scope.ScopedToolList;
 import com.infobip.openapi.mcp.config.ApiBaseUrlConfig;
 import com.infobip.openapi.mcp.config.ApiBaseUrlProvider;
 import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
@@ -13,19 +18,25 @@ import com.infobip.openapi.mcp.enricher.*;
 import com.infobip.openapi.mcp.error.DefaultErrorModelProvider;
 import com.infobip.openapi.mcp.error.ErrorModelProvider;
 import com.infobip.openapi.mcp.error.ErrorModelWriter;
+import com.infobip.openapi.mcp.infrastructure.cds.TrainingRun;
 import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
 import com.infobip.openapi.mcp.infrastructure.metrics.MicrometerMetricService;
 import com.infobip.openapi.mcp.infrastructure.metrics.NoOpMetricService;
 import com.infobip.openapi.mcp.openapi.*;
+import com.infobip.openapi.mcp.openapi.catalog.CatalogReader;
 import com.infobip.openapi.mcp.openapi.filter.DiscriminatorFlattener;
 import com.infobip.openapi.mcp.openapi.filter.OpenApiFilter;
 import com.infobip.openapi.mcp.openapi.filter.OpenApiFilterChain;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiPruner;
 import com.infobip.openapi.mcp.openapi.filter.PatternPropertyRemover;
 import com.infobip.openapi.mcp.openapi.schema.InputExampleComposer;
 import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
 import com.infobip.openapi.mcp.openapi.tool.*;
+import com.infobip.openapi.mcp.openapi.tool.discovery.ToolDiscovery;
 import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategy;
 import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategyFactory;
+import com.infobip.openapi.mcp.pagination.CatalogPaginator;
+import com.infobip.openapi.mcp.pagination.PaginatingStatelessServerTransport;
 import com.infobip.openapi.mcp.progress.DefaultProgressUpdateProvider;
 import com.infobip.openapi.mcp.progress.ProgressUpdateProvider;
 import com.infobip.openapi.mcp.prompt.PromptCallFilter;
@@ -37,26 +48,38 @@ import com.infobip.openapi.mcp.util.XForwardedForCalculator;
 import com.infobip.openapi.mcp.util.XForwardedHostCalculator;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.modelcontextprotocol.server.*;
+import io.modelcontextprotocol.spec.McpStatelessServerTransport;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import org.springframework.ai.mcp.server.common.autoconfigure.McpServerAutoConfiguration;
 import org.springframework.ai.mcp.server.common.autoconfigure.properties.McpServerProperties;
 import org.springframework.ai.mcp.server.common.autoconfigure.properties.McpServerSseProperties;
 import org.springframework.ai.mcp.server.common.autoconfigure.properties.McpServerStreamableHttpProperties;
+import org.springframework.ai.mcp.server.webmvc.transport.WebMvcStatelessServerTransport;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import tools.jackson.databind.ObjectMapper;
@@ -64,6 +87,7 @@ import tools.jackson.databind.ObjectMapper;
 @AutoConfiguration
 @AutoConfigureBefore(McpServerAutoConfiguration.class)
 @EnableConfigurationProperties(OpenApiMcpProperties.class)
+@ImportRuntimeHints(OpenApiMcpRuntimeHints.class)
 class OpenApiMcpConfiguration {
 
     @Bean
@@ -166,8 +190,8 @@ class OpenApiMcpConfiguration {
 
     @Bean
     @ConditionalOnBean(MeterRegistry.class)
-    public MetricService micrometerMetricService(MeterRegistry meterRegistry, NamingStrategy namingStrategy) {
-        return new MicrometerMetricService(meterRegistry, namingStrategy);
+    public MetricService micrometerMetricService(MeterRegistry meterRegistry) {
+        return new MicrometerMetricService(meterRegistry);
     }
 
     @Bean
@@ -215,7 +239,10 @@ class OpenApiMcpConfiguration {
             ToolHandler toolHandler,
             OpenApiMapperFactory openApiMapperFactory,
             ToolAnnotationResolver toolAnnotationResolver,
-            OpenApiMcpProperties properties) {
+            OpenApiMcpProperties properties,
+            MetricService metricService,
+            ApiSpecs apiSpecs,
+            SharedSchemaCache sharedSchemaCache) {
         return new ToolRegistry(
                 openApiRegistry,
                 namingStrategy,
@@ -224,7 +251,69 @@ class OpenApiMcpConfiguration {
                 toolHandler,
                 openApiMapperFactory,
                 toolAnnotationResolver,
-                properties);
+                properties,
+                metricService,
+                apiSpecs,
+                sharedSchemaCache);
+    }
+
+    /**
+     * Loads the additional OpenAPI specifications in parallel. Each specification gets its own registry, tool name
+     * prefix and tool handler, whose REST client has its own connection pool.
+     */
+    @Bean
+    public ApiSpecs apiSpecs(
+            OpenApiMcpProperties properties,
+            OpenApiReader openApiReader,
+            List<OpenApiFilter> openApiFilters,
+            OpenApiMapperFactory openApiMapperFactory,
+            OpenApiResolver openApiResolver,
+            CatalogReader catalogReader,
+            OpenApiFingerprinter openApiFingerprinter,
+            SharedSchemaCache sharedSchemaCache,
+            NamingStrategyFactory namingStrategyFactory,
+            ErrorModelWriter errorModelWriter,
+            ApiRequestEnricherChain enricherChain,
+            MetricService metricService,
+            CredentialProvider credentialProvider,
+            ProgressUpdateProvider progressUpdateProvider) {
+        return ApiSpecs.load(properties.specs(), spec -> {
+            var specProperties = properties.forSpec(spec);
+            var openApiRegistry = new OpenApiRegistry(
+                    specProperties,
+                    openApiReader,
+                    new OpenApiFilterChain(
+                            OpenApiSources.withPruning(openApiFilters, spec.pruning(), openApiMapperFactory),
+                            specProperties),
+                    openApiResolver,
+                    catalogReader,
+                    openApiFingerprinter,
+                    sharedSchemaCache);
+            var apiBaseUrl = new ApiBaseUrlProvider(ApiBaseUrlConfig.parse(spec.apiBaseUrl()), openApiRegistry).get();
+            var toolHandler = new ToolHandler(
+                    OpenApiSources.restClient(properties, apiBaseUrl),
+                    errorModelWriter,
+                    specProperties,
+                    enricherChain,
+                    metricService,
+                    OpenApiSources.credentialProvider(
+                            spec.authorization(), spec.forwardCredential(), credentialProvider),
+                    progressUpdateProvider);
+            return new ApiSpecs.ApiSpec(
+                    spec.name(),
+                    openApiRegistry,
+                    namingStrategyFactory.create(properties.tools().naming(), spec.toolPrefix()),
+                    toolHandler);
+        });
+    }
+
+    /**
+     * Cache of resolved operations and compiled tools shared by the registries of the primary specification,
+     * additional specifications and tenants.
+     */
+    @Bean
+    public SharedSchemaCache sharedSchemaCache() {
+        return new SharedSchemaCache();
     }
 
     @Bean
@@ -235,8 +324,8 @@ class OpenApiMcpConfiguration {
             havingValue = "false",
             matchIfMissing = true)
     public List<McpServerFeatures.SyncToolSpecification> toolSpecificationsSSE(
-            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder) {
-        return registerTools(toolRegistry, toolSpecBuilder);
+            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder, Optional<ToolDiscovery> toolDiscovery) {
+        return registerTools(toolRegistry, toolSpecBuilder, toolDiscovery);
     }
 
     @Bean
@@ -247,8 +336,8 @@ class OpenApiMcpConfiguration {
             havingValue = "false",
             matchIfMissing = true)
     public List<McpServerFeatures.SyncToolSpecification> toolSpecificationsStreamable(
-            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder) {
-        return registerTools(toolRegistry, toolSpecBuilder);
+            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder, Optional<ToolDiscovery> toolDiscovery) {
+        return registerTools(toolRegistry, toolSpecBuilder, toolDiscovery);
     }
 
     @Bean
@@ -259,15 +348,50 @@ class OpenApiMcpConfiguration {
             havingValue = "false",
             matchIfMissing = true)
     public List<McpStatelessServerFeatures.SyncToolSpecification> toolSpecificationsStateless(
-            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder) {
-        return registerStatelessTools(toolRegistry, toolSpecBuilder);
+            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder, Optional<ToolDiscovery> toolDiscovery) {
+        return registerStatelessTools(toolRegistry, toolSpecBuilder, toolDiscovery);
     }
 
     @Bean
     @ConditionalOnProperty(prefix = McpServerProperties.CONFIG_PREFIX, name = "stdio", havingValue = "true")
     public List<McpServerFeatures.SyncToolSpecification> toolSpecificationsStdio(
-            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder) {
-        return registerTools(toolRegistry, toolSpecBuilder);
+            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder, Optional<ToolDiscovery> toolDiscovery) {
+        return registerTools(toolRegistry, toolSpecBuilder, toolDiscovery);
+    }
+
+    /**
+     * Exposes the tool search index built by the tool registry through the discovery meta tools. When
+     * {@code tools/list} is filtered by the caller's scopes, searches are filtered the same way.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = OpenApiMcpProperties.PREFIX, name = "tools.discovery.enabled", havingValue = "true")
+    public ToolDiscovery toolDiscovery(
+            ToolRegistry toolRegistry,
+            OpenApiMcpProperties properties,
+            CredentialProvider credentialProvider,
+            ObjectProvider<ScopeProperties> scopeProperties,
+            ObjectProvider<ScopeDiscoveryService> scopeDiscoveryService,
+            ObjectProvider<ToolLiveReload> toolLiveReload) {
+        Function<McpRequestContext, Predicate<RegisteredTool>> visibleTools = null;
+        var scopes = scopeProperties.getIfAvailable();
+        var discoveryService = scopeDiscoveryService.getIfAvailable();
+        if (scopes != null && scopes.filterTools() && discoveryService != null) {
+            var scopedToolList = new ScopedToolList(discoveryService, toolRegistry, catalogVersion(toolLiveReload));
+            var jwtScopeService = new JwtScopeService(discoveryService);
+            visibleTools = context -> scopedToolList.permittedTools(credentialProvider
+                    .provide(context)
+                    .map(jwtScopeService::decodeJwtTokenAndExtractScopes)
+                    .orElse(Set.of()));
+        }
+        return new ToolDiscovery(
+                Objects.requireNonNull(toolRegistry.getSearchIndex()),
+                properties.tools().discovery(),
+                visibleTools);
+    }
+
+    @Bean
+    public OpenApiPruner openApiPruner(OpenApiMcpProperties properties, OpenApiMapperFactory openApiMapperFactory) {
+        return new OpenApiPruner(properties.pruning(), openApiMapperFactory);
     }
 
     @Bean
@@ -286,8 +410,14 @@ class OpenApiMcpConfiguration {
     }
 
     @Bean
-    public OpenApiReader openApiReader(OpenAPIV3Parser openApiParser) {
-        return new OpenApiReader(openApiParser);
+    public OpenApiReader openApiReader(
+            OpenAPIV3Parser openApiParser, OpenApiMcpProperties properties, MetricService metricService) {
+        var specFetch = properties.specFetch();
+        var factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout((int) specFetch.timeout().toMillis());
+        factory.setReadTimeout((int) specFetch.timeout().toMillis());
+        var restClient = RestClient.builder().requestFactory(factory).build();
+        return new OpenApiReader(openApiParser, restClient, specFetch.cacheDirectory(), metricService);
     }
 
     @Bean
@@ -300,13 +430,33 @@ class OpenApiMcpConfiguration {
         return new OpenApiResolver(openApiParser, openApiMapperFactory);
     }
 
+    @Bean
+    public CatalogReader catalogReader(OpenAPIV3Parser openApiParser, ResourceLoader resourceLoader) {
+        return new CatalogReader(openApiParser, resourceLoader);
+    }
+
+    @Bean
+    public OpenApiFingerprinter openApiFingerprinter(OpenApiMapperFactory openApiMapperFactory) {
+        return new OpenApiFingerprinter(openApiMapperFactory);
+    }
+
     @Bean
     OpenApiRegistry openApiRegistry(
             OpenApiMcpProperties openApiMcpProperties,
             OpenApiReader openApiReader,
             OpenApiFilterChain openApiFilterChain,
-            OpenApiResolver openApiResolver) {
-        return new OpenApiRegistry(openApiMcpProperties, openApiReader, openApiFilterChain, openApiResolver);
+            OpenApiResolver openApiResolver,
+            CatalogReader catalogReader,
+            OpenApiFingerprinter openApiFingerprinter,
+            SharedSchemaCache sharedSchemaCache) {
+        return new OpenApiRegistry(
+                openApiMcpProperties,
+                openApiReader,
+                openApiFilterChain,
+                openApiResolver,
+                catalogReader,
+                openApiFingerprinter,
+                sharedSchemaCache);
     }
 
     @Bean
@@ -425,7 +575,8 @@ class OpenApiMcpConfiguration {
             PromptSpecBuilder promptSpecBuilder,
             OpenApiMcpProperties properties,
             MetricService metricService,
-            McpServerMetaData mcpServerMetaData) {
+            McpServerMetaData mcpServerMetaData,
+            ApiSpecs apiSpecs) {
         return new ToolLiveReload(
                 mcpSyncServer,
                 mcpStatelessSyncServer,
@@ -437,7 +588,98 @@ class OpenApiMcpConfiguration {
                 promptSpecBuilder,
                 properties,
                 metricService,
-                mcpServerMetaData);
+                mcpServerMetaData,
+                apiSpecs);
+    }
+
+    /**
+     * Decorates the transport of the stateless MCP server. The MCP server is given this transport, while the router
+     * function keeps serving requests through the WebMvc transport it decorates. When enabled, {@code tools/list} is
+     * filtered by the caller's scopes before list responses are paginated, so pages are cut from the filtered list.
+     * The catalog version is looked up lazily, because live reload depends on the MCP server, which depends on this
+     * transport.
+     */
+    @Bean(destroyMethod = "")
+    @Primary
+    @ConditionalOnProperty(prefix = McpServerProperties.CONFIG_PREFIX, name = "protocol", havingValue = "STATELESS")
+    @ConditionalOnProperty(
+            prefix = McpServerProperties.CONFIG_PREFIX,
+            name = "stdio",
+            havingValue = "false",
+            matchIfMissing = true)
+    public McpStatelessServerTransport statelessServerTransport(
+            WebMvcStatelessServerTransport webMvcStatelessServerTransport,
+            OpenApiMcpProperties properties,
+            ToolRegistry toolRegistry,
+            CredentialProvider credentialProvider,
+            McpRequestContextFactory contextFactory,
+            ObjectProvider<ScopeProperties> scopeProperties,
+            ObjectProvider<ScopeDiscoveryService> scopeDiscoveryService,
+            ObjectProvider<ToolLiveReload> toolLiveReload) {
+        var catalogVersion = catalogVersion(toolLiveReload);
+        McpStatelessServerTransport transport = webMvcStatelessServerTransport;
+        if (properties.pagination().enabled()) {
+            transport = new PaginatingStatelessServerTransport(
+                    transport, new CatalogPaginator(properties.pagination(), catalogVersion));
+        }
+        var scopes = scopeProperties.getIfAvailable();
+        var discoveryService = scopeDiscoveryService.getIfAvailable();
+        if (scopes != null && scopes.filterTools() && discoveryService != null) {
+            transport = new ScopeFilteringStatelessServerTransport(
+                    transport,
+                    new ScopedToolList(discoveryService, toolRegistry, catalogVersion),
+                    new JwtScopeService(discoveryService),
+                    credentialProvider,
+                    contextFactory);
+        }
+        return transport;
+    }
+
+    /**
+     * Looks up the catalog version of live reload lazily, because live reload depends on the MCP server.
+     */
+    private static LongSupplier catalogVersion(ObjectProvider<ToolLiveReload> toolLiveReload) {
+        return () -> {
+            var liveReload = toolLiveReload.getIfAvailable();
+            return liveReload != null ? liveReload.catalogVersion() : 0;
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = OpenApiMcpProperties.PREFIX, name = "training-run.enabled", havingValue = "true")
+    public TrainingRun trainingRun(
+            ToolRegistry toolRegistry,
+            PromptRegistry promptRegistry,
+            ObjectMapper objectMapper,
+            ErrorModelWriter errorModelWriter,
+            OpenApiMcpProperties properties,
+            ApiRequestEnricherChain enricherChain,
+            MetricService metricService,
+            ProgressUpdateProvider progressUpdateProvider,
+            List<ToolCallFilter> toolCallFilters) {
+        return new TrainingRun(
+                toolRegistry,
+                promptRegistry,
+                objectMapper,
+                errorModelWriter,
+                properties,
+                enricherChain,
+                metricService,
+                progressUpdateProvider,
+                toolCallFilters);
+    }
+
+    /**
+     * Executes the training run once the application has started and exits, so that the JVM writes the class data
+     * sharing archive requested with {@code -XX:ArchiveClassesAtExit}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = OpenApiMcpProperties.PREFIX, name = "training-run.enabled", havingValue = "true")
+    public ApplicationRunner trainingRunner(TrainingRun trainingRun, ConfigurableApplicationContext context) {
+        return arguments -> {
+            trainingRun.run();
+            System.exit(SpringApplication.exit(context));
+        };
     }
 
     /**
@@ -459,7 +701,12 @@ class OpenApiMcpConfiguration {
      * These tools receive both the server exchange context and the call tool request.
      */
     private List<McpServerFeatures.SyncToolSpecification> registerTools(
-            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder) {
+            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder, Optional<ToolDiscovery> toolDiscovery) {
+        if (toolDiscovery.isPresent()) {
+            // Loading the tools builds the search index behind the discovery tools
+            toolRegistry.getTools();
+            return toolSpecBuilder.buildSyncDiscoveryToolSpecifications(toolDiscovery.get());
+        }
         return registerAfterLoadingOpenApiRegistry(toolRegistry, toolSpecBuilder::buildSyncToolSpecification);
     }
 
@@ -468,7 +715,12 @@ class OpenApiMcpConfiguration {
      * These tools receive the transport context and the call tool request.
      */
     private List<McpStatelessServerFeatures.SyncToolSpecification> registerStatelessTools(
-            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder) {
+            ToolRegistry toolRegistry, ToolSpecBuilder toolSpecBuilder, Optional<ToolDiscovery> toolDiscovery) {
+        if (toolDiscovery.isPresent()) {
+            // Loading the tools builds the search index behind the discovery tools
+            toolRegistry.getTools();
+            return toolSpecBuilder.buildSyncStatelessDiscoveryToolSpecifications(toolDiscovery.get());
+        }
         return registerAfterLoadingOpenApiRegistry(toolRegistry, toolSpecBuilder::buildSyncStatelessToolSpecification);
     }
 
@@ -0,0 +1,109 @@
+package com.infobip.openapi.mcp.autoconfiguration;
+
+import com.infobip.openapi.mcp.error.DefaultErrorModel;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * Registers the reflection and resource hints needed to run the starter in a GraalVM native image.
+ * <p>
+ * Configuration classes and properties are covered by Spring AOT processing, and the MCP SDK schema by Spring AI.
+ * This registrar covers what is only reached reflectively at runtime:
+ * <ul>
+ *     <li>swagger-core models, Jackson mixins and deserializers, which the OpenAPI parser and
+ *     {@link com.infobip.openapi.mcp.util.OpenApiMapperFactory} bind with Jackson 2,</li>
+ *     <li>prompt definitions and resolve responses, and the default error model, which are bound with Jackson 3,</li>
+ *     <li>the serializer of pre-serialized tool input schemas, which Jackson 3 instantiates from an annotation,</li>
+ *     <li>maps passed to Mustache templates as scopes,</li>
+ *     <li>JWT parsing classes of nimbus-jose-jwt used for scope checks,</li>
+ *     <li>precompiled catalogs packaged under {@code META-INF/openapi-mcp}.</li>
+ * </ul>
+ */
+class OpenApiMcpRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> SWAGGER_PACKAGES =
+            List.of("io.swagger.v3.oas.models", "io.swagger.v3.core.jackson", "io.swagger.v3.parser.core.models");
+
+    static final List<String> PROMPT_TYPES = List.of(
+            "com.infobip.openapi.mcp.prompt.PromptExtensionDefinition",
+            "com.infobip.openapi.mcp.prompt.PromptExtensionArgument",
+            "com.infobip.openapi.mcp.prompt.PromptMessageDefinition",
+            "com.infobip.openapi.mcp.prompt.PromptResolveConfig",
+            "com.infobip.openapi.mcp.prompt.PromptResolveResponse",
+            "com.infobip.openapi.mcp.prompt.PromptResolveResponse$PromptResolveMessage");
+
+    static final List<String> SCHEMA_TYPES = List.of(
+            "com.infobip.openapi.mcp.openapi.schema.PreSerializedJsonSchema",
+            "com.infobip.openapi.mcp.openapi.schema.PreSerializedJsonSchema$Serializer");
+
+    static final List<String> JWT_TYPES = List.of(
+            "com.nimbusds.jwt.JWTParser",
+            "com.nimbusds.jwt.JWTClaimsSet",
+            "com.nimbusds.jwt.PlainJWT",
+            "com.nimbusds.jwt.SignedJWT",
+            "com.nimbusds.jwt.EncryptedJWT",
+            "com.nimbusds.jose.shaded.gson.internal.LinkedTreeMap");
+
+    static final String CATALOG_RESOURCE_PATTERN = "META-INF/openapi-mcp/*";
+
+    private static final MemberCategory[] BINDING_CATEGORIES = {
+        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+        MemberCategory.INVOKE_DECLARED_METHODS,
+        MemberCategory.ACCESS_DECLARED_FIELDS
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        var reflection = hints.reflection();
+        for (var packageName : SWAGGER_PACKAGES) {
+            for (var typeName : findTypes(packageName, classLoader)) {
+                reflection.registerType(TypeReference.of(typeName), BINDING_CATEGORIES);
+            }
+        }
+        for (var typeName : PROMPT_TYPES) {
+            reflection.registerType(TypeReference.of(typeName), BINDING_CATEGORIES);
+        }
+        for (var typeName : SCHEMA_TYPES) {
+            reflection.registerType(TypeReference.of(typeName), BINDING_CATEGORIES);
+        }
+        new BindingReflectionHintsRegistrar().registerReflectionHints(reflection, DefaultErrorModel.class);
+        reflection.registerType(Map.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        for (var typeName : JWT_TYPES) {
+            reflection.registerTypeIfPresent(classLoader, typeName, BINDING_CATEGORIES);
+        }
+        hints.resources().registerPattern(CATALOG_RESOURCE_PATTERN);
+    }
+
+    /**
+     * Lists all classes of a package and its subpackages, including abstract ones such as Jackson mixins. Runs during
+     * AOT processing, where the classpath can still be scanned.
+     */
+    private static List<String> findTypes(String packageName, @Nullable ClassLoader classLoader) {
+        var scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        if (classLoader != null) {
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        }
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        return scanner.findCandidateComponents(packageName).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.infobip.openapi.mcp.autoconfiguration;
+
+import com.infobip.openapi.mcp.auth.CredentialProvider;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiFilter;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiPruner;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Building blocks shared by the OpenAPI sources loaded next to the primary specification, i.e. additional
+ * specifications and tenants.
+ */
+final class OpenApiSources {
+
+    private OpenApiSources() {}
+
+    /**
+     * Pruning rules are configured per source, so the pruner of the primary specification is replaced.
+     */
+    static List<OpenApiFilter> withPruning(
+            List<OpenApiFilter> openApiFilters,
+            OpenApiMcpProperties.Pruning pruning,
+            OpenApiMapperFactory openApiMapperFactory) {
+        return openApiFilters.stream()
+                .map(filter ->
+                        filter instanceof OpenApiPruner ? new OpenApiPruner(pruning, openApiMapperFactory) : filter)
+                .toList();
+    }
+
+    /**
+     * Creates a REST client with its own HTTP client, and therefore its own connection pool, so a slow API does not
+     * hold connections to the others.
+     */
+    static RestClient restClient(OpenApiMcpProperties properties, URI apiBaseUrl) {
+        var httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.connectTimeout())
+                .build();
+        var factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(properties.readTimeout());
+        return RestClient.builder()
+                .requestFactory(factory)
+                .baseUrl(apiBaseUrl.toString())
+                .build();
+    }
+
+    static CredentialProvider credentialProvider(
+            @Nullable String authorization, boolean forwardCredential, CredentialProvider credentialProvider) {
+        if (authorization != null) {
+            return context -> Optional.of(authorization);
+        }
+        if (!forwardCredential) {
+            return context -> Optional.empty();
+        }
+        return credentialProvider;
+    }
+}
@@ -0,0 +1,253 @@
+package com.infobip.openapi.mcp.autoconfiguration;
+
+import com.infobip.openapi.mcp.auth.CredentialProvider;
+import com.infobip.openapi.mcp.config.ApiBaseUrlConfig;
+import com.infobip.openapi.mcp.config.ApiBaseUrlProvider;
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.enricher.ApiRequestEnricherChain;
+import com.infobip.openapi.mcp.error.ErrorModelWriter;
+import com.infobip.openapi.mcp.infrastructure.metrics.MetricService;
+import com.infobip.openapi.mcp.openapi.*;
+import com.infobip.openapi.mcp.openapi.catalog.CatalogReader;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiFilter;
+import com.infobip.openapi.mcp.openapi.filter.OpenApiFilterChain;
+import com.infobip.openapi.mcp.openapi.schema.InputExampleComposer;
+import com.infobip.openapi.mcp.openapi.schema.InputSchemaComposer;
+import com.infobip.openapi.mcp.openapi.tool.ToolAnnotationResolver;
+import com.infobip.openapi.mcp.openapi.tool.ToolHandler;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import com.infobip.openapi.mcp.openapi.tool.discovery.ToolDiscovery;
+import com.infobip.openapi.mcp.openapi.tool.naming.NamingStrategy;
+import com.infobip.openapi.mcp.pagination.CatalogPaginator;
+import com.infobip.openapi.mcp.pagination.PaginatingStatelessServerTransport;
+import com.infobip.openapi.mcp.progress.ProgressUpdateProvider;
+import com.infobip.openapi.mcp.prompt.PromptRegistry;
+import com.infobip.openapi.mcp.prompt.PromptSpecBuilder;
+import com.infobip.openapi.mcp.util.OpenApiMapperFactory;
+import com.infobip.openapi.mcp.util.ParallelTasks;
+import com.infobip.openapi.mcp.util.ToolSpecBuilder;
+import io.modelcontextprotocol.json.jackson3.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpStatelessServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpStatelessServerTransport;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.ai.mcp.server.common.autoconfigure.properties.McpServerProperties;
+import org.springframework.ai.mcp.server.webmvc.transport.WebMvcStatelessServerTransport;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySourcesPropertyResolver;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Hosts the MCP servers of all configured {@link OpenApiMcpProperties.Tenant tenants} next to the primary MCP server.
+ * <p>
+ * Every tenant gets its own OpenAPI registry, tool registry, prompt registry, stateless MCP server and live reload,
+ * and is served at its own endpoint, optionally restricted to its own host. The infrastructure of the primary server
+ * is shared: the OpenAPI reader and resolver, request enrichers, metrics, and the {@link SharedSchemaCache}, so
+ * operations that tenants have in common are resolved and compiled into tools once. Tenants are loaded in parallel on
+ * startup.
+ * <p>
+ * Tenants are only supported with the stateless protocol, whose servers are independent of each other and keep no
+ * sessions.
+ */
+@AutoConfiguration
+@AutoConfigureAfter(OpenApiMcpConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = McpServerProperties.CONFIG_PREFIX, name = "protocol", havingValue = "STATELESS")
+@ConditionalOnProperty(
+        prefix = McpServerProperties.CONFIG_PREFIX,
+        name = "stdio",
+        havingValue = "false",
+        matchIfMissing = true)
+@ConditionalOnProperty(prefix = OpenApiMcpProperties.PREFIX, name = "tenants[0].name")
+class TenantConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public TenantServers tenantServers(
+            OpenApiMcpProperties properties,
+            McpServerProperties mcpServerProperties,
+            OpenApiReader openApiReader,
+            List<OpenApiFilter> openApiFilters,
+            OpenApiMapperFactory openApiMapperFactory,
+            OpenApiResolver openApiResolver,
+            CatalogReader catalogReader,
+            OpenApiFingerprinter openApiFingerprinter,
+            SharedSchemaCache sharedSchemaCache,
+            NamingStrategy namingStrategy,
+            InputSchemaComposer inputSchemaComposer,
+            InputExampleComposer inputExampleComposer,
+            ToolAnnotationResolver toolAnnotationResolver,
+            ToolSpecBuilder toolSpecBuilder,
+            PromptSpecBuilder promptSpecBuilder,
+            ErrorModelWriter errorModelWriter,
+            ObjectMapper objectMapper,
+            JsonMapper jsonMapper,
+            ApiRequestEnricherChain enricherChain,
+            MetricService metricService,
+            CredentialProvider credentialProvider,
+            ProgressUpdateProvider progressUpdateProvider) {
+        return new TenantServers(ParallelTasks.run(properties.tenants().stream()
+                .map(tenant -> (Supplier<TenantServer>) () -> {
+                    var tenantProperties = properties.forTenant(tenant);
+                    var openApiRegistry = new OpenApiRegistry(
+                            tenantProperties,
+                            openApiReader,
+                            new OpenApiFilterChain(
+                                    OpenApiSources.withPruning(openApiFilters, tenant.pruning(), openApiMapperFactory),
+                                    tenantProperties),
+                            openApiResolver,
+                            catalogReader,
+                            openApiFingerprinter,
+                            sharedSchemaCache);
+                    var apiBaseUrl =
+                            new ApiBaseUrlProvider(ApiBaseUrlConfig.parse(tenant.apiBaseUrl()), openApiRegistry).get();
+                    var restClient = OpenApiSources.restClient(properties, apiBaseUrl);
+                    var tenantCredentialProvider = OpenApiSources.credentialProvider(
+                            tenant.authorization(), tenant.forwardCredential(), credentialProvider);
+                    var toolHandler = new ToolHandler(
+                            restClient,
+                            errorModelWriter,
+                            tenantProperties,
+                            enricherChain,
+                            metricService,
+                            tenantCredentialProvider,
+                            progressUpdateProvider);
+                    var toolRegistry = new ToolRegistry(
+                            openApiRegistry,
+                            namingStrategy,
+                            inputSchemaComposer,
+                            inputExampleComposer,
+                            toolHandler,
+                            openApiMapperFactory,
+                            toolAnnotationResolver,
+                            tenantProperties,
+                            metricService,
+                            ApiSpecs.NONE,
+                            sharedSchemaCache);
+                    var promptRegistry = new PromptRegistry(
+                            openApiRegistry,
+                            restClient,
+                            objectMapper,
+                            tenantCredentialProvider,
+                            enricherChain,
+                            metricService);
+                    return tenantServer(
+                            tenant,
+                            tenantProperties,
+                            mcpServerProperties,
+                            openApiRegistry,
+                            toolRegistry,
+                            toolSpecBuilder,
+                            promptRegistry,
+                            promptSpecBuilder,
+                            jsonMapper,
+                            metricService);
+                })
+                .toList()));
+    }
+
+    /**
+     * Routes the requests of tenants before the router function of the primary server, so tenants restricted to a
+     * host may be served at the same endpoint as the primary server.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public RouterFunction<ServerResponse> tenantRouterFunction(TenantServers tenantServers) {
+        return tenantServers.routerFunction();
+    }
+
+    private static TenantServer tenantServer(
+            OpenApiMcpProperties.Tenant tenant,
+            OpenApiMcpProperties tenantProperties,
+            McpServerProperties mcpServerProperties,
+            OpenApiRegistry openApiRegistry,
+            ToolRegistry toolRegistry,
+            ToolSpecBuilder toolSpecBuilder,
+            PromptRegistry promptRegistry,
+            PromptSpecBuilder promptSpecBuilder,
+            JsonMapper jsonMapper,
+            MetricService metricService) {
+        // Server metadata is taken from the specification of the tenant only, not from the primary server properties
+        var metaData = new McpServerMetaData(
+                new PropertySourcesPropertyResolver(new MutablePropertySources()), openApiRegistry);
+        var webMvcTransport = WebMvcStatelessServerTransport.builder()
+                .jsonMapper(new JacksonMcpJsonMapper(jsonMapper))
+                .messageEndpoint(tenant.endpoint())
+                .build();
+        // The live reload depends on the server, so the catalog version is looked up lazily
+        var liveReloadReference = new AtomicReference<ToolLiveReload>();
+        McpStatelessServerTransport transport = webMvcTransport;
+        if (tenantProperties.pagination().enabled()) {
+            transport = new PaginatingStatelessServerTransport(
+                    transport, new CatalogPaginator(tenantProperties.pagination(), () -> {
+                        var liveReload = liveReloadReference.get();
+                        return liveReload != null ? liveReload.catalogVersion() : 0;
+                    }));
+        }
+
+        List<McpStatelessServerFeatures.SyncToolSpecification> toolSpecifications;
+        if (tenantProperties.tools().discovery().enabled()) {
+            // Loading the tools builds the search index behind the discovery tools
+            toolRegistry.getTools();
+            toolSpecifications = toolSpecBuilder.buildSyncStatelessDiscoveryToolSpecifications(new ToolDiscovery(
+                    Objects.requireNonNull(toolRegistry.getSearchIndex()),
+                    tenantProperties.tools().discovery()));
+        } else {
+            toolSpecifications = toolRegistry.getTools().stream()
+                    .map(toolSpecBuilder::buildSyncStatelessToolSpecification)
+                    .toList();
+        }
+        var promptSpecifications = promptRegistry.getPrompts().stream()
+                .map(promptSpecBuilder::buildSyncStatelessPromptSpecification)
+                .toList();
+
+        var serverSpecification = McpServer.sync(transport)
+                .serverInfo(metaData.getName(), metaData.getVersion())
+                .jsonMapper(new JacksonMcpJsonMapper(jsonMapper))
+                .requestTimeout(mcpServerProperties.getRequestTimeout())
+                .capabilities(McpSchema.ServerCapabilities.builder()
+                        .tools(false)
+                        .prompts(false)
+                        .build())
+                .tools(toolSpecifications)
+                .prompts(promptSpecifications);
+        var instructions = metaData.getInstructions();
+        if (instructions != null) {
+            serverSpecification.instructions(instructions);
+        }
+        var server = serverSpecification.build();
+
+        ToolLiveReload liveReload = null;
+        if (tenantProperties.liveReload().enabled()) {
+            liveReload = new ToolLiveReload(
+                    Optional.empty(),
+                    Optional.of(server),
+                    Optional.empty(),
+                    openApiRegistry,
+                    toolRegistry,
+                    toolSpecBuilder,
+                    promptRegistry,
+                    promptSpecBuilder,
+                    tenantProperties,
+                    metricService,
+                    metaData,
+                    ApiSpecs.NONE);
+            liveReloadReference.set(liveReload);
+        }
+        return new TenantServer(tenant, openApiRegistry, toolRegistry, server, webMvcTransport, liveReload);
+    }
+}
@@ -0,0 +1,44 @@
+package com.infobip.openapi.mcp.autoconfiguration;
+
+import com.infobip.openapi.mcp.config.OpenApiMcpProperties;
+import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
+import com.infobip.openapi.mcp.openapi.ToolLiveReload;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import io.modelcontextprotocol.server.McpStatelessSyncServer;
+import org.jspecify.annotations.Nullable;
+import org.springframework.ai.mcp.server.webmvc.transport.WebMvcStatelessServerTransport;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * Stateless MCP server of a tenant, with its own registries and live reload.
+ *
+ * @param tenant          the configuration of the tenant
+ * @param openApiRegistry the registry of the OpenAPI specification of the tenant
+ * @param toolRegistry    the registry of the tools of the tenant
+ * @param server          the MCP server of the tenant
+ * @param transport       the transport serving the endpoint of the tenant
+ * @param liveReload      the live reload of the tenant, or {@code null} if live reload is disabled
+ */
+record TenantServer(
+        OpenApiMcpProperties.Tenant tenant,
+        OpenApiRegistry openApiRegistry,
+        ToolRegistry toolRegistry,
+        McpStatelessSyncServer server,
+        WebMvcStatelessServerTransport transport,
+        @Nullable ToolLiveReload liveReload) {
+
+    /**
+     * Routes requests to the endpoint of the tenant, restricted to the host of the tenant if one is configured.
+     */
+    RouterFunction<ServerResponse> routerFunction() {
+        var routerFunction = transport.getRouterFunction();
+        var host = tenant.host();
+        if (host == null) {
+            return routerFunction;
+        }
+        return RouterFunctions.nest(
+                request -> host.equalsIgnoreCase(request.uri().getHost()), routerFunction);
+    }
+}
@@ -0,0 +1,74 @@
+package com.infobip.openapi.mcp.autoconfiguration;
+
+import com.infobip.openapi.mcp.openapi.ToolLiveReload;
+import com.infobip.openapi.mcp.util.ParallelTasks;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * MCP servers of all tenants hosted by the process.
+ * <p>
+ * Tenants are not Spring beans, so their live reloads are scheduled here. On each execution the specifications of
+ * all tenants are reloaded in parallel, and each tenant updates its own tools and prompts.
+ */
+class TenantServers {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantServers.class);
+
+    private final List<TenantServer> servers;
+
+    TenantServers(List<TenantServer> servers) {
+        this.servers = List.copyOf(servers);
+    }
+
+    List<TenantServer> servers() {
+        return servers;
+    }
+
+    /**
+     * Combines the router functions of all tenants.
+     */
+    RouterFunction<ServerResponse> routerFunction() {
+        return servers.stream()
+                .map(TenantServer::routerFunction)
+                .reduce(RouterFunction::and)
+                .orElseThrow();
+    }
+
+    @Scheduled(cron = "${infobip.openapi.mcp.live-reload.cron-expression:0 */10 * * * *}")
+    public void reloadOnSchedule() {
+        var reloads = servers.stream()
+                .map(TenantServer::liveReload)
+                .filter(Objects::nonNull)
+                .map(TenantServers::reloadOf)
+                .toList();
+        if (!reloads.isEmpty()) {
+            ParallelTasks.run(reloads);
+        }
+    }
+
+    public void close() {
+        servers.forEach(server -> {
+            LOGGER.info("Closing MCP server of tenant {}.", server.tenant().name());
+            server.server().close();
+        });
+    }
+
+    private static Supplier<@Nullable Void> reloadOf(ToolLiveReload liveReload) {
+        return () -> {
+            try {
+                liveReload.reloadOnSchedule();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+    }
+}
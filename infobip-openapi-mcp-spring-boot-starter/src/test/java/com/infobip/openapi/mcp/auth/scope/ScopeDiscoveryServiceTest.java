@@ -5,6 +5,8 @@ import static org.assertj.core.api.BDDAssertions.then;
 import com.infobip.openapi.mcp.auth.ScopeProperties;
 import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
 import com.infobip.openapi.mcp.openapi.OpenApiTestBase;
+import io.swagger.v3.oas.models.PathItem;
+import java.util.Set;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -177,6 +179,27 @@ public class ScopeDiscoveryServiceTest extends OpenApiTestBase {
             then(result)
                     .containsExactlyInAnyOrder("read:resource1", "read:resource2", "read:resource3", "write:resource1");
         }
+
+        @Test
+        void shouldDiscoverScopeRequirementsOfOperationsFromExtensions() {
+            // Given
+            reloadOpenApi(GIVEN_EXTENSIONS_OPENAPI_SPEC, openApiRegistry);
+            scopeDiscoveryService.discover();
+
+            // When
+            var requirements = scopeDiscoveryService.getScopeRequirements();
+            var grantedScopes = requirements.grantedScopes(Set.of("read:resource2", "unknown:scope"));
+
+            // Then
+            then(requirements.isPermitted(PathItem.HttpMethod.GET, "/path1", grantedScopes))
+                    .isTrue();
+            then(requirements.isPermitted(PathItem.HttpMethod.POST, "/path1", grantedScopes))
+                    .isFalse();
+            then(requirements.isPermitted(PathItem.HttpMethod.GET, "/path2", grantedScopes))
+                    .isFalse();
+            then(requirements.isPermitted(PathItem.HttpMethod.DELETE, "/path2", grantedScopes))
+                    .isTrue();
+        }
     }
 
     @Nested
@@ -230,6 +253,23 @@ public class ScopeDiscoveryServiceTest extends OpenApiTestBase {
                     .containsExactlyInAnyOrder("read:resource1", "read:resource2", "read:resource3", "write:resource1");
         }
 
+        @Test
+        void shouldDiscoverScopeRequirementsOfOperationsFromSecurity() {
+            // Given
+            reloadOpenApi(GIVEN_SECURITY_OPENAPI_SPEC);
+            scopeDiscoveryService.discover();
+
+            // When
+            var requirements = scopeDiscoveryService.getScopeRequirements();
+            var grantedScopes = requirements.grantedScopes(Set.of("write:resource1"));
+
+            // Then
+            then(requirements.isPermitted(PathItem.HttpMethod.GET, "/path1", grantedScopes))
+                    .isFalse();
+            then(requirements.isPermitted(PathItem.HttpMethod.POST, "/path1", grantedScopes))
+                    .isTrue();
+        }
+
         @Test
         void shouldDiscoverScopesFromSecurityIncludingGlobalWhenNoneEndpointsOverridden() {
             // Given
@@ -0,0 +1,70 @@
+package com.infobip.openapi.mcp.autoconfiguration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.error.DefaultErrorModel;
+import io.swagger.v3.core.jackson.mixin.SchemaMixin;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class OpenApiMcpRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void registerHints() {
+        new OpenApiMcpRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterSwaggerModelsAndMixins() {
+        then(RuntimeHintsPredicates.reflection()
+                        .onType(OpenAPI.class)
+                        .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        then(RuntimeHintsPredicates.reflection()
+                        .onType(StringSchema.class)
+                        .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS))
+                .accepts(hints);
+        then(RuntimeHintsPredicates.reflection()
+                        .onType(SchemaMixin.class)
+                        .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterJacksonBoundTypes() {
+        for (var typeName : OpenApiMcpRuntimeHints.PROMPT_TYPES) {
+            then(RuntimeHintsPredicates.reflection()
+                            .onType(TypeReference.of(typeName))
+                            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(hints);
+        }
+        for (var typeName : OpenApiMcpRuntimeHints.SCHEMA_TYPES) {
+            then(RuntimeHintsPredicates.reflection()
+                            .onType(TypeReference.of(typeName))
+                            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(hints);
+        }
+        then(RuntimeHintsPredicates.reflection().onType(DefaultErrorModel.class))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterJwtParsingTypes() {
+        then(RuntimeHintsPredicates.reflection().onType(TypeReference.of("com.nimbusds.jwt.SignedJWT")))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterPrecompiledCatalogResources() {
+        then(RuntimeHintsPredicates.resource().forResource("META-INF/openapi-mcp/catalog.json"))
+                .accepts(hints);
+    }
+}
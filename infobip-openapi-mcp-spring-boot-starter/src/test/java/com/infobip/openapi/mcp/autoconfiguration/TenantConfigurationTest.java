@@ -0,0 +1,70 @@
+package com.infobip.openapi.mcp.autoconfiguration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.openapi.OpenApiTestBase;
+import com.infobip.openapi.mcp.openapi.tool.ToolRegistry;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Integration test verifying that tenants are served next to the primary stateless server.
+ */
+@ActiveProfiles("test-tool-registration-stateless")
+class TenantConfigurationTest extends OpenApiTestBase {
+
+    @Autowired
+    private ToolRegistry toolRegistry;
+
+    @Autowired
+    private TenantServers tenantServers;
+
+    @DynamicPropertySource
+    static void configureTenants(DynamicPropertyRegistry registry) {
+        registry.add("infobip.openapi.mcp.tenants[0].name", () -> "acme");
+        registry.add(
+                "infobip.openapi.mcp.tenants[0].open-api-url", () -> staticWireMockServer.baseUrl() + "/openapi.json");
+        registry.add("infobip.openapi.mcp.tenants[0].api-base-url", () -> staticWireMockServer.baseUrl());
+        registry.add("infobip.openapi.mcp.tenants[0].pruning.exclude[0].methods", () -> "POST");
+    }
+
+    @Test
+    void shouldServeToolsOfTenantAtItsEndpoint() {
+        // given
+        var transport = HttpClientStreamableHttpTransport.builder("http://localhost:" + port)
+                .endpoint("/acme/mcp")
+                .build();
+
+        try (var client =
+                McpClient.sync(transport).requestTimeout(Duration.ofSeconds(3)).build()) {
+            client.initialize();
+
+            // when
+            var tools = client.listTools().tools();
+
+            // then
+            then(tools).extracting(McpSchema.Tool::name).containsExactlyInAnyOrder("get_users", "get_user_by_id");
+        }
+    }
+
+    @Test
+    void shouldShareCompiledToolsWithPrimaryServer() {
+        // given
+        var tenantTools = tenantServers.servers().getFirst().toolRegistry().getTools();
+
+        // when
+        var primaryTools = toolRegistry.getTools();
+
+        // then
+        then(primaryTools).extracting(tool -> tool.tool().name()).contains("create_user");
+        then(tenantTools).hasSize(2).allSatisfy(tenantTool -> then(primaryTools)
+                .anySatisfy(primaryTool -> then(primaryTool.tool()).isSameAs(tenantTool.tool())));
+    }
+}
@@ -1,7 +1,11 @@
 package com.infobip.openapi.mcp.integration;
 
+import static org.assertj.core.api.BDDAssertions.then;
+
 import com.infobip.openapi.mcp.integration.base.ListToolsTestBase;
+import io.modelcontextprotocol.spec.McpSchema;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
@@ -21,4 +25,34 @@ public class ListToolsIntegrationTest {
     @ActiveProfiles("integration")
     @TestPropertySource(properties = "spring.ai.mcp.server.protocol = stateless")
     class ListToolsStatelessTest extends ListToolsTestBase {}
+
+    @Nested
+    @ActiveProfiles("integration")
+    @TestPropertySource(
+            properties = {"spring.ai.mcp.server.protocol = stateless", "infobip.openapi.mcp.pagination.page-size = 3"})
+    class ListToolsPaginatedStatelessTest extends ListToolsTestBase {
+
+        @Test
+        void shouldListToolsInPages() {
+            withInitializedMcpClient(givenClient -> {
+                // Given
+                givenOpenAPISpecification("/openapi/many-tools.json");
+
+                // When
+                var firstPage = givenClient.listTools(null);
+                var secondPage = givenClient.listTools(firstPage.nextCursor());
+                var thirdPage = givenClient.listTools(secondPage.nextCursor());
+
+                // Then
+                then(firstPage.tools())
+                        .extracting(McpSchema.Tool::name)
+                        .containsExactly("delete_test1", "get_test1", "head_test2");
+                then(secondPage.tools())
+                        .extracting(McpSchema.Tool::name)
+                        .containsExactly("options_test3", "patch_test3", "post_test1");
+                then(thirdPage.tools()).extracting(McpSchema.Tool::name).containsExactly("put_test1");
+                then(thirdPage.nextCursor()).isNull();
+            });
+        }
+    }
 }
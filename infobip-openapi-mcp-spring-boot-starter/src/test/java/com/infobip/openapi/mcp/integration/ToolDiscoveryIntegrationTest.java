@@ -0,0 +1,27 @@
+package com.infobip.openapi.mcp.integration;
+
+import com.infobip.openapi.mcp.integration.base.ToolDiscoveryTestBase;
+import org.junit.jupiter.api.Nested;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+public class ToolDiscoveryIntegrationTest {
+
+    @Nested
+    @ActiveProfiles("integration")
+    @TestPropertySource(
+            properties = {
+                "spring.ai.mcp.server.protocol = streamable",
+                "infobip.openapi.mcp.tools.discovery.enabled = true"
+            })
+    class ToolDiscoveryHttpTest extends ToolDiscoveryTestBase {}
+
+    @Nested
+    @ActiveProfiles("integration")
+    @TestPropertySource(
+            properties = {
+                "spring.ai.mcp.server.protocol = stateless",
+                "infobip.openapi.mcp.tools.discovery.enabled = true"
+            })
+    class ToolDiscoveryStatelessTest extends ToolDiscoveryTestBase {}
+}
@@ -6,6 +6,7 @@ import com.infobip.openapi.mcp.McpRequestContextFactory;
 import com.infobip.openapi.mcp.auth.web.AuthenticationTestBase;
 import com.infobip.openapi.mcp.openapi.OpenApiRegistry;
 import com.infobip.openapi.mcp.openapi.tool.*;
+import com.infobip.openapi.mcp.openapi.tool.discovery.ToolDiscovery;
 import io.modelcontextprotocol.client.McpClient;
 import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.client.transport.HttpClientSseClientTransport;
@@ -58,6 +59,9 @@ abstract class IntegrationTestBase extends AuthenticationTestBase {
     @Autowired(required = false)
     List<ToolCallFilter> toolCallFilters;
 
+    @Autowired(required = false)
+    ToolDiscovery toolDiscovery;
+
     protected McpSyncClient mcpSyncClient = null;
 
     @BeforeEach
@@ -139,7 +143,9 @@ abstract class IntegrationTestBase extends AuthenticationTestBase {
 
     protected void givenOpenAPISpecification(String openApiSpecPath) {
         // Clear tools first
-        toolRegistry.getTools().forEach(this::removeTool);
+        if (toolDiscovery == null) {
+            toolRegistry.getTools().forEach(this::removeTool);
+        }
 
         // Stub OpenAPI spec endpoint
         staticWireMockServer.stubFor(get(urlEqualTo("/openapi.json"))
@@ -150,7 +156,10 @@ abstract class IntegrationTestBase extends AuthenticationTestBase {
 
         // Reload OpenAPI and tools
         openApiRegistry.reload();
-        toolRegistry.getTools().forEach(this::addTool);
+        var tools = toolRegistry.getTools();
+        if (toolDiscovery == null) {
+            tools.forEach(this::addTool);
+        }
 
         // Notify MCP server about tool changes
         if (mcpSyncServer != null) {
@@ -178,7 +187,7 @@ abstract class IntegrationTestBase extends AuthenticationTestBase {
                         .tool(tool.tool())
                         .callHandler((mcpSyncServerExchange, callToolRequest) -> {
                             var context = contextFactory.forStatefulTransport(
-                                    mcpSyncServerExchange, callToolRequest, givenFullOperation());
+                                    mcpSyncServerExchange, callToolRequest, givenOperation());
                             return chainFactory.get().doFilter(context, callToolRequest);
                         })
                         .build());
@@ -187,7 +196,7 @@ abstract class IntegrationTestBase extends AuthenticationTestBase {
                         .tool(tool.tool())
                         .callHandler((mcpTransportContext, callToolRequest) -> {
                             var context = contextFactory.forStatelessTransport(
-                                    mcpTransportContext, callToolRequest, givenFullOperation());
+                                    mcpTransportContext, callToolRequest, givenOperation());
                             return chainFactory.get().doFilter(context, callToolRequest);
                         })
                         .build());
@@ -196,8 +205,9 @@ abstract class IntegrationTestBase extends AuthenticationTestBase {
         }
     }
 
-    private FullOperation givenFullOperation() {
-        return new FullOperation("/", PathItem.HttpMethod.GET, new Operation(), new OpenAPI());
+    private OperationDescriptor givenOperation() {
+        return OperationDescriptor.of(
+                "", new FullOperation("/", PathItem.HttpMethod.GET, new Operation(), new OpenAPI()));
     }
 
     private void removeTool(RegisteredTool tool) {
@@ -0,0 +1,87 @@
+package com.infobip.openapi.mcp.integration.base;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import com.infobip.openapi.mcp.openapi.tool.discovery.ToolDiscovery;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public abstract class ToolDiscoveryTestBase extends IntegrationTestBase {
+
+    @Test
+    void shouldListDiscoveryToolsOnly() {
+        withInitializedMcpClient(givenClient -> {
+            // Given
+            givenOpenAPISpecification("/openapi/many-tools.json");
+
+            // When
+            var tools = givenClient.listTools().tools();
+
+            // Then
+            then(tools)
+                    .extracting(McpSchema.Tool::name)
+                    .containsExactlyInAnyOrder(ToolDiscovery.SEARCH_TOOL_NAME, ToolDiscovery.INVOKE_TOOL_NAME);
+        });
+    }
+
+    @Test
+    void shouldSearchTools() {
+        withInitializedMcpClient(givenClient -> {
+            // Given
+            givenOpenAPISpecification("/openapi/many-tools.json");
+
+            // When
+            var actualResponse = givenClient.callTool(McpSchema.CallToolRequest.builder()
+                    .name(ToolDiscovery.SEARCH_TOOL_NAME)
+                    .arguments(Map.of("query", "patch test3"))
+                    .build());
+
+            // Then
+            then(actualResponse.isError()).isFalse();
+            var text = ((TextContent) actualResponse.content().getFirst()).text();
+            then(text).startsWith("{\"tools\":[{\"name\":\"patch_test3\"");
+        });
+    }
+
+    @Test
+    void shouldInvokeTool() {
+        withInitializedMcpClient(givenClient -> {
+            // Given
+            givenOpenAPISpecification("/openapi/base.json");
+            getStaticWireMockServer()
+                    .stubFor(get(urlEqualTo("/test"))
+                            .willReturn(aResponse().withStatus(200).withBody("{\"status\":\"ok\"}")));
+
+            // When
+            var actualResponse = givenClient.callTool(McpSchema.CallToolRequest.builder()
+                    .name(ToolDiscovery.INVOKE_TOOL_NAME)
+                    .arguments(Map.of("name", "get_test", "arguments", Map.of()))
+                    .build());
+
+            // Then
+            then(actualResponse.isError()).isFalse();
+            then(((TextContent) actualResponse.content().getFirst()).text()).isEqualTo("{\"status\":\"ok\"}");
+            getStaticWireMockServer().verify(getRequestedFor(urlEqualTo("/test")));
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenInvokingUnknownTool() {
+        withInitializedMcpClient(givenClient -> {
+            // Given
+            givenOpenAPISpecification("/openapi/base.json");
+
+            // When
+            var actualResponse = givenClient.callTool(McpSchema.CallToolRequest.builder()
+                    .name(ToolDiscovery.INVOKE_TOOL_NAME)
+                    .arguments(Map.of("name", "delete_test"))
+                    .build());
+
+            // Then
+            then(actualResponse.isError()).isTrue();
+        });
+    }
+}